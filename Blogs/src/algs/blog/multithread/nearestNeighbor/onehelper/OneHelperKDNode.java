@@ -56,28 +56,19 @@ public class OneHelperKDNode extends algs.model.kdtree.DimensionalNode {
 		double dp = Math.abs(coord - rawTarget[dimension-1]);
 		IMultiPoint newResult = null;
 
-		int numDblRec = 0; /* stats */
 		if (dp < min[0]) {
 			// must dive into both. Return closest one.
 			if (above != null) {
-				numDblRec++; /* stats */
 				newResult = ((OneHelperKDNode)above).nearestN (rawTarget, min); 
 				if (newResult != null) { result = newResult; }
 			}
 
 			if (below != null) {
-				numDblRec++; /* stats */
 				newResult = ((OneHelperKDNode)below).nearestN(rawTarget, min);
 				if (newResult != null) { result = newResult; }
 			}
-			if (numDblRec == 2) {          /* stats */
-				numDoubleRecursions++;     /* stats */
-			} else if (numDblRec == 1) {   /* stats */
-				numRecursions++;           /* stats */
-			}
 		} else {
 			// only need to go in one! Determine which one now.
-			numRecursions++;               /* stats */
 			if (rawTarget[dimension-1] < coord) {
 				if (below != null) {
 					newResult = ((OneHelperKDNode)below).nearestN (rawTarget, min); 
@@ -132,7 +123,6 @@ public class OneHelperKDNode extends algs.model.kdtree.DimensionalNode {
 		// we could "bleed" over the plane so we must check both.
 		double dp = Math.abs(coord - rawTarget[dimension-1]);
 
-		int numDblRec = 0; /* stats */
 		Thread aboveThread = null;
 		Thread belowThread = null;
 		newResult[0] = newResult[1] = null;
@@ -140,7 +130,6 @@ public class OneHelperKDNode extends algs.model.kdtree.DimensionalNode {
 			// must dive into both. Return closest one.
 			if (above != null) {
 				aboveMin[0] = min[0];
-				numDblRec++; /* stats */
 				
 				// complete in separate thread
 				aboveThread = new Thread () {
@@ -154,8 +143,6 @@ public class OneHelperKDNode extends algs.model.kdtree.DimensionalNode {
 			if (below != null) {
 				belowMin[0] = min[0];
 
-				numDblRec++; /* stats */
-
 				// complete in separate thread
 				belowThread = new Thread () {
 					public void run () {
@@ -192,15 +179,8 @@ public class OneHelperKDNode extends algs.model.kdtree.DimensionalNode {
 					result = newResult[1];
 				}
 			}
-
-			if (numDblRec == 2) {          /* stats */
-				numDoubleRecursions++;     /* stats */
-			} else if (numDblRec == 1) {   /* stats */
-				numRecursions++;           /* stats */
-			}
 		} else {
 			// only need to go in one! Determine which one now.
-			numRecursions++;               /* stats */
 			IMultiPoint oneResult = null;
 			if (rawTarget[dimension-1] < coord) {
 				if (below != null) {
@@ -0,0 +1,66 @@
+package algs.example.model.network.generator;
+
+import java.util.Random;
+
+import algs.model.network.Transportation;
+
+/**
+ * Generates random Transportation problems.
+ *
+ * Key parameters that control the generation are:
+ *
+ * <ul><li>numSuppliers -- The number of suppliers
+ *     <li>numDemanders -- The number of demanders
+ *     <li>maxAmount -- Maximum supply (or demand) of any node
+ *     <li>maxCost -- Maximum cost to ship one unit from supplier to demander
+ *     <li>density -- Probability (0 &lt; density &le; 1) that a supplier can
+ *         ship to a demander; otherwise its cost is Integer.MAX_VALUE
+ * </ul>
+ *
+ * The total supply equals the total demand.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class TransportationGenerator {
+
+	// random generator.
+	static Random rnd;
+
+	public static void setSeed(long seed) {
+		rnd = new Random(seed);
+	}
+
+	public static Transportation generate (int numSuppliers, int numDemanders, int maxAmount, int maxCost, double density) {
+		int[] sup = new int[numSuppliers];
+		int[] dem = new int[numDemanders];
+		int[][] costs = new int[numSuppliers][numDemanders];
+
+		int total = 0;
+		for (int i = 0; i < numSuppliers; i++) {
+			sup[i] = 1 + rnd.nextInt(maxAmount);
+			total += sup[i];
+		}
+
+		// spread total demand randomly (but evenly) among demanders.
+		for (int j = 0; j < numDemanders; j++) {
+			dem[j] = total / numDemanders;
+		}
+		for (int k = total % numDemanders; k > 0; k--) {
+			dem[rnd.nextInt(numDemanders)]++;
+		}
+
+		for (int i = 0; i < numSuppliers; i++) {
+			for (int j = 0; j < numDemanders; j++) {
+				if (rnd.nextDouble() < density) {
+					costs[i][j] = 1 + rnd.nextInt(maxCost);
+				} else {
+					costs[i][j] = Integer.MAX_VALUE;
+				}
+			}
+		}
+
+		return new Transportation (sup, dem, costs);
+	}
+}
@@ -0,0 +1,99 @@
+package algs.example.model.performance.network;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import algs.example.model.network.generator.TransportationGenerator;
+import algs.model.network.FlowNetworkCSR;
+import algs.model.network.FordFulkerson;
+import algs.model.network.MinCostFlow;
+import algs.model.network.ShortestPathArray;
+import algs.model.network.Transportation;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare the time to solve randomly generated Transportation problems using
+ * {@link FordFulkerson} with {@link ShortestPathArray} against
+ * {@link MinCostFlow}, using either successive shortest paths or cost scaling.
+ * <p>
+ * Each problem has n suppliers and n demanders, where each supplier can ship
+ * to roughly a quarter of the demanders.
+ *
+ * @author George Heineman
+ */
+public class TransportationNetworks extends TestCase {
+
+	@Test
+	public void testTiming () {
+		TrialSuite suiteArray = new TrialSuite();
+		TrialSuite suiteShortest = new TrialSuite();
+		TrialSuite suiteScaling = new TrialSuite();
+
+		// all experiments run with 1263 as seed
+		long seed = 1263;
+
+		int NUM_TRIALS = 4;
+		int MAX_AMOUNT = 100;
+		int MAX_COST = 1000;
+		double DENSITY = 0.25;
+
+		for (int n = 16; n <= 256; n *= 2) {
+			System.out.println ("\n" + n);
+
+			for (int t = 0; t < NUM_TRIALS; t++) {
+				System.out.print(".." + t);
+
+				TransportationGenerator.setSeed(seed+t);
+				Transportation ts = TransportationGenerator.generate(n, n, MAX_AMOUNT, MAX_COST, DENSITY);
+				FordFulkerson ffa = new FordFulkerson(ts, new ShortestPathArray(ts));
+				System.gc();
+
+				long now = System.currentTimeMillis();
+				ffa.compute();
+				long end = System.currentTimeMillis();
+				suiteArray.addTrial(n, now, end);
+				int checkSum = ts.getCost();
+
+				// successive shortest paths
+				TransportationGenerator.setSeed(seed+t);
+				ts = TransportationGenerator.generate(n, n, MAX_AMOUNT, MAX_COST, DENSITY);
+				FlowNetworkCSR network = new FlowNetworkCSR (ts);
+				System.gc();
+
+				now = System.currentTimeMillis();
+				new MinCostFlow(network).compute();
+				end = System.currentTimeMillis();
+				suiteShortest.addTrial(n, now, end);
+				network.storeFlows();
+				if (checkSum != ts.getCost()) {
+					fail ("DIFFERENT RESULTS for successive shortest paths:" + checkSum + "," + ts.getCost());
+				}
+
+				// cost scaling
+				network.reset();
+				MinCostFlow mcf = new MinCostFlow(network);
+				mcf.setCostScaling(true);
+				System.gc();
+
+				now = System.currentTimeMillis();
+				int cost = mcf.compute();
+				end = System.currentTimeMillis();
+				suiteScaling.addTrial(n, now, end);
+				if (checkSum != cost) {
+					fail ("DIFFERENT RESULTS for cost scaling:" + checkSum + "," + cost);
+				}
+			}
+		}
+
+		System.out.println ();
+		System.out.println ("FordFulkerson with ShortestPathArray");
+		System.out.println (suiteArray.computeTable());
+
+		System.out.println ("MinCostFlow successive shortest paths");
+		System.out.println (suiteShortest.computeTable());
+
+		System.out.println ("MinCostFlow cost scaling");
+		System.out.println (suiteScaling.computeTable());
+	}
+}
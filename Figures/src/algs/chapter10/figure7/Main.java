@@ -7,8 +7,8 @@ import java.text.NumberFormat;
 import java.util.Random;
 
 import algs.model.IMultiPoint;
-import algs.model.kdtree.DimensionalNode;
 import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDStats;
 import algs.model.kdtree.KDTree;
 import algs.model.nd.Hyperpoint;
 
@@ -60,13 +60,12 @@ public class Main {
 				// that the KDTree generate method will likely shuffle the points. 
 				KDTree tree= KDFactory.generate(points);
 
-				DimensionalNode.numDoubleRecursions=0;
-				DimensionalNode.numRecursions=0;
+				KDStats stats = new KDStats();
 				for (IMultiPoint imp : searchPoints) {
-					tree.nearest(imp);
+					tree.nearest(imp, stats);
 				}
-				double dr = DimensionalNode.numDoubleRecursions/(1.0*numSearches);
-				double r = DimensionalNode.numRecursions/(1.0*numSearches);
+				double dr = stats.numDoubleRecursions/(1.0*numSearches);
+				double r = stats.numRecursions/(1.0*numSearches);
 
 				System.out.println(d + "\t" + nf.format(r) + "\t" + nf.format(dr));
 			}
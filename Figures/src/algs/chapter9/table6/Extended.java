@@ -9,8 +9,8 @@ import java.util.Random;
 import algs.model.IMultiPoint;
 import algs.model.IPoint;
 import algs.model.data.points.CircleGenerator;
-import algs.model.kdtree.DimensionalNode;
 import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDStats;
 import algs.model.kdtree.KDTree;
 import algs.model.tests.common.TrialSuite;
 import algs.model.twod.TwoDPoint;
@@ -79,17 +79,16 @@ public class Extended {
 				// that the KDTree generate method will likely shuffle the points. 
 				KDTree tree= KDFactory.generate(points);
 
-				DimensionalNode.numDoubleRecursions=0;
-				DimensionalNode.numRecursions=0;
+				KDStats stats = new KDStats();
 				System.gc();
 				now = System.currentTimeMillis();
 				for (IMultiPoint imp : searchPoints) {
-					tree.nearest(imp);
+					tree.nearest(imp, stats);
 				}
 				done = System.currentTimeMillis();
 				kdSearch.addTrial(n, now, done);
-				double dr = DimensionalNode.numDoubleRecursions/(1.0*numSearches);
-				double r = DimensionalNode.numRecursions/(1.0*numSearches);
+				double dr = stats.numDoubleRecursions/(1.0*numSearches);
+				double r = stats.numRecursions/(1.0*numSearches);
 
 				System.out.println(n + "," + r + "," + dr);
 			}
@@ -7,8 +7,8 @@ package algs.chapter9.table6;
 import java.util.Random;
 
 import algs.model.IMultiPoint;
-import algs.model.kdtree.DimensionalNode;
 import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDStats;
 import algs.model.kdtree.KDTree;
 import algs.model.nd.Hyperpoint;
 
@@ -70,13 +70,12 @@ public class Main {
 					// that the KDTree generate method will likely shuffle the points. 
 					KDTree tree= KDFactory.generate(points);
 	
-					DimensionalNode.numDoubleRecursions=0;
-					DimensionalNode.numRecursions=0;
+					KDStats stats = new KDStats();
 					for (IMultiPoint imp : searchPoints) {
-						tree.nearest(imp);
+						tree.nearest(imp, stats);
 					}
-					dr[d/10] = DimensionalNode.numDoubleRecursions/(1.0*numSearches);
-					r[d/10] = DimensionalNode.numRecursions/(1.0*numSearches);
+					dr[d/10] = stats.numDoubleRecursions/(1.0*numSearches);
+					r[d/10] = stats.numRecursions/(1.0*numSearches);
 				}
 			}
 			
@@ -0,0 +1,268 @@
+package algs.model.array;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implement a parallel QuickSort that uses a {@link ForkJoinPool} to distribute
+ * sub-problems among worker threads.
+ *
+ * <p>Unlike {@link MultiThreadQuickSort}, no threads are created during the sort,
+ * and no thread ever waits in a busy loop. After partitioning, the smaller of the
+ * two sub-problems is forked as a separate task (which idle workers may steal)
+ * while the current task continues with the larger one. Once a sub-problem is
+ * no larger than the sequential threshold, it is sorted in the current thread.</p>
+ *
+ * <p>The sequential threshold can be fixed with {@link #setThreshold(int)}. By
+ * default it is adaptive: it is computed from the problem size and the parallelism
+ * of the pool, and a task stops forking whenever its worker already has a surplus
+ * of queued tasks that no other worker has stolen.</p>
+ *
+ * <p>Sub-problems of size {@link #setMinimumSize(int)} or smaller are completed
+ * with Insertion Sort, as done by {@link QuickSort}.</p>
+ *
+ * @param <E>   base element for the set.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class ForkJoinQuickSort<E extends Comparable<E>> {
+
+	/** Smallest sequential threshold to be computed when adaptive. */
+	public static final int MIN_THRESHOLD = 4096;
+
+	/** Number of tasks per worker thread when computing adaptive threshold. */
+	public static final int TASKS_PER_THREAD = 8;
+
+	/** Once a worker has this many unstolen tasks, stop forking new ones. */
+	public static final int SURPLUS = 3;
+
+	/** Elements to be sorted. */
+	final E[] ar;
+
+	/** Pivot index method. */
+	IPivotIndex pi;
+
+	/** Problem size at and below which to use insertion sort. */
+	int minSize = 0;
+
+	/** Fixed sequential threshold; when zero the threshold is adaptive. */
+	int threshold = 0;
+
+	/** Pool to use. When null, the common pool is used. */
+	ForkJoinPool pool;
+
+	/**
+	 * Construct an instance to sort the given array. By default the median of
+	 * three pivot selector is used.
+	 *
+	 * @param ar    array to be sorted.
+	 */
+	public ForkJoinQuickSort (E ar[]) {
+		this.ar = ar;
+		this.pi = new MedianSelector();
+	}
+
+	/**
+	 * Determine the method used to select a pivot index.
+	 *
+	 * @param ipi     method to use for selecting pivot.
+	 */
+	public void setPivotMethod (IPivotIndex ipi) {
+		this.pi = ipi;
+	}
+
+	/**
+	 * Set the minimum problem size at and below which InsertionSort is used.
+	 *
+	 * @param ms   Minimum problem size below which InsertionSort is used.
+	 */
+	public void setMinimumSize (int ms) {
+		this.minSize = ms;
+	}
+
+	/**
+	 * Set the problem size at and below which sub-problems are sorted in the
+	 * current thread rather than forked. A value of zero (the default) requests
+	 * an adaptive threshold.
+	 *
+	 * @param t    fixed sequential threshold, or zero for adaptive.
+	 */
+	public void setThreshold (int t) {
+		if (t < 0) {
+			throw new IllegalArgumentException ("threshold must be non-negative.");
+		}
+		this.threshold = t;
+	}
+
+	/**
+	 * Set the pool whose worker threads perform the sort.
+	 * <p>
+	 * Behavior is unspecified if this method is invoked while the qsort
+	 * method is in progress.
+	 *
+	 * @param pool   pool to use; if null then the common pool is used.
+	 */
+	public void setPool (ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * In linear time, group an array into two parts, those less than or equal
+	 * to a certain value (left), and those greater than a certain value (right).
+	 *
+	 * @param left         lower bound index position
+	 * @param right        upper bound index position
+	 * @param pivotIndex   index around which the partition is being made.
+	 * @return             location of the pivot index properly positioned.
+	 */
+	public int partition (int left, int right, int pivotIndex) {
+		E pivot = ar[pivotIndex];
+
+		// move pivot to the end of the array
+		E tmp = ar[right];
+		ar[right] = ar[pivotIndex];
+		ar[pivotIndex] = tmp;
+
+		int store = left;
+		for (int idx = left; idx < right; idx++) {
+			if (ar[idx].compareTo(pivot) <= 0) {
+				tmp = ar[idx];
+				ar[idx] = ar[store];
+				ar[store] = tmp;
+				store++;
+			}
+		}
+
+		tmp = ar[right];
+		ar[right] = ar[store];
+		ar[store] = tmp;
+		return store;
+	}
+
+	/**
+	 * Sort using parallel quicksort method. Returns once the entire range
+	 * has been sorted.
+	 *
+	 * @param left     The left-bounds within which to sort (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to sort (0 &le; right &lt; ar.length)
+	 */
+	public void qsort (int left, int right) {
+		if (right <= left) { return; }
+
+		ForkJoinPool fjp = pool;
+		if (fjp == null) { fjp = ForkJoinPool.commonPool(); }
+
+		boolean adaptive = (threshold == 0);
+		int t = threshold;
+		if (adaptive) {
+			t = (right - left + 1) / (fjp.getParallelism() * TASKS_PER_THREAD);
+			if (t < MIN_THRESHOLD) { t = MIN_THRESHOLD; }
+		}
+
+		fjp.invoke(new SortTask(left, right, t, adaptive));
+	}
+
+	/**
+	 * Single-thread sort using Quicksort method.
+	 *
+	 * @param left     The left-bounds within which to sort (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to sort (0 &le; right &lt; ar.length)
+	 */
+	public void qsortSingle (int left, int right) {
+		while (right - left >= minSize) {
+			if (right <= left) { return; }
+
+			int pivotIndex = pi.selectPivotIndex (ar, left, right);
+			pivotIndex = partition (left, right, pivotIndex);
+
+			// recurse on smaller side to bound the stack depth
+			if (pivotIndex - left < right - pivotIndex) {
+				qsortSingle (left, pivotIndex-1);
+				left = pivotIndex+1;
+			} else {
+				qsortSingle (pivotIndex+1, right);
+				right = pivotIndex-1;
+			}
+		}
+
+		insertion (left, right);
+	}
+
+	/** Private code to use InsertionSort on the range ar[low,high]. */
+	private void insertion (int low, int high) {
+		for (int i = low+1; i <= high; i++) {
+			E value = ar[i];
+			int j = i-1;
+			while (j >= low && ar[j].compareTo(value) > 0) {
+				ar[j+1] = ar[j];
+				j--;
+			}
+			ar[j+1] = value;
+		}
+	}
+
+	/**
+	 * Task to sort ar[left,right]. The smaller side of each partition is forked
+	 * while the task continues to work on the larger side; all forked tasks are
+	 * joined before the task completes.
+	 */
+	@SuppressWarnings("serial")
+	class SortTask extends RecursiveAction {
+
+		/** Bounds of the sub-problem. */
+		final int left, right;
+
+		/** Size at and below which the sub-problem is completed sequentially. */
+		final int cutoff;
+
+		/** Stop forking when there is surplus of queued tasks. */
+		final boolean adaptive;
+
+		SortTask (int left, int right, int cutoff, boolean adaptive) {
+			this.left = left;
+			this.right = right;
+			this.cutoff = cutoff;
+			this.adaptive = adaptive;
+		}
+
+		@Override
+		protected void compute() {
+			int lo = left;
+			int hi = right;
+			ArrayList<SortTask> forked = null;
+
+			while (hi - lo + 1 > cutoff) {
+				if (adaptive && getSurplusQueuedTaskCount() > SURPLUS) {
+					break;
+				}
+
+				int pivotIndex = pi.selectPivotIndex (ar, lo, hi);
+				pivotIndex = partition (lo, hi, pivotIndex);
+
+				SortTask task;
+				if (pivotIndex - lo < hi - pivotIndex) {
+					task = new SortTask (lo, pivotIndex-1, cutoff, adaptive);
+					lo = pivotIndex+1;
+				} else {
+					task = new SortTask (pivotIndex+1, hi, cutoff, adaptive);
+					hi = pivotIndex-1;
+				}
+
+				if (forked == null) { forked = new ArrayList<SortTask>(); }
+				forked.add(task);
+				task.fork();
+			}
+
+			qsortSingle (lo, hi);
+
+			if (forked != null) {
+				for (int i = forked.size()-1; i >= 0; i--) {
+					forked.get(i).join();
+				}
+			}
+		}
+	}
+}
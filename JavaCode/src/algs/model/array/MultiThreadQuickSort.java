@@ -15,6 +15,9 @@ package algs.model.array;
  * the {@link #qsort(int, int)} method to delay its return until 
  * helpersWorking == 0.</p>
  * 
+ * <p>See {@link ForkJoinQuickSort} for a version that relies on a work-stealing
+ * pool instead of dedicated helper threads.</p>
+ * 
  * @author George Heineman
  * @version 1.0, 6/1/09
  */
@@ -131,9 +134,23 @@ public class MultiThreadQuickSort<E extends Comparable<E>> {
 	public void qsort (final int left, final int right) {
 		qsort2(left, right);
 
-		// wait until all helper threads have processed. This condition will
-		// work so long as threads are not interrupted.
-		while (helpersWorking > 0) { }
+		// wait until all helper threads have processed. Each helper notifies
+		// upon completion, so this thread sleeps rather than spinning.
+		boolean interrupted = false;
+		synchronized (helpRequestedMutex) {
+			while (helpersWorking > 0) {
+				try {
+					helpRequestedMutex.wait();
+				} catch (InterruptedException ie) {
+					// keep waiting since helpers still write into ar[], but
+					// remember the interrupt so it can be restored.
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
 	}
 
 	/**
@@ -179,6 +196,7 @@ public class MultiThreadQuickSort<E extends Comparable<E>> {
 
 					synchronized (helpRequestedMutex) {
 						helpersWorking--;
+						helpRequestedMutex.notifyAll();
 					}
 				}
 			}.start();
@@ -0,0 +1,254 @@
+package algs.model.array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Select the kth value from a large array of Comparable objects using a
+ * partition that executes in parallel on a {@link ForkJoinPool}.
+ *
+ * <p>The range is split into chunks. In parallel, each chunk classifies its
+ * values as less than, equal to, or greater than the pivot. After computing
+ * prefix sums of these counts, each chunk scatters its values into their final
+ * region of an auxiliary array, which is then copied back in parallel. Once
+ * the remaining range is no larger than the parallel threshold, the selection
+ * is completed by {@link Selection#introselect(Comparable[], int, int, int)}.</p>
+ *
+ * <p>As with introselect, should two consecutive parallel partitions fail to
+ * halve the range, the remaining range is processed by
+ * {@link Selection#linearSelect(Comparable[], int, int, int)}, so the total
+ * work of all partitions is O(n) in the worst case.</p>
+ *
+ * @param <E>   base element for the set.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class ParallelSelection<E extends Comparable<E>> {
+
+	/** Default range size at and below which sequential selection is used. */
+	public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	/** Smallest number of values processed by a single chunk. */
+	public static final int MIN_CHUNK = 1 << 12;
+
+	/** Classification of each value relative to the pivot. */
+	static final byte LESS = 0, EQUAL = 1, GREATER = 2;
+
+	/** Phases of a parallel partition. */
+	static final int COUNT = 0, SCATTER = 1, COPY = 2;
+
+	/** Elements from which to select. */
+	final E[] ar;
+
+	/** Pool to use. */
+	final ForkJoinPool pool;
+
+	/** Range size at and below which sequential selection is used. */
+	int threshold = PARALLEL_THRESHOLD;
+
+	/** Auxiliary storage, allocated once upon first partition. */
+	Object[] tmp;
+
+	/** Classification of each value, allocated once upon first partition. */
+	byte[] kind;
+
+	/** Start and size of the range being partitioned. */
+	int left, n;
+
+	/** Number of values processed by each chunk. */
+	int chunkSize;
+
+	/** Pivot value for the partition in progress. */
+	E pivot;
+
+	/** Number of values less than (and equal to) the pivot in each chunk. */
+	int[] less, equal;
+
+	/** Offsets within tmp[] where each chunk writes its values. */
+	int[] lessOffset, equalOffset, greaterOffset;
+
+	/**
+	 * Construct an instance to select values from the given array.
+	 *
+	 * @param ar      array of values
+	 * @param pool    pool whose worker threads partition the array
+	 */
+	public ParallelSelection (E ar[], ForkJoinPool pool) {
+		this.ar = ar;
+		this.pool = pool;
+	}
+
+	/**
+	 * Set the range size at and below which sequential selection is used.
+	 *
+	 * @param t    new threshold
+	 */
+	public void setThreshold (int t) {
+		this.threshold = t;
+	}
+
+	/**
+	 * Select the kth value in ar[left,right] (1 &le; k &le; right-left+1).
+	 * <p>
+	 * Note that ar[] is altered during the execution of this method. Upon
+	 * completion the kth value is found at ar[left+k-1].
+	 *
+	 * @param k        The position in sorted order of the desired location (1 &le; k &le; right-left+1)
+	 * @param left     The left-bounds within which to search (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to search (0 &le; right &lt; ar.length)
+	 * @return         The value which is the kth in sorted order.
+	 */
+	@SuppressWarnings("unchecked")
+	public E select (int k, int left, int right) {
+		int target = left+k-1;
+		int mark = right-left+1;     // size of range two partitions ago
+		int parts = 0;
+		int[] range = new int[2];
+		while (right - left + 1 > threshold) {
+			if (parts == 2) {
+				if (!Selection.halved (mark, right-left+1)) {
+					return (E) Selection.linearSelect (ar, target-left+1, left, right);
+				}
+				mark = right-left+1;
+				parts = 0;
+			}
+
+			partition (left, right, Selection.selectPivotIndex (ar, left, right), range);
+			parts++;
+			if (target < range[0]) {
+				right = range[0] - 1;
+			} else if (target > range[1]) {
+				left = range[1] + 1;
+			} else {
+				return ar[target];
+			}
+		}
+
+		return (E) Selection.introselect (ar, target-left+1, left, right);
+	}
+
+	/**
+	 * In parallel, group ar[left,right] into three parts, those less than the
+	 * pivot value, those equal to the pivot value, and those greater than the
+	 * pivot value. Upon completion, ar[range[0],range[1]] contains all values
+	 * equal to the pivot.
+	 *
+	 * @param left         lower bound index position
+	 * @param right        upper bound index position
+	 * @param pivotIndex   index of the pivot value.
+	 * @param range        two-element array to hold bounds of the values equal to pivot
+	 */
+	public void partition (int left, int right, int pivotIndex, int[] range) {
+		this.left = left;
+		this.n = right - left + 1;
+		this.pivot = ar[pivotIndex];
+
+		if (tmp == null || tmp.length < n) {
+			tmp = new Object[n];
+			kind = new byte[n];
+		}
+
+		int numChunks = pool.getParallelism() * 4;
+		if ((long) numChunks * MIN_CHUNK > n) {
+			numChunks = Math.max(1, n / MIN_CHUNK);
+		}
+		chunkSize = (n + numChunks - 1) / numChunks;
+		numChunks = (n + chunkSize - 1) / chunkSize;
+
+		less = new int[numChunks];
+		equal = new int[numChunks];
+		lessOffset = new int[numChunks];
+		equalOffset = new int[numChunks];
+		greaterOffset = new int[numChunks];
+
+		pool.invoke (new ChunkTask (COUNT, 0, numChunks));
+
+		// prefix sums determine where each chunk writes its values.
+		int totalLess = 0, totalEqual = 0;
+		for (int c = 0; c < numChunks; c++) {
+			totalLess += less[c];
+			totalEqual += equal[c];
+		}
+		int l = 0, e = totalLess, g = totalLess + totalEqual;
+		for (int c = 0; c < numChunks; c++) {
+			lessOffset[c] = l;
+			equalOffset[c] = e;
+			greaterOffset[c] = g;
+			int size = Math.min(chunkSize, n - c*chunkSize);
+			l += less[c];
+			e += equal[c];
+			g += size - less[c] - equal[c];
+		}
+
+		pool.invoke (new ChunkTask (SCATTER, 0, numChunks));
+		pool.invoke (new ChunkTask (COPY, 0, numChunks));
+
+		range[0] = left + totalLess;
+		range[1] = left + totalLess + totalEqual - 1;
+	}
+
+	/**
+	 * Process chunks [lo,hi) for the given phase of the partition, dividing
+	 * the chunks in half until a single chunk remains.
+	 */
+	@SuppressWarnings("serial")
+	class ChunkTask extends RecursiveAction {
+
+		/** Phase of the partition. */
+		final int phase;
+
+		/** Range of chunks to process. */
+		final int lo, hi;
+
+		ChunkTask (int phase, int lo, int hi) {
+			this.phase = phase;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected void compute() {
+			if (hi - lo > 1) {
+				int mid = (lo + hi) >>> 1;
+				invokeAll (new ChunkTask (phase, lo, mid), new ChunkTask (phase, mid, hi));
+				return;
+			}
+
+			int start = lo*chunkSize;
+			int end = Math.min(start + chunkSize, n);
+			if (phase == COUNT) {
+				int numLess = 0, numEqual = 0;
+				for (int i = start; i < end; i++) {
+					int c = ar[left+i].compareTo(pivot);
+					if (c < 0) {
+						kind[i] = LESS;
+						numLess++;
+					} else if (c == 0) {
+						kind[i] = EQUAL;
+						numEqual++;
+					} else {
+						kind[i] = GREATER;
+					}
+				}
+				less[lo] = numLess;
+				equal[lo] = numEqual;
+			} else if (phase == SCATTER) {
+				int l = lessOffset[lo], e = equalOffset[lo], g = greaterOffset[lo];
+				for (int i = start; i < end; i++) {
+					byte k = kind[i];
+					if (k == LESS) {
+						tmp[l++] = ar[left+i];
+					} else if (k == EQUAL) {
+						tmp[e++] = ar[left+i];
+					} else {
+						tmp[g++] = ar[left+i];
+					}
+				}
+			} else {
+				System.arraycopy (tmp, start, ar, left+start, end-start);
+			}
+		}
+	}
+}
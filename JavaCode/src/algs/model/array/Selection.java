@@ -1,10 +1,19 @@
 package algs.model.array;
 
+import java.util.Arrays;
 import java.util.Comparator;
 
 /**
  * Helper class to locate selected values from an Array of Comparable.
  * 
+ * <p>In addition to the quickselect {@link #select(Comparable[], int, int, int)}, 
+ * which can degrade to O(n^2) on adversarial input, this class offers 
+ * {@link #introselect(Comparable[], int, int, int)} and 
+ * {@link #linearSelect(Comparable[], int, int, int)}, both of which 
+ * guarantee O(n) worst-case behavior, and 
+ * {@link #select(Comparable[], int[], int, int)} which locates several 
+ * order statistics at once.</p>
+ * 
  * @author George Heineman
  * @version 1.0, 6/15/08
  * @since 1.0
@@ -309,4 +318,277 @@ public class Selection {
 		
 		return true;
 	}
+	
+	/** Problem size at and below which InsertionSort completes a selection. */
+	public static final int MIN_SIZE = 16;
+	
+	/**
+	 * Use InsertionSort on the range ar[left,right].
+	 * 
+	 * @param ar       Array of Comparable objects
+	 * @param left     The left-bounds within which to sort (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to sort (0 &le; right &lt; ar.length)
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static void insertion (Comparable ar[], int left, int right) {
+		for (int i = left+1; i <= right; i++) {
+			Comparable value = ar[i];
+			int j = i-1;
+			while (j >= left && ar[j].compareTo(value) > 0) {
+				ar[j+1] = ar[j];
+				j--;
+			}
+			ar[j+1] = value;
+		}
+	}
+	
+	/**
+	 * In linear time, group an array into three parts, those less than the pivot 
+	 * value, those equal to the pivot value, and those greater than the pivot value.
+	 * <p>
+	 * Upon completion, ar[range[0],range[1]] contains all values equal to the pivot.
+	 * Grouping equal values ensures selection makes progress even when the array
+	 * contains many duplicates.
+	 * 
+	 * @param ar           An array of Comparable objects
+	 * @param left         lower bound index position    
+	 * @param right        upper bound index position
+	 * @param pivotIndex   index of the pivot value.
+	 * @param range        two-element array to hold bounds of the values equal to pivot
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static void partition3 (Comparable ar[], int left, int right, int pivotIndex, int[] range) {
+		Comparable pivot = ar[pivotIndex];
+		int lt = left;
+		int gt = right;
+		int idx = left;
+		while (idx <= gt) {
+			int c = ar[idx].compareTo(pivot);
+			if (c < 0) {
+				swap (ar, lt++, idx++);
+			} else if (c > 0) {
+				swap (ar, idx, gt--);
+			} else {
+				idx++;
+			}
+		}
+		
+		range[0] = lt;
+		range[1] = gt;
+	}
+	
+	/**
+	 * Select a pivot index within ar[left,right] using the median-of-medians 
+	 * technique, which guarantees that at least 3/10ths of the values are 
+	 * no greater than the pivot and at least 3/10ths are no smaller.
+	 * <p>
+	 * The range is divided into groups of five; the median of each group is
+	 * moved to the front of the range, and the median of these medians is
+	 * located recursively using {@link #linearSelect(Comparable[], int, int, int)}.
+	 * Note that ar[] is altered during the execution of this method.
+	 * 
+	 * @param ar       Array of Comparable objects
+	 * @param left     The left-bounds within which to search (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to search (0 &le; right &lt; ar.length)
+	 * @return         index of the pivot within the ar[] array (left &le; index &le; right)
+	 */
+	@SuppressWarnings("rawtypes")
+	public static int medianOfMediansIndex (Comparable ar[], int left, int right) {
+		if (right - left < 5) {
+			insertion (ar, left, right);
+			return (left+right)/2;
+		}
+		
+		int numMedians = 0;
+		for (int i = left; i <= right; i += 5) {
+			int subRight = Math.min(i+4, right);
+			insertion (ar, i, subRight);
+			swap (ar, left+numMedians, (i+subRight)/2);
+			numMedians++;
+		}
+		
+		int mid = (numMedians+1)/2;
+		linearSelect (ar, mid, left, left+numMedians-1);
+		return left+mid-1;
+	}
+	
+	/**
+	 * Select the kth value in an array (1 &le; k &le; right-left+1) in guaranteed
+	 * linear time by always partitioning around the median of medians.
+	 * <p>
+	 * Note that ar[] is altered during the execution of this method. Upon 
+	 * completion the kth value is found at ar[left+k-1].
+	 * 
+	 * @param ar       Array of Comparable objects
+	 * @param k        The position in sorted order of the desired location (1 &le; k &le; right-left+1)
+	 * @param left     The left-bounds within which to search (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to search (0 &le; right &lt; ar.length)
+	 * @return         The Comparable object which is the kth in sorted order.
+	 */
+	@SuppressWarnings("rawtypes")
+	public static Comparable linearSelect (Comparable[]ar, int k, int left, int right) {
+		int target = left+k-1;
+		int[] range = new int[2];
+		while (right - left > MIN_SIZE) {
+			partition3 (ar, left, right, medianOfMediansIndex (ar, left, right), range);
+			if (target < range[0]) {
+				right = range[0] - 1;
+			} else if (target > range[1]) {
+				left = range[1] + 1;
+			} else {
+				return ar[target];
+			}
+		}
+		
+		insertion (ar, left, right);
+		return ar[target];
+	}
+	
+	/**
+	 * Select the kth value in an array (1 &le; k &le; right-left+1) using 
+	 * introselect.
+	 * <p>
+	 * Behaves as {@link #select(Comparable[], int, int, int)} using a median-of-three
+	 * pivot, but should two consecutive partitions fail to halve the range, 
+	 * indicating the pivots are poor, the remaining range is processed by
+	 * {@link #linearSelect(Comparable[], int, int, int)}. Since the range is thus
+	 * halved at least every two partitions, worst-case performance is O(n) 
+	 * while average performance matches quickselect.
+	 * <p>
+	 * Note that ar[] is altered during the execution of this method. Upon 
+	 * completion the kth value is found at ar[left+k-1].
+	 * 
+	 * @param ar       Array of Comparable objects
+	 * @param k        The position in sorted order of the desired location (1 &le; k &le; right-left+1)
+	 * @param left     The left-bounds within which to search (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to search (0 &le; right &lt; ar.length)
+	 * @return         The Comparable object which is the kth in sorted order.
+	 */
+	@SuppressWarnings("rawtypes")
+	public static Comparable introselect (Comparable[]ar, int k, int left, int right) {
+		int target = left+k-1;
+		int mark = right-left+1;     // size of range two partitions ago
+		int parts = 0;
+		int[] range = new int[2];
+		while (right - left > MIN_SIZE) {
+			if (parts == 2) {
+				if (!halved (mark, right-left+1)) {
+					return linearSelect (ar, target-left+1, left, right);
+				}
+				mark = right-left+1;
+				parts = 0;
+			}
+			
+			partition3 (ar, left, right, selectPivotIndex (ar, left, right), range);
+			parts++;
+			if (target < range[0]) {
+				right = range[0] - 1;
+			} else if (target > range[1]) {
+				left = range[1] + 1;
+			} else {
+				return ar[target];
+			}
+		}
+		
+		insertion (ar, left, right);
+		return ar[target];
+	}
+	
+	/** 
+	 * Determine whether two partitions have reduced a range of the given 
+	 * original size to no more than half. If not, introselect reverts to 
+	 * median of medians.
+	 */
+	static boolean halved (int before, int after) {
+		return after <= before/2;
+	}
+	
+	/**
+	 * Select several order statistics at once from ar[left,right].
+	 * <p>
+	 * Rather than invoking introselect once for each value of k, each partition
+	 * is shared by all requested positions that remain within the same
+	 * sub-range, so selecting m order statistics costs O(n log m) in the worst 
+	 * case. As with {@link #introselect(Comparable[], int, int, int)}, should
+	 * two consecutive partitions of a sub-range fail to halve it, all further 
+	 * partitions of that sub-range use the median of medians as pivot.
+	 * <p>
+	 * Note that ar[] is altered during the execution of this method. Upon 
+	 * completion the ks[i]th value is found at ar[left+ks[i]-1] for all i.
+	 * 
+	 * @param ar       Array of Comparable objects
+	 * @param ks       Positions in sorted order of the desired values (1 &le; ks[i] &le; right-left+1), in any order
+	 * @param left     The left-bounds within which to search (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to search (0 &le; right &lt; ar.length)
+	 * @return         array whose ith element is the ks[i]th value in sorted order.
+	 * @exception      IllegalArgumentException if any ks[i] is out of range.
+	 */
+	@SuppressWarnings("rawtypes")
+	public static Comparable[] select (Comparable[]ar, int[] ks, int left, int right) {
+		int[] targets = new int[ks.length];
+		for (int i = 0; i < ks.length; i++) {
+			if (ks[i] < 1 || ks[i] > right-left+1) {
+				throw new IllegalArgumentException ("Invalid position " + ks[i]);
+			}
+			targets[i] = left+ks[i]-1;
+		}
+		Arrays.sort(targets);
+		
+		multiselect (ar, targets, 0, targets.length-1, left, right, 
+				right-left+1, 0, new int[2]);
+		
+		Comparable[] results = new Comparable[ks.length];
+		for (int i = 0; i < ks.length; i++) {
+			results[i] = ar[left+ks[i]-1];
+		}
+		return results;
+	}
+	
+	/**
+	 * Recursive helper to place values for the sorted target indices 
+	 * targets[lo,hi] within ar[left,right]. The range had size mark before
+	 * the most recent parts partitions; a mark of 0 means median of medians
+	 * is used for every pivot.
+	 */
+	@SuppressWarnings("rawtypes")
+	static void multiselect (Comparable[]ar, int[] targets, int lo, int hi,
+			int left, int right, int mark, int parts, int[] range) {
+		while (lo <= hi) {
+			if (right - left <= MIN_SIZE) {
+				insertion (ar, left, right);
+				return;
+			}
+			
+			if (parts == 2) {
+				if (mark > 0 && halved (mark, right-left+1)) {
+					mark = right-left+1;
+				} else {
+					mark = 0;
+				}
+				parts = 0;
+			}
+			
+			int pivotIndex;
+			if (mark > 0) {
+				pivotIndex = selectPivotIndex (ar, left, right);
+			} else {
+				pivotIndex = medianOfMediansIndex (ar, left, right);
+			}
+			partition3 (ar, left, right, pivotIndex, range);
+			parts++;
+			int lt = range[0];
+			int gt = range[1];
+			
+			// targets[lo,m-1] are to the left; targets[m,n-1] are pivot values
+			int m = lo;
+			while (m <= hi && targets[m] < lt) { m++; }
+			int n = m;
+			while (n <= hi && targets[n] <= gt) { n++; }
+			
+			// recurse on left, continue with right
+			multiselect (ar, targets, lo, m-1, left, lt-1, mark, parts, range);
+			lo = n;
+			left = gt+1;
+		}
+	}
 }
@@ -12,7 +12,7 @@ package algs.model.heap;
  * @version 1.0, 6/15/08
  * @since 1.0
  */
-public class BinaryHeap<E extends Comparable<E>> {
+public class BinaryHeap<E extends Comparable<E>> implements IPriorityQueue<Comparable<E>> {
 
 	class ElementH {
 		/** user-defined information to be stored by id. */
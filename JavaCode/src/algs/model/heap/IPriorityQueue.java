@@ -0,0 +1,47 @@
+package algs.model.heap;
+
+/**
+ * Priority Queue of integer identifiers, each with a priority that can be
+ * decreased while in the queue.
+ * <p>
+ * Identifiers are in the range 0..n-1, where n is fixed when the queue is
+ * constructed, and the smallest priority is retrieved first.
+ * 
+ * @param <P>  type of priority associated with each identifier.
+ * 
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public interface IPriorityQueue<P> {
+
+	/**
+	 * Determine if queue is empty.
+	 * 
+	 * @return true if queue is empty.
+	 */
+	boolean isEmpty();
+
+	/**
+	 * Insert the element (id) with given priority.
+	 * 
+	 * @param id         unique identifier to use (guaranteed to be in range 0..n-1)
+	 * @param priority   initial priority for this value.
+	 */
+	void insert (int id, P priority);
+
+	/**
+	 * Decrease the priority of the element in the queue with the given identifier.
+	 * 
+	 * @param id                unique identifier in the range 0..n-1
+	 * @param reducedPriority   reduced priority to use, must be smaller than existing.
+	 */
+	void decreaseKey (int id, P reducedPriority);
+
+	/**
+	 * Return the identifier of the smallest entry after removing it from the queue.
+	 * 
+	 * @return identifier of smallest entry in the queue
+	 */
+	int smallestID();
+}
@@ -0,0 +1,260 @@
+package algs.model.heap;
+
+/**
+ * An indexed d-ary heap of elements with primitive <code>int</code> priorities
+ * that can be used as a Priority Queue since it enables elements to have
+ * their priority decreased while in queue.
+ * <p>
+ * As with {@link BinaryHeap}, each element has an integer ID (in the range
+ * 0..n-1) and a given PRIORITY. Rather than storing an object per entry, the
+ * heap keeps the ids and priorities in parallel primitive arrays, together
+ * with an id&rarr;position index, so no operation allocates storage and no
+ * comparison requires a virtual call.
+ * <p>
+ * Each node has d children (default 4). A larger arity makes the heap
+ * shallower, which speeds up insert and decreaseKey, while smallest must
+ * examine more children at each level; since the children of a node are
+ * adjacent in memory the extra comparisons are inexpensive.
+ * 
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class IndexedIntHeap implements IPriorityQueue<Integer> {
+
+	/** Default arity of the heap. */
+	public static final int DEFAULT_ARITY = 4;
+
+	/** Number of children for each node. */
+	final int arity;
+
+	/** Number of elements in heap. */
+	int _n;
+
+	/** Id of element at each heap position. */
+	final int[] _ids;
+
+	/** Priority of element at each heap position. */
+	final int[] _priorities;
+
+	/** Position+1 within heap of each id; zero when id is not in the heap. */
+	final int[] _pos;
+
+	/**
+	 * Construct a 4-ary heap for ids in the range 0..n-1.
+	 * 
+	 * @param n    maximum number of elements.
+	 */
+	public IndexedIntHeap (int n) {
+		this (n, DEFAULT_ARITY);
+	}
+
+	/**
+	 * Construct a heap with the given arity for ids in the range 0..n-1.
+	 * 
+	 * @param n        maximum number of elements.
+	 * @param arity    number of children for each node (at least 2).
+	 * @exception IllegalArgumentException if arity is smaller than two.
+	 */
+	public IndexedIntHeap (int n, int arity) {
+		if (arity < 2) {
+			throw new IllegalArgumentException ("arity must be at least 2.");
+		}
+		this.arity = arity;
+		_n = 0;
+		_ids = new int[n];
+		_priorities = new int[n];
+		_pos = new int[n];
+	}
+
+	/**
+	 * Determine if heap is empty.
+	 * @return true if heap is empty. 
+	 */
+	public boolean isEmpty() {
+		return _n == 0;
+	}
+
+	/**
+	 * Return the number of elements in the heap.
+	 * @return number of elements in the heap.
+	 */
+	public int size() {
+		return _n;
+	}
+
+	/**
+	 * Determine if element with given id is in the heap.
+	 * 
+	 * @param id    unique identifier in the range 0..n-1
+	 * @return true if id is in the heap.
+	 */
+	public boolean contains (int id) {
+		return _pos[id] != 0;
+	}
+
+	/**
+	 * Return current priority of element with given id, which must be in the heap.
+	 * 
+	 * @param id    unique identifier in the range 0..n-1
+	 * @return priority of the element.
+	 */
+	public int priority (int id) {
+		return _priorities[_pos[id]-1];
+	}
+
+	/**
+	 * Return the id of the smallest entry without modifying the heap.
+	 * 
+	 * @return id of smallest entry.
+	 */
+	public int peekID() {
+		return _ids[0];
+	}
+
+	/**
+	 * Return the priority of the smallest entry without modifying the heap.
+	 * 
+	 * @return priority of smallest entry.
+	 */
+	public int peekPriority() {
+		return _priorities[0];
+	}
+
+	/**
+	 * Remove all elements from the heap.
+	 */
+	public void clear() {
+		for (int i = 0; i < _n; i++) {
+			_pos[_ids[i]] = 0;
+		}
+		_n = 0;
+	}
+
+	/**
+	 * Insert the element (id) with given priority.
+	 * <p>
+	 * Inserting an id already in the heap leads to undefined behavior.
+	 * 
+	 * @param id        unique identifier to use (guaranteed to be in range 0..n-1)
+	 * @param priority  initial priority for this value.
+	 */
+	public void insert (int id, int priority) {
+		siftUp (_n++, id, priority);
+	}
+
+	/**
+	 * Decrease the priority of the element in the heap with the given identifier.
+	 * <p>
+	 * As with {@link BinaryHeap#decreaseKey(int, Comparable)}, no check is done 
+	 * to see if the new priority is in fact less than the existing priority.
+	 * 
+	 * @param id                unique identifier in the range 0..n-1
+	 * @param reducedPriority   reduced priority to use, must be smaller than existing.
+	 */
+	public void decreaseKey (int id, int reducedPriority) {
+		siftUp (_pos[id]-1, id, reducedPriority);
+	}
+
+	/**
+	 * Insert the element (id) with given boxed priority, as required by
+	 * {@link IPriorityQueue}.
+	 * 
+	 * @param id        unique identifier to use (guaranteed to be in range 0..n-1)
+	 * @param priority  initial priority for this value.
+	 */
+	public void insert (int id, Integer priority) {
+		insert (id, priority.intValue());
+	}
+
+	/**
+	 * Decrease the priority of the element with the given identifier using a
+	 * boxed priority, as required by {@link IPriorityQueue}.
+	 * 
+	 * @param id                unique identifier in the range 0..n-1
+	 * @param reducedPriority   reduced priority to use, must be smaller than existing.
+	 */
+	public void decreaseKey (int id, Integer reducedPriority) {
+		decreaseKey (id, reducedPriority.intValue());
+	}
+
+	/**
+	 * Return the PRIORITY of the smallest entry after removing it from the heap.
+	 * 
+	 * @return priority of smallest entry in the heap 
+	 */
+	public int smallest() {
+		int priority = _priorities[0];
+		removeMin();
+		return priority;
+	}
+
+	/**
+	 * Return the integer IDENTIFIER of the smallest entry after removing it from the heap.
+	 * 
+	 * @return id of smallest entry in the heap 
+	 */
+	public int smallestID() {
+		int id = _ids[0];
+		removeMin();
+		return id;
+	}
+
+	/** Remove root and place last element in proper location. */
+	void removeMin() {
+		_pos[_ids[0]] = 0;
+		_n--;
+		if (_n > 0) {
+			siftDown (0, _ids[_n], _priorities[_n]);
+		}
+	}
+
+	/** Place element at position i, or an ancestor position, as needed. */
+	void siftUp (int i, int id, int priority) {
+		while (i > 0) {
+			int p = (i-1)/arity;
+			if (_priorities[p] <= priority) { break; }
+
+			// move parent down
+			_ids[i] = _ids[p];
+			_priorities[i] = _priorities[p];
+			_pos[_ids[i]] = i+1;
+			i = p;
+		}
+
+		_ids[i] = id;
+		_priorities[i] = priority;
+		_pos[id] = i+1;
+	}
+
+	/** Place element at position i, or a descendant position, as needed. */
+	void siftDown (int i, int id, int priority) {
+		while (true) {
+			int first = arity*i + 1;
+			if (first >= _n) { break; }
+
+			// select smallest of the children
+			int last = Math.min(first + arity, _n);
+			int child = first;
+			int smallest = _priorities[first];
+			for (int c = first+1; c < last; c++) {
+				if (_priorities[c] < smallest) {
+					smallest = _priorities[c];
+					child = c;
+				}
+			}
+
+			if (priority <= smallest) { break; }
+
+			// move child up
+			_ids[i] = _ids[child];
+			_priorities[i] = smallest;
+			_pos[_ids[i]] = i+1;
+			i = child;
+		}
+
+		_ids[i] = id;
+		_priorities[i] = priority;
+		_pos[id] = i+1;
+	}
+}
@@ -0,0 +1,215 @@
+package algs.model.heap;
+
+/**
+ * A Pairing Heap that can be used as a Priority Queue since it enables elements
+ * to have their priority updated while in queue.
+ * <p>
+ * The elements in the queue have an integer ID and given PRIORITY. Insert and
+ * decreaseKey link a single tree with the root in constant time; the cost of
+ * restructuring is deferred until {@link #smallest()} combines the children of
+ * the removed root using two passes, for O(log n) amortized time.
+ * <p>
+ * The trees are stored within parallel arrays indexed by ID, so no objects are
+ * allocated once the heap is constructed. Each node records its leftmost child,
+ * its right sibling, and its predecessor, which is either its left sibling or
+ * (for a leftmost child) its parent.
+ * 
+ * @param <E>  Type of entity to insert into Heap, which must provide Comparable
+ * 
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class PairingHeap<E extends Comparable<E>> implements IPriorityQueue<Comparable<E>> {
+
+	/** Marks the absence of a node. */
+	static final int NIL = -1;
+
+	/** number of elements in the pairing heap. */
+	int _n;
+
+	/** root of the pairing heap, or NIL when empty. */
+	int _root;
+
+	/** priority of each id. */
+	Object[] _priorities;
+
+	/** leftmost child, right sibling and predecessor of each id. */
+	int[] _child, _sibling, _prev;
+
+	/** whether each id is in the heap. */
+	boolean[] _present;
+
+	/**
+	 * Construct Pairing Heap to store ids in the range 0..n-1.
+	 * 
+	 * @param n    number of ids.
+	 */
+	public PairingHeap (int n) {
+		_n = 0;
+		_root = NIL;
+		_priorities = new Object[n];
+		_child = new int[n];
+		_sibling = new int[n];
+		_prev = new int[n];
+		_present = new boolean[n];
+	}
+
+	/**
+	 * Determines if Pairing Heap is empty.
+	 * @return true if pairing heap is empty. 
+	 */
+	public boolean isEmpty() { 
+		return _n == 0;
+	}
+
+	/**
+	 * Return the number of elements in the heap.
+	 * @return number of elements in the heap.
+	 */
+	public int size() {
+		return _n;
+	}
+
+	/**
+	 * Determine whether the given id is in the heap.
+	 * 
+	 * @param id    unique identifier in the range 0..n-1
+	 * @return true if id is in the heap.
+	 */
+	public boolean contains (int id) {
+		return _present[id];
+	}
+
+	/**
+	 * Insert the element (id) with given priority.
+	 * 
+	 * @param id         unique identifier to use (guaranteed to be in range 0..n-1)
+	 * @param priority   initial priority for this value.
+	 */
+	public void insert (int id, Comparable<E> priority) {
+		_priorities[id] = priority;
+		_child[id] = NIL;
+		_present[id] = true;
+		_n++;
+		_root = (_root == NIL) ? id : link (_root, id);
+		_sibling[_root] = NIL;
+		_prev[_root] = NIL;
+	}
+
+	/**
+	 * Decrease the priority of the element in the heap with the given identifier.
+	 * <p>
+	 * The subtree rooted at id is cut from its parent and linked with the root.
+	 * 
+	 * @param id                unique identifier in the range 0..n-1
+	 * @param reducedPriority   reduced priority to use, must be smaller than existing.
+	 */
+	public void decreaseKey (int id, Comparable<E> reducedPriority) {
+		_priorities[id] = reducedPriority;
+		if (id == _root) { return; }
+
+		// cut subtree from its predecessor, which is its parent only when id is leftmost child.
+		int p = _prev[id];
+		if (_child[p] == id) {
+			_child[p] = _sibling[id];
+		} else {
+			_sibling[p] = _sibling[id];
+		}
+		if (_sibling[id] != NIL) {
+			_prev[_sibling[id]] = p;
+		}
+
+		_root = link (_root, id);
+		_sibling[_root] = NIL;
+		_prev[_root] = NIL;
+	}
+
+	/**
+	 * Return the PRIORITY of the smallest entry after removing it from the heap.
+	 * 
+	 * @return priority of smallest entry in the heap
+	 */
+	@SuppressWarnings("unchecked")
+	public Comparable<E> smallest() {
+		Comparable<E> p = (Comparable<E>) _priorities[_root];
+		removeRoot();
+		return p;
+	}
+
+	/**
+	 * Return the ID of the smallest entry after removing it from the heap.
+	 * 
+	 * @return identifier of smallest entry in the heap
+	 */
+	public int smallestID() {
+		int id = _root;
+		removeRoot();
+		return id;
+	}
+
+	/** Remove root and combine its children into a single tree. */
+	private void removeRoot() {
+		int old = _root;
+		_present[old] = false;
+		_priorities[old] = null;
+		_n--;
+		_root = combine (_child[old]);
+	}
+
+	/**
+	 * Combine the siblings starting with first into a single tree, using the
+	 * standard two-pass pairing. In the first pass, siblings are linked in pairs
+	 * from left to right and the winners are chained (in reverse order) through
+	 * their sibling field. In the second pass, these are linked from right to left. 
+	 */
+	private int combine (int first) {
+		if (first == NIL) { return NIL; }
+
+		int list = NIL;
+		int a = first;
+		while (a != NIL) {
+			int b = _sibling[a];
+			int next = NIL;
+			int winner = a;
+			if (b != NIL) {
+				next = _sibling[b];
+				winner = link (a, b);
+			}
+			_sibling[winner] = list;
+			list = winner;
+			a = next;
+		}
+
+		int root = list;
+		a = _sibling[root];
+		while (a != NIL) {
+			int next = _sibling[a];
+			root = link (root, a);
+			a = next;
+		}
+
+		_sibling[root] = NIL;
+		_prev[root] = NIL;
+		return root;
+	}
+
+	/**
+	 * Link two trees, making the one with larger priority the leftmost child of 
+	 * the other. Ties are won by a. The sibling and predecessor of the returned
+	 * root are left for the caller to set.
+	 */
+	@SuppressWarnings("unchecked")
+	private int link (int a, int b) {
+		if (((Comparable<E>) _priorities[b]).compareTo((E) _priorities[a]) < 0) {
+			int t = a; a = b; b = t;
+		}
+
+		int c = _child[a];
+		_sibling[b] = c;
+		if (c != NIL) { _prev[c] = b; }
+		_prev[b] = a;
+		_child[a] = b;
+		return a;
+	}
+}
@@ -0,0 +1,241 @@
+package algs.model.heap;
+
+import java.util.Arrays;
+
+/**
+ * A Radix Heap that can be used as a monotone Priority Queue for integer
+ * priorities, such as by Dijkstra's algorithm when edge weights are integers.
+ * <p>
+ * A radix heap is monotone: the priority of every inserted (or decreased)
+ * element must be no smaller than the priority most recently removed from
+ * the heap. Elements are placed in one of 33 buckets based upon the highest
+ * bit in which their priority differs from the last removed priority, so
+ * insert and decreaseKey take constant time. When the first bucket is empty,
+ * removal finds the smallest priority in the next non-empty bucket and
+ * redistributes its elements into lower buckets. Since an element only moves
+ * to lower buckets, it is redistributed at most 32 times.
+ * <p>
+ * The buckets are doubly-linked lists stored within parallel arrays indexed
+ * by ID, so no objects are allocated once the heap is constructed.
+ * 
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class RadixHeap implements IPriorityQueue<Integer> {
+
+	/** Marks the absence of a node. */
+	static final int NIL = -1;
+
+	/** Number of buckets. Bucket b &gt; 0 holds priorities whose highest bit differing from last is b-1. */
+	public static final int NUM_BUCKETS = 33;
+
+	/** number of elements in the heap. */
+	int _n;
+
+	/** priority most recently removed from the heap. */
+	int _last;
+
+	/** first id in each bucket, or NIL when empty. */
+	final int[] _head = new int[NUM_BUCKETS];
+
+	/** priority of each id. */
+	final int[] _priorities;
+
+	/** next and previous id in the same bucket. */
+	final int[] _next, _prev;
+
+	/** bucket containing each id, or NIL if not in the heap. */
+	final int[] _bucket;
+
+	/**
+	 * Construct Radix Heap to store ids in the range 0..n-1.
+	 * 
+	 * @param n    number of ids.
+	 */
+	public RadixHeap (int n) {
+		_priorities = new int[n];
+		_next = new int[n];
+		_prev = new int[n];
+		_bucket = new int[n];
+		Arrays.fill(_bucket, NIL);
+		clear();
+	}
+
+	/** Remove all elements from the heap, and reset the last removed priority to Integer.MIN_VALUE. */
+	public void clear() {
+		if (_n > 0) {
+			Arrays.fill(_bucket, NIL);
+		}
+		Arrays.fill(_head, NIL);
+		_n = 0;
+		_last = Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Determines if Radix Heap is empty.
+	 * @return true if radix heap is empty. 
+	 */
+	public boolean isEmpty() { 
+		return _n == 0;
+	}
+
+	/**
+	 * Return the number of elements in the heap.
+	 * @return number of elements in the heap.
+	 */
+	public int size() {
+		return _n;
+	}
+
+	/**
+	 * Determine whether the given id is in the heap.
+	 * 
+	 * @param id    unique identifier in the range 0..n-1
+	 * @return true if id is in the heap.
+	 */
+	public boolean contains (int id) {
+		return _bucket[id] != NIL;
+	}
+
+	/**
+	 * Return the priority most recently removed from the heap; no priority
+	 * smaller than this may be inserted.
+	 * 
+	 * @return last removed priority, or Integer.MIN_VALUE if none yet removed.
+	 */
+	public int lastPriority() {
+		return _last;
+	}
+
+	/**
+	 * Insert the element (id) with given priority.
+	 * 
+	 * @param id         unique identifier to use (guaranteed to be in range 0..n-1)
+	 * @param priority   initial priority, no smaller than {@link #lastPriority()}.
+	 * @exception IllegalArgumentException   if priority violates monotone property.
+	 */
+	public void insert (int id, int priority) {
+		if (priority < _last) {
+			throw new IllegalArgumentException ("priority " + priority + " is smaller than last removed priority " + _last);
+		}
+		_priorities[id] = priority;
+		add (id);
+		_n++;
+	}
+
+	/**
+	 * Decrease the priority of the element in the heap with the given identifier.
+	 * 
+	 * @param id                unique identifier in the range 0..n-1
+	 * @param reducedPriority   reduced priority to use, no smaller than {@link #lastPriority()}.
+	 * @exception IllegalArgumentException   if priority violates monotone property.
+	 */
+	public void decreaseKey (int id, int reducedPriority) {
+		if (reducedPriority < _last) {
+			throw new IllegalArgumentException ("priority " + reducedPriority + " is smaller than last removed priority " + _last);
+		}
+		remove (id);
+		_priorities[id] = reducedPriority;
+		add (id);
+	}
+
+	/**
+	 * Insert the element (id) with given boxed priority, as required by
+	 * {@link IPriorityQueue}.
+	 * 
+	 * @param id        unique identifier to use (guaranteed to be in range 0..n-1)
+	 * @param priority  initial priority for this value.
+	 */
+	public void insert (int id, Integer priority) {
+		insert (id, priority.intValue());
+	}
+
+	/**
+	 * Decrease the priority of the element with the given identifier using a
+	 * boxed priority, as required by {@link IPriorityQueue}.
+	 * 
+	 * @param id                unique identifier in the range 0..n-1
+	 * @param reducedPriority   reduced priority to use, must be smaller than existing.
+	 */
+	public void decreaseKey (int id, Integer reducedPriority) {
+		decreaseKey (id, reducedPriority.intValue());
+	}
+
+	/**
+	 * Return the PRIORITY of the smallest entry after removing it from the heap.
+	 * 
+	 * @return priority of smallest entry in the heap
+	 */
+	public int smallest() {
+		int id = removeMin();
+		return _priorities[id];
+	}
+
+	/**
+	 * Return the ID of the smallest entry after removing it from the heap.
+	 * 
+	 * @return identifier of smallest entry in the heap
+	 */
+	public int smallestID() {
+		return removeMin();
+	}
+
+	/** Remove and return id of smallest element, redistributing a bucket if needed. */
+	private int removeMin() {
+		if (_head[0] == NIL) {
+			int b = 1;
+			while (_head[b] == NIL) { b++; }
+
+			// new last is smallest priority in this bucket
+			int min = Integer.MAX_VALUE;
+			for (int id = _head[b]; id != NIL; id = _next[id]) {
+				if (_priorities[id] < min) { min = _priorities[id]; }
+			}
+			_last = min;
+
+			// every element now differs from last in a lower bit, and so moves down
+			int id = _head[b];
+			_head[b] = NIL;
+			while (id != NIL) {
+				int next = _next[id];
+				add (id);
+				id = next;
+			}
+		}
+
+		int id = _head[0];
+		remove (id);
+		_bucket[id] = NIL;
+		_n--;
+		return id;
+	}
+
+	/** Determine the bucket for priority p relative to last removed priority. */
+	private int bucketFor (int p) {
+		return 32 - Integer.numberOfLeadingZeros (p ^ _last);
+	}
+
+	/** Add id to the front of its bucket. */
+	private void add (int id) {
+		int b = bucketFor (_priorities[id]);
+		int h = _head[b];
+		_next[id] = h;
+		_prev[id] = NIL;
+		if (h != NIL) { _prev[h] = id; }
+		_head[b] = id;
+		_bucket[id] = b;
+	}
+
+	/** Unlink id from its bucket. */
+	private void remove (int id) {
+		int p = _prev[id];
+		int n = _next[id];
+		if (p == NIL) {
+			_head[_bucket[id]] = n;
+		} else {
+			_next[p] = n;
+		}
+		if (n != NIL) { _prev[n] = p; }
+	}
+}
@@ -0,0 +1,77 @@
+package algs.model.kdtree;
+
+import algs.model.IMultiPoint;
+
+/**
+ * Coordinates of points stored in a single array (row i occupies coords[i*d ..
+ * (i+1)*d)), whose rows can be reordered in place together with the points
+ * (and, optionally, their original indices).
+ * <p>
+ * Used by {@link KDFactory} and {@link StaticKDTree} to select medians without
+ * repeatedly invoking getCoordinate.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+class CoordinateRows {
+
+	/** Coordinates of each row. */
+	final double[] coords;
+
+	/** Number of coordinates in each row. */
+	final int d;
+
+	/** Point stored in each row. */
+	final IMultiPoint[] points;
+
+	/** Original index of point in each row; null if not tracked. */
+	final int[] ids;
+
+	CoordinateRows (double[] coords, int d, IMultiPoint[] points, int[] ids) {
+		this.coords = coords;
+		this.d = d;
+		this.points = points;
+		this.ids = ids;
+	}
+
+	/** Reorder rows [left, right] so row k holds the kth smallest coordinate in dim. */
+	void select (int left, int right, int k, int dim) {
+		while (right > left) {
+			// median of three as pivot, placed in row left.
+			int mid = left + (right-left)/2;
+			if (coords[mid*d+dim] < coords[left*d+dim]) { swap (mid, left); }
+			if (coords[right*d+dim] < coords[left*d+dim]) { swap (right, left); }
+			if (coords[right*d+dim] < coords[mid*d+dim]) { swap (right, mid); }
+			swap (left, mid);
+			double pivot = coords[left*d+dim];
+
+			// rows equal to pivot may fall on either side, which keeps duplicates balanced.
+			int i = left, j = right+1;
+			while (true) {
+				while (coords[(++i)*d+dim] < pivot) { if (i == right) break; }
+				while (pivot < coords[(--j)*d+dim]) { }
+				if (i >= j) { break; }
+				swap (i, j);
+			}
+			swap (left, j);
+
+			if (j == k) { return; }
+			if (j < k) { left = j+1; } else { right = j-1; }
+		}
+	}
+
+	/** Swap rows i and j. */
+	void swap (int i, int j) {
+		if (i == j) { return; }
+		for (int c = 0; c < d; c++) {
+			double t = coords[i*d+c];
+			coords[i*d+c] = coords[j*d+c];
+			coords[j*d+c] = t;
+		}
+		IMultiPoint p = points[i]; points[i] = points[j]; points[j] = p;
+		if (ids != null) {
+			int t = ids[i]; ids[i] = ids[j]; ids[j] = t;
+		}
+	}
+}
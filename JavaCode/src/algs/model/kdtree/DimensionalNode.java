@@ -27,17 +27,25 @@ import algs.model.nd.Hypercube;
  */
 public class DimensionalNode {
 	
-	/** Number of times a double recursion occurred. */
+	/**
+	 * Number of times a double recursion occurred.
+	 * @deprecated no longer updated, since concurrent queries would race on it; use {@link KDStats}.
+	 */
+	@Deprecated
 	public static int numDoubleRecursions = 0;  /* stats */
 	
-	/** Number of times a regular recursion occurred. */
+	/**
+	 * Number of times a regular recursion occurred.
+	 * @deprecated no longer updated, since concurrent queries would race on it; use {@link KDStats}.
+	 */
+	@Deprecated
 	public static int numRecursions = 0;        /* stats */
 
 	/** Dimensional-coordinate. */
 	public final IMultiPoint point;
 	
 	/** When processing point, use cached values. */
-	private final double[] cached;
+	final double[] cached;
 
 	/** Which dimension is being represented (1 &le; d &le; max). */
 	public final int dimension;
@@ -251,6 +259,22 @@ public class DimensionalNode {
 	 * @return            existing point in tree that is closest.
 	 */
 	protected IMultiPoint nearest (double[] rawTarget, double min[]) {
+		return nearest (rawTarget, min, null);
+	}
+
+	/**
+	 * In sub-tree rooted at node, see if one of its descendants is closer to
+	 * rawTarget than min[0], recording the number of single and double
+	 * recursions in stats.
+	 * <p>
+	 * If no descendant improves on the min[] result then null is returned.
+	 *
+	 * @param min         minimum distance found so far
+	 * @param rawTarget   the target in raw optimized form
+	 * @param stats       statistics to update, or null to record nothing
+	 * @return            existing point in tree that is closest.
+	 */
+	protected IMultiPoint nearest (double[] rawTarget, double min[], KDStats stats) {
 	    // Update minimum if we are closer.
 		IMultiPoint result = null;
 		
@@ -269,35 +293,37 @@ public class DimensionalNode {
 		double dp = Math.abs(coord - rawTarget[dimension-1]);
 		IMultiPoint newResult = null;
 
-		int numDblRec = 0; /* stats */
 		if (dp < min[0]) {
 			// must dive into both. Return closest one.
+			int numDblRec = 0; /* stats */
 			if (above != null) {
 				numDblRec++; /* stats */
-				newResult = above.nearest (rawTarget, min); 
+				newResult = above.nearest (rawTarget, min, stats); 
 				if (newResult != null) { result = newResult; }
 			}
 			
 			if (below != null) {
 				numDblRec++; /* stats */
-				newResult = below.nearest(rawTarget, min);
+				newResult = below.nearest(rawTarget, min, stats);
 				if (newResult != null) { result = newResult; }
 			}
-			if (numDblRec == 2) {          /* stats */
-				numDoubleRecursions++;     /* stats */
-			} else if (numDblRec == 1) {   /* stats */
-				numRecursions++;           /* stats */
+			if (stats != null) {               /* stats */
+				if (numDblRec == 2) {          /* stats */
+					stats.numDoubleRecursions++;  /* stats */
+				} else if (numDblRec == 1) {   /* stats */
+					stats.numRecursions++;     /* stats */
+				}
 			}
 		} else {
 			// only need to go in one! Determine which one now.
-			numRecursions++;               /* stats */
+			if (stats != null) { stats.numRecursions++; }  /* stats */
 			if (rawTarget[dimension-1] < coord) {
 				if (below != null) {
-					newResult = below.nearest (rawTarget, min); 
+					newResult = below.nearest (rawTarget, min, stats); 
 				}
 			} else {
 				if (above != null) {
-					newResult = above.nearest (rawTarget, min); 
+					newResult = above.nearest (rawTarget, min, stats); 
 				}
 			}
 			
@@ -1,10 +1,10 @@
 package algs.model.kdtree;
 
-import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import algs.model.IMultiPoint;
 import algs.model.IPoint;
-import algs.model.array.Selection;
 import algs.model.nd.Hypercube;
 import algs.model.twod.TwoDPoint;
 
@@ -13,55 +13,65 @@ import algs.model.twod.TwoDPoint;
  * <p>
  * Note that we take care to construct the associated {@link Hypercube} regions with each
  * node to ensure the integrity of the regions; without these regions being properly
- * set, there is no way to "drain" the children of a subtree when a query wholly 
- * contains a subtree's region.  
- * 
+ * set, there is no way to "drain" the children of a subtree when a query wholly
+ * contains a subtree's region.
+ * <p>
+ * The tree is built from the top down: once the median of a subarray has been
+ * selected, its node is attached to its parent (thus its region is known) and
+ * the subarrays below and above it are built independently, in parallel on a
+ * fork/join pool. Medians are selected over a single array holding the
+ * coordinates of all points, rather than by comparing IMultiPoint objects.
+ * All state belongs to the invocation, so any number of trees may be
+ * generated concurrently.
+ *
  * @author George Heineman
- * @version 1.0, 6/15/08
+ * @version 2.0, 10/18/26
  * @since 1.0
  */
 public class KDFactory {
 
-	/** 
-	 * Known comparators for partitioning points along dimensional axes.
-	 * <p>
-	 * Uses 1-based access for ease of programming, so always is one larger
-	 * than necessary.
-	 */
-	private static Comparator<IMultiPoint> comparators[] = null;
-	
+	/** Subarrays with fewer points are built sequentially. */
+	static final int GRAIN = 8192;
+
 	/**
-	 * Generate a KDTree from the given array of points.
+	 * Generate a KDTree from the given array of points using the common fork/join pool.
 	 * <p>
-	 * If points is null, then return null since the dimensionality
+	 * If points is empty, then return null since the dimensionality
 	 * is unknown.
 	 * <p>
 	 * All points must have the same dimensionality, otherwise strange
-	 * behavior may occur. Also, this method is not re-entrant, since the 
-	 * comparators array is regenerated upon each invocation, thus we mark
-	 * the method as 'synchronized'.
-	 * 
+	 * behavior may occur. The points array is reordered by this method.
+	 *
+	 * @param points    points which are to be used as source to generate KDTree.
+	 * @return          balanced KD-tree from given points.
+	 */
+	public static KDTree generate (IMultiPoint []points) {
+		return generate (points, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Generate a KDTree from the given array of points, building subtrees in
+	 * parallel using the given pool.
+	 * <p>
+	 * If points is empty, then return null since the dimensionality
+	 * is unknown.
+	 *
 	 * @param points    points which are to be used as source to generate KDTree.
+	 * @param pool      pool whose worker threads build the subtrees
 	 * @return          balanced KD-tree from given points.
 	 */
-	@SuppressWarnings("unchecked")
-	public static synchronized KDTree generate (IMultiPoint []points) {
+	public static KDTree generate (IMultiPoint []points, ForkJoinPool pool) {
 		if (points.length == 0) { return null; }
-		
+
 		// median will be the root.
 		int maxD = points[0].dimensionality();
 		KDTree tree = new KDTree(maxD);
-		
-        // Make dimensional comparators that compare points by ith dimension
-		comparators = new Comparator[maxD+1];
-		for (int i = 1; i <= maxD; i++) {
-			comparators[i] = new DimensionalComparator(i);
-		}
-		
-		tree.setRoot(generate (1, maxD, points, 0, points.length-1));
+
+		Builder builder = new Builder (tree, points);
+		pool.invoke (new Subtree (builder, null, true, 0, points.length-1));
 		return tree;
 	}
-		
+
 	/**
 	 * Generate a KDTree from the given array of IPoints.
      *
@@ -73,9 +83,9 @@ public class KDFactory {
 	 * @param points    initial points to use
 	 * @return          balanced kd-tree from these points.
 	 */
-	public static synchronized KDTree generate (IPoint []points) {
+	public static KDTree generate (IPoint []points) {
 		if (points.length == 0) { return null; }
-		
+
 		// convert all IPoint into IMultiPoint. If not an instance, do the hard way.
 		IMultiPoint others[] = new IMultiPoint[points.length];
 		for (int i = 0; i < points.length; i++) {
@@ -85,34 +95,110 @@ public class KDFactory {
 				others[i] = new TwoDPoint(points[i].getX(), points[i].getY());
 			}
 		}
-		
+
 		return generate (others);
 	}
-	
-	
-	/** Generate node for d-th dimension (1 <= d <= maxD) for points[left, right]. */
-	private static DimensionalNode generate (int d, int maxD, IMultiPoint points[], int left, int right) {
-		
-		// Handle the easy cases first
-		if (right < left) { return null; }
-		if (right == left) { return new DimensionalNode (d, points[left]); }
-		
-        // Order the array[left,right] so mth element will be the median and
-        // elements prior to it will be <= median, though not sorted; 
-		// similarly, elements after will be >= median, though not sorted
-		int m = 1+(right-left)/2;
-		Selection.select(points, m, left, right, comparators[d]);
-		
-        // Median point on this dimension becomes the parent
-		DimensionalNode dm = new DimensionalNode (d, points[left+m-1]);
-		
-		// update to the next dimension, or reset back to 1
-		if (++d > maxD) { d = 1; }
-		
-		// recursively compute left and right sub-trees, which translate into
-		// 'below' and 'above' for n-dimensions.
-		dm.setBelow(generate (d, maxD, points, left, left+m-2));
-		dm.setAbove(generate (d, maxD, points, left+m, right));
-		return dm;
-	}	
+
+	/**
+	 * State of a single invocation of generate: the points and a copy of their
+	 * coordinates (row i occupies coords[i*maxD .. (i+1)*maxD)), whose rows are
+	 * reordered together with points.
+	 */
+	static class Builder {
+		/** Tree being generated. */
+		final KDTree tree;
+
+		/** Points, reordered as the tree is built. */
+		final IMultiPoint[] points;
+
+		/** Coordinates of points. */
+		final double[] coords;
+
+		/** Dimensionality of points. */
+		final int maxD;
+
+		/** Rows of coords and points, reordered together. */
+		final CoordinateRows rows;
+
+		Builder (KDTree tree, IMultiPoint[] points) {
+			this.tree = tree;
+			this.points = points;
+			this.maxD = tree.maxDimension;
+			coords = new double[points.length * maxD];
+			for (int i = 0; i < points.length; i++) {
+				for (int j = 0; j < maxD; j++) {
+					coords[i*maxD+j] = points[i].getCoordinate(j+1);
+				}
+			}
+			rows = new CoordinateRows (coords, maxD, points, null);
+		}
+
+		/**
+		 * Construct node for the median of points[left, right] and make it the
+		 * below (or above) child of parent, or the root if parent is null.
+		 */
+		DimensionalNode node (DimensionalNode parent, boolean below, int left, int right) {
+			int d = 1;
+			if (parent != null && parent.dimension != maxD) { d = parent.dimension+1; }
+
+			// Order the array[left,right] so mth element will be the median and
+			// elements prior to it will be <= median, though not sorted;
+			// similarly, elements after will be >= median, though not sorted
+			int m = left + (right-left)/2;
+			rows.select (left, right, m, d-1);
+			DimensionalNode dm = new DimensionalNode (d, points[m]);
+
+			if (parent == null) {
+				tree.setRoot (dm);
+			} else if (below) {
+				parent.setBelow (dm);
+			} else {
+				parent.setAbove (dm);
+			}
+			return dm;
+		}
+
+		/** Sequentially build subtree for points[left, right] as child of parent. */
+		void build (DimensionalNode parent, boolean below, int left, int right) {
+			if (right < left) { return; }
+
+			DimensionalNode dm = node (parent, below, left, right);
+			int m = left + (right-left)/2;
+			build (dm, true, left, m-1);
+			build (dm, false, m+1, right);
+		}
+	}
+
+	/** Build subtree for points[left, right], forking the subtrees of its median. */
+	static class Subtree extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		final Builder builder;
+		final DimensionalNode parent;
+		final boolean below;
+		final int left;
+		final int right;
+
+		Subtree (Builder builder, DimensionalNode parent, boolean below, int left, int right) {
+			this.builder = builder;
+			this.parent = parent;
+			this.below = below;
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		protected void compute() {
+			if (right - left < GRAIN) {
+				builder.build (parent, below, left, right);
+				return;
+			}
+
+			// children are attached only after dm has its region.
+			DimensionalNode dm = builder.node (parent, below, left, right);
+			int m = left + (right-left)/2;
+			invokeAll (new Subtree (builder, dm, true, left, m-1),
+					   new Subtree (builder, dm, false, m+1, right));
+		}
+	}
 }
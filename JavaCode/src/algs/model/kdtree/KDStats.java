@@ -0,0 +1,35 @@
+package algs.model.kdtree;
+
+/**
+ * Statistics gathered by {@link KDTree#nearest(algs.model.IMultiPoint, KDStats)}.
+ * <p>
+ * Each node visited during a nearest neighbor query either recurses into a
+ * single subtree or, when the target lies close enough to its splitting plane,
+ * into both. Since a KDStats object is supplied with each query, threads
+ * querying the same tree concurrently should each use their own; the counts
+ * accumulate across queries until {@link #reset()} is invoked. Queries made
+ * without a KDStats object record nothing.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class KDStats {
+
+	/** Number of times a single recursion occurred. */
+	public int numRecursions;
+
+	/** Number of times a double recursion occurred. */
+	public int numDoubleRecursions;
+
+	/** Reset counts to zero. */
+	public void reset() {
+		numRecursions = 0;
+		numDoubleRecursions = 0;
+	}
+
+	/** Reasonable toString method. */
+	public String toString () {
+		return "recursions:" + numRecursions + ", double recursions:" + numDoubleRecursions;
+	}
+}
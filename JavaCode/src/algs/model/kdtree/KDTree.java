@@ -1,7 +1,10 @@
 package algs.model.kdtree;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import algs.model.IHypercube;
 import algs.model.IMultiPoint;
@@ -37,13 +40,58 @@ public class KDTree {
 
 	/** debugging output. */
 	boolean debug = false;
-	
-	// debugging stats
-	/** Number of times single recursion. */
-	private int numRecursion=0;
-	
-	/** Number of times double recursion. */
-	private int numDoubleRecursion=0;
+
+	/** Reusable buffers for {@link #kNearest} and {@link #withinRadius}, one per thread. */
+	private static final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>() {
+		@Override
+		protected Scratch initialValue() {
+			return new Scratch();
+		}
+	};
+
+	/**
+	 * Buffers reused by queries so that no objects are allocated per query: a
+	 * bounded max-heap of squared distances and a stack of subtrees still to be
+	 * visited, each with a lower bound on its squared distance to the target.
+	 */
+	static class Scratch {
+		/** Max-heap of squared distances, with the node of each. */
+		double[] heapDist = new double[16];
+		DimensionalNode[] heapNode = new DimensionalNode[16];
+
+		/** Subtrees yet to visit, with a lower bound on their squared distance. */
+		DimensionalNode[] stack = new DimensionalNode[64];
+		double[] bound = new double[64];
+
+		/** Coordinates of the target. */
+		double[] raw = new double[0];
+
+		/** Copy coordinates of target without the allocation of IMultiPoint.raw(). */
+		double[] coordinates (IMultiPoint target) {
+			int d = target.dimensionality();
+			if (raw.length != d) { raw = new double[d]; }
+			for (int i = 0; i < d; i++) {
+				raw[i] = target.getCoordinate(i+1);
+			}
+			return raw;
+		}
+
+		/** Ensure heap holds k entries. */
+		void ensureHeap (int k) {
+			if (heapDist.length < k) {
+				heapDist = new double[k];
+				heapNode = new DimensionalNode[k];
+			}
+		}
+
+		/** Ensure stack holds one more than size entries. */
+		void ensureStack (int size) {
+			if (size == stack.length) {
+				stack = Arrays.copyOf (stack, 2*size);
+				bound = Arrays.copyOf (bound, 2*size);
+			}
+		}
+	}
 	
 	/** 
 	 * Helper method to always determine the next dimensionality given a node.
@@ -232,30 +280,319 @@ public class KDTree {
 	 * <p>
 	 * If tree is empty or if the target is <code>null</code> then
 	 * <code>null</code> is returned.
+	 * <p>
+	 * No statistics are recorded and no shared state is modified, so any
+	 * number of threads may search the tree concurrently as long as it is
+	 * not being modified.
 	 * 
 	 * @param   target    the target of the search.
 	 * @return  closest {@link IMultiPoint} object in the tree to the target {@link IMultiPoint} 
 	 */
 	public IMultiPoint nearest (IMultiPoint target) {
+		return nearest (target, null);
+	}
+
+	/**
+	 * Find the nearest point in the KDtree to the given point, adding to stats
+	 * the number of single and double recursions performed.
+	 * <p>
+	 * Threads searching the tree concurrently should each supply their own
+	 * stats object.
+	 * 
+	 * @param   target    the target of the search.
+	 * @param   stats     statistics to update, or null to record nothing.
+	 * @return  closest {@link IMultiPoint} object in the tree to the target {@link IMultiPoint} 
+	 */
+	public IMultiPoint nearest (IMultiPoint target, KDStats stats) {
 		if (root == null || target == null) return null;
 	
 		// find parent node to which target would have been inserted. 
 	    // Best shot at finding closest point.
 		DimensionalNode parent = parent(target);
 		IMultiPoint result = parent.point;
-		double smallest = target.distance(result);
 		
 		// Start back at the root to try to find closer one.
-		numRecursion=0;        /* STATS */
-		numDoubleRecursion=0;  /* STATS */
-		double best[] = new double[] { smallest };  // computed best distance.
+		double best[] = new double[] { target.distance(result) };
 		
-		double raw[] = target.raw();
-		IMultiPoint betterOne = root.nearest (raw, best);
+		// without stats, invoke the form that subclasses of DimensionalNode override.
+		IMultiPoint betterOne;
+		if (stats == null) {
+			betterOne = root.nearest (target.raw(), best);
+		} else {
+			betterOne = root.nearest (target.raw(), best, stats);
+		}
 		if (betterOne != null) { return betterOne; }
 		return result;
 	}
 
+	/**
+	 * Find the nearest point in the KDTree to each of the given targets, using
+	 * the common fork/join pool.
+	 *
+	 * @param   targets   the targets of the search.
+	 * @return  array whose ith element is closest point to targets[i] (or null if targets[i] is null).
+	 * @see #nearestAll(IMultiPoint[], ForkJoinPool)
+	 */
+	public IMultiPoint[] nearestAll (IMultiPoint[] targets) {
+		return nearestAll (targets, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Find the nearest point in the KDTree to each of the given targets.
+	 * <p>
+	 * The targets are searched in Morton order (see {@link MortonOrder}), so
+	 * consecutive searches visit the same parts of the tree. Rather than descend
+	 * to the parent of each target, as {@link #nearest(IMultiPoint)} does, the
+	 * distance to the point found for the previous target bounds the search.
+	 * Contiguous runs of targets in this order are searched in parallel using
+	 * the given pool. Results are returned in the order of targets.
+	 *
+	 * @param   targets   the targets of the search.
+	 * @param   pool      pool whose worker threads perform the searches.
+	 * @return  array whose ith element is closest point to targets[i] (or null if
+	 *          targets[i] is null or the tree is empty).
+	 */
+	public IMultiPoint[] nearestAll (IMultiPoint[] targets, ForkJoinPool pool) {
+		IMultiPoint[] results = new IMultiPoint[targets.length];
+		if (root == null || targets.length == 0) { return results; }
+
+		int d = maxDimension;
+		double[] coords = new double[targets.length * d];
+		for (int i = 0; i < targets.length; i++) {
+			if (targets[i] == null) { continue; }
+			for (int j = 0; j < d; j++) {
+				coords[i*d+j] = targets[i].getCoordinate(j+1);
+			}
+		}
+
+		int[] order = MortonOrder.order (coords, d);
+		pool.invoke (new BatchNearest (targets, coords, order, results, 0, targets.length));
+		return results;
+	}
+
+	/** Search targets[order[lo]] .. targets[order[hi-1]], splitting large runs in two. */
+	class BatchNearest extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		/** Runs with fewer targets are searched sequentially. */
+		static final int GRAIN = 1024;
+
+		final IMultiPoint[] targets;
+		final double[] coords;
+		final int[] order;
+		final IMultiPoint[] results;
+		final int lo;
+		final int hi;
+
+		BatchNearest (IMultiPoint[] targets, double[] coords, int[] order, IMultiPoint[] results, int lo, int hi) {
+			this.targets = targets;
+			this.coords = coords;
+			this.order = order;
+			this.results = results;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected void compute() {
+			if (hi - lo > GRAIN) {
+				int mid = (lo + hi) >>> 1;
+				invokeAll (new BatchNearest (targets, coords, order, results, lo, mid),
+						   new BatchNearest (targets, coords, order, results, mid, hi));
+				return;
+			}
+
+			int d = maxDimension;
+			double[] raw = new double[d];
+			double[] best = new double[1];
+			IMultiPoint previous = null;
+			for (int i = lo; i < hi; i++) {
+				int idx = order[i];
+				IMultiPoint target = targets[idx];
+				if (target == null) { continue; }
+				if (previous == null) {
+					previous = results[idx] = nearest (target);
+					continue;
+				}
+
+				// closest point to previous target is likely close to this one.
+				System.arraycopy (coords, idx*d, raw, 0, d);
+				best[0] = target.distance (previous);
+				IMultiPoint betterOne = root.nearest (raw, best);
+				if (betterOne != null) { previous = betterOne; }
+				results[idx] = previous;
+			}
+		}
+	}
+
+	/**
+	 * Find the k nearest points in the KDTree to the given point.
+	 * <p>
+	 * The points are stored in results[0..m) by increasing distance, where m is
+	 * the smaller of k and the number of points in the tree; should distances be
+	 * non-null, distances[i] records the distance of results[i]. A bounded
+	 * max-heap of squared distances holds the k nearest points found so far, so
+	 * any subtree whose splitting plane is farther than the worst of these is
+	 * pruned. Buffers are reused (one set per thread), so no objects are
+	 * allocated once they have grown to size; concurrent queries are safe as
+	 * long as the tree is not being modified.
+	 *
+	 * @param target      the target of the search.
+	 * @param k           number of points to find
+	 * @param results     array of at least k elements to receive nearest points
+	 * @param distances   array of at least k elements to receive distances, or null
+	 * @return            number of points stored in results
+	 * @exception IllegalArgumentException if k is negative or an array has fewer than k elements.
+	 */
+	public int kNearest (IMultiPoint target, int k, IMultiPoint[] results, double[] distances) {
+		if (k < 0 || results.length < k || (distances != null && distances.length < k)) {
+			throw new IllegalArgumentException ("results must have room for k=" + k + " points.");
+		}
+		if (root == null || k == 0) { return 0; }
+
+		Scratch s = scratch.get();
+		s.ensureHeap (k);
+		double[] heapDist = s.heapDist;
+		DimensionalNode[] heapNode = s.heapNode;
+		int size = 0;
+
+		double[] raw = s.coordinates (target);
+		int top = 0;
+		DimensionalNode node = root;
+		while (true) {
+			while (node != null) {
+				double d2 = distanceSquared (node.cached, raw, size < k ? Double.POSITIVE_INFINITY : heapDist[0]);
+				if (size < k) {
+					siftUp (heapDist, heapNode, size++, d2, node);
+				} else if (d2 < heapDist[0]) {
+					siftDown (heapDist, heapNode, size, d2, node);
+				}
+
+				// continue with the side containing target; the other may be visited later.
+				double diff = raw[node.dimension-1] - node.coord;
+				DimensionalNode far = (diff < 0) ? node.above : node.below;
+				if (far != null) {
+					s.ensureStack (top);
+					s.stack[top] = far;
+					s.bound[top++] = diff*diff;
+				}
+				node = (diff < 0) ? node.below : node.above;
+			}
+
+			// resume with most recent subtree which may still hold a closer point.
+			while (top > 0) {
+				DimensionalNode next = s.stack[--top];
+				s.stack[top] = null;
+				if (size < k || s.bound[top] < heapDist[0]) {
+					node = next;
+					break;
+				}
+			}
+			if (node == null) { break; }
+		}
+
+		// repeatedly remove farthest point to fill results from the end.
+		for (int i = size-1; i >= 0; i--) {
+			results[i] = heapNode[0].point;
+			if (distances != null) { distances[i] = Math.sqrt (heapDist[0]); }
+			if (i > 0) { siftDown (heapDist, heapNode, i, heapDist[i], heapNode[i]); }
+		}
+		Arrays.fill (heapNode, 0, size, null);
+		return size;
+	}
+
+	/**
+	 * Find all points in the KDTree whose distance to the given point is no
+	 * greater than r.
+	 * <p>
+	 * The points (in no particular order) are stored in results, up to its
+	 * capacity, and the total number found is returned; should it exceed the
+	 * length of results, the query can be repeated with a larger array. As with
+	 * {@link #kNearest(IMultiPoint, int, IMultiPoint[], double[])}, no objects
+	 * are allocated once the per-thread buffers have grown to size.
+	 *
+	 * @param target      the target of the search.
+	 * @param r           radius of the search
+	 * @param results     array to receive points within distance r
+	 * @return            number of points within distance r of target.
+	 */
+	public int withinRadius (IMultiPoint target, double r, IMultiPoint[] results) {
+		if (root == null || r < 0) { return 0; }
+
+		Scratch s = scratch.get();
+		double[] raw = s.coordinates (target);
+		double r2 = r*r;
+		int count = 0;
+		int top = 0;
+		DimensionalNode node = root;
+		while (true) {
+			while (node != null) {
+				if (distanceSquared (node.cached, raw, r2) <= r2) {
+					if (count < results.length) { results[count] = node.point; }
+					count++;
+				}
+
+				double diff = raw[node.dimension-1] - node.coord;
+				DimensionalNode far = (diff < 0) ? node.above : node.below;
+				if (far != null && diff*diff <= r2) {
+					s.ensureStack (top);
+					s.stack[top++] = far;
+				}
+				node = (diff < 0) ? node.below : node.above;
+			}
+
+			if (top == 0) { break; }
+			node = s.stack[--top];
+			s.stack[top] = null;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Squared distance between two points, stopping early (with some value
+	 * greater than limit) once it exceeds limit.
+	 */
+	static double distanceSquared (double[] a, double[] b, double limit) {
+		double sum = 0;
+		for (int i = 0; i < a.length; i++) {
+			double d = a[i] - b[i];
+			sum += d*d;
+			if (sum > limit) { return sum; }
+		}
+		return sum;
+	}
+
+	/** Insert (d,node) into max-heap whose size is n. */
+	static void siftUp (double[] heapDist, DimensionalNode[] heapNode, int n, double d, DimensionalNode node) {
+		int i = n;
+		while (i > 0) {
+			int parent = (i-1)/2;
+			if (heapDist[parent] >= d) { break; }
+			heapDist[i] = heapDist[parent];
+			heapNode[i] = heapNode[parent];
+			i = parent;
+		}
+		heapDist[i] = d;
+		heapNode[i] = node;
+	}
+
+	/** Replace largest entry in max-heap whose size is n with (d,node). */
+	static void siftDown (double[] heapDist, DimensionalNode[] heapNode, int n, double d, DimensionalNode node) {
+		int i = 0;
+		while (true) {
+			int child = 2*i+1;
+			if (child >= n) { break; }
+			if (child+1 < n && heapDist[child+1] > heapDist[child]) { child++; }
+			if (heapDist[child] <= d) { break; }
+			heapDist[i] = heapDist[child];
+			heapNode[i] = heapNode[child];
+			i = child;
+		}
+		heapDist[i] = d;
+		heapNode[i] = node;
+	}
+
 	/**
 	 * Locate all points within the KDTree that fall within the given IHypercube.
 	 * 
@@ -347,14 +684,19 @@ public class KDTree {
 	/** 
 	 * Number of times single recursion occurred. 
 	 * @return  number of single recursions
+	 * @deprecated statistics are not recorded by {@link #nearest(IMultiPoint)};
+	 *             supply a {@link KDStats} to {@link #nearest(IMultiPoint, KDStats)}.
 	 */
-	public int getNumRecursion() { return numRecursion; }
+	@Deprecated
+	public int getNumRecursion() { return 0; }
 	
 	/** 
 	 * Number of times double recursion occurred.
 	 * @return  number of double recursions
+	 * @deprecated statistics are not recorded by {@link #nearest(IMultiPoint)};
+	 *             supply a {@link KDStats} to {@link #nearest(IMultiPoint, KDStats)}.
 	 */
-	public int getNumDoubleRecursion() { return numDoubleRecursion; }
+	@Deprecated
+	public int getNumDoubleRecursion() { return 0; }
 
 }
-
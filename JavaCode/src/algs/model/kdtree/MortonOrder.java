@@ -0,0 +1,72 @@
+package algs.model.kdtree;
+
+import java.util.Arrays;
+
+/**
+ * Orders points along the Morton (Z-order) space-filling curve, so points that
+ * are consecutive in the order tend to be close to each other in space.
+ * <p>
+ * Each coordinate is scaled into the bounding box of the points and quantized
+ * to b bits; the Morton key interleaves these bits, most significant first.
+ * The key of each point is packed into a single long together with the index
+ * of the point, so the order is produced by sorting a primitive array.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class MortonOrder {
+
+	/**
+	 * Return the indices of the given points in Morton order.
+	 *
+	 * @param coords   coordinates of n points; point i occupies coords[i*d .. (i+1)*d)
+	 * @param d        dimensionality of points (d &ge; 1)
+	 * @return         permutation of 0 .. n-1 visiting the points in Morton order
+	 */
+	public static int[] order (double[] coords, int d) {
+		int n = coords.length / d;
+
+		// bits for index; the remaining bits (leaving sign clear) hold the key.
+		int indexBits = Math.max (1, 32 - Integer.numberOfLeadingZeros (n-1));
+		int keyBits = 63 - indexBits;
+		int dims = Math.min (d, keyBits);
+		int bits = keyBits / dims;
+
+		double[] low = new double[dims];
+		double[] scale = new double[dims];
+		for (int j = 0; j < dims; j++) {
+			double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < n; i++) {
+				double c = coords[i*d+j];
+				if (c < min) { min = c; }
+				if (c > max) { max = c; }
+			}
+			low[j] = min;
+			scale[j] = (max > min) ? ((1L << bits) - 1) / (max - min) : 0;
+		}
+
+		long[] keys = new long[n];
+		long[] cell = new long[dims];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < dims; j++) {
+				cell[j] = (long) ((coords[i*d+j] - low[j]) * scale[j]);
+			}
+			long key = 0;
+			for (int b = bits-1; b >= 0; b--) {
+				for (int j = 0; j < dims; j++) {
+					key = (key << 1) | ((cell[j] >>> b) & 1);
+				}
+			}
+			keys[i] = (key << indexBits) | i;
+		}
+		Arrays.sort (keys);
+
+		int[] order = new int[n];
+		long mask = (1L << indexBits) - 1;
+		for (int i = 0; i < n; i++) {
+			order[i] = (int) (keys[i] & mask);
+		}
+		return order;
+	}
+}
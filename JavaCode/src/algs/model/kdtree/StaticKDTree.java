@@ -0,0 +1,305 @@
+package algs.model.kdtree;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import algs.model.IHypercube;
+import algs.model.IMultiPoint;
+
+/**
+ * Immutable, balanced k-dimensional tree whose structure is compiled into flat
+ * primitive arrays for cache-friendly searching.
+ * <p>
+ * Where {@link KDTree} has a {@link DimensionalNode} object for each point
+ * (with its own coordinate array and region), this tree stores the coordinates
+ * of all n points in a single <code>double[]</code> (row i occupies positions
+ * [i*d, (i+1)*d)) ordered so that each subtree covers a contiguous range of
+ * rows. An internal node stores only its splitting dimension and value; its
+ * children are found implicitly (node i has children 2i+1 and 2i+2) and the
+ * range of rows for each is computed during the search, since the rows of
+ * [lo, hi) are always split at the median m = lo+(hi-lo)/2. Once a range has
+ * no more than the bucket size of rows it is a leaf, whose rows are scanned
+ * sequentially.
+ * <p>
+ * Each internal node splits along the dimension of greatest spread among its
+ * rows. Rows in [lo, m) have coordinate no greater than the splitting value,
+ * and rows in [m, hi) have coordinate no smaller.
+ * <p>
+ * {@link #nearest(IMultiPoint)} and {@link #range(IHypercube)} have the same
+ * semantics as in {@link KDTree}. In addition {@link #nearestIndex(double[])}
+ * and {@link #range(double[], double[], int[])} report the index of points
+ * within the original array, without constructing any IMultiPoint objects or
+ * iterators. Since the tree is never modified, any number of threads may
+ * search it concurrently.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class StaticKDTree {
+
+	/** Default number of points in a leaf. */
+	public static final int DEFAULT_BUCKET = 16;
+
+	/** Dimensionality of points. */
+	public final int maxDimension;
+
+	/** Maximum number of points in a leaf. */
+	public final int bucket;
+
+	/** Number of points. */
+	final int n;
+
+	/** Coordinates of row i are coords[i*d .. (i+1)*d). */
+	final double[] coords;
+
+	/** Point stored in each row. */
+	final IMultiPoint[] points;
+
+	/** Index within the original array of the point in each row. */
+	final int[] ids;
+
+	/** Splitting dimension (0-based) of each internal node. */
+	final int[] splitDim;
+
+	/** Splitting value of each internal node. */
+	final double[] splitVal;
+
+	/**
+	 * Construct tree from the given points using leaves of {@link #DEFAULT_BUCKET} points.
+	 *
+	 * @param points   points of the same dimensionality; array is not modified.
+	 * @exception IllegalArgumentException if there are no points.
+	 */
+	public StaticKDTree (IMultiPoint[] points) {
+		this (points, DEFAULT_BUCKET);
+	}
+
+	/**
+	 * Construct tree from the given points.
+	 *
+	 * @param points   points of the same dimensionality; array is not modified.
+	 * @param bucket   maximum number of points in a leaf.
+	 * @exception IllegalArgumentException if there are no points, bucket &lt; 1,
+	 *            or the points do not all have the same dimensionality.
+	 */
+	public StaticKDTree (IMultiPoint[] points, int bucket) {
+		if (points.length == 0) {
+			throw new IllegalArgumentException ("StaticKDTree must have at least one point.");
+		}
+		if (bucket < 1) {
+			throw new IllegalArgumentException ("Leaf bucket must hold at least one point.");
+		}
+
+		int d = points[0].dimensionality();
+		this.maxDimension = d;
+		this.bucket = bucket;
+		this.n = points.length;
+		this.points = points.clone();
+
+		coords = new double[n*d];
+		ids = new int[n];
+		for (int i = 0; i < n; i++) {
+			if (points[i].dimensionality() != d) {
+				throw new IllegalArgumentException ("Point " + i + " does not have dimensionality " + d);
+			}
+			for (int j = 0; j < d; j++) {
+				coords[i*d+j] = points[i].getCoordinate(j+1);
+			}
+			ids[i] = i;
+		}
+
+		// every internal node has depth less than the number of times n must be halved.
+		int depth = 0;
+		for (int size = n; size > bucket; size = (size+1)/2) {
+			depth++;
+		}
+		splitDim = new int[(1 << depth) - 1];
+		splitVal = new double[splitDim.length];
+		build (new CoordinateRows (coords, d, this.points, ids), 0, 0, n);
+	}
+
+	/** Build node for rows [lo, hi), reordering them within rows. */
+	private void build (CoordinateRows rows, int node, int lo, int hi) {
+		if (hi - lo <= bucket) { return; }
+
+		int d = maxDimension;
+		int dim = 0;
+		double widest = -1;
+		for (int j = 0; j < d; j++) {
+			double min = coords[lo*d+j];
+			double max = min;
+			for (int i = lo+1; i < hi; i++) {
+				double c = coords[i*d+j];
+				if (c < min) { min = c; } else if (c > max) { max = c; }
+			}
+			if (max - min > widest) {
+				widest = max - min;
+				dim = j;
+			}
+		}
+
+		int m = lo + (hi-lo)/2;
+		rows.select (lo, hi-1, m, dim);
+		splitDim[node] = dim;
+		splitVal[node] = coords[m*d+dim];
+
+		build (rows, 2*node+1, lo, m);
+		build (rows, 2*node+2, m, hi);
+	}
+
+	/** @return number of points in the tree. */
+	public int size () {
+		return n;
+	}
+
+	/**
+	 * Find the nearest point in the tree to the given point.
+	 * <p>
+	 * If the target is <code>null</code> then <code>null</code> is returned.
+	 *
+	 * @param target    the target of the search.
+	 * @return  closest {@link IMultiPoint} object in the tree to the target.
+	 */
+	public IMultiPoint nearest (IMultiPoint target) {
+		if (target == null) { return null; }
+		return points[row (target.raw())];
+	}
+
+	/**
+	 * Find the point nearest to the given coordinates.
+	 *
+	 * @param target    coordinates of the target.
+	 * @return  index, within the array from which the tree was constructed, of closest point.
+	 * @exception IllegalArgumentException if target has the wrong dimensionality.
+	 */
+	public int nearestIndex (double[] target) {
+		return ids[row (target)];
+	}
+
+	/** Return row of the closest point to target. */
+	int row (double[] target) {
+		if (target.length != maxDimension) {
+			throw new IllegalArgumentException ("Target must have dimensionality " + maxDimension);
+		}
+
+		// best[0] is the squared distance to the row stored in best[1].
+		double[] best = new double[] { Double.POSITIVE_INFINITY, -1 };
+		nearest (0, 0, n, target, best);
+		return (int) best[1];
+	}
+
+	/** Search rows [lo, hi) of given node for a row closer than best[0]. */
+	private void nearest (int node, int lo, int hi, double[] target, double[] best) {
+		int d = maxDimension;
+		if (hi - lo <= bucket) {
+			double min = best[0];
+			for (int i = lo, off = lo*d; i < hi; i++, off += d) {
+				double sum = 0;
+				for (int j = 0; j < d; j++) {
+					double diff = coords[off+j] - target[j];
+					sum += diff*diff;
+					if (sum >= min) { break; }
+				}
+				if (sum < min) {
+					min = sum;
+					best[1] = i;
+				}
+			}
+			best[0] = min;
+			return;
+		}
+
+		// search side containing target first; the other only if plane is closer than best.
+		int m = lo + (hi-lo)/2;
+		double diff = target[splitDim[node]] - splitVal[node];
+		if (diff < 0) {
+			nearest (2*node+1, lo, m, target, best);
+			if (diff*diff < best[0]) { nearest (2*node+2, m, hi, target, best); }
+		} else {
+			nearest (2*node+2, m, hi, target, best);
+			if (diff*diff < best[0]) { nearest (2*node+1, lo, m, target, best); }
+		}
+	}
+
+	/**
+	 * Locate all points within the tree that fall within the given IHypercube.
+	 *
+	 * @param space     non-null space in which to search
+	 * @exception       NullPointerException if space is null
+	 * @return          Iterator of MultiPoints that fall within the given space.
+	 */
+	public Iterator<IMultiPoint> range (IHypercube space) {
+		int d = maxDimension;
+		double[] low = new double[d];
+		double[] high = new double[d];
+		for (int j = 0; j < d; j++) {
+			low[j] = space.getLeft(j+1);
+			high[j] = space.getRight(j+1);
+		}
+
+		ArrayList<IMultiPoint> results = new ArrayList<IMultiPoint>();
+		int[] found = new int[Math.min (n, 1024)];
+		int count;
+		while ((count = range (0, 0, n, low, high, found, 0, false)) > found.length) {
+			found = new int[count];
+		}
+		for (int i = 0; i < count; i++) {
+			results.add (points[found[i]]);
+		}
+		return results.iterator();
+	}
+
+	/**
+	 * Locate all points within the tree whose coordinates fall within the closed
+	 * hypercube [low[0], high[0]] x ... x [low[d-1], high[d-1]].
+	 * <p>
+	 * The indices (within the array from which the tree was constructed) of
+	 * these points are stored in results, up to its capacity, and the total
+	 * number found is returned; should it exceed the length of results, the
+	 * query can be repeated with a larger array.
+	 *
+	 * @param low       lower bound of each dimension
+	 * @param high      upper bound of each dimension
+	 * @param results   array to receive indices of points
+	 * @return          number of points within the hypercube.
+	 * @exception IllegalArgumentException if low or high has the wrong dimensionality.
+	 */
+	public int range (double[] low, double[] high, int[] results) {
+		if (low.length != maxDimension || high.length != maxDimension) {
+			throw new IllegalArgumentException ("Bounds must have dimensionality " + maxDimension);
+		}
+		return range (0, 0, n, low, high, results, 0, true);
+	}
+
+	/**
+	 * Add rows [lo, hi) of node which lie within [low, high] to results, whose
+	 * first count entries are already filled; either the original index (when
+	 * ids is true) or row is stored. Return the new count.
+	 */
+	private int range (int node, int lo, int hi, double[] low, double[] high, int[] results, int count, boolean ids) {
+		int d = maxDimension;
+		if (hi - lo <= bucket) {
+			for (int i = lo, off = lo*d; i < hi; i++, off += d) {
+				int j = 0;
+				while (j < d && low[j] <= coords[off+j] && coords[off+j] <= high[j]) { j++; }
+				if (j == d) {
+					if (count < results.length) { results[count] = ids ? this.ids[i] : i; }
+					count++;
+				}
+			}
+			return count;
+		}
+
+		// points equal to the splitting value may lie on either side.
+		int m = lo + (hi-lo)/2;
+		int dim = splitDim[node];
+		if (low[dim] <= splitVal[node]) {
+			count = range (2*node+1, lo, m, low, high, results, count, ids);
+		}
+		if (splitVal[node] <= high[dim]) {
+			count = range (2*node+2, m, hi, low, high, results, count, ids);
+		}
+		return count;
+	}
+}
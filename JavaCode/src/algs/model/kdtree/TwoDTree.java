@@ -2,6 +2,8 @@ package algs.model.kdtree;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import algs.model.IPoint;
 import algs.model.IRectangle;
@@ -193,6 +195,98 @@ public class TwoDTree {
 		return result;
 	}
 	
+	/**
+	 * Find the nearest point in the TwoDTree to each of the given targets,
+	 * using the common fork/join pool.
+	 *
+	 * @param   targets   the targets of the search.
+	 * @return  array whose ith element is closest point to targets[i] (or null if targets[i] is null).
+	 * @see #nearestAll(IPoint[], ForkJoinPool)
+	 */
+	public IPoint[] nearestAll (IPoint[] targets) {
+		return nearestAll (targets, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Find the nearest point in the TwoDTree to each of the given targets.
+	 * <p>
+	 * As with {@link KDTree#nearestAll(algs.model.IMultiPoint[], ForkJoinPool)},
+	 * the targets are searched in Morton order, the distance to the point found
+	 * for the previous target bounds each search, and contiguous runs of
+	 * targets are searched in parallel using the given pool. Results are
+	 * returned in the order of targets.
+	 *
+	 * @param   targets   the targets of the search.
+	 * @param   pool      pool whose worker threads perform the searches.
+	 * @return  array whose ith element is closest point to targets[i] (or null if
+	 *          targets[i] is null or the tree is empty).
+	 */
+	public IPoint[] nearestAll (IPoint[] targets, ForkJoinPool pool) {
+		IPoint[] results = new IPoint[targets.length];
+		if (root == null || targets.length == 0) { return results; }
+
+		double[] coords = new double[2*targets.length];
+		for (int i = 0; i < targets.length; i++) {
+			if (targets[i] == null) { continue; }
+			coords[2*i] = targets[i].getX();
+			coords[2*i+1] = targets[i].getY();
+		}
+
+		int[] order = MortonOrder.order (coords, 2);
+		pool.invoke (new BatchNearest (targets, order, results, 0, targets.length));
+		return results;
+	}
+
+	/** Search targets[order[lo]] .. targets[order[hi-1]], splitting large runs in two. */
+	class BatchNearest extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		/** Runs with fewer targets are searched sequentially. */
+		static final int GRAIN = 1024;
+
+		final IPoint[] targets;
+		final int[] order;
+		final IPoint[] results;
+		final int lo;
+		final int hi;
+
+		BatchNearest (IPoint[] targets, int[] order, IPoint[] results, int lo, int hi) {
+			this.targets = targets;
+			this.order = order;
+			this.results = results;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected void compute() {
+			if (hi - lo > GRAIN) {
+				int mid = (lo + hi) >>> 1;
+				invokeAll (new BatchNearest (targets, order, results, lo, mid),
+						   new BatchNearest (targets, order, results, mid, hi));
+				return;
+			}
+
+			double[] best = new double[1];
+			IPoint previous = null;
+			for (int i = lo; i < hi; i++) {
+				int idx = order[i];
+				IPoint target = targets[idx];
+				if (target == null) { continue; }
+				if (previous == null) {
+					previous = results[idx] = nearest (target);
+					continue;
+				}
+
+				// closest point to previous target is likely close to this one.
+				best[0] = distance (target, previous);
+				IPoint betterOne = root.nearest (target, best);
+				if (betterOne != null) { previous = betterOne; }
+				results[idx] = previous;
+			}
+		}
+	}
+
 	/**
 	 * Locate all points within the TwoDTree that fall within the given rectangle.
 	 * 
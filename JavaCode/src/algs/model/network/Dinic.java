@@ -0,0 +1,161 @@
+package algs.model.network;
+
+import java.util.Arrays;
+
+/**
+ * Compute the maximum flow of a {@link FlowNetworkCSR} using Dinic's algorithm.
+ * <p>
+ * Each phase labels every vertex with its distance from the source in the
+ * residual graph, using a Breadth-First Search. Then a blocking flow is pushed
+ * along paths whose arcs each increase the distance by one. Once a vertex has
+ * no remaining such arcs it is removed from the phase, and each vertex keeps
+ * its current arc so no arc is examined twice within a phase. Since the
+ * distance from source to sink strictly increases with each phase, there are
+ * at most V phases, and each phase requires O(VE) time.
+ * <p>
+ * The depth-first search for augmenting paths uses an explicit stack so very
+ * long paths in large networks do not exhaust the call stack.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class Dinic {
+
+	/** Represents the FlowNetwork problem. */
+	final FlowNetworkCSR network;
+
+	/** Distance of each vertex from the source; -1 if not reached in phase. */
+	final int[] level;
+
+	/** Current arc for each vertex within a phase. */
+	final int[] current;
+
+	/** Arcs on the path being extended from the source. */
+	final int[] path;
+
+	/** Queue for the Breadth-First Search. */
+	final int[] queue;
+
+	/** Number of phases executed. */
+	public int numPhases;
+
+	/** Number of augmenting paths processed. */
+	public int numAugmentations;
+
+	/**
+	 * Construct instance to compute maximum flow across the given network.
+	 *
+	 * @param network   The FlowNetwork
+	 */
+	public Dinic (FlowNetworkCSR network) {
+		this.network = network;
+		int n = network.numVertices;
+		level = new int[n];
+		current = new int[n];
+		path = new int[n];
+		queue = new int[n];
+	}
+
+	/**
+	 * Compute the Maximal flow for the given flow network, starting from the
+	 * flow already stored in the network.
+	 *
+	 * @return   the maximal flow out of the source.
+	 */
+	public int compute () {
+		while (computeLevels()) {
+			numPhases++;
+			System.arraycopy (network.first, 0, current, 0, network.numVertices);
+			blockingFlow();
+		}
+
+		return network.getFlow();
+	}
+
+	/**
+	 * Label each vertex with its distance from the source in the residual graph.
+	 *
+	 * @return    true if the sink is reachable from the source.
+	 */
+	boolean computeLevels () {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] residual = network.residual;
+		int sink = network.sinkIndex;
+
+		Arrays.fill (level, -1);
+		int head = 0, tail = 0;
+		queue[tail++] = network.sourceIndex;
+		level[network.sourceIndex] = 0;
+		while (head < tail) {
+			int u = queue[head++];
+			for (int a = first[u]; a < first[u+1]; a++) {
+				int v = to[a];
+				if (level[v] < 0 && residual[a] > 0) {
+					level[v] = level[u] + 1;
+					if (v == sink) { return true; }
+					queue[tail++] = v;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/** Push flow along paths in the level graph until no such path remains. */
+	void blockingFlow () {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] rev = network.rev;
+		int[] residual = network.residual;
+		int source = network.sourceIndex;
+		int sink = network.sinkIndex;
+
+		int depth = 0;
+		int u = source;
+		while (true) {
+			if (u == sink) {
+				// determine smallest residual capacity along the path and push it.
+				int delta = Integer.MAX_VALUE;
+				for (int i = 0; i < depth; i++) {
+					if (residual[path[i]] < delta) { delta = residual[path[i]]; }
+				}
+				for (int i = 0; i < depth; i++) {
+					residual[path[i]] -= delta;
+					residual[rev[path[i]]] += delta;
+				}
+				numAugmentations++;
+
+				// retreat to the tail of the first saturated arc.
+				int k = 0;
+				while (residual[path[k]] > 0) { k++; }
+				depth = k;
+				u = (depth == 0) ? source : to[path[depth-1]];
+				continue;
+			}
+
+			// advance along an arc that remains in the level graph.
+			boolean advanced = false;
+			for (int end = first[u+1]; current[u] < end; current[u]++) {
+				int a = current[u];
+				int v = to[a];
+				if (residual[a] > 0 && level[v] == level[u] + 1) {
+					path[depth++] = a;
+					u = v;
+					advanced = true;
+					break;
+				}
+			}
+
+			if (!advanced) {
+				// no path to sink through u during this phase.
+				level[u] = -1;
+				if (u == source) { return; }
+				depth--;
+				u = (depth == 0) ? source : to[path[depth-1]];
+				current[u]++;
+			}
+		}
+	}
+}
@@ -0,0 +1,386 @@
+package algs.model.network;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import algs.model.list.DoubleLinkedList;
+
+/**
+ * Store the residual graph of a flow network in compressed sparse row (CSR)
+ * form, suitable for networks with millions of vertices but few edges per
+ * vertex.
+ * <p>
+ * Each edge (u,v) is stored as two arcs: a forward arc u-&gt;v whose residual
+ * capacity is initially the capacity of the edge, and a paired reverse arc
+ * v-&gt;u whose residual capacity is initially zero. The arcs leaving vertex u
+ * are found in positions [first[u], first[u+1]) of the parallel arrays to[],
+ * residual[], capacity[] and cost[], while rev[a] records the position of the
+ * arc paired with arc a. Pushing k units over arc a thus reduces residual[a]
+ * by k and increases residual[rev[a]] by k, and the flow over arc a is always
+ * capacity[a] - residual[a] (which is negative for a reverse arc).
+ * <p>
+ * No objects are allocated per edge, so the storage is proportional to the
+ * number of edges rather than the square of the number of vertices, as it is
+ * with {@link FlowNetworkArray} and {@link Optimized}. The maximum flow is
+ * computed by {@link Dinic} or {@link PushRelabel}, and the maximum flow of
+ * minimum cost by {@link MinCostFlow}.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class FlowNetworkCSR extends FlowNetwork<int[]> {
+
+	/** Arcs leaving u are found in [first[u], first[u+1]). */
+	final int[] first;
+
+	/** Target vertex of each arc. */
+	final int[] to;
+
+	/** Position of the arc paired with each arc. */
+	final int[] rev;
+
+	/** Remaining capacity of each arc. */
+	final int[] residual;
+
+	/** Original capacity of each arc (zero for reverse arcs). */
+	final int[] capacity;
+
+	/** Cost per unit of flow over each arc (negated for reverse arcs). */
+	final int[] cost;
+
+	/** Position of the forward arc for each edge, in the order given. */
+	final int[] arcOf;
+
+	/** EdgeInfo for each edge, when constructed from EdgeInfo objects. */
+	EdgeInfo[] edgeInfo;
+
+	/**
+	 * Construct the residual graph from the given edges.
+	 *
+	 * @param numVertices    the number of vertices in the Flow Network
+	 * @param srcIndex       the index of the vertex designated to be the source
+	 * @param sinkIndex      the index of the vertex designated to be the sink
+	 * @param edges          an iterator of EdgeInfo objects representing edge capacities
+	 *
+	 * @see FlowNetwork#FlowNetwork(int, int, int)
+	 */
+	public FlowNetworkCSR (int numVertices, int srcIndex, int sinkIndex, Iterator<EdgeInfo> edges) {
+		this (numVertices, srcIndex, sinkIndex, toList(edges));
+	}
+
+	/**
+	 * Construct the residual graph from the edges of a network stored in a 
+	 * two-dimensional array, such as {@link Transportation}. Edges whose cost
+	 * is Integer.MAX_VALUE represent shipments that are not possible, and are
+	 * omitted. Once solved, {@link #storeFlows()} records the computed flows
+	 * within the original network.
+	 *
+	 * @param network   network whose edges are copied.
+	 */
+	public FlowNetworkCSR (FlowNetwork<EdgeInfo[][]> network) {
+		this (network.numVertices, network.sourceIndex, network.sinkIndex, toList(network.getEdgeStructure()));
+	}
+
+	/** Helper constructor to unpack edges into parallel arrays. */
+	private FlowNetworkCSR (int numVertices, int srcIndex, int sinkIndex, ArrayList<EdgeInfo> edges) {
+		this (numVertices, srcIndex, sinkIndex, toArray(edges));
+		edgeInfo = edges.toArray (new EdgeInfo[edges.size()]);
+	}
+
+	/** Helper constructor to pass along parallel arrays. */
+	private FlowNetworkCSR (int numVertices, int srcIndex, int sinkIndex, int[][] edges) {
+		this (numVertices, srcIndex, sinkIndex, edges[0], edges[1], edges[2], edges[3]);
+	}
+
+	/**
+	 * Construct the residual graph from edges given as parallel arrays, which
+	 * avoids creating an EdgeInfo object for each edge of a large network.
+	 *
+	 * @param numVertices    the number of vertices in the Flow Network
+	 * @param srcIndex       the index of the vertex designated to be the source
+	 * @param sinkIndex      the index of the vertex designated to be the sink
+	 * @param start          start[e] is the start vertex of edge e
+	 * @param end            end[e] is the end vertex of edge e
+	 * @param cap            cap[e] is the capacity of edge e
+	 * @param costs          costs[e] is the cost of edge e; if null, all costs are zero
+	 * @exception IllegalArgumentException if the arrays differ in length or a capacity is negative.
+	 */
+	public FlowNetworkCSR (int numVertices, int srcIndex, int sinkIndex, int[] start, int[] end, int[] cap, int[] costs) {
+		super (numVertices, srcIndex, sinkIndex);
+
+		int m = start.length;
+		if (end.length != m || cap.length != m || (costs != null && costs.length != m)) {
+			throw new IllegalArgumentException ("edge arrays must have the same length.");
+		}
+
+		// count arcs leaving each vertex, then compute offsets.
+		first = new int[numVertices+1];
+		for (int e = 0; e < m; e++) {
+			if (cap[e] < 0) {
+				throw new IllegalArgumentException ("capacity of edge " + e + " is negative.");
+			}
+			first[start[e]+1]++;
+			first[end[e]+1]++;
+		}
+		for (int u = 0; u < numVertices; u++) {
+			first[u+1] += first[u];
+		}
+
+		to = new int[2*m];
+		rev = new int[2*m];
+		residual = new int[2*m];
+		capacity = new int[2*m];
+		cost = new int[2*m];
+		arcOf = new int[m];
+
+		int[] pos = new int[numVertices];
+		System.arraycopy (first, 0, pos, 0, numVertices);
+		for (int e = 0; e < m; e++) {
+			int a = pos[start[e]]++;
+			int b = pos[end[e]]++;
+			to[a] = end[e];
+			to[b] = start[e];
+			rev[a] = b;
+			rev[b] = a;
+			residual[a] = capacity[a] = cap[e];
+			if (costs != null) {
+				cost[a] = costs[e];
+				cost[b] = -costs[e];
+			}
+			arcOf[e] = a;
+		}
+	}
+
+	/** Gather edges into a list. */
+	private static ArrayList<EdgeInfo> toList (Iterator<EdgeInfo> edges) {
+		ArrayList<EdgeInfo> list = new ArrayList<EdgeInfo>();
+		while (edges.hasNext()) {
+			list.add (edges.next());
+		}
+		return list;
+	}
+
+	/** Gather possible edges from two-dimensional array into a list. */
+	private static ArrayList<EdgeInfo> toList (EdgeInfo[][] info) {
+		ArrayList<EdgeInfo> list = new ArrayList<EdgeInfo>();
+		for (int u = 0; u < info.length; u++) {
+			for (int v = 0; v < info[u].length; v++) {
+				EdgeInfo ei = info[u][v];
+				if (ei != null && ei.cost != Integer.MAX_VALUE) {
+					list.add (ei);
+				}
+			}
+		}
+		return list;
+	}
+
+	/** Unpack edges into parallel arrays of start, end, capacity, and cost. */
+	private static int[][] toArray (ArrayList<EdgeInfo> list) {
+		int[][] arrays = new int[4][list.size()];
+		for (int e = 0; e < list.size(); e++) {
+			EdgeInfo ei = list.get(e);
+			arrays[0][e] = ei.start;
+			arrays[1][e] = ei.end;
+			arrays[2][e] = ei.capacity;
+			arrays[3][e] = ei.cost;
+		}
+		return arrays;
+	}
+
+	/**
+	 * Return the number of edges in the network.
+	 *
+	 * @return number of edges (half the number of arcs).
+	 */
+	public int numEdges () {
+		return arcOf.length;
+	}
+
+	/**
+	 * Return the flow over the given edge, in the order the edges were given.
+	 *
+	 * @param e    index of edge
+	 * @return     flow computed for that edge
+	 */
+	public int flow (int e) {
+		int a = arcOf[e];
+		return capacity[a] - residual[a];
+	}
+
+	/**
+	 * Record the flow computed for each edge within the EdgeInfo object from
+	 * which it was constructed. Does nothing if the network was constructed
+	 * from parallel arrays.
+	 */
+	public void storeFlows () {
+		if (edgeInfo == null) { return; }
+
+		for (int e = 0; e < edgeInfo.length; e++) {
+			edgeInfo[e].flow = flow(e);
+		}
+	}
+
+	/** Remove all flow from the network. */
+	public void reset () {
+		System.arraycopy (capacity, 0, residual, 0, residual.length);
+	}
+
+	/**
+	 * Return the residual capacities of the arcs, as described above.
+	 *
+	 * @see FlowNetwork#getEdgeStructure()
+	 */
+	@Override
+	public int[] getEdgeStructure() {
+		return residual;
+	}
+
+	/**
+	 * Return information about the first edge from start to end (if one exists),
+	 * found by scanning the arcs leaving start. The returned EdgeInfo is a
+	 * snapshot of the current flow; altering it has no effect on this network.
+	 *
+	 * @param start     index of start vertex
+	 * @param end       index of end vertex.
+	 *
+	 * @return edge if it exists as a directed edge; <code>null</code> otherwise.
+	 */
+	@Override
+	public EdgeInfo edge(int start, int end) {
+		for (int a = first[start]; a < first[start+1]; a++) {
+			if (to[a] == end && capacity[a] > 0) {
+				return snapshot (start, a);
+			}
+		}
+
+		return null;
+	}
+
+	/** Create EdgeInfo for the given forward arc leaving u, with its flow. */
+	EdgeInfo snapshot (int u, int a) {
+		EdgeInfo ei = new EdgeInfo (u, to[a], capacity[a], cost[a]);
+		ei.flow = capacity[a] - residual[a];
+		return ei;
+	}
+
+	/**
+	 * Determine the vertices reachable from the source in the residual graph.
+	 *
+	 * @return    array where reached[u] is true if u is reachable from source.
+	 */
+	public boolean[] reachable () {
+		boolean[] reached = new boolean[numVertices];
+		int[] queue = new int[numVertices];
+		int head = 0, tail = 0;
+		queue[tail++] = sourceIndex;
+		reached[sourceIndex] = true;
+		while (head < tail) {
+			int u = queue[head++];
+			for (int a = first[u]; a < first[u+1]; a++) {
+				int v = to[a];
+				if (!reached[v] && residual[a] > 0) {
+					reached[v] = true;
+					queue[tail++] = v;
+				}
+			}
+		}
+
+		return reached;
+	}
+
+	/**
+	 * Returns the edges from vertices reachable from the source in the residual
+	 * graph to those that are not. Once the max flow is computed, these edges
+	 * form the min cut and are all saturated.
+	 */
+	@Override
+	public DoubleLinkedList<EdgeInfo> getMinCut() {
+		DoubleLinkedList<EdgeInfo> dl = new DoubleLinkedList<EdgeInfo>();
+		boolean[] reached = reachable();
+
+		for (int u = 0; u < numVertices; u++) {
+			if (!reached[u]) { continue; }
+
+			for (int a = first[u]; a < first[u+1]; a++) {
+				if (capacity[a] > 0 && !reached[to[a]]) {
+					dl.insert (snapshot (u, a));
+				}
+			}
+		}
+		return dl;
+	}
+
+	@Override
+	public int getFlow() {
+		int totalSum = 0;
+
+		// reverse arcs contribute negative flow for edges into the source.
+		for (int a = first[sourceIndex]; a < first[sourceIndex+1]; a++) {
+			totalSum += capacity[a] - residual[a];
+		}
+
+		return totalSum;
+	}
+
+	@Override
+	public int getCost() {
+		int totalCost = 0;
+
+		for (int a = 0; a < capacity.length; a++) {
+			if (capacity[a] > 0) {
+				totalCost += (capacity[a] - residual[a]) * cost[a];
+			}
+		}
+
+		return totalCost;
+	}
+
+	/**
+	 * Validate the FlowNetwork.
+	 * <p>
+	 * A valid flow network satisfies three criteria:
+	 * <ol><li>Capacity Constraint -- for all edges e=(u,v) it must be that f(u,v) &le; c(u,v)
+	 *     <li>Skew Symmetry -- for all (u,v) it must be that f(u,v) = -f(v,u)
+	 *     <li>Flow Conservation -- for all nodes in the Flow Network (other than source
+	 *         and sink) it must be that the sum of f(u,v) to all other vertices v
+	 *         must be zero.
+	 * </ol>
+	 */
+	@Override
+	public void validate() throws IllegalStateException {
+		for (int u = 0; u < numVertices; u++) {
+			int totalSum = 0;
+			for (int a = first[u]; a < first[u+1]; a++) {
+				int flow = capacity[a] - residual[a];
+
+				// bounded flow by capacity
+				assert (residual[a] >= 0) : "Flow of arc (" + u + "," + to[a] + ") is greater than capacity:" + flow + ">" + capacity[a];
+
+				// paired arcs must be inverses
+				int b = rev[a];
+				assert (flow == -(capacity[b] - residual[b])) : "Flow of arc (" + u + "," + to[a] + ") is not the opposite of its reverse arc";
+
+				totalSum += flow;
+			}
+
+			// validate conservation principle
+			if (u == sourceIndex || u == sinkIndex) { continue; }
+			assert (totalSum == 0) : "Flow conservation not maintained by vertex " + u;
+		}
+	}
+
+	/** Useful for debugging. */
+	public String toString () {
+		StringBuilder sb = new StringBuilder();
+		for (int u = 0; u < numVertices; u++) {
+			for (int a = first[u]; a < first[u+1]; a++) {
+				if (capacity[a] > 0) {
+					sb.append (snapshot (u, a)).append('\n');
+				}
+			}
+		}
+
+		return sb.toString() + "\ncost:" + getCost() + "\nflow:" + getFlow();
+	}
+}
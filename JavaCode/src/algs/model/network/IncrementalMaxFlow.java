@@ -0,0 +1,322 @@
+package algs.model.network;
+
+import java.util.Arrays;
+
+/**
+ * Maintain the maximum flow of a {@link FlowNetworkCSR} while the capacities
+ * of its edges change, and edges are added or removed, between computations.
+ * <p>
+ * Raising a capacity, or lowering it to no less than its current flow, leaves
+ * the flow valid. Lowering the capacity of edge (u,v) below its flow f forces
+ * the flow to the new capacity c, which leaves f-c units of surplus at u and
+ * the same deficit at v. Before re-augmenting, {@link #compute()} repairs the
+ * flow: each surplus is routed along a shortest residual path to a vertex
+ * with a deficit, to the sink, or (if neither can be reached) back to the
+ * source; each remaining deficit is then supplied along a residual path from
+ * the source or the sink. Finally {@link Dinic} augments the repaired flow,
+ * which is typically far less work than recomputing from scratch.
+ * <p>
+ * Removing an edge sets its capacity to zero, so edge indices remain stable.
+ * Added edges are numbered after the existing ones; since the arcs of a
+ * FlowNetworkCSR cannot grow, the network is rebuilt (preserving all flows)
+ * once by the next {@link #compute()} and thereafter is available from
+ * {@link #getNetwork()}.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class IncrementalMaxFlow {
+
+	/** Represents the FlowNetwork problem. */
+	FlowNetworkCSR network;
+
+	/** Surplus (positive) or deficit (negative) at each vertex after edits. */
+	long[] excess;
+
+	/** Edges added since the network was last rebuilt, as parallel arrays. */
+	int[] addStart, addEnd, addCap;
+
+	/** Number of edges added since the network was last rebuilt. */
+	int numAdded;
+
+	/** Arc by which each vertex was reached during a repair search. */
+	int[] parent;
+
+	/** Search in which each vertex was reached. */
+	int[] reached;
+
+	/** Queue for the repair searches. */
+	int[] queue;
+
+	/** Identifies each repair search. */
+	int search;
+
+	/** Number of repair paths along which surplus or deficit was moved. */
+	public int numRepairs;
+
+	/**
+	 * Construct instance to maintain maximum flow across the given network.
+	 *
+	 * @param network   The FlowNetwork
+	 */
+	public IncrementalMaxFlow (FlowNetworkCSR network) {
+		this.network = network;
+		int n = network.numVertices;
+		excess = new long[n];
+		parent = new int[n];
+		reached = new int[n];
+		queue = new int[n];
+		addStart = new int[4];
+		addEnd = new int[4];
+		addCap = new int[4];
+	}
+
+	/**
+	 * Return the network, which is replaced whenever added edges are merged.
+	 *
+	 * @return   the network whose flow is maintained.
+	 */
+	public FlowNetworkCSR getNetwork () {
+		return network;
+	}
+
+	/**
+	 * Return the number of edges, including those added but not yet merged.
+	 *
+	 * @return   number of edges.
+	 */
+	public int numEdges () {
+		return network.numEdges() + numAdded;
+	}
+
+	/**
+	 * Compute the maximal flow, starting from the flow already stored in the
+	 * network after repairing any damage caused by edits.
+	 *
+	 * @return   the maximal flow out of the source.
+	 */
+	public int compute () {
+		if (numAdded > 0) {
+			rebuild();
+		}
+
+		// route each surplus, then supply each remaining deficit.
+		int n = network.numVertices;
+		for (int u = 0; u < n; u++) {
+			while (excess[u] > 0) { drain (u); }
+		}
+		for (int v = 0; v < n; v++) {
+			while (excess[v] < 0) { supply (v); }
+		}
+
+		return new Dinic (network).compute();
+	}
+
+	/**
+	 * Change the capacity of an edge.
+	 *
+	 * @param e     index of edge, in the order the edges were given or added
+	 * @param cap   new capacity
+	 * @exception IllegalArgumentException if cap is negative.
+	 */
+	public void setCapacity (int e, int cap) {
+		if (cap < 0) {
+			throw new IllegalArgumentException ("capacity of edge " + e + " is negative.");
+		}
+
+		int m = network.numEdges();
+		if (e >= m) {
+			addCap[e - m] = cap;
+			return;
+		}
+
+		int a = network.arcOf[e];
+		int b = network.rev[a];
+		int[] residual = network.residual;
+		int flow = network.capacity[a] - residual[a];
+		network.capacity[a] = cap;
+		if (flow <= cap) {
+			residual[a] = cap - flow;
+			return;
+		}
+
+		// flow is forced down to capacity, unbalancing both end points.
+		residual[a] = 0;
+		residual[b] = cap;
+		adjust (network.to[b], flow - cap);
+		adjust (network.to[a], cap - flow);
+	}
+
+	/**
+	 * Add an edge to the network.
+	 *
+	 * @param u     start vertex
+	 * @param v     end vertex
+	 * @param cap   capacity of edge
+	 * @return      index of the new edge.
+	 * @exception IllegalArgumentException if cap is negative.
+	 */
+	public int addEdge (int u, int v, int cap) {
+		if (cap < 0) {
+			throw new IllegalArgumentException ("capacity of new edge is negative.");
+		}
+
+		if (numAdded == addStart.length) {
+			addStart = Arrays.copyOf (addStart, 2*numAdded);
+			addEnd = Arrays.copyOf (addEnd, 2*numAdded);
+			addCap = Arrays.copyOf (addCap, 2*numAdded);
+		}
+		addStart[numAdded] = u;
+		addEnd[numAdded] = v;
+		addCap[numAdded] = cap;
+		return network.numEdges() + numAdded++;
+	}
+
+	/**
+	 * Remove an edge from the network by reducing its capacity to zero.
+	 *
+	 * @param e     index of edge, in the order the edges were given or added
+	 */
+	public void removeEdge (int e) {
+		setCapacity (e, 0);
+	}
+
+	/** Record change in balance of vertex u; the source and sink need no balance. */
+	void adjust (int u, long delta) {
+		if (u != network.sourceIndex && u != network.sinkIndex) {
+			excess[u] += delta;
+		}
+	}
+
+	/**
+	 * Rebuild the network with the added edges, preserving existing flows and
+	 * the EdgeInfo objects (if any) from which the network was constructed.
+	 */
+	void rebuild () {
+		FlowNetworkCSR old = network;
+		int m = old.numEdges();
+		int total = m + numAdded;
+		int[] start = new int[total];
+		int[] end = new int[total];
+		int[] cap = new int[total];
+		int[] costs = new int[total];
+		for (int e = 0; e < m; e++) {
+			int a = old.arcOf[e];
+			start[e] = old.to[old.rev[a]];
+			end[e] = old.to[a];
+			cap[e] = old.capacity[a];
+			costs[e] = old.cost[a];
+		}
+		System.arraycopy (addStart, 0, start, m, numAdded);
+		System.arraycopy (addEnd, 0, end, m, numAdded);
+		System.arraycopy (addCap, 0, cap, m, numAdded);
+
+		network = new FlowNetworkCSR (old.numVertices, old.sourceIndex, old.sinkIndex, start, end, cap, costs);
+		for (int e = 0; e < m; e++) {
+			int flow = old.flow(e);
+			int a = network.arcOf[e];
+			network.residual[a] -= flow;
+			network.residual[network.rev[a]] += flow;
+		}
+
+		if (old.edgeInfo != null) {
+			network.edgeInfo = Arrays.copyOf (old.edgeInfo, total);
+			for (int e = m; e < total; e++) {
+				network.edgeInfo[e] = new EdgeInfo (start[e], end[e], cap[e]);
+			}
+		}
+		numAdded = 0;
+	}
+
+	/**
+	 * Move surplus from u along a shortest residual path to the nearest vertex
+	 * with a deficit, the sink, or the source.
+	 */
+	void drain (int u) {
+		int[] to = network.to;
+		int[] rev = network.rev;
+		int[] residual = network.residual;
+
+		int w = search (u, true);
+		long delta = excess[u];
+		if (excess[w] < 0) { delta = Math.min (delta, -excess[w]); }
+		for (int v = w; v != u; v = to[rev[parent[v]]]) {
+			delta = Math.min (delta, residual[parent[v]]);
+		}
+		for (int v = w; v != u; v = to[rev[parent[v]]]) {
+			residual[parent[v]] -= delta;
+			residual[rev[parent[v]]] += delta;
+		}
+
+		excess[u] -= delta;
+		adjust (w, delta);
+		numRepairs++;
+	}
+
+	/** Supply deficit at v along a shortest residual path from the source or the sink. */
+	void supply (int v) {
+		int[] to = network.to;
+		int[] rev = network.rev;
+		int[] residual = network.residual;
+
+		int w = search (v, false);
+		long delta = -excess[v];
+		for (int u = w; u != v; u = to[parent[u]]) {
+			delta = Math.min (delta, residual[parent[u]]);
+		}
+		for (int u = w; u != v; u = to[parent[u]]) {
+			residual[parent[u]] -= delta;
+			residual[rev[parent[u]]] += delta;
+		}
+
+		excess[v] += delta;
+		numRepairs++;
+	}
+
+	/**
+	 * Breadth-First Search from x. When forward, follow residual arcs out of
+	 * each vertex until reaching a vertex with a deficit or the sink, settling
+	 * for the source only if neither can be reached; otherwise follow residual
+	 * arcs into each vertex until reaching the source or the sink. The arc by
+	 * which each vertex is reached is recorded in parent[].
+	 *
+	 * @return vertex found, which always exists when the flow network is valid.
+	 */
+	int search (int x, boolean forward) {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] rev = network.rev;
+		int[] residual = network.residual;
+		int source = network.sourceIndex;
+		int sink = network.sinkIndex;
+
+		search++;
+		boolean foundSource = false;
+		int head = 0, tail = 0;
+		queue[tail++] = x;
+		reached[x] = search;
+		while (head < tail) {
+			int u = queue[head++];
+			for (int a = first[u]; a < first[u+1]; a++) {
+				int v = to[a];
+				int arc = forward ? a : rev[a];
+				if (reached[v] == search || residual[arc] == 0) { continue; }
+
+				reached[v] = search;
+				parent[v] = arc;
+				if (v == source && forward) {
+					foundSource = true;
+				} else if (v == sink || v == source || (forward && excess[v] < 0)) {
+					return v;
+				} else {
+					queue[tail++] = v;
+				}
+			}
+		}
+
+		if (foundSource) { return source; }
+
+		throw new IllegalStateException ("Unable to repair imbalance at vertex " + x);
+	}
+}
@@ -0,0 +1,345 @@
+package algs.model.network;
+
+import java.util.Arrays;
+
+import algs.model.heap.IndexedLongHeap;
+
+/**
+ * Compute a maximum flow of minimum cost for a {@link FlowNetworkCSR}.
+ * <p>
+ * By default, the successive shortest path algorithm augments flow along the
+ * cheapest path from source to sink in the residual graph until no path
+ * remains. Each vertex u carries a potential p(u), and the cost of arc (u,v)
+ * is measured by its reduced cost c(u,v) + p(u) - p(v), which is never
+ * negative. Thus the cheapest path can be found with Dijkstra's algorithm
+ * (using an {@link IndexedLongHeap}) rather than a Bellman-Ford relaxation
+ * over all edges, as done by {@link ShortestPathArray}. After each search the
+ * potentials are increased by the computed distances, which keeps all reduced
+ * costs non-negative once flow is pushed along the path.
+ * <p>
+ * When cost scaling is selected, a maximum flow is first computed by
+ * {@link Dinic}; then Goldberg and Tarjan's cost scaling algorithm removes all
+ * negative cycles from its residual graph, by repeatedly pushing flow over
+ * arcs with negative reduced cost while halving (by SCALING_FACTOR) the
+ * tolerance &epsilon; by which a reduced cost may be negative. Its running
+ * time depends upon the logarithm of the largest cost, rather than upon the
+ * number of augmenting paths.
+ * <p>
+ * Both approaches assume the network starts either with no flow or with a
+ * flow of minimum cost for its value.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class MinCostFlow {
+
+	/** Factor by which &epsilon; is reduced for each refinement. */
+	public static final int SCALING_FACTOR = 8;
+
+	/** Represents the FlowNetwork problem. */
+	final FlowNetworkCSR network;
+
+	/** Number of vertices. */
+	final int n;
+
+	/** Potential of each vertex (or price, when cost scaling). */
+	final long[] potential;
+
+	/** Computed distances. */
+	final long[] dist;
+
+	/** Arc by which each vertex was reached. */
+	final int[] previous;
+
+	/** Iteration in which each vertex was reached, and in which it was finalized. */
+	final int[] reached, done;
+
+	/** Priority queue for Dijkstra's algorithm. */
+	final IndexedLongHeap pq;
+
+	/** Use cost scaling instead of successive shortest paths. */
+	boolean costScaling;
+
+	/** Number of augmenting paths (or refinements, when cost scaling). */
+	public int numIterations;
+
+	/** Number of pushes when cost scaling. */
+	public long numPushes;
+
+	/** Number of relabels when cost scaling. */
+	public long numRelabels;
+
+	/**
+	 * Construct instance to compute minimum cost maximum flow across the given network.
+	 *
+	 * @param network   The FlowNetwork
+	 */
+	public MinCostFlow (FlowNetworkCSR network) {
+		this.network = network;
+		n = network.numVertices;
+		potential = new long[n];
+		dist = new long[n];
+		previous = new int[n];
+		reached = new int[n];
+		done = new int[n];
+		pq = new IndexedLongHeap (n);
+	}
+
+	/**
+	 * Determine whether to use cost scaling instead of successive shortest paths.
+	 *
+	 * @param b   true to select cost scaling
+	 */
+	public void setCostScaling (boolean b) {
+		costScaling = b;
+	}
+
+	/**
+	 * Compute the maximum flow of minimum cost.
+	 *
+	 * @return   the cost of the computed flow.
+	 */
+	public int compute () {
+		if (costScaling) {
+			new Dinic (network).compute();
+			costScale();
+		} else {
+			successiveShortestPaths();
+		}
+
+		return network.getCost();
+	}
+
+	/** Augment along cheapest paths until sink can no longer be reached. */
+	void successiveShortestPaths () {
+		int[] to = network.to;
+		int[] rev = network.rev;
+		int[] residual = network.residual;
+		int source = network.sourceIndex;
+		int sink = network.sinkIndex;
+
+		initializePotentials();
+		Arrays.fill (reached, 0);
+		Arrays.fill (done, 0);
+		int iteration = 0;
+		while (shortestPath (++iteration)) {
+			numIterations++;
+
+			// reduced costs remain non-negative if finalized vertices increase
+			// by their distance, and all others by the distance to the sink.
+			long d = dist[sink];
+			for (int v = 0; v < n; v++) {
+				if (done[v] == iteration) {
+					potential[v] += dist[v] - d;
+				}
+			}
+
+			int delta = Integer.MAX_VALUE;
+			for (int v = sink; v != source; v = to[rev[previous[v]]]) {
+				if (residual[previous[v]] < delta) { delta = residual[previous[v]]; }
+			}
+			for (int v = sink; v != source; v = to[rev[previous[v]]]) {
+				int a = previous[v];
+				residual[a] -= delta;
+				residual[rev[a]] += delta;
+			}
+		}
+	}
+
+	/**
+	 * Should any arc in the residual graph have negative cost, compute initial
+	 * potentials using Bellman-Ford; otherwise all potentials are zero.
+	 */
+	void initializePotentials () {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] residual = network.residual;
+		int[] cost = network.cost;
+
+		Arrays.fill (potential, 0);
+		boolean negative = false;
+		for (int a = 0; a < residual.length; a++) {
+			if (residual[a] > 0 && cost[a] < 0) { negative = true; break; }
+		}
+		if (!negative) { return; }
+
+		// queue-based Bellman-Ford, as if a new vertex had a zero-cost arc to all.
+		int[] queue = new int[n];
+		boolean[] inQueue = new boolean[n];
+		for (int u = 0; u < n; u++) {
+			queue[u] = u;
+			inQueue[u] = true;
+		}
+		int head = 0, size = n;
+		while (size > 0) {
+			int u = queue[head];
+			head = (head + 1) % n;
+			size--;
+			inQueue[u] = false;
+			for (int a = first[u]; a < first[u+1]; a++) {
+				int v = to[a];
+				if (residual[a] > 0 && potential[u] + cost[a] < potential[v]) {
+					potential[v] = potential[u] + cost[a];
+					if (!inQueue[v]) {
+						queue[(head + size) % n] = v;
+						size++;
+						inQueue[v] = true;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Use Dijkstra's algorithm over reduced costs to find cheapest path from
+	 * source to sink, stopping once the sink is reached.
+	 *
+	 * @param iteration    identifies vertices reached and finalized in this search
+	 * @return             true if the sink was reached.
+	 */
+	boolean shortestPath (int iteration) {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] residual = network.residual;
+		int[] cost = network.cost;
+		int source = network.sourceIndex;
+		int sink = network.sinkIndex;
+
+		pq.clear();
+		dist[source] = 0;
+		reached[source] = iteration;
+		pq.insert (source, 0);
+		while (!pq.isEmpty()) {
+			int u = pq.smallestID();
+			done[u] = iteration;
+			if (u == sink) { return true; }
+
+			long pu = dist[u] + potential[u];
+			for (int a = first[u]; a < first[u+1]; a++) {
+				int v = to[a];
+				if (residual[a] == 0 || done[v] == iteration) { continue; }
+
+				long newDist = pu + cost[a] - potential[v];
+				if (reached[v] != iteration) {
+					reached[v] = iteration;
+					dist[v] = newDist;
+					previous[v] = a;
+					pq.insert (v, newDist);
+				} else if (newDist < dist[v]) {
+					dist[v] = newDist;
+					previous[v] = a;
+					pq.decreaseKey (v, newDist);
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Remove all negative cycles from the residual graph using cost scaling.
+	 * Costs are multiplied by n+1 so an &epsilon; of 1 ensures optimality.
+	 */
+	void costScale () {
+		int[] cost = network.cost;
+		long[] scaled = new long[cost.length];
+		long epsilon = 0;
+		for (int a = 0; a < cost.length; a++) {
+			scaled[a] = (long) cost[a] * (n+1);
+			if (Math.abs (scaled[a]) > epsilon) { epsilon = Math.abs (scaled[a]); }
+		}
+
+		Arrays.fill (potential, 0);
+		long[] excess = new long[n];
+		while (epsilon > 1) {
+			epsilon = Math.max (1, epsilon / SCALING_FACTOR);
+			refine (scaled, excess, epsilon);
+			numIterations++;
+		}
+	}
+
+	/**
+	 * Convert an &epsilon;-optimal circulation into an (&epsilon;/SCALING_FACTOR)-optimal
+	 * one by saturating all arcs with negative reduced cost, and then pushing
+	 * the resulting excess over admissible arcs (those whose reduced cost is
+	 * negative) until none remains.
+	 */
+	void refine (long[] scaled, long[] excess, long epsilon) {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] rev = network.rev;
+		int[] residual = network.residual;
+		long[] price = potential;
+
+		for (int u = 0; u < n; u++) {
+			for (int a = first[u]; a < first[u+1]; a++) {
+				int v = to[a];
+				int r = residual[a];
+				if (r > 0 && scaled[a] + price[u] - price[v] < 0) {
+					residual[a] = 0;
+					residual[rev[a]] += r;
+					excess[u] -= r;
+					excess[v] += r;
+				}
+			}
+		}
+
+		// FIFO queue of active vertices.
+		int[] queue = new int[n];
+		boolean[] inQueue = new boolean[n];
+		int head = 0, size = 0;
+		for (int u = 0; u < n; u++) {
+			if (excess[u] > 0) {
+				queue[size++] = u;
+				inQueue[u] = true;
+			}
+		}
+
+		int[] current = new int[n];
+		System.arraycopy (first, 0, current, 0, n);
+		while (size > 0) {
+			int u = queue[head];
+			head = (head + 1) % n;
+			size--;
+			inQueue[u] = false;
+
+			// discharge u.
+			while (excess[u] > 0) {
+				int end = first[u+1];
+				int a = current[u];
+				for (; a < end; a++) {
+					int v = to[a];
+					if (residual[a] > 0 && scaled[a] + price[u] - price[v] < 0) {
+						int delta = (int) Math.min (excess[u], residual[a]);
+						residual[a] -= delta;
+						residual[rev[a]] += delta;
+						excess[u] -= delta;
+						excess[v] += delta;
+						numPushes++;
+						if (excess[v] > 0 && !inQueue[v]) {
+							queue[(head + size) % n] = v;
+							size++;
+							inQueue[v] = true;
+						}
+						if (excess[u] == 0) { break; }
+					}
+				}
+				current[u] = a;
+
+				if (a == end) {
+					// relabel so the most promising residual arc becomes admissible.
+					long p = Long.MIN_VALUE;
+					for (int b = first[u]; b < end; b++) {
+						if (residual[b] > 0 && price[to[b]] - scaled[b] > p) {
+							p = price[to[b]] - scaled[b];
+						}
+					}
+					price[u] = p - epsilon;
+					current[u] = first[u];
+					numRelabels++;
+				}
+			}
+		}
+	}
+}
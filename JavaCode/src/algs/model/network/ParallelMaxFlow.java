@@ -0,0 +1,103 @@
+package algs.model.network;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compute the maximum flow of a {@link FlowNetwork} using
+ * {@link ParallelPushRelabel}, as a replacement for {@link FordFulkerson}
+ * wherever it is constructed. Thus
+ * <pre>
+ *   FordFulkerson ff = new FordFulkerson (network, new BFS_SearchList (network));
+ * </pre>
+ * becomes
+ * <pre>
+ *   FordFulkerson ff = new ParallelMaxFlow (network);
+ * </pre>
+ * and the resulting flow is stored within the EdgeInfo objects of the network
+ * once {@link #compute()} completes, exactly as with FordFulkerson.
+ * <p>
+ * The network is copied into a {@link FlowNetworkCSR}, which is supported for
+ * networks whose edges are stored in a two-dimensional array (such as
+ * {@link FlowNetworkArray}) or adjacency lists ({@link FlowNetworkAdjacencyList}).
+ * The parallel solver computes a maximum flow regardless of the flow already
+ * stored in the network.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class ParallelMaxFlow extends FordFulkerson {
+
+	/** Pool to use. When null, the common pool is used. */
+	ForkJoinPool pool;
+
+	/** Solver used by the most recent computation. */
+	ParallelPushRelabel solver;
+
+	/**
+	 * Construct instance to compute maximum flow across the given network.
+	 *
+	 * @param network   The FlowNetwork
+	 */
+	public ParallelMaxFlow (FlowNetwork<?> network) {
+		super (network, null);
+	}
+
+	/**
+	 * Set the pool whose worker threads compute the flow.
+	 *
+	 * @param pool   pool to use; if null then the common pool is used.
+	 */
+	public void setPool (ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Return the solver used by the most recent computation, to inspect its statistics.
+	 *
+	 * @return   solver, or null if compute has not yet been invoked.
+	 */
+	public ParallelPushRelabel getSolver () {
+		return solver;
+	}
+
+	/**
+	 * Compute the Maximal flow for the given flow network and record the flow
+	 * over each edge in its EdgeInfo object.
+	 *
+	 * @return true if the flow out of the source increased; false otherwise.
+	 * @exception IllegalArgumentException if the edges of network cannot be copied.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public boolean compute () {
+		int before = network.getFlow();
+
+		FlowNetworkCSR csr;
+		Object structure = network.getEdgeStructure();
+		if (network instanceof FlowNetworkCSR) {
+			csr = (FlowNetworkCSR) network;
+		} else if (structure instanceof EdgeInfo[][]) {
+			csr = new FlowNetworkCSR ((FlowNetwork<EdgeInfo[][]>) network);
+		} else if (structure instanceof VertexStructure[]) {
+			ArrayList<EdgeInfo> edges = new ArrayList<EdgeInfo>();
+			for (VertexStructure vs : (VertexStructure[]) structure) {
+				for (Iterator<EdgeInfo> it = vs.forward(); it.hasNext(); ) {
+					edges.add (it.next());
+				}
+			}
+			csr = new FlowNetworkCSR (network.numVertices, network.sourceIndex, network.sinkIndex, edges.iterator());
+		} else {
+			throw new IllegalArgumentException ("Unable to copy edges of " + network.getClass().getName());
+		}
+
+		solver = new ParallelPushRelabel (csr);
+		solver.setPool (pool);
+		solver.compute();
+		csr.storeFlows();
+
+		return network.getFlow() > before;
+	}
+}
@@ -0,0 +1,402 @@
+package algs.model.network;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Compute the maximum flow of a {@link FlowNetworkCSR} using a parallel
+ * push-relabel algorithm whose work is distributed among the worker threads
+ * of a {@link ForkJoinPool}.
+ * <p>
+ * The algorithm proceeds in synchronous rounds over the set of active vertices
+ * (those with excess). First every active vertex, in parallel, pushes its
+ * excess over admissible arcs, judged by the heights at the start of the
+ * round. Since an arc (u,v) is admissible only when u is exactly one above v,
+ * two vertices never push over the same pair of arcs, so only the excess
+ * arriving at a vertex need be accumulated atomically. Then each vertex that
+ * still has excess, in parallel, raises its height to one more than its
+ * lowest residual neighbor. Finally the arriving excess is applied, and the
+ * vertices with excess form the active set of the next round.
+ * <p>
+ * Every so often a <i>global relabel</i> recomputes exact heights with a
+ * parallel Breadth-First Search backwards from the sink, one level at a time,
+ * with vertices claimed atomically; vertices that cannot reach the sink are
+ * then labeled by their distance to the source, offset by V, so their excess
+ * returns to the source. When no active vertices remain, the network holds a
+ * maximum flow. Unlike {@link PushRelabel} there is no gap heuristic, since
+ * the global relabel serves the same purpose.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class ParallelPushRelabel {
+
+	/** Vertices handled by a task before it is split in two. */
+	public static final int GRAIN = 256;
+
+	/** Work (measured in arcs scanned) between global relabels, as a multiple of V+E. */
+	public static final int GLOBAL_RELABEL_FREQUENCY = 1;
+
+	/** Represents the FlowNetwork problem. */
+	final FlowNetworkCSR network;
+
+	/** Number of vertices. */
+	final int n;
+
+	/** Height of each vertex, and the height computed when relabeling. */
+	final int[] height, newHeight;
+
+	/** Excess flow at each vertex at the start of a round. */
+	final long[] excess;
+
+	/** Excess arriving at each vertex during a round. */
+	final AtomicLongArray added;
+
+	/** Round in which each vertex is active. */
+	final int[] activeIn;
+
+	/** Search in which each vertex was labeled by a global relabel. */
+	final AtomicIntegerArray labeled;
+
+	/** Active vertices (or BFS frontier), and those for the next round. */
+	int[] active, next;
+
+	/** Number of active vertices. */
+	int numActive;
+
+	/** Position at which to append to next[]. */
+	final AtomicInteger tail = new AtomicInteger();
+
+	/** Current round. */
+	int round;
+
+	/** Identifies each global relabel. */
+	int search;
+
+	/** Work performed since the last global relabel. */
+	final AtomicLong work = new AtomicLong();
+
+	/** Counters, accumulated by each task. */
+	final AtomicLong pushes = new AtomicLong(), relabels = new AtomicLong();
+
+	/** Pool to use. When null, the common pool is used. */
+	ForkJoinPool pool;
+
+	/** Number of pushes performed. */
+	public long numPushes;
+
+	/** Number of relabels performed. */
+	public long numRelabels;
+
+	/** Number of global relabels performed. */
+	public int numGlobalRelabels;
+
+	/** Number of synchronous rounds performed. */
+	public int numRounds;
+
+	/**
+	 * Construct instance to compute maximum flow across the given network.
+	 *
+	 * @param network   The FlowNetwork
+	 */
+	public ParallelPushRelabel (FlowNetworkCSR network) {
+		this.network = network;
+		n = network.numVertices;
+		height = new int[n];
+		newHeight = new int[n];
+		excess = new long[n];
+		added = new AtomicLongArray (n);
+		activeIn = new int[n];
+		labeled = new AtomicIntegerArray (n);
+		active = new int[n];
+		next = new int[n];
+	}
+
+	/**
+	 * Set the pool whose worker threads compute the flow.
+	 *
+	 * @param pool   pool to use; if null then the common pool is used.
+	 */
+	public void setPool (ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Compute the Maximal flow for the given flow network, starting from the
+	 * flow already stored in the network.
+	 *
+	 * @return   the maximal flow out of the source.
+	 */
+	public int compute () {
+		ForkJoinPool fjp = pool;
+		if (fjp == null) { fjp = ForkJoinPool.commonPool(); }
+
+		initialize();
+		long limit = (long) GLOBAL_RELABEL_FREQUENCY * (n + network.to.length);
+		globalRelabel (fjp);
+		while (numActive > 0) {
+			round++;
+			numRounds++;
+			tail.set (0);
+			fjp.invoke (new Phase (Phase.PUSH, active, 0, numActive));
+			int discovered = tail.get();
+			fjp.invoke (new Phase (Phase.RELABEL, active, 0, numActive));
+			fjp.invoke (new Phase (Phase.APPLY, active, 0, numActive));
+			fjp.invoke (new Phase (Phase.ARRIVE, next, 0, discovered));
+
+			int source = network.sourceIndex;
+			int sink = network.sinkIndex;
+			excess[source] += added.getAndSet (source, 0);
+			excess[sink] += added.getAndSet (sink, 0);
+
+			int[] tmp = active;
+			active = next;
+			next = tmp;
+			numActive = tail.get();
+
+			if (work.get() > limit) {
+				globalRelabel (fjp);
+			}
+		}
+
+		numPushes = pushes.get();
+		numRelabels = relabels.get();
+		return network.getFlow();
+	}
+
+	/** Compute excess from the current flow and then saturate all arcs out of the source. */
+	void initialize () {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] rev = network.rev;
+		int[] residual = network.residual;
+		int[] capacity = network.capacity;
+		int source = network.sourceIndex;
+
+		for (int a = first[source]; a < first[source+1]; a++) {
+			int r = residual[a];
+			residual[a] = 0;
+			residual[rev[a]] += r;
+		}
+
+		for (int u = 0; u < n; u++) {
+			long sum = 0;
+			for (int a = first[u]; a < first[u+1]; a++) {
+				sum -= capacity[a] - residual[a];
+			}
+			excess[u] = sum;
+			added.set (u, 0);
+		}
+		round = 0;
+		work.set (0);
+	}
+
+	/**
+	 * Recompute exact heights using a parallel Breadth-First Search backwards
+	 * from the sink and then from the source, and gather all active vertices.
+	 */
+	void globalRelabel (ForkJoinPool fjp) {
+		numGlobalRelabels++;
+		search++;
+		int source = network.sourceIndex;
+		int sink = network.sinkIndex;
+
+		labeled.set (source, search);
+		height[source] = n;
+		labeled.set (sink, search);
+		height[sink] = 0;
+		levels (fjp, sink, 0);
+		levels (fjp, source, n);
+
+		// vertices unable to reach source or sink are never active again.
+		tail.set (0);
+		fjp.invoke (new Phase (Phase.ACTIVATE, null, 0, n));
+
+		int[] tmp = active;
+		active = next;
+		next = tmp;
+		numActive = tail.get();
+		work.set (0);
+	}
+
+	/** Label vertices by their distance to root, plus base, one level at a time. */
+	void levels (ForkJoinPool fjp, int root, int base) {
+		int[] frontier = active;
+		frontier[0] = root;
+		int size = 1;
+		int dist = base;
+		while (size > 0) {
+			dist++;
+			tail.set (0);
+			fjp.invoke (new Phase (Phase.SEARCH, frontier, 0, size, dist));
+
+			// frontier is always held by active[]
+			int[] tmp = active;
+			active = next;
+			next = tmp;
+			frontier = active;
+			size = tail.get();
+		}
+	}
+
+	/** Push excess of v over admissible arcs, judged by heights at the start of the round. */
+	void push (int v, long[] counts) {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] rev = network.rev;
+		int[] residual = network.residual;
+		int source = network.sourceIndex;
+		int sink = network.sinkIndex;
+
+		long e = excess[v];
+		int h = height[v] - 1;
+		int a = first[v];
+		int end = first[v+1];
+		for (; a < end && e > 0; a++) {
+			int w = to[a];
+			if (height[w] != h || residual[a] == 0) { continue; }
+
+			int delta = (int) Math.min (e, residual[a]);
+			residual[a] -= delta;
+			residual[rev[a]] += delta;
+			e -= delta;
+			counts[0]++;
+
+			// first to reach an inactive vertex adds it to the next round.
+			if (added.getAndAdd (w, delta) == 0 && w != source && w != sink && activeIn[w] != round) {
+				activeIn[w] = round+1;
+				next[tail.getAndIncrement()] = w;
+			}
+		}
+
+		excess[v] = e;
+		counts[1] += a - first[v];
+	}
+
+	/** Compute new height for v, should it still have excess. */
+	void relabel (int v, long[] counts) {
+		if (excess[v] == 0) {
+			newHeight[v] = height[v];
+			return;
+		}
+
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] residual = network.residual;
+
+		int h = 2*n;
+		for (int a = first[v]; a < first[v+1]; a++) {
+			if (residual[a] > 0 && height[to[a]] + 1 < h) {
+				h = height[to[a]] + 1;
+			}
+		}
+		newHeight[v] = h;
+		counts[1] += first[v+1] - first[v];
+		counts[2]++;
+	}
+
+	/** Apply new height and arriving excess to active vertex v, keeping it active if needed. */
+	void apply (int v) {
+		height[v] = newHeight[v];
+		excess[v] += added.getAndSet (v, 0);
+		if (excess[v] > 0 && height[v] < 2*n) {
+			activeIn[v] = round+1;
+			next[tail.getAndIncrement()] = v;
+		}
+	}
+
+	/** Label each unlabeled vertex that can push flow into u. */
+	void search (int u, int dist, long[] counts) {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] rev = network.rev;
+		int[] residual = network.residual;
+
+		for (int a = first[u]; a < first[u+1]; a++) {
+			int x = to[a];
+			if (residual[rev[a]] == 0) { continue; }
+
+			int mark = labeled.get (x);
+			if (mark != search && labeled.compareAndSet (x, mark, search)) {
+				height[x] = dist;
+				next[tail.getAndIncrement()] = x;
+			}
+		}
+		counts[1] += first[u+1] - first[u];
+	}
+
+	/** Determine whether u is active after a global relabel. */
+	void activate (int u) {
+		if (labeled.get (u) != search) {
+			height[u] = 2*n;
+		}
+		if (u != network.sourceIndex && u != network.sinkIndex && excess[u] > 0 && height[u] < 2*n) {
+			activeIn[u] = round+1;
+			next[tail.getAndIncrement()] = u;
+		}
+	}
+
+	/** Apply one phase of a round to a range of vertices, splitting large ranges. */
+	class Phase extends RecursiveAction {
+		static final long serialVersionUID = 1L;
+
+		/** Kinds of phases. */
+		static final int PUSH = 0, RELABEL = 1, APPLY = 2, ARRIVE = 3, SEARCH = 4, ACTIVATE = 5;
+
+		/** Kind of phase. */
+		final int kind;
+
+		/** Vertices to process, or null to process vertices [lo,hi) themselves. */
+		final int[] list;
+
+		/** Range to process. */
+		final int lo, hi;
+
+		/** Distance when searching. */
+		final int dist;
+
+		Phase (int kind, int[] list, int lo, int hi) {
+			this (kind, list, lo, hi, 0);
+		}
+
+		Phase (int kind, int[] list, int lo, int hi, int dist) {
+			this.kind = kind;
+			this.list = list;
+			this.lo = lo;
+			this.hi = hi;
+			this.dist = dist;
+		}
+
+		@Override
+		protected void compute() {
+			if (hi - lo > GRAIN) {
+				int mid = (lo + hi) >>> 1;
+				invokeAll (new Phase (kind, list, lo, mid, dist), new Phase (kind, list, mid, hi, dist));
+				return;
+			}
+
+			// pushes, arcs scanned, relabels
+			long[] counts = new long[3];
+			for (int i = lo; i < hi; i++) {
+				int v = (list == null) ? i : list[i];
+				switch (kind) {
+				case PUSH:     push (v, counts); break;
+				case RELABEL:  relabel (v, counts); break;
+				case APPLY:    apply (v); break;
+				case ARRIVE:   excess[v] += added.getAndSet (v, 0); break;
+				case SEARCH:   search (v, dist, counts); break;
+				case ACTIVATE: activate (v); break;
+				}
+			}
+
+			if (counts[0] > 0) { pushes.addAndGet (counts[0]); }
+			if (counts[1] > 0) { work.addAndGet (counts[1]); }
+			if (counts[2] > 0) { relabels.addAndGet (counts[2]); }
+		}
+	}
+}
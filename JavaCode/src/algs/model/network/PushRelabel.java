@@ -0,0 +1,284 @@
+package algs.model.network;
+
+import java.util.Arrays;
+
+/**
+ * Compute the maximum flow of a {@link FlowNetworkCSR} using the highest-label
+ * push-relabel algorithm of Goldberg and Tarjan.
+ * <p>
+ * Rather than augmenting along complete paths from source to sink, the source
+ * initially saturates all of its outgoing arcs, leaving an excess of flow at
+ * its neighbors. Each vertex is given a height (a lower bound on its distance
+ * to the sink), and an active vertex with excess pushes flow to neighbors
+ * exactly one below it, or raises its height when it cannot. Active vertices
+ * are processed highest first, which bounds the number of pushes by O(V^2 &radic;E).
+ * Flow that cannot reach the sink is eventually pushed back to the source,
+ * leaving a valid maximum flow in the network.
+ * <p>
+ * Two heuristics make the algorithm practical. Every so often, a <i>global
+ * relabel</i> recomputes exact heights with a Breadth-First Search backwards
+ * from the sink (and then from the source). And whenever no vertex remains at
+ * some height h &lt; V, the <i>gap</i> heuristic lifts every vertex above h to
+ * height V+1 since none of them can still reach the sink.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class PushRelabel {
+
+	/** Represents the FlowNetwork problem. */
+	final FlowNetworkCSR network;
+
+	/** Number of vertices. */
+	final int n;
+
+	/** Height of each vertex. */
+	final int[] height;
+
+	/** Excess flow at each vertex. */
+	final long[] excess;
+
+	/** Current arc for each vertex. */
+	final int[] current;
+
+	/** Number of vertices at each height below n. */
+	final int[] count;
+
+	/** Active vertices at each height, linked through next[]. */
+	final int[] bucket;
+
+	/** Next active vertex in the same bucket. */
+	final int[] next;
+
+	/** Queue for the global relabel. */
+	final int[] queue;
+
+	/** Highest bucket that may contain an active vertex. */
+	int highest;
+
+	/** Work performed since the last global relabel. */
+	long work;
+
+	/** Number of pushes performed. */
+	public long numPushes;
+
+	/** Number of relabels performed. */
+	public long numRelabels;
+
+	/** Number of global relabels performed. */
+	public int numGlobalRelabels;
+
+	/** Work (measured in arcs scanned) between global relabels, as a multiple of V+E. */
+	public static final int GLOBAL_RELABEL_FREQUENCY = 1;
+
+	/** Marks the end of a bucket. */
+	static final int NIL = -1;
+
+	/**
+	 * Construct instance to compute maximum flow across the given network.
+	 *
+	 * @param network   The FlowNetwork
+	 */
+	public PushRelabel (FlowNetworkCSR network) {
+		this.network = network;
+		n = network.numVertices;
+		height = new int[n];
+		excess = new long[n];
+		current = new int[n];
+		count = new int[n];
+		bucket = new int[2*n+1];
+		next = new int[n];
+		queue = new int[n];
+	}
+
+	/**
+	 * Compute the Maximal flow for the given flow network, starting from the
+	 * flow already stored in the network.
+	 *
+	 * @return   the maximal flow out of the source.
+	 */
+	public int compute () {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] rev = network.rev;
+		int[] residual = network.residual;
+		int source = network.sourceIndex;
+
+		// excess arises from the existing flow, then saturate arcs from source.
+		Arrays.fill (excess, 0);
+		for (int u = 0; u < n; u++) {
+			for (int a = first[u]; a < first[u+1]; a++) {
+				excess[u] -= network.capacity[a] - residual[a];
+			}
+		}
+		for (int a = first[source]; a < first[source+1]; a++) {
+			int delta = residual[a];
+			if (delta > 0 && to[a] != source) {
+				residual[a] = 0;
+				residual[rev[a]] += delta;
+				excess[source] -= delta;
+				excess[to[a]] += delta;
+			}
+		}
+
+		globalRelabel();
+		while (highest >= 0) {
+			int u = bucket[highest];
+			if (u == NIL) {
+				highest--;
+				continue;
+			}
+			bucket[highest] = next[u];
+
+			// vertex may have been lifted since it was added to bucket.
+			if (height[u] != highest) {
+				activate (u);
+				continue;
+			}
+
+			discharge (u);
+			if (work > (long) GLOBAL_RELABEL_FREQUENCY * (n + residual.length)) {
+				globalRelabel();
+			}
+		}
+
+		return network.getFlow();
+	}
+
+	/** Add active vertex u to the bucket for its height. */
+	void activate (int u) {
+		int h = height[u];
+		next[u] = bucket[h];
+		bucket[h] = u;
+		if (h > highest) { highest = h; }
+	}
+
+	/** Push excess from u until none remains or u must be relabeled (and lifted). */
+	void discharge (int u) {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] rev = network.rev;
+		int[] residual = network.residual;
+		int source = network.sourceIndex;
+		int sink = network.sinkIndex;
+
+		while (excess[u] > 0) {
+			int end = first[u+1];
+			int a = current[u];
+			for (; a < end; a++) {
+				int v = to[a];
+				if (residual[a] > 0 && height[u] == height[v] + 1) {
+					int delta = (int) Math.min (excess[u], residual[a]);
+					residual[a] -= delta;
+					residual[rev[a]] += delta;
+					excess[u] -= delta;
+					if (excess[v] == 0 && v != sink && v != source) {
+						activate (v);
+					}
+					excess[v] += delta;
+					numPushes++;
+					if (excess[u] == 0) { break; }
+				}
+			}
+			work += a - current[u] + 1;
+			current[u] = a;
+
+			if (a == end) {
+				relabel (u);
+				if (height[u] >= 2*n) { return; }
+			}
+		}
+	}
+
+	/** Raise the height of u to one more than its lowest residual neighbor. */
+	void relabel (int u) {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] residual = network.residual;
+		numRelabels++;
+
+		int old = height[u];
+		int h = 2*n;
+		for (int a = first[u]; a < first[u+1]; a++) {
+			if (residual[a] > 0 && height[to[a]] + 1 < h) {
+				h = height[to[a]] + 1;
+				current[u] = a;
+			}
+		}
+		work += first[u+1] - first[u] + 12;
+
+		if (old < n) {
+			count[old]--;
+
+			// gap: no vertex between old and n can reach the sink.
+			if (count[old] == 0) {
+				for (int v = 0; v < n; v++) {
+					if (height[v] > old && height[v] < n) {
+						count[height[v]]--;
+						height[v] = n+1;
+						current[v] = first[v];
+					}
+				}
+				if (h < n+1) { h = n+1; }
+			}
+		}
+
+		height[u] = h;
+		if (h < n) { count[h]++; }
+	}
+
+	/**
+	 * Recompute heights as distance to sink in the residual graph; vertices
+	 * that cannot reach the sink are given V plus their distance to the source.
+	 * Then rebuild the buckets of active vertices.
+	 */
+	void globalRelabel () {
+		int[] first = network.first;
+		int source = network.sourceIndex;
+		numGlobalRelabels++;
+		work = 0;
+
+		Arrays.fill (height, 2*n);
+		Arrays.fill (count, 0);
+		bfs (network.sinkIndex, 0);
+		height[source] = n;
+		bfs (source, n);
+		for (int u = 0; u < n; u++) {
+			current[u] = first[u];
+			if (height[u] < n) { count[height[u]]++; }
+		}
+
+		Arrays.fill (bucket, NIL);
+		highest = -1;
+		for (int u = 0; u < n; u++) {
+			if (excess[u] > 0 && u != network.sinkIndex && u != source && height[u] < 2*n) {
+				activate (u);
+			}
+		}
+	}
+
+	/** Assign increasing heights from root to unlabeled vertices that reach it. */
+	void bfs (int root, int base) {
+		int[] first = network.first;
+		int[] to = network.to;
+		int[] rev = network.rev;
+		int[] residual = network.residual;
+
+		int head = 0, tail = 0;
+		queue[tail++] = root;
+		height[root] = base;
+		while (head < tail) {
+			int u = queue[head++];
+			for (int a = first[u]; a < first[u+1]; a++) {
+				int v = to[a];
+
+				// v reaches u whenever arc (v,u) has residual capacity.
+				if (height[v] == 2*n && residual[rev[a]] > 0) {
+					height[v] = height[u] + 1;
+					queue[tail++] = v;
+				}
+			}
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package algs.model.network.matching;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
 
@@ -14,16 +15,29 @@ import algs.model.network.FordFulkerson;
  * sets S and T and whose edges only exist between vertices in S and vertices in T.
  * 
  * Computes the matching by converting the problem into a FlowNetwork problem.
+ * Alternatively, {@link #computeHopcroftKarp()} computes the matching directly
+ * using {@link HopcroftKarp}, which is far faster on large graphs. Once it
+ * has been invoked, pairs added by {@link #addPair(Object, Object)} or removed
+ * by {@link #removePair(Object, Object)} are reflected in the next matching,
+ * which is repaired rather than recomputed from scratch. Pairs are indexed,
+ * so locating a pair to add or remove takes constant expected time. Duplicate
+ * pairs are ignored.
  * 
  * @author George Heineman
- * @version 1.0, 6/15/08
+ * @version 2.0, 10/18/26
  * @since 1.0
  */
 public class BipartiteMatching {
 
-	/** Edges for S and T. */
+	/** Edges crossing from S to T. */
 	ArrayList<EdgeInfo> edges;
 
+	/** Edges from added "source" to S and from T to added "target". */
+	ArrayList<EdgeInfo> terminals;
+
+	/** Position within edges of each pair, keyed by {@link #key(int, int)}. */
+	HashMap<Long,Integer> positions = new HashMap<Long,Integer>();
+
 	/** Unique id counter. */
 	int ctr = 0;			  	   						      
 
@@ -42,6 +56,15 @@ public class BipartiteMatching {
 	/** Number of vertices in flow network problem. */
 	int numVertices;
 
+	/** Set S being matched to T. */
+	final Object[] S;
+
+	/** Set T being matched to S. */
+	final Object[] T;
+
+	/** Maintains matching for Hopcroft-Karp once computed. */
+	HopcroftKarp matcher;
+
 	/**
 	 * Construct matching instance from information.
 	 * <p>
@@ -56,13 +79,18 @@ public class BipartiteMatching {
 	 * @throws RuntimeException    if an error in input occurs.
 	 */
 	public BipartiteMatching (Object[] S, Object[] T, Object[][] pairs) { 
+		this.S = S;
+		this.T = T;
 
-		// ensure that S and T are disjoint
+		// assign ids to S (1..|S|) and T (|S|+1..|S|+|T|), ensuring they are disjoint
 		for (Object o : S) {
-			if (contains(T, o)) { throw new RuntimeException  ("Matching sets must be disjoint."); }
+			map.put(o, ++ctr);
+			reverse.put(ctr, o);
 		}
 		for (Object o : T) {
-			if (contains(S, o)) { throw new RuntimeException  ("Matching sets must be disjoint."); }
+			if (inS(o)) { throw new RuntimeException  ("Matching sets must be disjoint."); }
+			map.put(o, ++ctr);
+			reverse.put(ctr, o);
 		}
 
 		edges = new ArrayList<EdgeInfo>();
@@ -72,27 +100,28 @@ public class BipartiteMatching {
 				throw new RuntimeException  ("Edge information not in pairs (s,t)");
 			}
 
-			if (!contains(S, pairs[i][0]) || !contains(T, pairs[i][1])) {
+			if (!inS(pairs[i][0]) || !inT(pairs[i][1])) {
 				throw new RuntimeException  ("Invalid Edge:" + i);
 			}
 
-			Integer src = map.get(pairs[i][0]);
-			Integer tgt = map.get(pairs[i][1]);
-			if (src == null) { map.put(pairs[i][0], src = ++ctr); reverse.put(src, pairs[i][0]);}
-			if (tgt == null) { map.put(pairs[i][1], tgt = ++ctr); reverse.put(tgt, pairs[i][1]);}
-
-			edges.add(new EdgeInfo(src, tgt, 1));
+			int src = map.get(pairs[i][0]);
+			int tgt = map.get(pairs[i][1]);
+			if (!positions.containsKey(key(src, tgt))) {
+				positions.put(key(src, tgt), edges.size());
+				edges.add(new EdgeInfo(src, tgt, 1));
+			}
 		}
 
 		// add extra "source" and "target" vertices.
 		srcIndex = 0;
 		tgtIndex = S.length + T.length+1;
 		numVertices = tgtIndex+1;
+		terminals = new ArrayList<EdgeInfo>();
 		for (Object o : S) {
-			edges.add(new EdgeInfo(srcIndex, map.get(o), 1));
+			terminals.add(new EdgeInfo(srcIndex, map.get(o), 1));
 		}
 		for (Object o : T) {
-			edges.add(new EdgeInfo(map.get(o), tgtIndex, 1));
+			terminals.add(new EdgeInfo(map.get(o), tgtIndex, 1));
 		}
 	}
 
@@ -104,18 +133,51 @@ public class BipartiteMatching {
 	 * @return  Iterator of Pair objects that reflect the discovered matching. 
 	 */
 	public Iterator<Pair> compute() {
-		FlowNetworkArray network = new FlowNetworkArray(numVertices, srcIndex, tgtIndex, edges.iterator());
+		ArrayList<EdgeInfo> all = new ArrayList<EdgeInfo>(edges);
+		all.addAll(terminals);
+		FlowNetworkArray network = new FlowNetworkArray(numVertices, srcIndex, tgtIndex, all.iterator());
 		FordFulkerson solver = new FordFulkerson (network, new DFS_SearchArray(network));
 		solver.compute();
 
-		// retrieve from original edgeInfo set; ignore created edges to the
-		// added 'source' and 'target'. Only include in solution if flow == 1
+		// retrieve from original edgeInfo set, which excludes created edges to
+		// the added 'source' and 'target'. Only include in solution if flow == 1
 		ArrayList<Pair> pairs = new ArrayList<Pair>();
 		for (EdgeInfo ei : edges) {
-			if (ei.start != srcIndex && ei.end != tgtIndex) {
-				if (ei.getFlow() == 1) {
-					pairs.add(new Pair(reverse.get(ei.start), reverse.get(ei.end)));
-				}
+			if (ei.getFlow() == 1) {
+				pairs.add(new Pair(reverse.get(ei.start), reverse.get(ei.end)));
+			}
+		}
+
+		// Solution is generated by iterator.
+		return pairs.iterator();
+	}
+
+	/**
+	 * Compute a maximum matching using {@link HopcroftKarp}.
+	 * <p>
+	 * The first invocation computes the matching from scratch; subsequent
+	 * invocations extend the matching that remains after any pairs were added
+	 * or removed.
+	 * 
+	 * @return  Iterator of Pair objects that reflect the discovered matching. 
+	 */
+	public Iterator<Pair> computeHopcroftKarp() {
+		if (matcher == null) {
+			int[] left = new int[edges.size()];
+			int[] right = new int[edges.size()];
+			for (int i = 0; i < edges.size(); i++) {
+				left[i] = edges.get(i).start - 1;
+				right[i] = edges.get(i).end - S.length - 1;
+			}
+			matcher = new HopcroftKarp(S.length, T.length, left, right);
+		}
+		matcher.compute();
+
+		ArrayList<Pair> pairs = new ArrayList<Pair>();
+		for (int u = 0; u < S.length; u++) {
+			int v = matcher.matchOfLeft(u);
+			if (v != HopcroftKarp.NIL) {
+				pairs.add(new Pair(S[u], T[v]));
 			}
 		}
 
@@ -123,11 +185,75 @@ public class BipartiteMatching {
 		return pairs.iterator();
 	}
 
-	/** Helper method to determine if element is a member of the array. */
-	private boolean contains (Object[] set, Object element) {
-		for (Object i : set) {
-			if (i.equals(element)) { return true; }
+	/**
+	 * Add pair (s,t) as an edge crossing from S to T.
+	 * 
+	 * @param s    element of S
+	 * @param t    element of T
+	 * @return     true if pair was added; false if it already existed.
+	 * @throws RuntimeException    if s is not in S or t is not in T.
+	 */
+	public boolean addPair(Object s, Object t) {
+		int src = vertex(s, t);
+		int tgt = map.get(t);
+		if (positions.containsKey(key(src, tgt))) { return false; }
+
+		positions.put(key(src, tgt), edges.size());
+		edges.add(new EdgeInfo(src, tgt, 1));
+		if (matcher != null) {
+			matcher.addEdge(src - 1, tgt - S.length - 1);
+		}
+		return true;
+	}
+
+	/**
+	 * Remove pair (s,t) as an edge crossing from S to T.
+	 * 
+	 * @param s    element of S
+	 * @param t    element of T
+	 * @return     true if pair was removed; false if it did not exist.
+	 * @throws RuntimeException    if s is not in S or t is not in T.
+	 */
+	public boolean removePair(Object s, Object t) {
+		int src = vertex(s, t);
+		int tgt = map.get(t);
+		Integer pos = positions.remove(key(src, tgt));
+		if (pos == null) { return false; }
+
+		// move last pair into the vacated position.
+		EdgeInfo last = edges.remove(edges.size()-1);
+		if (pos < edges.size()) {
+			edges.set(pos, last);
+			positions.put(key(last.start, last.end), pos);
+		}
+		if (matcher != null) {
+			matcher.removeEdge(src - 1, tgt - S.length - 1);
+		}
+		return true;
+	}
+
+	/** Validate pair and return id of s. */
+	private int vertex(Object s, Object t) {
+		if (!inS(s) || !inT(t)) {
+			throw new RuntimeException  ("Invalid Edge:(" + s + "," + t + ")");
 		}
-		return false;
+		return map.get(s);
+	}
+
+	/** Key identifying the pair between the given ids. */
+	private static long key(int src, int tgt) {
+		return ((long) src << 32) | tgt;
+	}
+
+	/** Helper method to determine if element is a member of S. */
+	private boolean inS (Object element) {
+		Integer id = map.get(element);
+		return id != null && id <= S.length;
+	}
+
+	/** Helper method to determine if element is a member of T. */
+	private boolean inT (Object element) {
+		Integer id = map.get(element);
+		return id != null && id > S.length;
 	}
 }
@@ -0,0 +1,323 @@
+package algs.model.network.matching;
+
+import java.util.Arrays;
+
+/**
+ * Computes a maximum matching in a bipartite graph using the algorithm of
+ * Hopcroft and Karp, in O(E &radic;V) time.
+ * <p>
+ * The vertices of S are numbered 0..numLeft-1 and those of T are numbered
+ * 0..numRight-1, and the edges leaving each vertex of S are stored in an
+ * int[] array. Each phase uses a Breadth-First Search, starting from all
+ * unmatched vertices of S, to find the length of the shortest augmenting
+ * paths, and then a Depth-First Search augments the matching along a maximal
+ * set of vertex-disjoint shortest paths. Only O(&radic;V) phases are needed.
+ * <p>
+ * Edges can be added or removed after a matching has been computed. Each
+ * invocation of {@link #compute()} starts from the current matching, so after
+ * a few edits only a few augmenting paths need be found rather than
+ * recomputing the matching from scratch. Removing a matched edge leaves both
+ * of its vertices unmatched until the next computation.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class HopcroftKarp {
+
+	/** Marks an unmatched vertex. */
+	public static final int NIL = -1;
+
+	/** Distance for vertices not found by Breadth-First Search. */
+	static final int INFINITY = Integer.MAX_VALUE;
+
+	/** Number of vertices in S and T. */
+	final int numLeft, numRight;
+
+	/** Vertices of T adjacent to each vertex of S, in adj[u][0..degree[u]). */
+	int[][] adj;
+
+	/** Number of edges leaving each vertex of S. */
+	final int[] degree;
+
+	/** Matched vertex for each vertex of S (and of T), or NIL. */
+	final int[] matchLeft, matchRight;
+
+	/** Layer of each vertex of S within a phase. */
+	final int[] dist;
+
+	/** Next edge to try for each vertex of S within a phase. */
+	final int[] current;
+
+	/** Queue for Breadth-First Search and stack for Depth-First Search. */
+	final int[] queue, stack;
+
+	/** Size of the current matching. */
+	int size;
+
+	/** Layer at which shortest augmenting paths end in the current phase. */
+	int limit;
+
+	/** Number of phases executed. */
+	public int numPhases;
+
+	/** Number of augmenting paths processed. */
+	public int numAugmentations;
+
+	/**
+	 * Construct instance for a bipartite graph with no edges.
+	 *
+	 * @param numLeft     number of vertices in S
+	 * @param numRight    number of vertices in T
+	 */
+	public HopcroftKarp (int numLeft, int numRight) {
+		this.numLeft = numLeft;
+		this.numRight = numRight;
+		adj = new int[numLeft][];
+		degree = new int[numLeft];
+		matchLeft = new int[numLeft];
+		matchRight = new int[numRight];
+		dist = new int[numLeft];
+		current = new int[numLeft];
+		queue = new int[numLeft];
+		stack = new int[numLeft];
+		Arrays.fill (matchLeft, NIL);
+		Arrays.fill (matchRight, NIL);
+	}
+
+	/**
+	 * Construct instance for a bipartite graph whose edges are given as parallel
+	 * arrays, such that (left[e], right[e]) is an edge.
+	 *
+	 * @param numLeft     number of vertices in S
+	 * @param numRight    number of vertices in T
+	 * @param left        vertex in S for each edge
+	 * @param right       vertex in T for each edge
+	 * @exception IllegalArgumentException if arrays differ in length or a vertex is out of range.
+	 */
+	public HopcroftKarp (int numLeft, int numRight, int[] left, int[] right) {
+		this (numLeft, numRight);
+		if (left.length != right.length) {
+			throw new IllegalArgumentException ("edge arrays must have the same length.");
+		}
+
+		for (int e = 0; e < left.length; e++) {
+			check (left[e], right[e]);
+			degree[left[e]]++;
+		}
+		for (int u = 0; u < numLeft; u++) {
+			adj[u] = new int[degree[u]];
+			degree[u] = 0;
+		}
+		for (int e = 0; e < left.length; e++) {
+			int u = left[e];
+			adj[u][degree[u]++] = right[e];
+		}
+	}
+
+	/** Validate edge end points. */
+	void check (int u, int v) {
+		if (u < 0 || u >= numLeft || v < 0 || v >= numRight) {
+			throw new IllegalArgumentException ("Invalid Edge: (" + u + "," + v + ")");
+		}
+	}
+
+	/**
+	 * Add edge (u,v) unless it already exists. The matching is unaffected.
+	 *
+	 * @param u    vertex in S
+	 * @param v    vertex in T
+	 * @return     true if edge was added; false if it already existed.
+	 */
+	public boolean addEdge (int u, int v) {
+		check (u, v);
+		int[] edges = adj[u];
+		for (int i = 0; i < degree[u]; i++) {
+			if (edges[i] == v) { return false; }
+		}
+
+		if (edges == null || degree[u] == edges.length) {
+			edges = adj[u] = Arrays.copyOf (edges == null ? new int[0] : edges, Math.max (4, 2*degree[u]));
+		}
+		edges[degree[u]++] = v;
+		return true;
+	}
+
+	/**
+	 * Remove edge (u,v), should it exist. If u was matched with v, then both
+	 * become unmatched.
+	 *
+	 * @param u    vertex in S
+	 * @param v    vertex in T
+	 * @return     true if edge was removed; false if it did not exist.
+	 */
+	public boolean removeEdge (int u, int v) {
+		check (u, v);
+		int[] edges = adj[u];
+		for (int i = 0; i < degree[u]; i++) {
+			if (edges[i] == v) {
+				edges[i] = edges[--degree[u]];
+				if (matchLeft[u] == v) {
+					matchLeft[u] = NIL;
+					matchRight[v] = NIL;
+					size--;
+				}
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Extend the current matching to a maximum matching.
+	 *
+	 * @return   the number of edges in the maximum matching.
+	 */
+	public int compute () {
+		while (layers()) {
+			numPhases++;
+			Arrays.fill (current, 0);
+			for (int u = 0; u < numLeft; u++) {
+				if (matchLeft[u] == NIL && augment (u)) {
+					size++;
+					numAugmentations++;
+				}
+			}
+		}
+
+		return size;
+	}
+
+	/**
+	 * Compute the layer of each vertex in S reachable by alternating paths from
+	 * an unmatched vertex of S.
+	 *
+	 * @return    true if an augmenting path exists.
+	 */
+	boolean layers () {
+		int head = 0, tail = 0;
+		for (int u = 0; u < numLeft; u++) {
+			if (matchLeft[u] == NIL) {
+				dist[u] = 0;
+				queue[tail++] = u;
+			} else {
+				dist[u] = INFINITY;
+			}
+		}
+
+		limit = INFINITY;
+		while (head < tail) {
+			int u = queue[head++];
+			if (dist[u] >= limit) { continue; }
+
+			int[] edges = adj[u];
+			for (int i = 0; i < degree[u]; i++) {
+				int w = matchRight[edges[i]];
+				if (w == NIL) {
+					limit = dist[u] + 1;
+				} else if (dist[w] == INFINITY) {
+					dist[w] = dist[u] + 1;
+					queue[tail++] = w;
+				}
+			}
+		}
+
+		return limit != INFINITY;
+	}
+
+	/**
+	 * Search for a shortest augmenting path from unmatched vertex root, and if
+	 * found, augment the matching along it. Vertices from which no path can be
+	 * found are removed from the remainder of the phase.
+	 *
+	 * @param root    unmatched vertex in S
+	 * @return        true if the matching was augmented
+	 */
+	boolean augment (int root) {
+		int top = 0;
+		stack[top++] = root;
+		while (top > 0) {
+			int u = stack[top-1];
+			int[] edges = adj[u];
+			boolean advanced = false;
+			for (; current[u] < degree[u]; current[u]++) {
+				int w = matchRight[edges[current[u]]];
+				if (w == NIL) {
+					// reverse matching along the path.
+					for (int i = top-1; i >= 0; i--) {
+						int x = stack[i];
+						int y = adj[x][current[x]];
+						matchLeft[x] = y;
+						matchRight[y] = x;
+					}
+					return true;
+				}
+
+				if (dist[w] == dist[u] + 1 && dist[w] < limit) {
+					stack[top++] = w;
+					advanced = true;
+					break;
+				}
+			}
+
+			if (!advanced) {
+				dist[u] = INFINITY;
+				top--;
+				if (top > 0) { current[stack[top-1]]++; }
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Return the number of edges in the current matching.
+	 *
+	 * @return size of matching.
+	 */
+	public int size () {
+		return size;
+	}
+
+	/**
+	 * Return number of edges leaving vertex u in S.
+	 *
+	 * @param u    vertex in S
+	 * @return     degree of u.
+	 */
+	public int degree (int u) {
+		return degree[u];
+	}
+
+	/**
+	 * Return the i-th vertex in T adjacent to vertex u in S.
+	 *
+	 * @param u    vertex in S
+	 * @param i    index, where 0 &le; i &lt; degree(u)
+	 * @return     adjacent vertex in T.
+	 */
+	public int neighbor (int u, int i) {
+		return adj[u][i];
+	}
+
+	/**
+	 * Return vertex in T matched with vertex u in S.
+	 *
+	 * @param u    vertex in S
+	 * @return     matched vertex in T, or NIL if u is unmatched.
+	 */
+	public int matchOfLeft (int u) {
+		return matchLeft[u];
+	}
+
+	/**
+	 * Return vertex in S matched with vertex v in T.
+	 *
+	 * @param v    vertex in T
+	 * @return     matched vertex in S, or NIL if v is unmatched.
+	 */
+	public int matchOfRight (int v) {
+		return matchRight[v];
+	}
+}
@@ -1,6 +1,7 @@
 package algs.model.problems.convexhull;
 
 import algs.model.IPoint;
+import algs.model.twod.TwoDPoint;
 
 /**
  * Defined interface for algorithms that compute the convex hull for a set
@@ -25,4 +26,25 @@ public interface IConvexHull {
 	 * @return           convex hull of given points as array.
 	 */
 	IPoint[] compute (IPoint[] points);
+
+	/**
+	 * Return the computed convex hull for the points whose coordinates are
+	 * stored in the parallel arrays xs and ys.
+	 * <p>
+	 * By default, a point is constructed for each pair of coordinates and the
+	 * hull is computed by {@link #compute(IPoint[])}. Implementations that are
+	 * able to operate directly on the coordinates should override.
+	 *
+	 * @param xs         x-coordinates of (n &ge; 3) two dimensional points.
+	 * @param ys         y-coordinates of the points.
+	 * @return           convex hull of given points as array.
+	 * @since 2.0
+	 */
+	default IPoint[] compute (double[] xs, double[] ys) {
+		IPoint[] points = new IPoint[xs.length];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = new TwoDPoint (xs[i], ys[i]);
+		}
+		return compute (points);
+	}
 }
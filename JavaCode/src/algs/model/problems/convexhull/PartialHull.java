@@ -109,5 +109,23 @@ public class PartialHull {
 		
 		return false;
 	}	
+
+	/**
+	 * Determine if points i, j, k (whose coordinates are xs[] and ys[]) fail
+	 * to form a right turn, just as {@link #areLastThreeNonRight()} does.
+	 * 
+	 * @param xs   x-coordinates of points
+	 * @param ys   y-coordinates of points
+	 * @param i    index of first point
+	 * @param j    index of second point
+	 * @param k    index of third point
+	 * @return true if the points do not form a right turn
+	 * @since 2.0
+	 */
+	public static boolean nonRight (double[] xs, double[] ys, int i, int j, int k) {
+		double val1 = (xs[j] - xs[i])*(ys[k] - ys[i]);
+		double val2 = (ys[j] - ys[i])*(xs[k] - xs[i]);
+		return FloatingPoint.value(val1 - val2) >= 0;
+	}
 }
 
@@ -0,0 +1,266 @@
+package algs.model.problems.convexhull.andrew;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+import algs.model.FloatingPoint;
+import algs.model.IPoint;
+import algs.model.problems.convexhull.PartialHull;
+
+/**
+ * Maintains the convex hull of a stream of points that arrive in batches.
+ * <p>
+ * The hull is stored as its upper and lower partial hulls, each sorted by
+ * x-coordinate as computed by Andrew's algorithm. Since the upper hull of the
+ * union of two sets of points is the upper hull of their upper hulls, two hulls
+ * are combined by merging their partial hulls and scanning the result with a
+ * {@link PartialHull}, in time proportional to their size.
+ * <p>
+ * By default, every point ever added contributes to the hull. When a batch is
+ * added, each point strictly inside the current hull is discarded immediately
+ * (using binary search over the partial hulls) and the remaining points are
+ * sorted and combined with the hull.
+ * <p>
+ * Alternatively, the hull can be limited to a sliding window containing the
+ * most recent batches. Points inside the current hull cannot then be
+ * discarded since they may reappear on the hull once older batches expire, so
+ * each batch is reduced to its own hull. Batches are held in a queue formed
+ * from two stacks: the newer stack maintains the hull of all its batches, and
+ * each entry in the older stack maintains the hull of itself and the newer
+ * entries beneath it. Expiring the oldest batch pops the older stack, which
+ * is refilled from the newer stack only when empty, so each batch is combined
+ * a constant number of times.
+ * <p>
+ * Either way, a snapshot of the hull is formed in time proportional to the
+ * number of points on the hull.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class StreamingHull {
+
+	/** Number of most recent batches retained, or 0 if all are retained. */
+	final int window;
+
+	/** Hull of all points, when all are retained. */
+	Hull all = Hull.EMPTY;
+
+	/** Newer batches, together with their combined hull. */
+	ArrayDeque<Hull> newer = new ArrayDeque<Hull>();
+	Hull newerHull = Hull.EMPTY;
+
+	/** Older batches, each with the hull of itself and those newer than it in this stack. */
+	ArrayDeque<Hull> older = new ArrayDeque<Hull>();
+	ArrayDeque<Hull> olderHulls = new ArrayDeque<Hull>();
+
+	/** Cached result of most recent snapshot, discarded when batch added. */
+	IPoint[] snapshot;
+
+	/** Maintain the hull of all points ever added. */
+	public StreamingHull() {
+		this.window = 0;
+	}
+
+	/**
+	 * Maintain the hull of the points in the most recently added batches.
+	 *
+	 * @param window    number of batches whose points form the hull.
+	 * @exception IllegalArgumentException if window &lt; 1
+	 */
+	public StreamingHull (int window) {
+		if (window < 1) {
+			throw new IllegalArgumentException ("Window must contain at least one batch.");
+		}
+		this.window = window;
+	}
+
+	/**
+	 * Add a batch of points.
+	 * <p>
+	 * The array is not modified, and no reference to it is retained.
+	 *
+	 * @param points    batch of two dimensional points
+	 */
+	public void add (IPoint[] points) {
+		snapshot = null;
+		if (window == 0) {
+			// only keep those points that are not strictly inside the hull.
+			IPoint[] keep = new IPoint[points.length];
+			int n = 0;
+			for (IPoint p : points) {
+				if (!all.contains (p)) { keep[n++] = p; }
+			}
+			all = Hull.combine (all, Hull.of (keep, n));
+			return;
+		}
+
+		Hull h = Hull.of (points.clone(), points.length);
+		newer.push (h);
+		newerHull = Hull.combine (newerHull, h);
+
+		if (newer.size() + older.size() > window) {
+			if (older.isEmpty()) {
+				Hull above = Hull.EMPTY;
+				while (!newer.isEmpty()) {
+					Hull b = newer.pop();
+					above = Hull.combine (b, above);
+					older.push (b);
+					olderHulls.push (above);
+				}
+				newerHull = Hull.EMPTY;
+			}
+			older.pop();
+			olderHulls.pop();
+		}
+	}
+
+	/**
+	 * Return the convex hull of the retained points, in the same form as
+	 * {@link ConvexHullScan}: clockwise, starting from the leftmost point.
+	 *
+	 * @return  convex hull of retained points as array.
+	 */
+	public IPoint[] hull() {
+		if (snapshot == null) {
+			Hull h = all;
+			if (window > 0) {
+				h = olderHulls.isEmpty() ? newerHull : Hull.combine (olderHulls.peek(), newerHull);
+			}
+			snapshot = h.toArray();
+		}
+		return snapshot.clone();
+	}
+
+	/**
+	 * Return number of points retained (counting separately the points of
+	 * each batch in the window) from which the hull is formed.
+	 *
+	 * @return number of retained points.
+	 */
+	public int retained() {
+		if (window == 0) { return all.size(); }
+
+		int total = 0;
+		for (Hull h : newer) { total += h.size(); }
+		for (Hull h : older) { total += h.size(); }
+		return total;
+	}
+
+	/**
+	 * Hull formed from its upper partial hull (left to right) and lower
+	 * partial hull (right to left), each of which includes both the leftmost
+	 * and rightmost points.
+	 */
+	static class Hull {
+		static final Hull EMPTY = new Hull (new IPoint[0], new IPoint[0]);
+
+		final IPoint[] upper;
+		final IPoint[] lower;
+
+		Hull (IPoint[] upper, IPoint[] lower) {
+			this.upper = upper;
+			this.lower = lower;
+		}
+
+		/** Compute hull of the first n points, which are sorted in place. */
+		static Hull of (IPoint[] points, int n) {
+			if (n == 0) { return EMPTY; }
+			Arrays.sort (points, 0, n, IPoint.xy_sorter);
+			IPoint[] reversed = new IPoint[n];
+			for (int i = 0; i < n; i++) { reversed[i] = points[n-1-i]; }
+			return new Hull (scan (points, n), scan (reversed, n));
+		}
+
+		/** Compute hull of the points of both hulls. */
+		static Hull combine (Hull a, Hull b) {
+			if (a.upper.length == 0) { return b; }
+			if (b.upper.length == 0) { return a; }
+			IPoint[] upper = merge (a.upper, b.upper, +1);
+			IPoint[] lower = merge (a.lower, b.lower, -1);
+			return new Hull (scan (upper, upper.length), scan (lower, lower.length));
+		}
+
+		/** Merge arrays sorted in ascending (dir=+1) or descending (dir=-1) order. */
+		static IPoint[] merge (IPoint[] a, IPoint[] b, int dir) {
+			IPoint[] m = new IPoint[a.length + b.length];
+			int i = 0, j = 0, k = 0;
+			while (i < a.length && j < b.length) {
+				if (dir * IPoint.xy_sorter.compare (a[i], b[j]) <= 0) {
+					m[k++] = a[i++];
+				} else {
+					m[k++] = b[j++];
+				}
+			}
+			while (i < a.length) { m[k++] = a[i++]; }
+			while (j < b.length) { m[k++] = b[j++]; }
+			return m;
+		}
+
+		/** Compute partial hull of the first n points, in sorted order, as Andrew's algorithm does. */
+		static IPoint[] scan (IPoint[] sorted, int n) {
+			if (n < 2) { return Arrays.copyOf (sorted, n); }
+
+			PartialHull ph = new PartialHull (sorted[0], sorted[1]);
+			for (int i = 2; i < n; i++) {
+				ph.add (sorted[i]);
+				while (ph.hasThree() && ph.areLastThreeNonRight()) {
+					ph.removeMiddleOfLastThree();
+				}
+			}
+			return ph.getPoints();
+		}
+
+		/** Determine if point is strictly inside hull. */
+		boolean contains (IPoint p) {
+			if (upper.length < 2) { return false; }
+
+			// strictly between leftmost and rightmost, below upper and above lower.
+			double x = p.getX();
+			if (FloatingPoint.value (x - upper[0].getX()) <= 0) { return false; }
+			if (FloatingPoint.value (x - upper[upper.length-1].getX()) >= 0) { return false; }
+			return strictlyRight (upper, p, +1) && strictlyRight (lower, p, -1);
+		}
+
+		/**
+		 * Determine if p is strictly to the right of the edge of the partial
+		 * hull, sorted in ascending (dir=+1) or descending (dir=-1) order, that
+		 * spans its x-coordinate.
+		 */
+		static boolean strictlyRight (IPoint[] chain, IPoint p, int dir) {
+			double x = p.getX();
+
+			// last point whose x-coordinate does not pass that of p.
+			int lo = 0, hi = chain.length - 1;
+			while (hi - lo > 1) {
+				int mid = (lo + hi) >>> 1;
+				if (dir * (chain[mid].getX() - x) <= 0) {
+					lo = mid;
+				} else {
+					hi = mid;
+				}
+			}
+
+			IPoint a = chain[lo];
+			IPoint b = chain[hi];
+			double val1 = (b.getX() - a.getX())*(p.getY() - a.getY());
+			double val2 = (b.getY() - a.getY())*(p.getX() - a.getX());
+			return FloatingPoint.value (val1 - val2) < 0;
+		}
+
+		/** Return number of points in partial hulls, not counting shared end points twice. */
+		int size() {
+			if (upper.length < 2) { return upper.length; }
+			return upper.length + lower.length - 2;
+		}
+
+		/** Return hull points, starting from leftmost, upper hull followed by lower. */
+		IPoint[] toArray() {
+			if (upper.length < 2) { return upper.clone(); }
+			IPoint[] hull = new IPoint[size()];
+			System.arraycopy (upper, 0, hull, 0, upper.length);
+			System.arraycopy (lower, 1, hull, upper.length, lower.length-2);
+			return hull;
+		}
+	}
+}
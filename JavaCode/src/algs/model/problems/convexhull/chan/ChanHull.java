@@ -0,0 +1,386 @@
+package algs.model.problems.convexhull.chan;
+
+import java.util.Arrays;
+
+import algs.model.FloatingPoint;
+import algs.model.IPoint;
+import algs.model.problems.convexhull.IConvexHull;
+import algs.model.problems.convexhull.PartialHull;
+import algs.model.twod.TwoDPoint;
+
+/**
+ * Computes Convex Hull following Chan's Algorithm, whose O(n log h) performance
+ * depends upon the number of points h on the hull.
+ * <p>
+ * Guessing that the hull has no more than m points, the points are divided
+ * into groups of m, and the hull of each group is computed using Andrew's
+ * algorithm in O(m log m). Starting from the leftmost point, the hull is then
+ * "wrapped" as with Jarvis March: each step locates the point of each group
+ * that is tangent to the hull from the current point using binary search in
+ * O(log m), and the best of these becomes the next point. If the hull is not
+ * wrapped within m steps, the guess is squared and the process repeats.
+ * <p>
+ * All computations take place on arrays of the coordinates, accessed by index,
+ * and {@link #compute(double[], double[])} accepts the coordinates directly.
+ * The resulting hull is identical to that computed by
+ * {@link algs.model.problems.convexhull.andrew.ConvexHullScan}.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class ChanHull implements IConvexHull {
+
+	/** Groups no larger than this always search for their tangent point in turn. */
+	static final int LINEAR = 3;
+
+	/**
+	 * Use Chan's algorithm to return the computed convex hull for
+	 * the input set of points.
+	 * <p>
+	 * Points must have at least three points to do anything meaningful. If
+	 * it does not, then the sorted array is returned as the "hull".
+	 * <p>
+	 * This algorithm will still work if duplicate points are found in
+	 * the input set of points.
+	 *
+	 * @param points     a set of (n &ge; 3) two dimensional points.
+	 */
+	public IPoint[] compute (IPoint[] points) {
+		int n = points.length;
+		if (n < 3) {
+			Arrays.sort (points, IPoint.xy_sorter);
+			return points;
+		}
+
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = points[i].getX();
+			ys[i] = points[i].getY();
+		}
+
+		int[] idx = computeIndices (xs, ys);
+		IPoint[] hull = new IPoint[idx.length];
+		for (int i = 0; i < idx.length; i++) {
+			hull[i] = points[idx[i]];
+		}
+		return hull;
+	}
+
+	/**
+	 * Use Chan's algorithm to return the computed convex hull for the points
+	 * whose coordinates are stored in xs and ys, constructing only those
+	 * points on the hull.
+	 *
+	 * @param xs         x-coordinates of (n &ge; 3) two dimensional points.
+	 * @param ys         y-coordinates of the points.
+	 */
+	public IPoint[] compute (double[] xs, double[] ys) {
+		if (xs.length < 3) {
+			return IConvexHull.super.compute (xs, ys);
+		}
+
+		int[] idx = computeIndices (xs, ys);
+		IPoint[] hull = new IPoint[idx.length];
+		for (int i = 0; i < idx.length; i++) {
+			hull[i] = new TwoDPoint (xs[idx[i]], ys[idx[i]]);
+		}
+		return hull;
+	}
+
+	/**
+	 * Return indices of the points on the convex hull of the (n &ge; 3) points
+	 * whose coordinates are stored in xs and ys, in clockwise order starting
+	 * from the leftmost point (the lowest one, if there are several).
+	 *
+	 * @param xs         x-coordinates of (n &ge; 3) two dimensional points.
+	 * @param ys         y-coordinates of the points.
+	 * @return           indices of points on the hull.
+	 */
+	public int[] computeIndices (double[] xs, double[] ys) {
+		int n = xs.length;
+		int[] sorted = new int[n];
+		int[] groups = new int[n];
+		for (int t = 1; ; t++) {
+			// m = 2^(2^t), but never more than n.
+			int m = (int) Math.min (n, 1L << Math.min (62, 1 << t));
+			int numGroups = (n + m - 1) / m;
+			int[] sizes = new int[numGroups];
+			int[] chain = new int[2*m + 1];
+			for (int g = 0; g < numGroups; g++) {
+				sizes[g] = groupHull (xs, ys, g*m, Math.min (n, (g+1)*m), sorted, chain, groups);
+			}
+
+			int[] hull = new Wrap (xs, ys, groups, sizes, m).wrap();
+			if (hull != null) { return hull; }
+		}
+	}
+
+	/**
+	 * Compute hull of points [lo, hi) using Andrew's algorithm, storing indices
+	 * of its points in groups[lo, lo+size) in clockwise order, starting from
+	 * the leftmost point. Return size.
+	 */
+	static int groupHull (double[] xs, double[] ys, int lo, int hi, int[] sorted, int[] chain, int[] groups) {
+		for (int i = lo; i < hi; i++) { sorted[i] = i; }
+		sort (xs, ys, sorted, lo, hi-1);
+		if (hi - lo < 2) {
+			groups[lo] = sorted[lo];
+			return 1;
+		}
+
+		// upper hull from left to right, followed by lower hull from right to left.
+		int size = 0;
+		for (int i = lo; i < hi; i++) {
+			while (size >= 2 && PartialHull.nonRight (xs, ys, chain[size-2], chain[size-1], sorted[i])) { size--; }
+			chain[size++] = sorted[i];
+		}
+		int upper = size + 1;
+		for (int i = hi-2; i >= lo; i--) {
+			while (size >= upper && PartialHull.nonRight (xs, ys, chain[size-2], chain[size-1], sorted[i])) { size--; }
+			chain[size++] = sorted[i];
+		}
+
+		// lower hull ends with leftmost point, which is already first.
+		System.arraycopy (chain, 0, groups, lo, size-1);
+		return size-1;
+	}
+
+	/**
+	 * Return positive value if point k is to the left of the line from (px,py)
+	 * to point j, negative if to the right, and 0 if they are collinear.
+	 */
+	static double orient (double[] xs, double[] ys, double px, double py, int j, int k) {
+		double val1 = (xs[j] - px)*(ys[k] - py);
+		double val2 = (ys[j] - py)*(xs[k] - px);
+		return FloatingPoint.value (val1 - val2);
+	}
+
+	/** Compare points i and j by x-coordinate (and if ==, by y-coordinate). */
+	static int compare (double[] xs, double[] ys, int i, int j) {
+		double fp = FloatingPoint.value (xs[i] - xs[j]);
+		if (fp == 0) { fp = FloatingPoint.value (ys[i] - ys[j]); }
+		return fp < 0 ? -1 : (fp > 0 ? +1 : 0);
+	}
+
+	/** Sort indices in a[left, right] by the points they refer to. */
+	static void sort (double[] xs, double[] ys, int[] a, int left, int right) {
+		while (right - left > 16) {
+			// median of three as pivot.
+			int mid = (left + right) >>> 1;
+			if (compare (xs, ys, a[mid], a[left]) < 0) { swap (a, mid, left); }
+			if (compare (xs, ys, a[right], a[left]) < 0) { swap (a, right, left); }
+			if (compare (xs, ys, a[right], a[mid]) < 0) { swap (a, right, mid); }
+			int pivot = a[mid];
+
+			int i = left, j = right;
+			while (i <= j) {
+				while (compare (xs, ys, a[i], pivot) < 0) { i++; }
+				while (compare (xs, ys, a[j], pivot) > 0) { j--; }
+				if (i <= j) { swap (a, i++, j--); }
+			}
+
+			// recurse on smaller side to bound stack depth.
+			if (j - left < right - i) {
+				sort (xs, ys, a, left, j);
+				left = i;
+			} else {
+				sort (xs, ys, a, i, right);
+				right = j;
+			}
+		}
+
+		for (int i = left+1; i <= right; i++) {
+			int v = a[i];
+			int j = i-1;
+			while (j >= left && compare (xs, ys, a[j], v) > 0) {
+				a[j+1] = a[j];
+				j--;
+			}
+			a[j+1] = v;
+		}
+	}
+
+	/** Swap entries in array. */
+	static void swap (int[] a, int i, int j) {
+		int tmp = a[i];
+		a[i] = a[j];
+		a[j] = tmp;
+	}
+
+	/** Wrap the hull, one step at a time, using the hulls of the groups. */
+	static class Wrap {
+		final double[] xs;
+		final double[] ys;
+		final int[] groups;
+		final int[] sizes;
+		final int m;
+
+		/** Current point on hull. */
+		double px;
+		double py;
+
+		Wrap (double[] xs, double[] ys, int[] groups, int[] sizes, int m) {
+			this.xs = xs;
+			this.ys = ys;
+			this.groups = groups;
+			this.sizes = sizes;
+			this.m = m;
+		}
+
+		/** Return indices of hull if it can be wrapped in m steps; otherwise null. */
+		int[] wrap() {
+			// leftmost point of the group hulls is first on hull.
+			int group = 0;
+			for (int g = 1; g < sizes.length; g++) {
+				if (compare (xs, ys, groups[g*m], groups[group*m]) < 0) { group = g; }
+			}
+			int pos = 0;
+			int first = groups[group*m];
+
+			int[] hull = new int[m];
+			for (int step = 0; step < m; step++) {
+				int p = groups[group*m + pos];
+				hull[step] = p;
+				px = xs[p];
+				py = ys[p];
+
+				int best = -1, bestGroup = -1, bestPos = -1;
+				for (int g = 0; g < sizes.length; g++) {
+					int q;
+					if (g == group) {
+						// next point on own hull, clockwise.
+						q = (sizes[g] == 1) ? -1 : (pos + 1) % sizes[g];
+					} else {
+						q = tangent (g*m, sizes[g]);
+					}
+					if (q < 0) { continue; }
+
+					int cand = groups[g*m + q];
+					if (isCurrent (cand)) { continue; }
+					if (best < 0 || better (best, cand)) {
+						best = cand;
+						bestGroup = g;
+						bestPos = q;
+					}
+				}
+
+				// done once back to the start (or when all points are the same).
+				if (best < 0 || compare (xs, ys, best, first) == 0) {
+					return Arrays.copyOf (hull, step+1);
+				}
+				group = bestGroup;
+				pos = bestPos;
+			}
+			return null;
+		}
+
+		/**
+		 * Determine if point j is to the left of the line from the current
+		 * point to point i, or else collinear and farther away.
+		 */
+		boolean better (int i, int j) {
+			double o = orient (xs, ys, px, py, i, j);
+			if (o != 0) { return o > 0; }
+			return dist (j) > dist (i);
+		}
+
+		/** Squared distance from current point. */
+		double dist (int i) {
+			double dx = xs[i] - px;
+			double dy = ys[i] - py;
+			return dx*dx + dy*dy;
+		}
+
+		/** Determine if point is the current point. */
+		boolean isCurrent (int i) {
+			return FloatingPoint.value (xs[i] - px) == 0 && FloatingPoint.value (ys[i] - py) == 0;
+		}
+
+		/** Point at position i (cyclically) of group hull stored from base. */
+		int at (int base, int size, int i) {
+			return groups[base + ((i % size) + size) % size];
+		}
+
+		/**
+		 * Return position within the group hull of size points stored from base
+		 * of its point tangent to the hull from the current point, so all of the
+		 * group's points are on or to the right of the line to it; -1 if all
+		 * of its points are the current point.
+		 * <p>
+		 * Since the current point is outside the group hull, the angle at which
+		 * its points are seen rises to a maximum and then falls as the group
+		 * hull is traversed; binary search locates this maximum.
+		 */
+		int tangent (int base, int size) {
+			if (size <= LINEAR) { return linear (base, size); }
+
+			int c = -1;
+			if (!rises (base, size, 0, 1) && !rises (base, size, 0, -1)) {
+				c = 0;
+			} else {
+				// maximum is within [lo, hi], where position size is also position 0.
+				int lo = 0, hi = size;
+				while (hi - lo > 1) {
+					int mid = (lo + hi) >>> 1;
+					boolean upMid = rises (base, size, mid, mid+1);
+					if (!upMid && !rises (base, size, mid, mid-1)) {
+						c = mid;
+						break;
+					}
+
+					if (rises (base, size, lo, lo+1)) {
+						if (!upMid || rises (base, size, mid, lo)) {
+							hi = mid;
+						} else {
+							lo = mid;
+						}
+					} else {
+						if (!upMid && rises (base, size, lo, mid)) {
+							hi = mid;
+						} else {
+							lo = mid;
+						}
+					}
+				}
+				if (c < 0) {
+					c = rises (base, size, lo, hi) ? hi % size : lo;
+				}
+			}
+
+			// degenerate cases (such as duplicates of current point) fail to confirm.
+			int q = at (base, size, c);
+			if (isCurrent (q) || rises (base, size, c, c-1) || rises (base, size, c, c+1)) {
+				return linear (base, size);
+			}
+
+			// a neighbor could be collinear with, and farther than, the tangent point.
+			int best = c;
+			for (int d = -1; d <= 1; d += 2) {
+				if (better (at (base, size, best), at (base, size, c+d))) {
+					best = (c + d + size) % size;
+				}
+			}
+			return best;
+		}
+
+		/** Determine if the angle at which point at position j is seen exceeds that of position i. */
+		boolean rises (int base, int size, int i, int j) {
+			return orient (xs, ys, px, py, at (base, size, i), at (base, size, j)) > 0;
+		}
+
+		/** Consider each point of group hull in turn to find tangent point. */
+		int linear (int base, int size) {
+			int best = -1;
+			for (int i = 0; i < size; i++) {
+				int q = groups[base + i];
+				if (isCurrent (q)) { continue; }
+				if (best < 0 || better (groups[base + best], q)) {
+					best = i;
+				}
+			}
+			return best;
+		}
+	}
+}
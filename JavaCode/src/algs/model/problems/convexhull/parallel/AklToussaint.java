@@ -42,7 +42,7 @@ public class AklToussaint {
 	 * @param y4    segment s2 end
 	 * @return      1 if there is an intersection, 0 otherwise
 	 */
-	public static synchronized int intersect (double x1, double y1, double x2, double y2,
+	public static int intersect (double x1, double y1, double x2, double y2,
 			double x3, double y3, double x4, double y4) {
 		double denom = (y4 - y3)*(x2 - x1)-(x4 - x3)*(y2 - y1);
 		
@@ -0,0 +1,280 @@
+package algs.model.problems.convexhull.parallel;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import algs.model.FloatingPoint;
+import algs.model.IPoint;
+import algs.model.problems.convexhull.IConvexHull;
+
+/**
+ * Data-parallel Akl-Toussaint heuristic that discards points which cannot be on
+ * the convex hull before handing the remaining points to any {@link IConvexHull}.
+ * <p>
+ * Rather than the quadrilateral formed by the extreme points along the x and y
+ * axes, this filter finds the extreme points in 2k directions spaced evenly
+ * around the circle (k=4, the default, forms an octagon) and discards every
+ * point lying strictly inside the convex polygon they form. Since that
+ * polygon lies within the convex hull, none of the discarded points can be on
+ * the hull; a larger k encloses more of the hull and so discards more points.
+ * <p>
+ * The work is divided into chunks of the coordinate arrays, one for each
+ * worker, which are processed in parallel on a fork/join pool: first to locate
+ * the extreme points of each chunk, then to test each point of the chunk
+ * against the polygon. Workers share no mutable state; each writes the indices
+ * of the points it keeps into its own region of a preallocated array, and the
+ * regions are then compacted.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class AklToussaintFilter implements IConvexHull {
+
+	/** Default number of directions, half of which form the polygon sides (an octagon). */
+	public static final int DEFAULT_K = 4;
+
+	/** Algorithm which computes hull of the points that remain. */
+	final IConvexHull hull;
+
+	/** Pool to use. */
+	final ForkJoinPool pool;
+
+	/** Number of chunks processed in parallel. */
+	final int numWorkers;
+
+	/** Directions, in counter-clockwise order, of the extreme points. */
+	final double[] dx;
+	final double[] dy;
+
+	/**
+	 * Filter points using an octagon, divided among the threads of the
+	 * common pool, before computing their hull.
+	 *
+	 * @param hull    algorithm to compute hull of points that remain
+	 */
+	public AklToussaintFilter (IConvexHull hull) {
+		this (hull, ForkJoinPool.commonPool(), ForkJoinPool.commonPool().getParallelism(), DEFAULT_K);
+	}
+
+	/**
+	 * Filter points using a polygon of (up to) 2k sides before computing their hull.
+	 *
+	 * @param hull         algorithm to compute hull of points that remain
+	 * @param pool         pool whose threads filter the points
+	 * @param numWorkers   number of chunks into which points are divided
+	 * @param k            2k extreme points form the polygon
+	 * @exception IllegalArgumentException if numWorkers &lt; 1 or k &lt; 2
+	 */
+	public AklToussaintFilter (IConvexHull hull, ForkJoinPool pool, int numWorkers, int k) {
+		if (numWorkers < 1) {
+			throw new IllegalArgumentException ("There must be at least one worker.");
+		}
+		if (k < 2) {
+			throw new IllegalArgumentException ("At least four extreme points are needed.");
+		}
+		this.hull = hull;
+		this.pool = pool;
+		this.numWorkers = numWorkers;
+
+		dx = new double[2*k];
+		dy = new double[2*k];
+		for (int j = 0; j < 2*k; j++) {
+			dx[j] = FloatingPoint.value (Math.cos (Math.PI * j / k));
+			dy[j] = FloatingPoint.value (Math.sin (Math.PI * j / k));
+		}
+	}
+
+	/**
+	 * Compute the convex hull of those points which remain once the points
+	 * within the polygon of extreme points are discarded.
+	 *
+	 * @param points     a set of (n &ge; 3) two dimensional points.
+	 */
+	public IPoint[] compute (IPoint[] points) {
+		int n = points.length;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = points[i].getX();
+			ys[i] = points[i].getY();
+		}
+
+		int[] keep = new int[n];
+		int m = filter (xs, ys, n, keep);
+		IPoint[] reduced = new IPoint[m];
+		for (int i = 0; i < m; i++) {
+			reduced[i] = points[keep[i]];
+		}
+		return hull.compute (reduced);
+	}
+
+	/**
+	 * Determine which of the n points (xs[i], ys[i]) could be on the convex
+	 * hull, storing their indices, in increasing order, in out.
+	 *
+	 * @param xs    x-coordinates of points
+	 * @param ys    y-coordinates of points
+	 * @param n     number of points
+	 * @param out   array of at least n elements to receive indices of points not discarded
+	 * @return      number of indices stored in out
+	 */
+	public int filter (double[] xs, double[] ys, int n, int[] out) {
+		if (n == 0) { return 0; }
+
+		int numChunks = Math.min (numWorkers, n);
+		Chunk[] chunks = new Chunk[numChunks];
+		for (int c = 0; c < numChunks; c++) {
+			chunks[c] = new Chunk (xs, ys, (int) ((long) n*c/numChunks), (int) ((long) n*(c+1)/numChunks), out);
+		}
+
+		// extreme point in each direction, favoring the lowest index on ties.
+		pool.invoke (new Phase (chunks));
+		int dirs = dx.length;
+		int[] extreme = new int[dirs];
+		for (int j = 0; j < dirs; j++) {
+			int best = chunks[0].extreme[j];
+			for (int c = 1; c < numChunks; c++) {
+				int e = chunks[c].extreme[j];
+				if (xs[e]*dx[j] + ys[e]*dy[j] > xs[best]*dx[j] + ys[best]*dy[j]) { best = e; }
+			}
+			extreme[j] = best;
+		}
+
+		// counter-clockwise polygon, without repeated vertices.
+		double[] px = new double[dirs];
+		double[] py = new double[dirs];
+		int sides = 0;
+		for (int j = 0; j < dirs; j++) {
+			int e = extreme[j];
+			if (sides > 0 && px[sides-1] == xs[e] && py[sides-1] == ys[e]) { continue; }
+			px[sides] = xs[e];
+			py[sides] = ys[e];
+			sides++;
+		}
+		while (sides > 1 && px[sides-1] == px[0] && py[sides-1] == py[0]) { sides--; }
+
+		if (sides < 3) {
+			// polygon has no interior, so every point remains.
+			for (int i = 0; i < n; i++) { out[i] = i; }
+			return n;
+		}
+
+		for (Chunk c : chunks) { c.setPolygon (px, py, sides); }
+		pool.invoke (new Phase (chunks));
+
+		// compact the regions of out, in order.
+		int m = 0;
+		for (Chunk c : chunks) {
+			System.arraycopy (out, c.lo, out, m, c.count);
+			m += c.count;
+		}
+		return m;
+	}
+
+	/** Process all chunks in parallel. */
+	static class Phase extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		final Chunk[] chunks;
+
+		Phase (Chunk[] chunks) {
+			this.chunks = chunks;
+		}
+
+		@Override
+		protected void compute() {
+			invokeAll (chunks);
+		}
+	}
+
+	/**
+	 * Points [lo, hi) of the arrays: when first invoked, locate the extreme
+	 * points of the chunk; once the polygon is set, store the indices of points
+	 * not strictly within it in out[lo, lo+count).
+	 */
+	class Chunk extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		final double[] xs;
+		final double[] ys;
+		final int lo;
+		final int hi;
+		final int[] out;
+
+		/** Index of extreme point of chunk in each direction. */
+		final int[] extreme = new int[dx.length];
+
+		/** Polygon against which points are tested. */
+		double[] px;
+		double[] py;
+		int sides;
+
+		/** Number of indices stored. */
+		int count;
+
+		Chunk (double[] xs, double[] ys, int lo, int hi, int[] out) {
+			this.xs = xs;
+			this.ys = ys;
+			this.lo = lo;
+			this.hi = hi;
+			this.out = out;
+		}
+
+		/** Prepare to test points against the given polygon. */
+		void setPolygon (double[] px, double[] py, int sides) {
+			this.px = px;
+			this.py = py;
+			this.sides = sides;
+			reinitialize();
+		}
+
+		@Override
+		protected void compute() {
+			if (px == null) {
+				findExtremes();
+			} else {
+				discard();
+			}
+		}
+
+		/** Locate extreme point in each direction. */
+		void findExtremes() {
+			int dirs = dx.length;
+			double[] best = new double[dirs];
+			for (int j = 0; j < dirs; j++) {
+				extreme[j] = lo;
+				best[j] = xs[lo]*dx[j] + ys[lo]*dy[j];
+			}
+			for (int i = lo+1; i < hi; i++) {
+				for (int j = 0; j < dirs; j++) {
+					double v = xs[i]*dx[j] + ys[i]*dy[j];
+					if (v > best[j]) {
+						best[j] = v;
+						extreme[j] = i;
+					}
+				}
+			}
+		}
+
+		/** Store indices of those points which are not strictly inside polygon. */
+		void discard() {
+			int idx = lo;
+			for (int i = lo; i < hi; i++) {
+				double x = xs[i];
+				double y = ys[i];
+				boolean inside = true;
+				for (int s = 0, t = sides-1; s < sides; t = s++) {
+					// points on the boundary or to the right of any edge may be on hull.
+					double cross = (px[s] - px[t])*(y - py[t]) - (py[s] - py[t])*(x - px[t]);
+					if (FloatingPoint.value (cross) <= 0) {
+						inside = false;
+						break;
+					}
+				}
+				if (!inside) { out[idx++] = i; }
+			}
+			count = idx - lo;
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package algs.model.problems.convexhull.parallel;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import algs.model.FloatingPoint;
+import algs.model.IPoint;
+import algs.model.problems.convexhull.IConvexHull;
+import algs.model.problems.convexhull.PartialHull;
+
+/**
+ * Computes Convex Hull following Andrew's Algorithm using divide and conquer
+ * on a fork/join pool, which scales to as many threads as the pool offers.
+ * <p>
+ * Once the points are sorted with
+ * {@link Arrays#parallelSort(Object[], java.util.Comparator)} they are split
+ * into strips of consecutive points, several for each thread of the pool. The
+ * upper and lower partial hulls of each strip are computed independently
+ * using Andrew's scan over primitive arrays of the coordinates. Adjacent
+ * strips are merged, in parallel as the recursion unwinds, by scanning the
+ * partial hull of the left strip followed by that of the right: since each is
+ * already convex, points are only ever removed at their junction, which
+ * locates the common tangent (the "bridge") of the two partial hulls in time
+ * proportional to the number of points it discards.
+ * <p>
+ * Since the sort is invoked from a task of the pool, its subtasks run on the
+ * worker threads of that pool. However, Arrays.parallelSort decides how finely
+ * to divide the sort (and whether to sort sequentially instead) from the
+ * parallelism of the common pool, not that of the given pool.
+ * <p>
+ * The resulting hull is the same as that computed by
+ * {@link algs.model.problems.convexhull.andrew.ConvexHullScan}, up to the
+ * tolerance of {@link FloatingPoint}.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class ForkJoinHull implements IConvexHull {
+
+	/** Number of strips for each thread of the pool, to balance the load. */
+	public static final int STRIPS_PER_THREAD = 4;
+
+	/** Strips are never smaller than this. */
+	static final int MIN_STRIP = 1024;
+
+	/** Pool to use. */
+	final ForkJoinPool pool;
+
+	/** Construct to use the common pool. */
+	public ForkJoinHull () {
+		this (ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Construct to use the given pool.
+	 * @param pool   pool whose worker threads sort and compute strips.
+	 */
+	public ForkJoinHull (ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Use Andrew's algorithm to return the computed convex hull for
+	 * the input set of points using the fork/join pool.
+	 * <p>
+	 * Points must have at least three points to do anything meaningful. If
+	 * it does not, then the sorted array is returned as the "hull".
+	 * <p>
+	 * This algorithm will still work if duplicate points are found in
+	 * the input set of points.
+	 *
+	 * @param points     a set of (n &ge; 3) two dimensional points.
+	 */
+	public IPoint[] compute (IPoint[] points) {
+		return pool.invoke (new Hull (points, pool.getParallelism() * STRIPS_PER_THREAD));
+	}
+
+	/** Sort points and compute hull from the partial hulls of strips. */
+	static class Hull extends RecursiveTask<IPoint[]> {
+		private static final long serialVersionUID = 1L;
+
+		final IPoint[] points;
+		final int numStrips;
+
+		Hull (IPoint[] points, int numStrips) {
+			this.points = points;
+			this.numStrips = numStrips;
+		}
+
+		@Override
+		protected IPoint[] compute() {
+			// sort by x-coordinate (and if ==, by y-coordinate) on workers of this pool.
+			int n = points.length;
+			Arrays.parallelSort (points, IPoint.xy_sorter);
+			if (n < 3) { return points; }
+
+			double[] xs = new double[n];
+			double[] ys = new double[n];
+			for (int i = 0; i < n; i++) {
+				xs[i] = points[i].getX();
+				ys[i] = points[i].getY();
+			}
+
+			int stripSize = Math.max (MIN_STRIP, (n + numStrips - 1) / numStrips);
+			Chains c = new Strip (xs, ys, 0, n, stripSize).compute();
+
+			// lower begins with last point of upper and ends with its first.
+			IPoint[] hull = new IPoint[c.upperSize + c.lowerSize - 2];
+			for (int i = 0; i < c.upperSize; i++) {
+				hull[i] = points[c.upper[i]];
+			}
+			for (int i = 1; i < c.lowerSize-1; i++) {
+				hull[c.upperSize+i-1] = points[c.lower[i]];
+			}
+			return hull;
+		}
+	}
+
+	/**
+	 * Upper partial hull (left to right) and lower partial hull (right to left)
+	 * of a strip, as indices into the sorted points.
+	 */
+	static class Chains {
+		int[] upper;
+		int upperSize;
+		int[] lower;
+		int lowerSize;
+	}
+
+	/** Compute the partial hulls of points [lo, hi), dividing larger strips in two. */
+	static class Strip extends RecursiveTask<Chains> {
+		private static final long serialVersionUID = 1L;
+
+		final double[] xs;
+		final double[] ys;
+		final int lo;
+		final int hi;
+		final int stripSize;
+
+		Strip (double[] xs, double[] ys, int lo, int hi, int stripSize) {
+			this.xs = xs;
+			this.ys = ys;
+			this.lo = lo;
+			this.hi = hi;
+			this.stripSize = stripSize;
+		}
+
+		@Override
+		protected Chains compute() {
+			Chains c = new Chains();
+			if (hi - lo <= stripSize) {
+				int[] order = new int[hi - lo];
+				for (int i = 0; i < order.length; i++) { order[i] = lo+i; }
+				c.upper = new int[order.length];
+				c.upperSize = scan (order, order.length, c.upper, 0);
+				for (int i = 0; i < order.length; i++) { order[i] = hi-1-i; }
+				c.lower = new int[order.length];
+				c.lowerSize = scan (order, order.length, c.lower, 0);
+				return c;
+			}
+
+			int mid = (lo + hi) >>> 1;
+			Strip left = new Strip (xs, ys, lo, mid, stripSize);
+			Strip right = new Strip (xs, ys, mid, hi, stripSize);
+			right.fork();
+			Chains lc = left.compute();
+			Chains rc = right.join();
+
+			// upper continues left to right; lower continues right to left.
+			c.upper = new int[lc.upperSize + rc.upperSize];
+			System.arraycopy (lc.upper, 0, c.upper, 0, lc.upperSize);
+			c.upperSize = scan (rc.upper, rc.upperSize, c.upper, lc.upperSize);
+			c.lower = new int[rc.lowerSize + lc.lowerSize];
+			System.arraycopy (rc.lower, 0, c.lower, 0, rc.lowerSize);
+			c.lowerSize = scan (lc.lower, lc.lowerSize, c.lower, rc.lowerSize);
+			return c;
+		}
+
+		/**
+		 * Continue Andrew's scan over chain, whose first size entries are a
+		 * partial hull, with the first num entries of order. Return new size.
+		 */
+		int scan (int[] order, int num, int[] chain, int size) {
+			for (int k = 0; k < num; k++) {
+				int p = order[k];
+				while (size >= 2 && PartialHull.nonRight (xs, ys, chain[size-2], chain[size-1], p)) {
+					size--;
+				}
+				chain[size++] = p;
+			}
+			return size;
+		}
+
+	}
+}
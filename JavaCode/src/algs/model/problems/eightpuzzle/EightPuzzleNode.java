@@ -3,6 +3,7 @@ package algs.model.problems.eightpuzzle;
 import algs.model.list.DoubleLinkedList;
 import algs.model.searchtree.IMove;
 import algs.model.searchtree.INode;
+import algs.model.searchtree.IPackedNode;
 
 /**
  * Represents a node in the Eight-Puzzle space.
@@ -21,7 +22,7 @@ import algs.model.searchtree.INode;
  * @version 1.0, 6/15/08
  * @since 1.0
  */
-public class EightPuzzleNode implements INode, Comparable<EightPuzzleNode> {
+public class EightPuzzleNode implements IPackedNode, Comparable<EightPuzzleNode> {
 	/** State is going to be a two-D array of ints. */
 	int [][] board = new int[3][3];
 	
@@ -61,6 +62,12 @@ public class EightPuzzleNode implements INode, Comparable<EightPuzzleNode> {
 	 */
 	public static boolean debug = false;
 	
+	/** LEFT, UP, RIGHT, DOWN offsets of tiles that can slide into the empty square. */
+	static final int[][] slides = { { +1, 0}, {0, -1}, {-1, 0}, {0, 1}};
+	
+	/** Constructor for materializing a packed state (into default board) without validation. */
+	private EightPuzzleNode () { }
+	
 	/** 
 	 * Return a copy of the game state.
 	 *
@@ -185,11 +192,13 @@ public class EightPuzzleNode implements INode, Comparable<EightPuzzleNode> {
 	}
 
 	/**
-	 * Define the hashcode to be based on the key()
+	 * Define the hashcode to be based on the packed() state, which is 
+	 * consistent with equals and requires no allocation.
 	 */
 	@Override
 	public int hashCode() { 
-		return key().hashCode();
+		long p = packed();
+		return (int) (p ^ (p >>> 32));
 	}
 	
 	/**
@@ -268,6 +277,97 @@ public class EightPuzzleNode implements INode, Comparable<EightPuzzleNode> {
 		return list;
 	}
 
+	/**
+	 * Return the encoding of this state, storing the tile in cell[r][c] in
+	 * the four bits starting at bit 4*(r*(MaxC+1)+c).
+	 */
+	public long packed() {
+		long p = 0;
+		int i = 0;
+		for (int r = 0; r <= MaxR; r++) {
+			for (int c = 0; c <= MaxC; c++, i += 4) {
+				p |= ((long) board[r][c]) << i;
+			}
+		}
+		return p;
+	}
+
+	/**
+	 * Return contents of cell[r][c] within a packed state.
+	 * 
+	 * @param state   packed state as returned by {@link #packed()}
+	 * @param r       desired row
+	 * @param c       desired column
+	 * @return        contents of cell[r][c]
+	 */
+	public static int cell(long state, int r, int c) {
+		return (int) (state >>> (4*(r*(MaxC+1)+c))) & 0xF;
+	}
+
+	/** At most four tiles can slide into the empty square. */
+	public int maxSuccessors() {
+		return 4;
+	}
+
+	/**
+	 * Compute packed successor states, in the order of {@link #validMoves()}.
+	 * Since the empty square is zero, sliding tile t from cell n into the empty 
+	 * cell b simply toggles t into both positions.
+	 */
+	public int successors(long[] keys) {
+		long p = packed();
+		int w = MaxC+1;
+		int b = 0;
+		while (((p >>> (4*b)) & 0xF) != EmptyMark) { b++; }
+		int br = b / w, bc = b % w;
+		
+		int count = 0;
+		for (int i = 0; i < slides.length; i++) {
+			int r = br + slides[i][0];
+			int c = bc + slides[i][1];
+			
+			if (0 <= r && r <= MaxR && 0 <= c && c <= MaxC) {
+				int n = r*w + c;
+				long t = (p >>> (4*n)) & 0xF;
+				keys[count++] = p ^ (t << (4*b)) ^ (t << (4*n));
+			}
+		}
+		return count;
+	}
+
+	/** Materialize node for the packed state. */
+	public EightPuzzleNode unpack(long key) {
+		EightPuzzleNode node = new EightPuzzleNode();
+		for (int r = 0; r <= MaxR; r++) {
+			for (int c = 0; c <= MaxC; c++) {
+				node.board[r][c] = cell(key, r, c);
+			}
+		}
+		return node;
+	}
+
+	/** 
+	 * Return the move that slides a tile into the empty square to produce 
+	 * the given packed successor state.
+	 */
+	public IMove moveTo(long key) {
+		int br = -1, bc = -1, nr = -1, nc = -1;
+		for (int r = 0; r <= MaxR; r++) {
+			for (int c = 0; c <= MaxC; c++) {
+				if (board[r][c] == EmptyMark) {
+					br = r;
+					bc = c;
+				}
+				if (cell(key, r, c) == EmptyMark) {
+					nr = r;
+					nc = c;
+				}
+			}
+		}
+		
+		return new SlideMove (board[nr][nc], nr, nc, br, bc);
+	}
+
 	/** 
 	 * Return contents of cell[r][c].
 	 * 
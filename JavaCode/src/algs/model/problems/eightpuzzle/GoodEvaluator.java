@@ -2,7 +2,7 @@ package algs.model.problems.eightpuzzle;
 
 import algs.model.searchtree.DepthTransition;
 import algs.model.searchtree.INode;
-import algs.model.searchtree.IScore;
+import algs.model.searchtree.IPackedScore;
 
 /**
  * Better evaluation function, as drawn from Nilsson, p. 66.
@@ -20,7 +20,7 @@ import algs.model.searchtree.IScore;
  * @version 1.0, 6/15/08
  * @since 1.0
  */
-public class GoodEvaluator implements IScore {
+public class GoodEvaluator implements IPackedScore {
 	/** Known goal state. */
 	static EightPuzzleNode goal = new EightPuzzleNode(new int[][]{
 			{1,2,3},{8,0,4},{7,6,5}
@@ -97,15 +97,31 @@ public class GoodEvaluator implements IScore {
 	 * @return        integer evaluation.
 	 */
 	public int eval(INode state) {
-		EightPuzzleNode node = (EightPuzzleNode) state;
+		// compute g^(n)
+		int gn = 0;
+		DepthTransition t = (DepthTransition) state.storedData();
+		if (t != null) { gn = t.depth; }
 		
+		return eval (((EightPuzzleNode) state).packed(), gn);
+	}
+	
+	/**
+	 * Compute f^(n) = g^(n) + h^(n) directly from the packed state, where g^(n)
+	 * is the given depth.
+	 * 
+	 * @see algs.model.searchtree.IPackedScore#eval(long, int)
+	 * @param state   packed state being evaluated
+	 * @param depth   number of moves from the initial state
+	 * @return        integer evaluation.
+	 */
+	public int eval(long state, int depth) {
 		// Each tile is between 0 and 4 moves away from its proper position.
 		int Pn = 0;
 		for (int r = 0; r <= EightPuzzleNode.MaxR; r++) {
 			for (int c = 0; c <= EightPuzzleNode.MaxC; c++) {
-				if (node.isEmpty(r,c)) { continue; }
+				if (EightPuzzleNode.cell(state, r, c) == EightPuzzleNode.EmptyMark) { continue; }
 				
-				int digit = node.cell(r, c);
+				int digit = EightPuzzleNode.cell(state, r, c);
 				Pn += Math.abs(diffs[digit][0] - r);
 				Pn += Math.abs(diffs[digit][1] - c);
 			}
@@ -114,7 +130,7 @@ public class GoodEvaluator implements IScore {
 		// Compute S(N) by adding 2 points for every tile not followed by its proper successor
 		// note that center tile square counts 1.
 		int Sn = 0;
-		if (!node.isEmpty(1, 1)) { Sn = 1; }
+		if (EightPuzzleNode.cell(state, 1, 1) != EightPuzzleNode.EmptyMark) { Sn = 1; }
 
 		for (int r = 0; r <= EightPuzzleNode.MaxR; r++) {
 			for (int c = 0; c <= EightPuzzleNode.MaxC; c++) {
@@ -126,25 +142,18 @@ public class GoodEvaluator implements IScore {
 				}
 				
 				// skip the empty tile.
-				if (node.cell(r,c) == EightPuzzleNode.EmptyMark) {
+				if (EightPuzzleNode.cell(state, r,c) == EightPuzzleNode.EmptyMark) {
 					continue;
 				}
 				
 				// create array to deal with successor of 8->1
-				if (succ[node.cell(r, c)] != node.cell(succs[idx][0], succs[idx][1])) {
+				if (succ[EightPuzzleNode.cell(state, r, c)] != EightPuzzleNode.cell(state, succs[idx][0], succs[idx][1])) {
 					Sn += 2;
 				}
 			}
 		}
 
-		// compute g^(n)
-		int gn = 0;
-		DepthTransition t = (DepthTransition) state.storedData();
-		if (t != null) { 
-			gn = t.depth; 
-		}
-		
-		return gn + Pn + 3*Sn;
+		return depth + Pn + 3*Sn;
 	}
 	
 	/**
@@ -2,7 +2,7 @@ package algs.model.problems.fifteenpuzzle;
 
 import algs.model.searchtree.DepthTransition;
 import algs.model.searchtree.INode;
-import algs.model.searchtree.IScore;
+import algs.model.searchtree.IPackedScore;
 
 /**
  * Better evaluation function, as inspired from Nilsson, p. 66., and applied
@@ -12,7 +12,7 @@ import algs.model.searchtree.IScore;
  * @version 1.0, 6/15/08
  * @since 1.0
  */
-public class GoodEvaluator implements IScore {
+public class GoodEvaluator implements IPackedScore {
 
 	/** Goal state for the fifteen puzzle. */
 	static FifteenPuzzleNode goal = new FifteenPuzzleNode(new int[][]{
@@ -91,15 +91,31 @@ public class GoodEvaluator implements IScore {
 	 * @param state    state being evaluated
 	 */
 	public int eval(INode state) {
-		FifteenPuzzleNode node = (FifteenPuzzleNode) state;
+		// compute g^(n)
+		int gn = 0;
+		DepthTransition t = (DepthTransition) state.storedData();
+		if (t != null) { gn = t.depth; }
 		
+		return eval (((FifteenPuzzleNode) state).packed(), gn);
+	}
+	
+	/**
+	 * Compute f^(n) = g^(n) + h^(n) directly from the packed state, where g^(n)
+	 * is the given depth.
+	 * 
+	 * @see algs.model.searchtree.IPackedScore#eval(long, int)
+	 * @param state   packed state being evaluated
+	 * @param depth   number of moves from the initial state
+	 * @return        integer evaluation.
+	 */
+	public int eval(long state, int depth) {
 		// Each tile is between 0 and 4 moves away from its proper position.
 		int Pn = 0;
 		for (int r = 0; r <= FifteenPuzzleNode.MaxR; r++) {
 			for (int c = 0; c <= FifteenPuzzleNode.MaxC; c++) {
-				if (node.isEmpty(r,c)) { continue; }
+				if (FifteenPuzzleNode.cell(state, r, c) == FifteenPuzzleNode.EmptyMark) { continue; }
 				
-				int digit = node.cell(r, c);
+				int digit = FifteenPuzzleNode.cell(state, r, c);
 				Pn += Math.abs(diffs[digit][0] - r);
 				Pn += Math.abs(diffs[digit][1] - c);
 			}
@@ -108,7 +124,7 @@ public class GoodEvaluator implements IScore {
 		// Compute S(N) by adding 2 points for every tile not followed by its proper successor
 		// note that center tile square counts 1.
 		int Sn = 0;
-		if (!node.isEmpty(1, 1)) { Sn = 1; }
+		if (FifteenPuzzleNode.cell(state, 1, 1) != FifteenPuzzleNode.EmptyMark) { Sn = 1; }
 
 		for (int r = 0; r <= FifteenPuzzleNode.MaxR; r++) {
 			for (int c = 0; c <= FifteenPuzzleNode.MaxC; c++) {
@@ -121,22 +137,17 @@ public class GoodEvaluator implements IScore {
 				}
 				
 				// skip the empty tile.
-				if (node.cell(r,c) == FifteenPuzzleNode.EmptyMark) {
+				if (FifteenPuzzleNode.cell(state, r,c) == FifteenPuzzleNode.EmptyMark) {
 					continue;
 				}
 				
 				// create array to deal with successor of 8->1
-				if (succ[node.cell(r, c)] != node.cell(succs[idx][0], succs[idx][1])) {
+				if (succ[FifteenPuzzleNode.cell(state, r, c)] != FifteenPuzzleNode.cell(state, succs[idx][0], succs[idx][1])) {
 					Sn += 2;
 				}
 			}
 		}
 
-		// compute g^(n)
-		int gn = 0;
-		DepthTransition t = (DepthTransition) state.storedData();
-		if (t != null) { gn = t.depth; }
-		
-		return gn + Pn + 4*Sn;
+		return depth + Pn + 4*Sn;
 	}
 }
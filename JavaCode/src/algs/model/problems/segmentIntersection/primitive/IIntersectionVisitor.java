@@ -0,0 +1,25 @@
+package algs.model.problems.segmentIntersection.primitive;
+
+/**
+ * Visitor of the intersections detected by {@link PrimitiveLineSweep}, which
+ * are reported as they are found rather than stored.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public interface IIntersectionVisitor {
+
+	/**
+	 * Visit an intersection point, where two or more segments meet.
+	 * <p>
+	 * The segments array is reused once this method returns, so its
+	 * contents must be copied if they are to be retained.
+	 *
+	 * @param x          x-coordinate of intersection point
+	 * @param y          y-coordinate of intersection point
+	 * @param segments   indices of segments that meet, in its first num entries
+	 * @param num        number of segments that meet
+	 */
+	void visit (double x, double y, int[] segments, int num);
+}
@@ -0,0 +1,296 @@
+package algs.model.problems.segmentIntersection.primitive;
+
+import java.util.Arrays;
+
+/**
+ * Line state of a {@link PrimitiveLineSweep}: the indices of the segments
+ * that meet the sweep line, in order of where they meet it.
+ * <p>
+ * Indices are stored in a sequence of blocks, each holding at most
+ * {@link #MAX} of them, and the directory lists the blocks in order. A
+ * position is located by binary search over the last index of each block and
+ * then within a single block, so an update shifts the values within the blocks
+ * it touches rather than the entire line state. A block that overflows is
+ * split, and adjacent blocks that together hold no more than {@link #HALF}
+ * indices are merged; only then does the directory shift. Since the block
+ * holding each segment is recorded, a segment can be removed by searching
+ * that block alone.
+ * <p>
+ * Blocks are recycled once empty, so after the first few events no objects
+ * are created.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+class LineState {
+
+	/** Returned when there is no such segment. */
+	static final int NIL = -1;
+
+	/** Capacity of each block. */
+	static final int MAX = 256;
+
+	/** Size of blocks formed by a split; adjacent blocks that fit are merged. */
+	static final int HALF = MAX/2;
+
+	/** Sweep whose event point determines where segments meet the sweep line. */
+	final PrimitiveLineSweep sweep;
+
+	/** Storage, size and directory index of each block, by block id. */
+	int[][] blocks;
+	int[] sizes;
+	int[] indexOf;
+	int numIds;
+
+	/** Ids of blocks that are free to be reused. */
+	int[] free;
+	int numFree;
+
+	/** Block ids in order. */
+	int[] order;
+	int numBlocks;
+
+	/** Id of the block holding each segment. */
+	final int[] blockOf;
+
+	/** Position (directory index, offset) located by seek. */
+	int md, mi;
+
+	/** Position of the next segment to be returned by next. */
+	int cd, ci;
+
+	/** Scratch storage when a block is split. */
+	int[] scratch = new int[MAX];
+
+	/**
+	 * Construct an empty line state for segments 0 .. n-1.
+	 *
+	 * @param sweep   sweep whose event point orders the segments
+	 * @param n       number of segments
+	 */
+	LineState (PrimitiveLineSweep sweep, int n) {
+		this.sweep = sweep;
+		blockOf = new int[n];
+		blocks = new int[4][];
+		sizes = new int[4];
+		indexOf = new int[4];
+		free = new int[4];
+		order = new int[4];
+	}
+
+	/**
+	 * Locate the first segment that meets the sweep line at or to the right
+	 * of the event point, which is then returned by {@link #next()}.
+	 */
+	void seek() {
+		int lo = 0, hi = numBlocks;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			int id = order[mid];
+			if (sweep.leftOfEvent (blocks[id][sizes[id]-1])) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+
+		md = lo;
+		mi = 0;
+		if (md < numBlocks) {
+			int[] b = blocks[order[md]];
+			hi = sizes[order[md]] - 1;
+			while (mi < hi) {
+				int mid = (mi + hi) >>> 1;
+				if (sweep.leftOfEvent (b[mid])) {
+					mi = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+		}
+		cd = md;
+		ci = mi;
+	}
+
+	/** Return the next segment, starting from the located position, or NIL if none remain. */
+	int next() {
+		if (cd == numBlocks) { return NIL; }
+		int id = order[cd];
+		int s = blocks[id][ci++];
+		if (ci == sizes[id]) {
+			cd++;
+			ci = 0;
+		}
+		return s;
+	}
+
+	/** Return the segment at the located position, or NIL if there is none. */
+	int peek() {
+		if (md == numBlocks) { return NIL; }
+		return blocks[order[md]][mi];
+	}
+
+	/** Return the segment just before the located position, or NIL if there is none. */
+	int previous() {
+		if (mi > 0) { return blocks[order[md]][mi-1]; }
+		if (md == 0) { return NIL; }
+		int id = order[md-1];
+		return blocks[id][sizes[id]-1];
+	}
+
+	/**
+	 * Remove count segments, starting from the located position. The line
+	 * state must be located again before it is next used.
+	 *
+	 * @param count   number of segments to remove
+	 */
+	void removeRun (int count) {
+		int d = md, i = mi;
+		while (count > 0) {
+			int id = order[d];
+			int size = sizes[id];
+			int k = Math.min (count, size - i);
+			System.arraycopy (blocks[id], i+k, blocks[id], i, size-i-k);
+			sizes[id] -= k;
+			count -= k;
+			if (sizes[id] == 0) {
+				removeBlock (d);
+			} else {
+				d++;
+			}
+			i = 0;
+		}
+
+		// blocks from which segments were removed end at d.
+		merge (Math.min (d, numBlocks-1));
+		if (d > md) { merge (Math.min (md, numBlocks-1)); }
+	}
+
+	/**
+	 * Remove segment s, wherever it is in the line state. The line state must
+	 * be located again before it is next used.
+	 *
+	 * @param s   segment to remove
+	 */
+	void remove (int s) {
+		int id = blockOf[s];
+		int[] b = blocks[id];
+		int i = 0;
+		while (b[i] != s) { i++; }
+		System.arraycopy (b, i+1, b, i, sizes[id]-i-1);
+		sizes[id]--;
+
+		int d = indexOf[id];
+		if (sizes[id] == 0) {
+			removeBlock (d);
+		} else {
+			merge (d);
+		}
+	}
+
+	/**
+	 * Insert the first num segments in vals, in order, at the located position.
+	 *
+	 * @param vals   segments to insert
+	 * @param num    number of segments to insert
+	 */
+	void insert (int[] vals, int num) {
+		if (num == 0) { return; }
+
+		if (numBlocks == 0) {
+			insertBlock (0, allocate());
+		}
+		int d = md, i = mi;
+		if (d == numBlocks) {
+			d = numBlocks - 1;
+			i = sizes[order[d]];
+		}
+
+		int id = order[d];
+		int[] b = blocks[id];
+		int size = sizes[id];
+		if (size + num <= MAX) {
+			System.arraycopy (b, i, b, i+num, size-i);
+			System.arraycopy (vals, 0, b, i, num);
+			sizes[id] = size + num;
+			for (int j = 0; j < num; j++) { blockOf[vals[j]] = id; }
+			return;
+		}
+
+		// split into blocks holding at most HALF segments each.
+		int total = size + num;
+		if (scratch.length < total) { scratch = new int[total]; }
+		System.arraycopy (b, 0, scratch, 0, i);
+		System.arraycopy (vals, 0, scratch, i, num);
+		System.arraycopy (b, i, scratch, i+num, size-i);
+
+		int k = (total + HALF - 1) / HALF;
+		int from = 0;
+		for (int j = 0; j < k; j++) {
+			if (j > 0) {
+				id = allocate();
+				insertBlock (d+j, id);
+			}
+			int to = (int) ((long) total * (j+1) / k);
+			System.arraycopy (scratch, from, blocks[id], 0, to-from);
+			sizes[id] = to-from;
+			for (int t = from; t < to; t++) { blockOf[scratch[t]] = id; }
+			from = to;
+		}
+	}
+
+	/** Merge the block at directory index d with its neighbors, should they fit. */
+	void merge (int d) {
+		if (d < 0) { return; }
+		if (d+1 < numBlocks && sizes[order[d]] + sizes[order[d+1]] <= HALF) {
+			append (d, d+1);
+		}
+		if (d > 0 && sizes[order[d-1]] + sizes[order[d]] <= HALF) {
+			append (d-1, d);
+		}
+	}
+
+	/** Move segments of the block at directory index next (= d+1) into the block at index d. */
+	void append (int d, int next) {
+		int id = order[d], nid = order[next];
+		System.arraycopy (blocks[nid], 0, blocks[id], sizes[id], sizes[nid]);
+		for (int t = 0; t < sizes[nid]; t++) { blockOf[blocks[nid][t]] = id; }
+		sizes[id] += sizes[nid];
+		sizes[nid] = 0;
+		removeBlock (next);
+	}
+
+	/** Return id of an empty block, reusing one if possible. */
+	int allocate() {
+		if (numFree > 0) { return free[--numFree]; }
+
+		if (numIds == blocks.length) {
+			blocks = Arrays.copyOf (blocks, 2*numIds);
+			sizes = Arrays.copyOf (sizes, 2*numIds);
+			indexOf = Arrays.copyOf (indexOf, 2*numIds);
+			free = Arrays.copyOf (free, 2*numIds);
+		}
+		blocks[numIds] = new int[MAX];
+		return numIds++;
+	}
+
+	/** Insert block id into the directory at index d. */
+	void insertBlock (int d, int id) {
+		if (numBlocks == order.length) {
+			order = Arrays.copyOf (order, 2*numBlocks);
+		}
+		System.arraycopy (order, d, order, d+1, numBlocks-d);
+		order[d] = id;
+		numBlocks++;
+		for (int j = d; j < numBlocks; j++) { indexOf[order[j]] = j; }
+	}
+
+	/** Remove the (empty) block at directory index d, freeing it for reuse. */
+	void removeBlock (int d) {
+		free[numFree++] = order[d];
+		System.arraycopy (order, d+1, order, d, numBlocks-d-1);
+		numBlocks--;
+		for (int j = d; j < numBlocks; j++) { indexOf[order[j]] = j; }
+	}
+}
@@ -0,0 +1,390 @@
+package algs.model.problems.segmentIntersection.primitive;
+
+import java.util.Arrays;
+
+import algs.model.FloatingPoint;
+import algs.model.ILineSegment;
+
+/**
+ * LineSweep algorithm to detect all intersections among line segments whose
+ * coordinates are stored in primitive arrays and which are identified by
+ * their index.
+ * <p>
+ * The horizontal sweep line moves down the plane as in
+ * {@link algs.model.problems.segmentIntersection.LineSweep}, but no objects are
+ * created as it does so:
+ * <ul>
+ * <li>The event queue is a binary heap whose events are stored in parallel
+ *     arrays of coordinates and codes. Rather than maintaining the segments
+ *     associated with each event point, events for the same point are
+ *     removed from the heap together. An intersection event only ensures the
+ *     sweep line stops at that point, since the segments that intersect there
+ *     are found in the line state; thus the same intersection event may be
+ *     inserted more than once without harm.
+ * <li>The line state is a {@link LineState}: segment indices, ordered by where
+ *     each segment meets the sweep line, are stored in a sequence of blocks
+ *     of bounded size, so locating an event point takes two binary searches
+ *     and an update only shifts the values within the blocks it touches. The
+ *     segments through an event point are contiguous, and are replaced by
+ *     those segments which continue below it.
+ * <li>Each intersection point is reported to an {@link IIntersectionVisitor}
+ *     as soon as it is found.
+ * </ul>
+ * As with LineSweep, floating point computations (within
+ * {@link FloatingPoint#epsilon}) determine whether points are the same.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class PrimitiveLineSweep {
+
+	/** Event code of an intersection; otherwise 2s for start, and 2s+1 for end, of segment s. */
+	static final int INTERSECTION = -1;
+
+	/** Upper (first encountered by sweep line) and lower end points of each segment. */
+	double[] ux;
+	double[] uy;
+	double[] lx;
+	double[] ly;
+
+	/** Change in x for each unit change in y along segment; NaN if horizontal. */
+	double[] dxdy;
+
+	/** Event heap. */
+	double[] ex;
+	double[] ey;
+	int[] ecode;
+	int numEvents;
+
+	/** Line state: segments in order of their intersection with sweep line. */
+	LineState state;
+
+	/** Current event point. */
+	double px;
+	double py;
+
+	/** Segments starting at current event point. */
+	int[] upper;
+	int numUpper;
+
+	/** Segments ending at current event point. */
+	int[] lower;
+	int numLower;
+
+	/** Stamp of event point at which segment ends. */
+	int[] endStamp;
+	int stamp;
+
+	/** Segments through current event point, to be reported. */
+	int[] found;
+	int numFound;
+
+	/** Segments to be inserted into line state below current event point. */
+	int[] insert;
+	int numInsert;
+
+	/**
+	 * Report all intersections among the given line segments, where each is
+	 * identified by its index in the array.
+	 *
+	 * @param segments   line segments to be checked for intersections.
+	 * @param visitor    receives each intersection as it is found
+	 * @return           number of intersection points
+	 */
+	public int intersections (ILineSegment[] segments, IIntersectionVisitor visitor) {
+		int n = segments.length;
+		double[] x1 = new double[n];
+		double[] y1 = new double[n];
+		double[] x2 = new double[n];
+		double[] y2 = new double[n];
+		for (int i = 0; i < n; i++) {
+			x1[i] = segments[i].getStart().getX();
+			y1[i] = segments[i].getStart().getY();
+			x2[i] = segments[i].getEnd().getX();
+			y2[i] = segments[i].getEnd().getY();
+		}
+		return intersections (x1, y1, x2, y2, visitor);
+	}
+
+	/**
+	 * Report all intersections among the line segments from (x1[i], y1[i]) to
+	 * (x2[i], y2[i]), where each is identified by its index i.
+	 * <p>
+	 * This algorithm assumes that the input contains no duplicate segments.
+	 *
+	 * @param x1         x-coordinate of one end point of each segment
+	 * @param y1         y-coordinate of one end point of each segment
+	 * @param x2         x-coordinate of other end point of each segment
+	 * @param y2         y-coordinate of other end point of each segment
+	 * @param visitor    receives each intersection as it is found
+	 * @return           number of intersection points
+	 */
+	public int intersections (double[] x1, double[] y1, double[] x2, double[] y2, IIntersectionVisitor visitor) {
+		initialize (x1, y1, x2, y2);
+
+		int count = 0;
+		while (numEvents > 0) {
+			px = ex[0];
+			py = ey[0];
+			stamp++;
+			numUpper = numLower = 0;
+			while (numEvents > 0 && compare (ex[0], ey[0], px, py) == 0) {
+				int code = ecode[0];
+				removeMin();
+				if (code == INTERSECTION) { continue; }
+
+				int s = code >> 1;
+				if ((code & 1) == 0) {
+					upper[numUpper++] = s;
+				} else {
+					lower[numLower++] = s;
+					endStamp[s] = stamp;
+				}
+			}
+
+			if (handleEventPoint (visitor)) { count++; }
+		}
+		return count;
+	}
+
+	/** Store segments, with upper end point first, and initialize event queue. */
+	void initialize (double[] x1, double[] y1, double[] x2, double[] y2) {
+		int n = x1.length;
+		ux = new double[n];
+		uy = new double[n];
+		lx = new double[n];
+		ly = new double[n];
+		dxdy = new double[n];
+		ex = new double[2*n + 16];
+		ey = new double[2*n + 16];
+		ecode = new int[2*n + 16];
+		numEvents = 0;
+		state = new LineState (this, n);
+		upper = new int[n];
+		lower = new int[n];
+		endStamp = new int[n];
+		stamp = 0;
+		found = new int[n];
+		insert = new int[n];
+
+		for (int s = 0; s < n; s++) {
+			// swap so start is upper point (or left point, if horizontal).
+			if (compare (x1[s], y1[s], x2[s], y2[s]) <= 0) {
+				ux[s] = x1[s]; uy[s] = y1[s];
+				lx[s] = x2[s]; ly[s] = y2[s];
+			} else {
+				ux[s] = x2[s]; uy[s] = y2[s];
+				lx[s] = x1[s]; ly[s] = y1[s];
+			}
+
+			if (FloatingPoint.value (uy[s] - ly[s]) == 0) {
+				dxdy[s] = Double.NaN;
+			} else {
+				dxdy[s] = (lx[s] - ux[s]) / (ly[s] - uy[s]);
+			}
+
+			ex[numEvents] = ux[s];
+			ey[numEvents] = uy[s];
+			ecode[numEvents++] = 2*s;
+
+			// a segment that is a single point never enters line state.
+			if (compare (ux[s], uy[s], lx[s], ly[s]) != 0) {
+				ex[numEvents] = lx[s];
+				ey[numEvents] = ly[s];
+				ecode[numEvents++] = 2*s+1;
+			}
+		}
+
+		for (int i = numEvents/2 - 1; i >= 0; i--) { heapify (i); }
+	}
+
+	/**
+	 * Handle the current event point, given the segments that start and end
+	 * there. Return true if an intersection is reported.
+	 */
+	boolean handleEventPoint (IIntersectionVisitor visitor) {
+		// segments through event point are contiguous in line state.
+		numFound = numInsert = 0;
+		state.seek();
+		int through = 0;
+		int s;
+		while ((s = state.next()) != LineState.NIL && FloatingPoint.value (xAt (s) - px) == 0) {
+			through++;
+			found[numFound++] = s;
+			if (endStamp[s] == stamp) {
+				endStamp[s] = -stamp;
+			} else {
+				insert[numInsert++] = s;
+			}
+		}
+		state.removeRun (through);
+
+		// segments ending here that, owing to floating point error, were not found.
+		for (int i = 0; i < numLower; i++) {
+			s = lower[i];
+			if (endStamp[s] != stamp) { continue; }
+			state.remove (s);
+			found[numFound++] = s;
+		}
+
+		for (int i = 0; i < numUpper; i++) {
+			s = upper[i];
+			found[numFound++] = s;
+			if (compare (ux[s], uy[s], lx[s], ly[s]) != 0) { insert[numInsert++] = s; }
+		}
+
+		boolean reported = false;
+		if (numFound > 1) {
+			visitor.visit (px, py, found, numFound);
+			reported = true;
+		}
+
+		// order segments as they will meet the sweep line just below event point.
+		for (int i = 1; i < numInsert; i++) {
+			s = insert[i];
+			int j = i-1;
+			while (j >= 0 && below (s, insert[j])) {
+				insert[j+1] = insert[j];
+				j--;
+			}
+			insert[j+1] = s;
+		}
+
+		// insert segments that continue between the neighbors of the event point.
+		state.seek();
+		int left = state.previous();
+		int right = state.peek();
+		state.insert (insert, numInsert);
+
+		// only newly adjacent segments may intersect below event point.
+		if (numInsert == 0) {
+			if (left != LineState.NIL && right != LineState.NIL) { checkIntersection (left, right); }
+		} else {
+			if (left != LineState.NIL) { checkIntersection (left, insert[0]); }
+			if (right != LineState.NIL) { checkIntersection (insert[numInsert-1], right); }
+		}
+		return reported;
+	}
+
+	/** Determine if segment s meets the sweep line to the left of the event point. */
+	boolean leftOfEvent (int s) {
+		return FloatingPoint.value (xAt (s) - px) < 0;
+	}
+
+	/**
+	 * Return x-coordinate where segment meets the sweep line. A horizontal
+	 * segment is considered to meet it at the event point, if possible.
+	 */
+	double xAt (int s) {
+		if (Double.isNaN (dxdy[s])) {
+			return Math.max (ux[s], Math.min (px, lx[s]));
+		}
+		return ux[s] + (py - uy[s]) * dxdy[s];
+	}
+
+	/**
+	 * Determine if segment a is to the left of segment b just below the event
+	 * point, through which both pass. Horizontal segments are rightmost.
+	 */
+	boolean below (int a, int b) {
+		double dxa = lx[a] - ux[a], dya = uy[a] - ly[a];
+		double dxb = lx[b] - ux[b], dyb = uy[b] - ly[b];
+		return dxa*dyb < dxb*dya;
+	}
+
+	/**
+	 * If segments a and b intersect below the sweep line (or on it, and to
+	 * the right of the event point), insert the intersection into event queue.
+	 */
+	void checkIntersection (int a, int b) {
+		double x1 = ux[a], y1 = uy[a], x2 = lx[a], y2 = ly[a];
+		double x3 = ux[b], y3 = uy[b], x4 = lx[b], y4 = ly[b];
+
+		// same computation as TwoDLineSegment.
+		double denom = (y4 - y3)*(x2 - x1) - (x4 - x3)*(y2 - y1);
+		if (FloatingPoint.value (denom) == 0) { return; }
+
+		double ua = ((x4-x3)*(y1-y3) - (y4-y3)*(x1-x3)) / denom;
+		double ub = ((x2-x1)*(y1-y3) - (y2-y1)*(x1-x3)) / denom;
+		if (FloatingPoint.value (ua) < 0 || FloatingPoint.value (ua-1) > 0 ||
+			FloatingPoint.value (ub) < 0 || FloatingPoint.value (ub-1) > 0) {
+			return;
+		}
+
+		double ix = x1 + ua*(x2-x1);
+		double iy = y1 + ua*(y2-y1);
+		if (compare (ix, iy, px, py) > 0) {
+			insert (ix, iy, INTERSECTION);
+		}
+	}
+
+	/**
+	 * Compare points in the order the sweep line meets them: from top to bottom,
+	 * and then from left to right.
+	 */
+	static int compare (double x1, double y1, double x2, double y2) {
+		double fp = FloatingPoint.value (y1 - y2);
+		if (fp > 0) { return -1; }
+		if (fp < 0) { return +1; }
+
+		fp = FloatingPoint.value (x1 - x2);
+		if (fp < 0) { return -1; }
+		if (fp > 0) { return +1; }
+		return 0;
+	}
+
+	/** Insert event into heap. */
+	void insert (double x, double y, int code) {
+		if (numEvents == ex.length) {
+			ex = Arrays.copyOf (ex, 2*numEvents);
+			ey = Arrays.copyOf (ey, 2*numEvents);
+			ecode = Arrays.copyOf (ecode, 2*numEvents);
+		}
+
+		int i = numEvents++;
+		while (i > 0) {
+			int parent = (i-1) >>> 1;
+			if (compare (x, y, ex[parent], ey[parent]) >= 0) { break; }
+			ex[i] = ex[parent];
+			ey[i] = ey[parent];
+			ecode[i] = ecode[parent];
+			i = parent;
+		}
+		ex[i] = x;
+		ey[i] = y;
+		ecode[i] = code;
+	}
+
+	/** Remove first event from heap. */
+	void removeMin() {
+		numEvents--;
+		if (numEvents > 0) {
+			ex[0] = ex[numEvents];
+			ey[0] = ey[numEvents];
+			ecode[0] = ecode[numEvents];
+			heapify (0);
+		}
+	}
+
+	/** Restore heap property below position i. */
+	void heapify (int i) {
+		double x = ex[i], y = ey[i];
+		int code = ecode[i];
+		while (true) {
+			int child = 2*i + 1;
+			if (child >= numEvents) { break; }
+			if (child+1 < numEvents && compare (ex[child+1], ey[child+1], ex[child], ey[child]) < 0) {
+				child++;
+			}
+			if (compare (ex[child], ey[child], x, y) >= 0) { break; }
+			ex[i] = ex[child];
+			ey[i] = ey[child];
+			ecode[i] = ecode[child];
+			i = child;
+		}
+		ex[i] = x;
+		ey[i] = y;
+		ecode[i] = code;
+	}
+}
@@ -1,5 +1,6 @@
 package algs.model.searchtree;
 
+import algs.model.searchtree.states.StateBucketed;
 import algs.model.searchtree.states.StateStorageFactory;
 
 /**
@@ -47,7 +48,7 @@ public class AStarSearch implements ISearch {
 	 */
 	public Solution search(INode initial, INode goal) {
 		// Start from the initial state
-		INodeSet open = StateStorageFactory.create (StateStorageFactory.PRIORITY_RETRIEVAL);
+		StateBucketed open = new StateBucketed();
 		INode copy = initial.copy();
 		scoringFunction.score (copy);
 		open.insert (copy); 
@@ -89,11 +90,12 @@ public class AStarSearch implements ISearch {
 				INode exist = open.contains(successor);
 				if (exist == null || successor.score() < exist.score()) {
 					
-					// remove old one, if one had existed, and insert better one
+					// replace old one in place, if one had existed, else insert
 					if (exist != null) {
-						open.remove (exist);
+						open.decreaseKey (exist, successor);
+					} else {
+						open.insert (successor);
 					}
-					open.insert (successor);
 				}
 			}
 		}
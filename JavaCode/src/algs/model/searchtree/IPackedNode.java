@@ -0,0 +1,57 @@
+package algs.model.searchtree;
+
+/**
+ * Optional extension of {@link INode} whose state can be encoded within a single
+ * long value, so successor states can be generated as primitive keys without
+ * allocating a node (or move) for each one.
+ * <p>
+ * Two nodes are equal if and only if their packed values are equal. A full
+ * INode is only materialized, via {@link #unpack(long)}, when a search needs
+ * to retain the state.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public interface IPackedNode extends INode {
+
+	/**
+	 * Return the encoding of this state.
+	 * 
+	 * @return  packed value representing this state.
+	 */
+	long packed();
+
+	/**
+	 * Return the largest number of successors of any state.
+	 * 
+	 * @return  size of array needed by {@link #successors(long[])}.
+	 */
+	int maxSuccessors();
+
+	/**
+	 * Compute the packed values of the successors of this state, in the same
+	 * order as the moves returned by {@link INode#validMoves()}.
+	 * 
+	 * @param keys   array of size at least {@link #maxSuccessors()} to hold packed successors
+	 * @return       number of successors stored in keys.
+	 */
+	int successors(long[] keys);
+
+	/**
+	 * Materialize the node with the given packed state. The score and stored
+	 * data of the new node are not set.
+	 * 
+	 * @param key    packed state
+	 * @return       node representing this state.
+	 */
+	IPackedNode unpack(long key);
+
+	/**
+	 * Return the move which transforms this state into the given successor.
+	 * 
+	 * @param key    packed state of a successor as computed by {@link #successors(long[])}
+	 * @return       move that transforms this state into successor.
+	 */
+	IMove moveTo(long key);
+}
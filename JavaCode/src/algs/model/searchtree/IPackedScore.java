@@ -0,0 +1,23 @@
+package algs.model.searchtree;
+
+/** 
+ * Optional extension of {@link IScore} that evaluates the packed state of an
+ * {@link IPackedNode} without materializing the node. 
+ * 
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public interface IPackedScore extends IScore {
+	
+	/** 
+	 * Evaluate the given packed state, reached after the given number of moves,
+	 * and return the same value as {@link IScore#eval(INode)} would return for
+	 * the materialized node with that depth.
+	 * 
+	 * @param state    packed state to be evaluated.
+	 * @param depth    number of moves from the initial state.
+	 * @return         integer value for board evaluation (in general, low scores are closer to goal state).
+	 */
+	int eval (long state, int depth);
+}
@@ -0,0 +1,153 @@
+package algs.model.searchtree;
+
+import java.util.Iterator;
+
+import algs.model.searchtree.states.StateHash;
+
+/**
+ * Iterative-deepening A* (IDA*) search.
+ * <p>
+ * Perform a sequence of depth-first searches, each of which prunes any state 
+ * whose evaluation exceeds the current threshold. The threshold for the first
+ * search is the evaluation of the initial state; each subsequent search uses
+ * the smallest evaluation that exceeded the previous threshold. 
+ * <p>
+ * Only the states on the current path are kept in memory (to avoid cycles), 
+ * so memory is proportional to the depth of the solution rather than to the
+ * number of states visited, at the cost of revisiting states in each 
+ * iteration. With an admissible scoring function, the solution is optimal.
+ * <p>
+ * The scoring function is given states whose stored data is a 
+ * {@link DepthTransition}, just as with {@link AStarSearch}, so the existing
+ * evaluators which compute g^(n) + h^(n) can be used without change.
+ * 
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class IterativeDeepeningAStarSearch implements ISearch {
+	
+	/** Result of a depth-first search that reaches the goal. */
+	static final int FOUND = -1;
+	
+	/** Scoring function to use. */
+	IScore scoringFunction;
+	
+	/** Goal state being sought. */
+	INode goal;
+	
+	/** States on the current path. */
+	StateHash path;
+	
+	/** Goal node once found. */
+	INode solution;
+	
+	/** Smallest evaluation exceeding the current threshold. */
+	int nextThreshold;
+	
+	/**
+	 * Prepare an IDA* search using the given scoring function.
+	 * 
+	 * @param sf   static evaluation function 
+	 */ 
+	public IterativeDeepeningAStarSearch (IScore sf) {
+		this.scoringFunction = sf;
+	}
+	
+	/** 
+	 * Initiate the search for the target state.
+	 * 
+	 * Store with each INode object a Transition (Move m, INode prev) so we
+	 * can retrace steps to the original solution.
+	 */
+	public Solution search(INode initial, INode goal) {
+		numMoves = numExpanded = 0;  /* STATS */
+		numIterations = 0;
+		long start = System.nanoTime();
+		this.goal = goal;
+		this.solution = null;
+		
+		INode copy = initial.copy();
+		scoringFunction.score (copy);
+		int threshold = copy.score();
+		
+		while (true) {
+			numIterations++; /* STATS */
+			path = new StateHash();
+			nextThreshold = Integer.MAX_VALUE;
+			
+			if (depthFirst (copy, threshold, 0) == FOUND) {
+				elapsed = System.nanoTime() - start;
+				return new Solution (initial, solution);
+			}
+			
+			// No state exceeded the threshold, so the entire space was searched.
+			if (nextThreshold == Integer.MAX_VALUE) {
+				elapsed = System.nanoTime() - start;
+				return new Solution (initial, goal, false);
+			}
+			threshold = nextThreshold;
+		}
+	}
+	
+	/**
+	 * Search depth-first from n, pruning states whose evaluation exceeds threshold.
+	 * 
+	 * @return FOUND if goal was reached; otherwise zero.
+	 */
+	int depthFirst (INode n, int threshold, int depth) {
+		if (n.score() > threshold) {
+			if (n.score() < nextThreshold) { nextThreshold = n.score(); }
+			return 0;
+		}
+		if (n.equals (goal)) {
+			solution = n;
+			return FOUND;
+		}
+		
+		numExpanded++; /* STATS */
+		path.insert (n);
+		for (Iterator<IMove> it = n.validMoves().iterator(); it.hasNext(); ) {
+			IMove move = it.next();
+			
+			INode successor = n.copy();
+			move.execute (successor);
+			numMoves++; /* STATS */
+			
+			// avoid cycles along the current path.
+			if (path.contains (successor) != null) { continue; }
+			
+			successor.storedData (new DepthTransition (move, n, depth+1));
+			scoringFunction.score (successor);
+			if (depthFirst (successor, threshold, depth+1) == FOUND) {
+				return FOUND;
+			}
+		}
+		path.remove (n);
+		return 0;
+	}
+	
+	/**
+	 * Return the rate at which states were expanded during the most recent search.
+	 * All statistics are reset at the start of each search.
+	 * 
+	 * @return   number of states expanded per second.
+	 */
+	public double expansionsPerSecond() {
+		if (elapsed == 0) { return 0; }
+		return numExpanded * 1e9 / elapsed;
+	}
+	
+	// statistical information to evaluate algorithms effectiveness.
+	/** Number of moves computed, over all iterations. */
+	public long numMoves = 0;
+	
+	/** Number of states expanded, over all iterations. */
+	public long numExpanded = 0;
+	
+	/** Number of depth-first iterations. */
+	public int numIterations = 0;
+	
+	/** Elapsed time (in nanoseconds) of the most recent search. */
+	public long elapsed = 0;
+}
@@ -0,0 +1,310 @@
+package algs.model.searchtree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.TreeSet;
+
+/**
+ * Simplified memory-bounded A* (SMA*) search, which never stores more than a
+ * fixed budget of states.
+ * <p>
+ * As with {@link AStarSearch}, the leaf state with the smallest evaluation is
+ * expanded next (ties go to the deepest). When storing its successors would
+ * exceed the budget, the leaf with the largest evaluation (ties go to the 
+ * shallowest) is forgotten, and its evaluation is remembered by its parent.
+ * Once all children of a state are forgotten, the parent becomes a leaf again
+ * whose evaluation is the smallest evaluation of its forgotten children, so it
+ * is only regenerated when that branch once again looks most promising. The
+ * regenerated children recover the evaluations remembered by their parent, 
+ * so the search does not repeat work whose outcome is already known. A parent
+ * remembers these evaluations by the position of each child among its 
+ * successors, rather than by retaining the forgotten states, so beyond the 
+ * budget of states only one integer per successor of a stored state is kept.
+ * <p>
+ * After a state is expanded, its evaluation (and that of its ancestors) is
+ * backed up to be the smallest evaluation of its children. A successor is
+ * never evaluated below its parent, and a successor that cannot reach the
+ * goal within the budget (because its path would not fit in memory) is given
+ * the evaluation Integer.MAX_VALUE.
+ * <p>
+ * All successors of a state are generated at once; if they would not fit 
+ * even after forgetting every leaf other than those on its path, the state 
+ * is treated as one that cannot lead to the goal. Thus a solution is found 
+ * whenever the budget exceeds the depth of a solution plus the largest 
+ * number of successors of any state.
+ * <p>
+ * Only the states on the path to a leaf are checked to avoid cycles. The 
+ * scoring function is given states whose stored data is a 
+ * {@link DepthTransition}, just as with {@link AStarSearch}.
+ * 
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class MemoryBoundedAStarSearch implements ISearch {
+	
+	/** Evaluation for states that cannot lead to the goal. */
+	public static final int INFINITY = Integer.MAX_VALUE;
+	
+	/** Scoring function to use. */
+	IScore scoringFunction;
+	
+	/** Maximum number of states to store. */
+	final int budget;
+	
+	/** Marks a successor whose evaluation is not remembered. */
+	static final int UNKNOWN = Integer.MIN_VALUE;
+	
+	/** Counter to uniquely order entries with same evaluation and depth. */
+	long counter;
+	
+	/** State in memory, with its backed-up evaluation. */
+	static class Entry {
+		/** Board state. */
+		final INode state;
+		
+		/** Parent entry, or null for the initial state. */
+		final Entry parent;
+		
+		/** Depth of state. */
+		final int depth;
+		
+		/** Position among the successors of its parent. */
+		final int index;
+		
+		/** Unique identifier to break ties. */
+		final long id;
+		
+		/** Backed-up evaluation. */
+		int f;
+		
+		/** Smallest evaluation of forgotten children. */
+		int forgotten = INFINITY;
+		
+		/** Children in memory; null if leaf. */
+		ArrayList<Entry> children;
+		
+		/** Backed-up evaluations of forgotten children, by position; null if none. */
+		int[] remembered;
+		
+		Entry (INode state, Entry parent, int depth, int index, int f, long id) {
+			this.state = state;
+			this.parent = parent;
+			this.depth = depth;
+			this.index = index;
+			this.f = f;
+			this.id = id;
+		}
+	}
+	
+	/** Orders leaves by evaluation, then deepest first, then oldest first. */
+	static final Comparator<Entry> order = new Comparator<Entry>() {
+		public int compare(Entry e1, Entry e2) {
+			if (e1.f != e2.f) { return e1.f < e2.f ? -1 : +1; }
+			if (e1.depth != e2.depth) { return e1.depth > e2.depth ? -1 : +1; }
+			if (e1.id != e2.id) { return e1.id < e2.id ? -1 : +1; }
+			return 0;
+		}
+	};
+	
+	/**
+	 * Prepare a memory-bounded A* search using the given scoring function and
+	 * state budget.
+	 * 
+	 * @param sf       static evaluation function 
+	 * @param budget   maximum number of states to store (at least two).
+	 * @exception IllegalArgumentException if budget is less than two.
+	 */ 
+	public MemoryBoundedAStarSearch (IScore sf, int budget) {
+		if (budget < 2) {
+			throw new IllegalArgumentException ("budget must be at least two.");
+		}
+		this.scoringFunction = sf;
+		this.budget = budget;
+	}
+	
+	/** 
+	 * Initiate the search for the target state.
+	 * 
+	 * Store with each INode object a Transition (Move m, INode prev) so we
+	 * can retrace steps to the original solution.
+	 */
+	public Solution search(INode initial, INode goal) {
+		numMoves = numExpanded = numForgotten = 0;  /* STATS */
+		numStored = maxStored = 0;
+		long start = System.nanoTime();
+		
+		INode copy = initial.copy();
+		scoringFunction.score (copy);
+		Entry root = new Entry (copy, null, 0, 0, copy.score(), counter++);
+		
+		// leaves that can be expanded (or forgotten)
+		TreeSet<Entry> open = new TreeSet<Entry>(order);
+		open.add (root);
+		int used = 1;
+		
+		while (root.f != INFINITY) {
+			// When only leaves that cannot reach the goal remain, forget them so 
+			// their parents can be regenerated.
+			while (open.first().f == INFINITY && open.first() != root) {
+				forget (open.pollLast(), open);
+				used--;
+			}
+			Entry best = open.first();
+			
+			// Return if goal state reached.
+			if (best.state.equals (goal)) {
+				numStored = used;  /* STATS */
+				elapsed = System.nanoTime() - start;
+				return new Solution (initial, best.state);
+			}
+			open.remove (best);
+			numExpanded++; /* STATS */
+			
+			// A dead end, or a state whose successors would not fit in memory 
+			// even with only its path stored, cannot lead to the goal.
+			ArrayList<Entry> children = expand (best);
+			if (children.isEmpty() || best.depth + 1 + children.size() > budget) {
+				best.f = INFINITY;
+				open.add (best);
+				backup (best.parent);
+				continue;
+			}
+			
+			// forget worst leaves until successors fit. 
+			while (used + children.size() > budget) {
+				forget (open.pollLast(), open);
+				used--;
+			}
+			
+			best.forgotten = INFINITY;
+			best.remembered = null;
+			best.children = children;
+			for (Entry e : children) {
+				open.add (e);
+			}
+			used += children.size();
+			if (used > maxStored) { maxStored = used; } /* STATS */
+			backup (best);
+		}
+		
+		// No solution.
+		numStored = used;  /* STATS */
+		elapsed = System.nanoTime() - start;
+		return new Solution (initial, goal, false);
+	}
+	
+	/** Generate the successors of the given entry that are not already on its path. */
+	ArrayList<Entry> expand (Entry best) {
+		ArrayList<Entry> children = new ArrayList<Entry>();
+		INode n = best.state;
+		int depth = best.depth + 1;
+		
+		int index = -1;
+		for (Iterator<IMove> it = n.validMoves().iterator(); it.hasNext(); ) {
+			IMove move = it.next();
+			index++;
+			
+			INode successor = n.copy();
+			move.execute (successor);
+			numMoves++; /* STATS */
+			
+			// avoid cycles along the current path.
+			boolean cycle = false;
+			for (Entry e = best; e != null; e = e.parent) {
+				if (e.state.equals (successor)) { cycle = true; break; }
+			}
+			if (cycle) { continue; }
+			
+			successor.storedData (new DepthTransition (move, n, depth));
+			scoringFunction.score (successor);
+			
+			// A path to a deeper state would not fit within the budget.
+			int f;
+			if (depth >= budget - 1) {
+				f = INFINITY;
+			} else {
+				f = Math.max (best.f, successor.score());
+				
+				// a regenerated child recovers what was learned before it was forgotten.
+				if (best.remembered != null) {
+					f = Math.max (f, best.remembered[index]);
+				}
+			}
+			children.add (new Entry (successor, best, depth, index, f, counter++));
+		}
+		
+		return children;
+	}
+	
+	/**
+	 * Remove the leaf from memory, recording its evaluation with its parent. 
+	 * If the parent has no remaining children, it becomes a leaf again.
+	 */
+	void forget (Entry leaf, TreeSet<Entry> open) {
+		numForgotten++; /* STATS */
+		Entry p = leaf.parent;
+		p.children.remove (leaf);
+		if (leaf.f < p.forgotten) { p.forgotten = leaf.f; }
+		if (p.remembered == null) {
+			p.remembered = new int[p.state.validMoves().size()];
+			Arrays.fill (p.remembered, UNKNOWN);
+		}
+		p.remembered[leaf.index] = leaf.f;
+		if (p.children.isEmpty()) {
+			p.children = null;
+			p.f = p.forgotten;
+			open.add (p);
+			backup (p.parent);
+		}
+	}
+	
+	/** 
+	 * Back up evaluations from the children of the given entry to its ancestors,
+	 * stopping once an evaluation is unchanged. Only internal entries (which are
+	 * not within the open set) are updated.
+	 */
+	void backup (Entry e) {
+		while (e != null && e.children != null) {
+			int f = e.forgotten;
+			for (Entry c : e.children) {
+				if (c.f < f) { f = c.f; }
+			}
+			if (f == e.f) { return; }
+			e.f = f;
+			e = e.parent;
+		}
+	}
+	
+	/**
+	 * Return the rate at which states were expanded during the most recent search.
+	 * All statistics are reset at the start of each search.
+	 * 
+	 * @return   number of states expanded per second.
+	 */
+	public double expansionsPerSecond() {
+		if (elapsed == 0) { return 0; }
+		return numExpanded * 1e9 / elapsed;
+	}
+	
+	// statistical information to evaluate algorithms effectiveness.
+	/** Number of moves computed. */
+	public long numMoves = 0;
+	
+	/** Number of states expanded. */
+	public long numExpanded = 0;
+	
+	/** Number of states forgotten to stay within budget. */
+	public long numForgotten = 0;
+	
+	/** Number of states stored when search completed. */
+	public int numStored = 0;
+	
+	/** Largest number of states stored during search. */
+	public int maxStored = 0;
+	
+	/** Elapsed time (in nanoseconds) of the most recent search. */
+	public long elapsed = 0;
+}
@@ -0,0 +1,121 @@
+package algs.model.searchtree;
+
+import algs.model.searchtree.states.PackedStateMap;
+import algs.model.searchtree.states.StateBucketed;
+
+/**
+ * A* search over {@link IPackedNode} states that generates successors as
+ * packed long keys.
+ * <p>
+ * Unlike {@link AStarSearch}, which copies the node and executes the move for
+ * every successor, this implementation checks each packed successor against
+ * the CLOSED and OPEN sets (stored in {@link PackedStateMap}) and evaluates it
+ * using {@link IPackedScore#eval(long, int)}. Only when a successor is to be
+ * inserted into OPEN (or improves upon a node already there) is its node,
+ * move and transition materialized.
+ * <p>
+ * The sequence of expanded states is identical to that of {@link AStarSearch}
+ * given the same initial state, goal and scoring function.
+ * 
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class PackedAStarSearch implements ISearch {
+	
+	/** Scoring function to use. */
+	IPackedScore scoringFunction;
+	
+	/**
+	 * Prepare an A* search using the given scoring function.
+	 * 
+	 * @param sf   static evaluation function that can evaluate packed states
+	 */ 
+	public PackedAStarSearch (IPackedScore sf) {
+		this.scoringFunction = sf;
+	}
+	
+	/** 
+	 * Initiate the search for the target state. Both initial and goal must
+	 * implement {@link IPackedNode}.
+	 * 
+	 * Store with each INode object a Transition (Move m, INode prev) so we
+	 * can retrace steps to the original solution.
+	 */
+	public Solution search(INode initial, INode goal) {
+		if (!(initial instanceof IPackedNode) || !(goal instanceof IPackedNode)) {
+			throw new IllegalArgumentException ("PackedAStarSearch requires IPackedNode states.");
+		}
+		long goalKey = ((IPackedNode) goal).packed();
+		
+		// Start from the initial state
+		StateBucketed open = new StateBucketed();
+		PackedStateMap openKeys = new PackedStateMap();
+		IPackedNode copy = (IPackedNode) initial.copy();
+		scoringFunction.score (copy);
+		open.insert (copy);
+		openKeys.put (copy.packed(), copy);
+		
+		PackedStateMap closed = new PackedStateMap();
+		long[] successors = new long[copy.maxSuccessors()];
+		while (!open.isEmpty()) {
+		    // Remove node with smallest evaluation function and mark closed.
+			IPackedNode best = (IPackedNode) open.remove();
+			long bestKey = best.packed();
+			openKeys.remove (bestKey);
+			
+			// Return if goal state reached.
+			if (bestKey == goalKey) {
+				numOpen = open.size(); numClosed = closed.size();  /* STATS */
+				return new Solution (initial, best);
+			}
+			closed.put (bestKey, best);
+			
+			// Compute successor states and update OPEN/CLOSED lists.
+			DepthTransition trans = (DepthTransition) best.storedData();
+			int depth = 1;
+			if (trans != null) { depth = trans.depth+1; }
+
+			int n = best.successors (successors);
+			for (int i = 0; i < n; i++) {
+				long key = successors[i];
+				numMoves++; /* STATS */
+
+				if (closed.get (key) != null) {
+					continue;
+				}
+				
+				// If not yet visited, or it has better score, materialize
+				int score = scoringFunction.eval (key, depth);
+				INode exist = openKeys.get (key);
+				if (exist == null || score < exist.score()) {
+					IPackedNode successor = best.unpack (key);
+					successor.storedData (new DepthTransition (best.moveTo (key), best, depth));
+					successor.score (score);
+					
+					// replace old one in place, if one had existed, else insert
+					if (exist != null) {
+						open.decreaseKey (exist, successor);
+					} else {
+						open.insert (successor);
+					}
+					openKeys.put (key, successor);
+				}
+			}
+		}
+		
+		// No solution.
+		numOpen = open.size(); numClosed = closed.size();  /* STATS */
+		return new Solution (initial, goal, false);
+	}
+	
+	// statistical information to evaluate algorithms effectiveness.
+	/** Number of moves computed. */
+	public int numMoves = 0;
+	
+	/** Number of open states discovered. */
+	public int numOpen = 0;
+	
+	/** Number of closed states once completed. */
+	public int numClosed = 0;
+}
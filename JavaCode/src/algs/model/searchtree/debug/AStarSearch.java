@@ -5,6 +5,7 @@ import java.util.Iterator;
 
 import algs.debug.IDebugSearch;
 import algs.debug.Legend;
+import algs.model.searchtree.states.StateBucketed;
 import algs.model.searchtree.states.StateStorageFactory;
 import algs.model.searchtree.*;
 
@@ -73,7 +74,7 @@ public class AStarSearch implements ISearch {
 	 */
 	public Solution search(INode initial, INode goal) {
 		// Start from the initial state
-		INodeSet open = StateStorageFactory.create(StateStorageFactory.PRIORITY_RETRIEVAL);
+		StateBucketed open = new StateBucketed();
 		INode copy = initial.copy();
 		scoringFunction.score(copy);
 		open.insert(copy); 
@@ -126,12 +127,13 @@ public class AStarSearch implements ISearch {
 				INode exist = open.contains(successor);
 				if (exist == null || successor.score() < exist.score()) {
 					
-					// remove old one, if one had existed, and insert better one
+					// replace old one in place, if one had existed, else insert
+					if (debug != null) { debug.visitNode (successor); debug.visitEdge(best, successor); } 
 					if (exist != null) {
-						open.remove(exist);
+						open.decreaseKey(exist, successor);
+					} else {
+						open.insert(successor);
 					}
-					if (debug != null) { debug.visitNode (successor); debug.visitEdge(best, successor); } 
-					open.insert(successor);
 				}
 			}
 		}
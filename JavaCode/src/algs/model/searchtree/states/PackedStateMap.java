@@ -0,0 +1,151 @@
+package algs.model.searchtree.states;
+
+import algs.model.searchtree.INode;
+
+/**
+ * Map from packed long states to their INode, using open addressing with
+ * linear probing so lookups allocate no objects.
+ * <p>
+ * Used by {@link algs.model.searchtree.PackedAStarSearch} to determine 
+ * whether a packed successor state is in the OPEN or CLOSED set before
+ * materializing its node.
+ * 
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class PackedStateMap {
+
+	/** Initial capacity (must be power of two). */
+	public static final int INITIAL_CAPACITY = 1024;
+
+	/** Packed keys. */
+	long[] keys;
+
+	/** Associated nodes; a slot is empty when its value is null. */
+	INode[] values;
+
+	/** Number of entries. */
+	int size;
+
+	/** Construct empty map. */
+	public PackedStateMap() {
+		keys = new long[INITIAL_CAPACITY];
+		values = new INode[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Return the number of entries in the map.
+	 * 
+	 * @return  size of the map.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Determine if map is empty.
+	 * 
+	 * @return  true if map is empty.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Return the node associated with the packed state, or null if none.
+	 * 
+	 * @param key   packed state
+	 * @return      the associated node or null if none exists.
+	 */
+	public INode get(long key) {
+		int mask = keys.length - 1;
+		for (int i = slot(key, mask); values[i] != null; i = (i+1) & mask) {
+			if (keys[i] == key) { return values[i]; }
+		}
+		return null;
+	}
+
+	/**
+	 * Associate node with the packed state, replacing any existing node.
+	 * 
+	 * @param key   packed state
+	 * @param n     node to be associated with key (must not be null).
+	 */
+	public void put(long key, INode n) {
+		int mask = keys.length - 1;
+		int i = slot(key, mask);
+		while (values[i] != null) {
+			if (keys[i] == key) {
+				values[i] = n;
+				return;
+			}
+			i = (i+1) & mask;
+		}
+		keys[i] = key;
+		values[i] = n;
+		if (++size > keys.length / 2) {
+			resize();
+		}
+	}
+
+	/**
+	 * Remove the packed state from the map.
+	 * <p>
+	 * Subsequent entries in the same cluster are shifted back so no deletion
+	 * markers are needed.
+	 * 
+	 * @param key   packed state
+	 * @return      the node formerly associated with key, or null if none existed.
+	 */
+	public INode remove(long key) {
+		int mask = keys.length - 1;
+		int i = slot(key, mask);
+		while (values[i] != null && keys[i] != key) {
+			i = (i+1) & mask;
+		}
+		INode old = values[i];
+		if (old == null) { return null; }
+
+		// shift back entries whose home slot is not between the hole and themselves
+		int hole = i;
+		int j = hole;
+		while (true) {
+			j = (j+1) & mask;
+			if (values[j] == null) { break; }
+			int home = slot(keys[j], mask);
+			if (((j - home) & mask) >= ((j - hole) & mask)) {
+				keys[hole] = keys[j];
+				values[hole] = values[j];
+				hole = j;
+			}
+		}
+		values[hole] = null;
+		size--;
+		return old;
+	}
+
+	/** Double the capacity and rehash all entries. */
+	void resize() {
+		long[] oldKeys = keys;
+		INode[] oldValues = values;
+		keys = new long[oldKeys.length*2];
+		values = new INode[oldKeys.length*2];
+		int mask = keys.length - 1;
+		for (int k = 0; k < oldKeys.length; k++) {
+			if (oldValues[k] == null) { continue; }
+			int i = slot(oldKeys[k], mask);
+			while (values[i] != null) { i = (i+1) & mask; }
+			keys[i] = oldKeys[k];
+			values[i] = oldValues[k];
+		}
+	}
+
+	/** Home slot for key, mixing its bits since packed states share many bits. */
+	static int slot(long key, int mask) {
+		key ^= (key >>> 33);
+		key *= 0xff51afd7ed558ccdL;
+		key ^= (key >>> 33);
+		return (int) key & mask;
+	}
+}
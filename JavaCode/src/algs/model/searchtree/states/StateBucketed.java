@@ -0,0 +1,310 @@
+package algs.model.searchtree.states;
+
+import java.util.HashMap;
+import java.util.Iterator;
+
+import algs.model.searchtree.INode;
+import algs.model.searchtree.INodeSet;
+
+/**
+ * Maintains the set of open states in buckets indexed by their integer 
+ * {@link INode#score()}, together with a hash for quick contains().
+ * <p>
+ * Each bucket is a doubly-linked list of the nodes with the same score, so
+ * {@link #insert(INode)} and {@link #remove(INode)} are constant time
+ * operations. {@link #remove()} scans forward from the smallest non-empty 
+ * bucket; since the scores of nodes inserted by A* rarely fall below the
+ * score of the node last removed, this is amortized O(1). Nodes with the same
+ * score are removed in the order they were inserted.
+ * <p>
+ * The range of buckets grows as needed, up to {@link #MAX_BUCKETS}. Nodes
+ * whose score lies above this range (such as those scored Integer.MAX_VALUE
+ * by an evaluation function to mark a dead end) are kept in a single overflow
+ * list which is only redistributed into buckets once all buckets are empty.
+ * 
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class StateBucketed implements INodeSet {
+
+	/** Initial number of buckets. */
+	public static final int INITIAL_BUCKETS = 64;
+
+	/** Maximum number of buckets. */
+	public static final int MAX_BUCKETS = 1 << 16;
+
+	/** Position of a node within its bucket. */
+	static class Entry {
+		/** Node being stored. */
+		INode node;
+
+		/** Score used to select the bucket. */
+		int score;
+
+		/** Is entry in the overflow list rather than a bucket. */
+		boolean overflow;
+
+		/** Neighbors within the bucket. */
+		Entry prev, next;
+
+		Entry (INode node) {
+			this.node = node;
+			this.score = node.score();
+		}
+	}
+
+	/** Store all nodes for quick contains check. */
+	HashMap<INode,Entry> hash;
+
+	/** First and last entry in each bucket. */
+	Entry[] head, tail;
+
+	/** First and last entry in the overflow list. */
+	Entry overHead, overTail;
+
+	/** Score associated with bucket zero. */
+	int base;
+
+	/** No bucket below this index is non-empty. */
+	int min;
+
+	/** Construct empty set of buckets. */
+	public StateBucketed () {
+		hash = new HashMap<INode,Entry>(StateHash.initialCapacity);
+		head = new Entry[INITIAL_BUCKETS];
+		tail = new Entry[INITIAL_BUCKETS];
+		base = 0;
+		min = INITIAL_BUCKETS;
+	}
+
+	/**
+	 * Insert a node.
+	 * 
+	 * @param n  node to be inserted.
+	 */
+	public void insert(INode n) {
+		Entry e = new Entry(n);
+		if (hash.isEmpty()) {
+			// all buckets are empty, so start range at this score
+			base = e.score;
+			min = 0;
+		}
+		hash.put(n, e);
+		append(e);
+	}
+
+	/** 
+	 * Remove and return INode with minimum score value. Nodes with the same
+	 * score are removed in the order they were inserted.
+	 */
+	public INode remove() {
+		while (min < head.length && head[min] == null) { min++; }
+		if (min == head.length) {
+			refill();
+			while (head[min] == null) { min++; }
+		}
+
+		Entry e = head[min];
+		unlink(e);
+		hash.remove(e.node);
+		return e.node;
+	}
+
+	/**
+	 * Replace a node in the set with an equal node having a smaller score, 
+	 * moving the existing entry to its new bucket without updating the hash.
+	 * <p>
+	 * This has the same effect as invoking {@link #remove(INode)} on the
+	 * existing node followed by {@link #insert(INode)} on its replacement.
+	 * 
+	 * @param exist     actual node in the set, as returned by {@link #contains(INode)}
+	 * @param better    equal node with smaller score
+	 */
+	public void decreaseKey(INode exist, INode better) {
+		Entry e = hash.get(exist);
+		unlink(e);
+		e.node = better;
+		e.score = better.score();
+		append(e);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see algs.model.searchtree.INodeSet#isEmpty()
+	 */
+	public boolean isEmpty() {
+		return hash.isEmpty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see algs.model.searchtree.INodeSet#size()
+	 */
+	public int size() {
+		return hash.size();
+	}
+
+	/**
+	 * Retrieve all elements in set by hash, not by order of their score.
+	 */
+	public Iterator<INode> iterator() {
+		final Iterator<Entry> it = hash.values().iterator();
+		return new Iterator<INode>() {
+			public boolean hasNext() { return it.hasNext(); }
+			public INode next() { return it.next().node; }
+			public void remove() {
+				throw new UnsupportedOperationException("StateBucketed iterator does not support remove()");
+			}
+		};
+	}
+
+	/**
+	 * Return node by querying hashtable.
+	 *  
+	 * @param n     target node to be searched for
+	 */
+	public INode contains(INode n) {
+		Entry e = hash.get(n);
+		if (e == null) { return null; }
+		return e.node;
+	}
+
+	/**
+	 * Remove entry from the set.
+	 * 
+	 * @see INodeSet#remove(INode)
+	 * @param n   the node representing the entry to be removed.
+	 */
+	public boolean remove(INode n) {
+		Entry e = hash.remove(n);
+		if (e == null) { return false; }
+
+		unlink(e);
+		return true;
+	}
+
+	/** 
+	 * Append entry to the end of the bucket for its score. The range of buckets
+	 * grows if possible; otherwise a score above the range is placed in the
+	 * overflow list, while a score below the range forces the buckets to be
+	 * rebuilt starting at that score.
+	 */
+	void append(Entry e) {
+		long offset = (long) e.score - base;
+		if (offset >= head.length) {
+			if (offset >= MAX_BUCKETS) {
+				e.overflow = true;
+				e.next = null;
+				e.prev = overTail;
+				if (overTail == null) { overHead = e; } else { overTail.next = e; }
+				overTail = e;
+				return;
+			}
+			grow(e.score);
+		} else if (offset < 0) {
+			if ((long) base + head.length - e.score > MAX_BUCKETS) {
+				rebuild(e.score);
+			} else {
+				grow(e.score);
+			}
+		}
+
+		int idx = e.score - base;
+		Entry t = tail[idx];
+		e.overflow = false;
+		e.next = null;
+		e.prev = t;
+		if (t == null) {
+			head[idx] = e;
+		} else {
+			t.next = e;
+		}
+		tail[idx] = e;
+		if (idx < min) { min = idx; }
+	}
+
+	/** Unlink entry from its bucket or the overflow list. */
+	void unlink(Entry e) {
+		if (e.prev == null) {
+			if (e.overflow) { overHead = e.next; } else { head[e.score - base] = e.next; }
+		} else {
+			e.prev.next = e.next;
+		}
+		if (e.next == null) {
+			if (e.overflow) { overTail = e.prev; } else { tail[e.score - base] = e.prev; }
+		} else {
+			e.next.prev = e.prev;
+		}
+		e.prev = e.next = null;
+	}
+
+	/** Double the range of buckets (up to MAX_BUCKETS) until it includes the given score. */
+	void grow(int score) {
+		long lo = base;
+		long hi = (long) base + head.length;   // exclusive
+		while (score < lo || score >= hi) {
+			long size = hi - lo;
+			if (score < lo) {
+				lo = Math.max(lo - size, hi - MAX_BUCKETS);
+			} else {
+				hi = Math.min(hi + size, lo + MAX_BUCKETS);
+			}
+		}
+		int size = (int) (hi - lo);
+
+		int shift = (int) (base - lo);
+		Entry[] h = new Entry[size];
+		Entry[] t = new Entry[size];
+		System.arraycopy(head, 0, h, shift, head.length);
+		System.arraycopy(tail, 0, t, shift, tail.length);
+		head = h;
+		tail = t;
+		base = (int) lo;
+		min = Math.min(min + shift, size);
+	}
+
+	/** 
+	 * Move all entries into the overflow list and then redistribute those
+	 * within MAX_BUCKETS of the given score into buckets.
+	 */
+	void rebuild(int score) {
+		for (int i = 0; i < head.length; i++) {
+			for (Entry e = head[i]; e != null; ) {
+				Entry next = e.next;
+				e.overflow = true;
+				e.next = null;
+				e.prev = overTail;
+				if (overTail == null) { overHead = e; } else { overTail.next = e; }
+				overTail = e;
+				e = next;
+			}
+		}
+		redistribute(score);
+	}
+
+	/** Once all buckets are empty, redistribute overflow list starting at its smallest score. */
+	void refill() {
+		int lowest = Integer.MAX_VALUE;
+		for (Entry e = overHead; e != null; e = e.next) {
+			if (e.score < lowest) { lowest = e.score; }
+		}
+		redistribute(lowest);
+	}
+
+	/** Reset buckets to start at given score and move overflow entries that fit. */
+	private void redistribute(int score) {
+		head = new Entry[INITIAL_BUCKETS];
+		tail = new Entry[INITIAL_BUCKETS];
+		base = score;
+		min = INITIAL_BUCKETS;
+
+		Entry e = overHead;
+		overHead = overTail = null;
+		while (e != null) {
+			Entry next = e.next;
+			append(e);
+			e = next;
+		}
+	}
+}
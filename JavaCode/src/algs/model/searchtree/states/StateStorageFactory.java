@@ -29,6 +29,10 @@ import algs.model.searchtree.INodeSet;
  *                trouble is that the {@link algs.model.searchtree.INode#score()} is
  *                used as the discriminating key, thus it turns out to not be
  *                that useful at all.
+ * <li>PRIORITY_RETRIEVAL -- Combines HASH for contains() queries with a balanced
+ *                binary tree of lists of nodes with the same score.
+ * <li>BUCKETED -- Combines HASH for contains() queries with an array of buckets
+ *                indexed by score, for constant time insert and removal.
  * </ol>
  *                 
  * @author George Heineman
@@ -55,6 +59,9 @@ public class StateStorageFactory {
 	/** Combines HASH for contains() queries while using TREE for ordering. */
 	public static final int PRIORITY_RETRIEVAL = 6;
 	
+	/** Combines HASH for contains() queries while using buckets indexed by score for ordering. */
+	public static final int BUCKETED = 7;
+	
 	/** 
 	 * Create appropriate structure to use. 
 	 * 
@@ -75,6 +82,8 @@ public class StateStorageFactory {
 				return new StateHash();
 			case PRIORITY_RETRIEVAL:
 				return new StatePriorityRetrieval();
+			case BUCKETED:
+				return new StateBucketed();
 		}
 		
 		throw new IllegalArgumentException ("Must specify a valid type for StateStorageFactory.");
@@ -0,0 +1,565 @@
+package algs.model.sort;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+/**
+ * Multi-pass external merge sort for files of fixed-width binary records that
+ * are too large to fit in memory.
+ *
+ * <p>The input is processed in two phases. First, the file is read in chunks
+ * that fit within the memory budget; each chunk is sorted and written out as a
+ * sorted run. Then groups of runs are merged with a k-way merge driven by a
+ * binary heap until a single run remains. The fan-in k is the number of I/O
+ * buffers that fit within the memory budget, so a larger budget yields both
+ * longer runs and fewer merge passes.</p>
+ *
+ * <p>Records are compared by the primitive key returned from an
+ * {@link IKeyExtractor}. Records with equal keys retain their original order.
+ * All file access goes through {@link FileChannel} with large buffers, and
+ * the number of bytes read and written, as well as the number of merge passes,
+ * are recorded for each sort to help tune the memory budget.</p>
+ *
+ * <p>Unlike {@link MergeSortFileMapped}, files need not fit in the address space
+ * and may be larger than 2GB.</p>
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class ExternalMergeSort {
+
+	/** Default memory budget of 64MB. */
+	public static final long DEFAULT_MEMORY = 64L*1048576;
+
+	/** Default size of each I/O buffer used when merging (1MB). */
+	public static final int DEFAULT_BUFFER = 1048576;
+
+	/** Bytes needed per record during run generation for keys and index arrays. */
+	static final int OVERHEAD = 16;
+
+	/** Recursive sorts at and below this size use InsertionSort. */
+	static final int MIN_SIZE = 16;
+
+	/** Width of each record in bytes. */
+	final int recordSize;
+
+	/** Extracts keys from records. */
+	final IKeyExtractor extractor;
+
+	/** Memory budget (in bytes). */
+	long memoryBudget = DEFAULT_MEMORY;
+
+	/** Size of each I/O buffer (in bytes). */
+	int bufferSize = DEFAULT_BUFFER;
+
+	/** Directory for temporary run files; null means system default. */
+	File tempDirectory;
+
+	/** Number of bytes read during the most recent sort. */
+	long bytesRead;
+
+	/** Number of bytes written during the most recent sort. */
+	long bytesWritten;
+
+	/** Number of merge passes during the most recent sort. */
+	int mergePasses;
+
+	/** Number of sorted runs generated during the most recent sort. */
+	int numRuns;
+
+	/**
+	 * Prepare to sort records of the given width.
+	 *
+	 * @param recordSize   width of each record (in bytes)
+	 * @param extractor    determines the key for each record
+	 * @exception IllegalArgumentException if recordSize is not positive
+	 */
+	public ExternalMergeSort (int recordSize, IKeyExtractor extractor) {
+		if (recordSize <= 0) {
+			throw new IllegalArgumentException ("recordSize must be positive.");
+		}
+		this.recordSize = recordSize;
+		this.extractor = extractor;
+	}
+
+	/**
+	 * Return a sorter for files of 4-byte big-endian int values, the format
+	 * processed by {@link MergeSortFileMapped}.
+	 *
+	 * @return sorter for files of int values
+	 */
+	public static ExternalMergeSort forInts() {
+		return new ExternalMergeSort (4, new IKeyExtractor() {
+			public long key(ByteBuffer buffer, int position) {
+				return buffer.getInt(position);
+			}
+		});
+	}
+
+	/**
+	 * Set the amount of memory available to the sort.
+	 *
+	 * @param bytes   memory budget (in bytes)
+	 */
+	public void setMemoryBudget (long bytes) {
+		this.memoryBudget = bytes;
+	}
+
+	/**
+	 * Set the size of the I/O buffers used when writing and merging runs.
+	 * The size actually used is at most a third of the memory budget, and at
+	 * least one record.
+	 *
+	 * @param bytes   size of each buffer (in bytes)
+	 */
+	public void setBufferSize (int bytes) {
+		this.bufferSize = bytes;
+	}
+
+	/**
+	 * Set the directory within which temporary run files are created.
+	 *
+	 * @param dir   directory to use; if null then system default is used.
+	 */
+	public void setTempDirectory (File dir) {
+		this.tempDirectory = dir;
+	}
+
+	/**
+	 * Return the number of bytes read during the most recent sort.
+	 * 
+	 * @return bytes read
+	 */
+	public long getBytesRead() {
+		return bytesRead;
+	}
+
+	/**
+	 * Return the number of bytes written during the most recent sort.
+	 * 
+	 * @return bytes written
+	 */
+	public long getBytesWritten() {
+		return bytesWritten;
+	}
+
+	/**
+	 * Return the number of merge passes made during the most recent sort.
+	 * Zero when the entire file fit within a single run.
+	 * 
+	 * @return merge passes
+	 */
+	public int getMergePasses() {
+		return mergePasses;
+	}
+
+	/**
+	 * Return the number of sorted runs produced during the most recent sort.
+	 * 
+	 * @return initial number of sorted runs
+	 */
+	public int getNumberRuns() {
+		return numRuns;
+	}
+
+	/**
+	 * Number of records sorted in memory to form each run. The budget must
+	 * also hold the I/O buffer through which each sorted run is written.
+	 */
+	int recordsPerRun() {
+		long recs = (memoryBudget - ioBufferSize()) / (recordSize + OVERHEAD);
+		long maxRecs = (Integer.MAX_VALUE - 8) / recordSize;
+		if (recs > maxRecs) { recs = maxRecs; }
+		if (recs < 1) { recs = 1; }
+		return (int) recs;
+	}
+
+	/**
+	 * Size of each I/O buffer, rounded down to a whole number of records. Since
+	 * at least three buffers are needed to merge, no buffer exceeds a third of
+	 * the memory budget; however each buffer holds at least one record, so a
+	 * budget smaller than three records will be exceeded.
+	 */
+	int ioBufferSize() {
+		long max = Math.min(bufferSize, memoryBudget / 3);
+		int size = (int) (max / recordSize * recordSize);
+		if (size < recordSize) { size = recordSize; }
+		return size;
+	}
+
+	/** Number of runs merged at once. */
+	int fanIn() {
+		long k = memoryBudget / ioBufferSize() - 1;
+		if (k > 1024) { k = 1024; }
+		if (k < 2) { k = 2; }
+		return (int) k;
+	}
+
+	/**
+	 * Sort the file in place.
+	 *
+	 * @param file   file to be sorted
+	 * @throws IOException if unable to access file or temporary files
+	 */
+	public void sort (File file) throws IOException {
+		sort (file, file);
+	}
+
+	/**
+	 * Sort the records of the input file into the output file. The output
+	 * may be the same file as the input.
+	 *
+	 * @param input    file containing the records to be sorted
+	 * @param output   file to contain sorted records
+	 * @throws IOException if unable to access files or temporary files
+	 * @exception IllegalArgumentException if input is not a whole number of records
+	 */
+	public void sort (File input, File output) throws IOException {
+		bytesRead = bytesWritten = 0;
+		mergePasses = numRuns = 0;
+
+		long length = input.length();
+		if (length % recordSize != 0) {
+			throw new IllegalArgumentException ("File length " + length + " is not a multiple of record size " + recordSize);
+		}
+
+		int perRun = recordsPerRun();
+		long runBytes = (long) perRun * recordSize;
+		if (length <= runBytes) {
+			sortInMemory (input, output, (int) length);
+			return;
+		}
+
+		// Phase 1: sorted runs are stored consecutively in a single file.
+		// Temporary files are removed even if the sort fails part way.
+		int runCount = (int) ((length + runBytes - 1) / runBytes);
+		long[] bounds = new long[runCount+1];
+		File runs = createTempFile();
+		File merged = null;
+		try {
+			generateRuns (input, runs, perRun, bounds);
+			numRuns = runCount;
+
+			// Phase 2: merge k runs at a time until one remains in output.
+			int k = fanIn();
+			ByteBuffer[] buffers = new ByteBuffer[k+1];
+			for (int i = 0; i <= k; i++) {
+				buffers[i] = ByteBuffer.allocateDirect(ioBufferSize());
+			}
+
+			while (runCount > k) {
+				int nextCount = (runCount + k - 1) / k;
+				long[] nextBounds = new long[nextCount+1];
+				merged = createTempFile();
+
+				RandomAccessFile src = new RandomAccessFile(runs, "r");
+				try {
+					RandomAccessFile dest = new RandomAccessFile(merged, "rw");
+					try {
+						FileChannel srcC = src.getChannel();
+						FileChannel destC = dest.getChannel();
+						for (int r = 0, g = 0; r < runCount; r += k, g++) {
+							int last = Math.min(r+k, runCount);
+							merge (srcC, bounds, r, last, destC, bounds[r], buffers);
+							nextBounds[g+1] = bounds[last];
+						}
+					} finally {
+						dest.close();
+					}
+				} finally {
+					src.close();
+				}
+
+				runs.delete();
+				runs = merged;
+				merged = null;
+				bounds = nextBounds;
+				runCount = nextCount;
+				mergePasses++;
+			}
+
+			RandomAccessFile src = new RandomAccessFile(runs, "r");
+			try {
+				RandomAccessFile dest = new RandomAccessFile(output, "rw");
+				try {
+					dest.setLength(0);
+					merge (src.getChannel(), bounds, 0, runCount, dest.getChannel(), 0, buffers);
+				} finally {
+					dest.close();
+				}
+			} finally {
+				src.close();
+			}
+			mergePasses++;
+		} finally {
+			runs.delete();
+			if (merged != null) { merged.delete(); }
+		}
+	}
+
+	/** Create temporary file for holding runs; sort deletes it once done. */
+	File createTempFile() throws IOException {
+		return File.createTempFile("ExternalMergeSort", ".run", tempDirectory);
+	}
+
+	/**
+	 * Read entire input file (known to fit within the budget), sort and write
+	 * to output. No merge passes are needed.
+	 */
+	void sortInMemory (File input, File output, int length) throws IOException {
+		ByteBuffer chunk = ByteBuffer.allocate(length);
+		RandomAccessFile src = new RandomAccessFile(input, "r");
+		try {
+			readFully (src.getChannel(), chunk, 0);
+		} finally {
+			src.close();
+		}
+
+		int n = length / recordSize;
+		int[] order = sortChunk (chunk, n, new long[n], new int[n], new int[n]);
+
+		RandomAccessFile dest = new RandomAccessFile(output, "rw");
+		try {
+			dest.setLength(0);
+			writeChunk (chunk, order, n, dest.getChannel(), 0, ByteBuffer.allocateDirect(ioBufferSize()));
+		} finally {
+			dest.close();
+		}
+		numRuns = 1;
+	}
+
+	/**
+	 * Phase 1: read input one chunk at a time, and write each sorted chunk
+	 * to the runs file, recording the starting offsets of each run.
+	 */
+	void generateRuns (File input, File runs, int perRun, long[] bounds) throws IOException {
+		// all storage allocated once and reused for every run.
+		ByteBuffer chunk = ByteBuffer.allocate(perRun * recordSize);
+		long[] keys = new long[perRun];
+		int[] order = new int[perRun];
+		int[] aux = new int[perRun];
+		ByteBuffer out = ByteBuffer.allocateDirect(ioBufferSize());
+
+		RandomAccessFile src = new RandomAccessFile(input, "r");
+		try {
+			RandomAccessFile dest = new RandomAccessFile(runs, "rw");
+			try {
+				FileChannel srcC = src.getChannel();
+				FileChannel destC = dest.getChannel();
+				long pos = 0;
+				for (int r = 1; r < bounds.length; r++) {
+					chunk.clear();
+					int numRead = readFully (srcC, chunk, pos);
+					pos += numRead;
+
+					int n = numRead / recordSize;
+					int[] sorted = sortChunk (chunk, n, keys, order, aux);
+					writeChunk (chunk, sorted, n, destC, bounds[r-1], out);
+					bounds[r] = pos;
+				}
+			} finally {
+				dest.close();
+			}
+		} finally {
+			src.close();
+		}
+	}
+
+	/**
+	 * Read from channel at given position until buffer is full or end of
+	 * file is reached. Returns number of bytes read.
+	 */
+	int readFully (FileChannel channel, ByteBuffer buf, long position) throws IOException {
+		int total = 0;
+		while (buf.hasRemaining()) {
+			int numRead = channel.read(buf, position + total);
+			if (numRead < 0) { break; }
+			total += numRead;
+		}
+		bytesRead += total;
+		return total;
+	}
+
+	/** Write entire buffer to channel at given position. */
+	void writeFully (FileChannel channel, ByteBuffer buf, long position) throws IOException {
+		buf.flip();
+		while (buf.hasRemaining()) {
+			position += channel.write(buf, position);
+		}
+		bytesWritten += buf.limit();
+		buf.clear();
+	}
+
+	/**
+	 * Stable sort of the n records in chunk, returning the array that holds
+	 * the index of each record in sorted order.
+	 */
+	int[] sortChunk (ByteBuffer chunk, int n, long[] keys, int[] order, int[] aux) {
+		for (int i = 0; i < n; i++) {
+			keys[i] = extractor.key(chunk, i*recordSize);
+			order[i] = aux[i] = i;
+		}
+		sortIndices (aux, order, keys, 0, n-1);
+		return order;
+	}
+
+	/**
+	 * Stable MergeSort of record indices from src[lo,hi] into result[lo,hi],
+	 * ordered by their keys. On entry both arrays contain the same values in
+	 * the range; roles alternate at each level to avoid copying.
+	 */
+	static void sortIndices (int[] src, int[] result, long[] keys, int lo, int hi) {
+		if (hi - lo < MIN_SIZE) {
+			for (int i = lo+1; i <= hi; i++) {
+				int value = result[i];
+				long key = keys[value];
+				int j = i-1;
+				while (j >= lo && keys[result[j]] > key) {
+					result[j+1] = result[j];
+					j--;
+				}
+				result[j+1] = value;
+			}
+			return;
+		}
+
+		int mid = (lo + hi) >>> 1;
+		sortIndices (result, src, keys, lo, mid);
+		sortIndices (result, src, keys, mid+1, hi);
+
+		for (int i = lo, j = mid+1, idx = lo; idx <= hi; idx++) {
+			if (j > hi || (i <= mid && keys[src[i]] <= keys[src[j]])) {
+				result[idx] = src[i++];
+			} else {
+				result[idx] = src[j++];
+			}
+		}
+	}
+
+	/** Write the n records from chunk in the given order to the channel. */
+	void writeChunk (ByteBuffer chunk, int[] order, int n, FileChannel channel,
+			long position, ByteBuffer out) throws IOException {
+		byte[] data = chunk.array();
+		out.clear();
+		for (int i = 0; i < n; i++) {
+			if (out.remaining() < recordSize) {
+				int size = out.position();
+				writeFully (channel, out, position);
+				position += size;
+			}
+			out.put(data, order[i]*recordSize, recordSize);
+		}
+		writeFully (channel, out, position);
+	}
+
+	/**
+	 * Merge runs [first, last) from the input channel into a single run
+	 * written to the output channel at the given position.
+	 * <p>
+	 * A binary heap of run indices, keyed by the current record of each run,
+	 * determines the next record to be written. Ties are broken by the run
+	 * index to keep the sort stable. buffers[0] is used for output, while
+	 * buffers[1..k] read from each run.
+	 */
+	void merge (FileChannel in, long[] bounds, int first, int last,
+			FileChannel out, long position, ByteBuffer[] buffers) throws IOException {
+		int k = last - first;
+		long[] next = new long[k];      // file offset of next unread byte for each run
+		long[] heapKey = new long[k+1];
+		int[] heap = new int[k+1];      // heap[1..n] of run indices
+		int n = 0;
+		byte[] record = new byte[recordSize];
+
+		for (int r = 0; r < k; r++) {
+			next[r] = bounds[first+r];
+			if (refill (in, buffers[r+1], next, r, bounds[first+r+1])) {
+				n = siftUp (heap, heapKey, n+1, r, extractor.key(buffers[r+1], 0));
+			}
+		}
+
+		ByteBuffer output = buffers[0];
+		output.clear();
+		while (n > 0) {
+			int r = heap[1];
+			ByteBuffer buf = buffers[r+1];
+			buf.get(record);
+
+			if (output.remaining() < recordSize) {
+				int size = output.position();
+				writeFully (out, output, position);
+				position += size;
+			}
+			output.put(record);
+
+			if (!buf.hasRemaining() && !refill (in, buf, next, r, bounds[first+r+1])) {
+				// run exhausted: move last entry to root
+				int lastRun = heap[n];
+				long lastKey = heapKey[n];
+				n--;
+				if (n > 0) { siftDown (heap, heapKey, n, lastRun, lastKey); }
+			} else {
+				siftDown (heap, heapKey, n, r, extractor.key(buf, buf.position()));
+			}
+		}
+
+		writeFully (out, output, position);
+	}
+
+	/**
+	 * Refill buffer for run r with as much of the remaining run as fits.
+	 * Returns false if the run has been exhausted.
+	 */
+	boolean refill (FileChannel in, ByteBuffer buf, long[] next, int r, long end) throws IOException {
+		long remaining = end - next[r];
+		if (remaining <= 0) { return false; }
+
+		buf.clear();
+		if (remaining < buf.capacity()) {
+			buf.limit((int) remaining);
+		}
+		next[r] += readFully (in, buf, next[r]);
+		buf.flip();
+		return true;
+	}
+
+	/** Determine whether (key1, run1) precedes (key2, run2). */
+	static boolean less (long key1, int run1, long key2, int run2) {
+		return key1 < key2 || (key1 == key2 && run1 < run2);
+	}
+
+	/** Insert run with key at position i of heap, moving up as needed. Returns i. */
+	static int siftUp (int[] heap, long[] heapKey, int i, int run, long key) {
+		int n = i;
+		while (i > 1) {
+			int p = i/2;
+			if (!less (key, run, heapKey[p], heap[p])) { break; }
+			heap[i] = heap[p];
+			heapKey[i] = heapKey[p];
+			i = p;
+		}
+		heap[i] = run;
+		heapKey[i] = key;
+		return n;
+	}
+
+	/** Place run with key at root of heap of size n, moving down as needed. */
+	static void siftDown (int[] heap, long[] heapKey, int n, int run, long key) {
+		int i = 1;
+		int child = 2;
+		while (child <= n) {
+			if (child < n && less (heapKey[child+1], heap[child+1], heapKey[child], heap[child])) {
+				child++;
+			}
+			if (!less (heapKey[child], heap[child], key, run)) { break; }
+
+			heap[i] = heap[child];
+			heapKey[i] = heapKey[child];
+			i = child;
+			child = 2*i;
+		}
+		heap[i] = run;
+		heapKey[i] = key;
+	}
+}
@@ -0,0 +1,29 @@
+package algs.model.sort;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Extract the sort key for a fixed-width record stored within a buffer.
+ * 
+ * <p>Keys are primitive long values so records can be compared without
+ * allocating any objects. Any integral key of up to 64 bits (or a prefix of
+ * a longer key) can be encoded in this way.</p>
+ * 
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public interface IKeyExtractor {
+
+	/**
+	 * Return the key for the record that starts at the given position.
+	 * <p>
+	 * Implementations must use absolute get methods and must not alter the
+	 * position or limit of the buffer.
+	 * 
+	 * @param buffer     buffer containing the record
+	 * @param position   index of the first byte of the record
+	 * @return           key to use when sorting the record
+	 */
+	long key (ByteBuffer buffer, int position);
+}
@@ -3,10 +3,19 @@ package algs.model.sort;
 import java.io.*;
 import java.nio.*;
 import java.nio.channels.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Demonstrates efficient merge sort by using the ability to memory map files for rapid access. 
  * 
+ * <p>A parallel mode, {@link #mergesort(File, ForkJoinPool)}, sorts independent
+ * segments of the mapped file concurrently and then merges sorted segments in 
+ * parallel by splitting the output at co-ranked positions. Since the stateful
+ * position() of a buffer cannot be shared among threads, the parallel mode
+ * only uses absolute-index getInt/putInt calls; each task reads and writes
+ * a disjoint region of the buffers.</p>
+ * 
  * @author George Heineman
  * @version 2.0, 8/6/15
  * @since 2.0
@@ -32,6 +41,12 @@ public class MergeSortFileMapped {
 		fos.close();
 	}
 
+	/** Segments (in ints) at and below this size are sorted in a single thread. */
+	public static final int SEQUENTIAL_SORT = 1 << 16;
+
+	/** Merges (in ints) at and below this size are completed in a single thread. */
+	public static final int SEQUENTIAL_MERGE = 1 << 15;
+
 	/** 
 	 * Perform mergesort on the file.
 	 * 
@@ -56,6 +71,175 @@ public class MergeSortFileMapped {
 		copy.deleteOnExit();
 	}
 
+	/** 
+	 * Perform parallel mergesort on the file using the given pool of threads.
+	 * 
+	 * @param A      file to be sorted
+	 * @param pool   pool whose worker threads perform the sort
+	 * @throws IOException if unable to access files or temporary files
+	 */
+	public static void mergesort (File A, ForkJoinPool pool) throws IOException {
+		File copy = File.createTempFile("Mergesort", ".bin");
+		copyFile (A, copy);
+
+		RandomAccessFile src = new RandomAccessFile(A, "rw");
+		RandomAccessFile dest = new RandomAccessFile(copy, "rw");
+		FileChannel srcC = src.getChannel();
+		FileChannel destC = dest.getChannel();
+		MappedByteBuffer srcMap = srcC.map (FileChannel.MapMode.READ_WRITE, 0, src.length());
+		MappedByteBuffer destMap = destC.map (FileChannel.MapMode.READ_WRITE, 0, dest.length());
+
+		pool.invoke(new SortTask (destMap, srcMap, 0, (int) A.length()/4));
+		
+		src.close();
+		dest.close();
+		copy.deleteOnExit();
+	}
+
+	/**
+	 * Sort A[start,end) into result[start,end) where indices refer to int
+	 * values, not bytes. Both buffers initially contain the same values; their
+	 * roles alternate at each level. Halves are sorted concurrently and then
+	 * merged by {@link MergeTask}.
+	 */
+	@SuppressWarnings("serial")
+	static class SortTask extends RecursiveAction {
+		final ByteBuffer A, result;
+		final int start, end;
+
+		SortTask (ByteBuffer A, ByteBuffer result, int start, int end) {
+			this.A = A;
+			this.result = result;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if (end - start <= SEQUENTIAL_SORT) {
+				sortSegment (A, result, start, end);
+				return;
+			}
+
+			int mid = (start + end) >>> 1;
+			invokeAll (new SortTask (result, A, start, mid), new SortTask (result, A, mid, end));
+			new MergeTask (A, result, start, mid, mid, end, start).compute();
+		}
+	}
+
+	/**
+	 * Merge sorted A[lo1,hi1) and A[lo2,hi2) into result starting at index 
+	 * out, where indices refer to int values. Large merges are split in two 
+	 * at the co-ranked position of the median output value, and both halves 
+	 * are merged concurrently.
+	 */
+	@SuppressWarnings("serial")
+	static class MergeTask extends RecursiveAction {
+		final ByteBuffer A, result;
+		final int lo1, hi1, lo2, hi2, out;
+
+		MergeTask (ByteBuffer A, ByteBuffer result, int lo1, int hi1, int lo2, int hi2, int out) {
+			this.A = A;
+			this.result = result;
+			this.lo1 = lo1;
+			this.hi1 = hi1;
+			this.lo2 = lo2;
+			this.hi2 = hi2;
+			this.out = out;
+		}
+
+		@Override
+		protected void compute() {
+			int n1 = hi1 - lo1;
+			int n2 = hi2 - lo2;
+			if (n1 + n2 <= SEQUENTIAL_MERGE) {
+				merge (A, result, lo1, hi1, lo2, hi2, out);
+				return;
+			}
+
+			int k = (n1 + n2)/2;
+			int i = corank (A, k, lo1, n1, lo2, n2);
+			int j = k - i;
+			invokeAll (new MergeTask (A, result, lo1, lo1+i, lo2, lo2+j, out),
+					new MergeTask (A, result, lo1+i, hi1, lo2+j, hi2, out+k));
+		}
+	}
+
+	/**
+	 * Determine how many of the first k values in the merged output come from
+	 * A[lo1,lo1+n1); the remaining k-i values come from A[lo2,lo2+n2). When
+	 * values are equal, those from the first range are output first.
+	 * 
+	 * @return i such that the first k merged values are A[lo1,lo1+i) and A[lo2,lo2+k-i).
+	 */
+	static int corank (ByteBuffer A, int k, int lo1, int n1, int lo2, int n2) {
+		int low = Math.max(0, k - n2);
+		int high = Math.min(k, n1);
+		while (low < high) {
+			int i = (low + high) >>> 1;
+			int j = k - i;
+			if (j > 0 && i < n1 && A.getInt(4*(lo2+j-1)) >= A.getInt(4*(lo1+i))) {
+				low = i + 1;      // too few taken from first range
+			} else {
+				high = i;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Single-thread mergesort of A[start,end) into result[start,end) using only
+	 * absolute-index access. Indices refer to int values, not bytes.
+	 */
+	static void sortSegment (ByteBuffer A, ByteBuffer result, int start, int end) {
+		if (end - start < 2) { 
+			return; 
+		}
+
+		if (end - start == 2) {
+			int left = result.getInt(4*start);
+			int right = result.getInt(4*start+4);
+			if (left > right) {
+				result.putInt (4*start, right);
+				result.putInt (4*start+4, left);
+			}
+			return;
+		}
+
+		int mid = (start + end) >>> 1;
+		sortSegment (result, A, start, mid);
+		sortSegment (result, A, mid, end);
+		merge (A, result, start, mid, mid, end, start);
+	}
+
+	/**
+	 * Single-thread merge of sorted A[lo1,hi1) and A[lo2,hi2) into result
+	 * starting at index out using only absolute-index access.
+	 */
+	static void merge (ByteBuffer A, ByteBuffer result, int lo1, int hi1, int lo2, int hi2, int out) {
+		int i = lo1;
+		int j = lo2;
+		int idx = 4*out;
+		while (i < hi1 && j < hi2) {
+			int Ai = A.getInt (4*i);
+			int Aj = A.getInt (4*j);
+			if (Ai <= Aj) {
+				result.putInt (idx, Ai);
+				i++;
+			} else {
+				result.putInt (idx, Aj);
+				j++;
+			}
+			idx += 4;
+		}
+		for (; i < hi1; i++, idx += 4) {
+			result.putInt (idx, A.getInt (4*i));
+		}
+		for (; j < hi2; j++, idx += 4) {
+			result.putInt (idx, A.getInt (4*j));
+		}
+	}
+
 	/**
 	 * Helper function for performing mergesort on the MappedByteBuffer, using A as auxiliary.
 	 * 
@@ -0,0 +1,282 @@
+package algs.model.sort.primitive;
+
+/**
+ * Sorting and selection over arrays of primitive <code>double</code> values.
+ * 
+ * <p>These methods mirror {@link algs.model.array.Selection} and
+ * {@link algs.model.heap.HeapSort}, but compare values directly rather than
+ * through {@link Comparable#compareTo(Object)}, so no values are boxed. Apart
+ * from {@link #mergesort(double[], int, int)}, which allocates its auxiliary
+ * array once before sorting, no method allocates any storage.</p>
+ * 
+ * <p>Values are compared using the primitive relational operators, thus
+ * -0.0 and 0.0 are considered equal, and the behavior for arrays containing
+ * NaN is unspecified.</p>
+ * <p>All ranges are inclusive, that is, ar[left,right].</p>
+ * 
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+public class DoubleSort {
+
+	/** Problem size at and below which InsertionSort is used. */
+	public static final int MIN_SIZE = 16;
+
+	/** Not meant to be instantiated. */
+	private DoubleSort() { }
+
+	/**
+	 * Swap the two locations.
+	 * 
+	 * @param ar    An array of values
+	 * @param pos1  position of first element to swap
+	 * @param pos2  position of second element to swap
+	 */
+	public static void swap (double[] ar, int pos1, int pos2) {
+		double tmp = ar[pos1];
+		ar[pos1] = ar[pos2];
+		ar[pos2] = tmp;
+	}
+
+	/**
+	 * Use InsertionSort on the range ar[left,right].
+	 * 
+	 * @param ar       Array of values
+	 * @param left     The left-bounds within which to sort (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to sort (0 &le; right &lt; ar.length)
+	 */
+	public static void insertion (double[] ar, int left, int right) {
+		for (int i = left+1; i <= right; i++) {
+			double value = ar[i];
+			int j = i-1;
+			while (j >= left && ar[j] > value) {
+				ar[j+1] = ar[j];
+				j--;
+			}
+			ar[j+1] = value;
+		}
+	}
+
+	/**
+	 * Place the median of ar[left], ar[mid] and ar[right] in ar[mid] and 
+	 * ensure ar[left] &le; ar[mid] &le; ar[right]. These two outer values
+	 * act as sentinels for {@link #partition(double[], int, int)}.
+	 * 
+	 * @param ar       Array of values
+	 * @param left     lower bound index position
+	 * @param right    upper bound index position
+	 * @return         index of the median value
+	 */
+	static int medianOfThree (double[] ar, int left, int right) {
+		int mid = (left + right) >>> 1;
+		if (ar[mid] < ar[left])   { swap (ar, mid, left); }
+		if (ar[right] < ar[left]) { swap (ar, right, left); }
+		if (ar[right] < ar[mid])  { swap (ar, right, mid); }
+		return mid;
+	}
+
+	/**
+	 * Partition ar[left,right] around the median of three values so all values
+	 * in ar[left,p-1] are &le; ar[p] and all values in ar[p+1,right] are &ge; ar[p].
+	 * <p>
+	 * Values equal to the pivot are distributed to both sides, so arrays with
+	 * many duplicates still split evenly. Requires right - left &ge; 2.
+	 * 
+	 * @param ar       Array of values
+	 * @param left     lower bound index position
+	 * @param right    upper bound index position
+	 * @return         location of the pivot value properly positioned.
+	 */
+	public static int partition (double[] ar, int left, int right) {
+		int mid = medianOfThree (ar, left, right);
+
+		// ar[left] and ar[right] already lie on the proper side; park pivot
+		// just before right.
+		double pivot = ar[mid];
+		swap (ar, mid, right-1);
+
+		int i = left;
+		int j = right-1;
+		while (true) {
+			while (ar[++i] < pivot) { }
+			while (pivot < ar[--j]) { }
+			if (i >= j) { break; }
+			swap (ar, i, j);
+		}
+
+		swap (ar, i, right-1);        // move pivot to its final place
+		return i;
+	}
+
+	/**
+	 * Sort ar[left,right] using Quicksort with median-of-three pivots and
+	 * InsertionSort on small sub-problems. Should the recursion become too 
+	 * deep (a sign of adversarial input) the remaining range is completed 
+	 * using Heapsort, which guarantees O(n log n) behavior.
+	 * 
+	 * @param ar       Array of values
+	 * @param left     The left-bounds within which to sort (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to sort (0 &le; right &lt; ar.length)
+	 */
+	public static void quicksort (double[] ar, int left, int right) {
+		if (right <= left) { return; }
+		int depth = 2 * (32 - Integer.numberOfLeadingZeros(right - left + 1));
+		quicksort (ar, left, right, depth);
+	}
+
+	/** Recursive helper that recurses on the smaller side to bound the stack. */
+	static void quicksort (double[] ar, int left, int right, int depth) {
+		while (right - left > MIN_SIZE) {
+			if (depth-- == 0) {
+				heapsort (ar, left, right);
+				return;
+			}
+
+			int p = partition (ar, left, right);
+			if (p - left < right - p) {
+				quicksort (ar, left, p-1, depth);
+				left = p+1;
+			} else {
+				quicksort (ar, p+1, right, depth);
+				right = p-1;
+			}
+		}
+
+		insertion (ar, left, right);
+	}
+
+	/**
+	 * Restore the heap property for the heap rooted at offset idx within the
+	 * heap stored in ar[base, base+size-1].
+	 */
+	static void heapify (double[] ar, int base, int idx, int size) {
+		double value = ar[base+idx];
+		int half = size >>> 1;
+		while (idx < half) {
+			int child = 2*idx + 1;
+			if (child+1 < size && ar[base+child] < ar[base+child+1]) {
+				child++;
+			}
+			if (ar[base+child] <= value) { break; }
+
+			ar[base+idx] = ar[base+child];
+			idx = child;
+		}
+		ar[base+idx] = value;
+	}
+
+	/**
+	 * Sort ar[left,right] in place using Heapsort.
+	 * 
+	 * @param ar       Array of values
+	 * @param left     The left-bounds within which to sort (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to sort (0 &le; right &lt; ar.length)
+	 */
+	public static void heapsort (double[] ar, int left, int right) {
+		int n = right - left + 1;
+		for (int i = n/2 - 1; i >= 0; i--) {
+			heapify (ar, left, i, n);
+		}
+
+		for (int i = n-1; i > 0; i--) {
+			swap (ar, left, left+i);
+			heapify (ar, left, 0, i);
+		}
+	}
+
+	/**
+	 * Sort ar[left,right] using a stable MergeSort. Allocates an auxiliary
+	 * array once; use {@link #mergesort(double[], int, int, double[])} to reuse
+	 * storage across multiple invocations.
+	 * 
+	 * @param ar       Array of values
+	 * @param left     The left-bounds within which to sort (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to sort (0 &le; right &lt; ar.length)
+	 */
+	public static void mergesort (double[] ar, int left, int right) {
+		if (right <= left) { return; }
+		mergesort (ar, left, right, new double[right+1]);
+	}
+
+	/**
+	 * Sort ar[left,right] using a stable MergeSort with the given auxiliary 
+	 * storage, which must be able to hold indices up to right.
+	 * 
+	 * @param ar       Array of values
+	 * @param left     The left-bounds within which to sort (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to sort (0 &le; right &lt; ar.length)
+	 * @param aux      auxiliary storage whose contents are overwritten.
+	 * @exception      IllegalArgumentException if aux is too small.
+	 */
+	public static void mergesort (double[] ar, int left, int right, double[] aux) {
+		if (right <= left) { return; }
+		if (aux.length <= right) {
+			throw new IllegalArgumentException ("auxiliary array must have at least " + (right+1) + " elements.");
+		}
+
+		System.arraycopy(ar, left, aux, left, right - left + 1);
+		mergesort (aux, ar, left, right);
+	}
+
+	/**
+	 * Sort values from src[left,right] into result[left,right]. On entry both
+	 * arrays contain the same values in the range; roles alternate at each level
+	 * to avoid copying, as done by {@link algs.model.sort.MergeSortFileMapped}.
+	 */
+	static void mergesort (double[] src, double[] result, int left, int right) {
+		if (right - left < MIN_SIZE) {
+			insertion (result, left, right);
+			return;
+		}
+
+		int mid = (left + right) >>> 1;
+		mergesort (result, src, left, mid);
+		mergesort (result, src, mid+1, right);
+
+		// already in order? just copy
+		if (src[mid] <= src[mid+1]) {
+			System.arraycopy(src, left, result, left, right - left + 1);
+			return;
+		}
+
+		for (int i = left, j = mid+1, idx = left; idx <= right; idx++) {
+			if (j > right || (i <= mid && src[i] <= src[j])) {
+				result[idx] = src[i++];
+			} else {
+				result[idx] = src[j++];
+			}
+		}
+	}
+
+	/**
+	 * Select the kth value in ar[left,right] (1 &le; k &le; right-left+1) through
+	 * repeated partitioning. 
+	 * <p>
+	 * Note that ar[] is altered during the execution of this method. Upon
+	 * completion, the kth value is found at ar[left+k-1] with smaller values to
+	 * its left and larger values to its right.
+	 * 
+	 * @param ar       Array of values
+	 * @param k        The position in sorted order of the desired location (1 &le; k &le; right-left+1)
+	 * @param left     The left-bounds within which to search (0 &le; left &lt; ar.length)
+	 * @param right    The right-bounds within which to search (0 &le; right &lt; ar.length)
+	 * @return         The value which is the kth in sorted order.
+	 */
+	public static double select (double[] ar, int k, int left, int right) {
+		int target = left+k-1;
+		while (right - left > MIN_SIZE) {
+			int p = partition (ar, left, right);
+			if (p == target) {
+				return ar[p];
+			} else if (target < p) {
+				right = p - 1;
+			} else {
+				left = p + 1;
+			}
+		}
+
+		insertion (ar, left, right);
+		return ar[target];
+	}
+}
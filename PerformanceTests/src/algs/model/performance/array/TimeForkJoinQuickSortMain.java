@@ -0,0 +1,75 @@
+package algs.model.performance.array;
+
+import java.util.concurrent.ForkJoinPool;
+
+import algs.model.array.ForkJoinQuickSort;
+import algs.model.array.MedianSelector;
+import algs.model.array.MultiThreadQuickSort;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare {@link ForkJoinQuickSort} against {@link MultiThreadQuickSort} as the
+ * number of threads grows from one up to the number of available processors.
+ * 
+ * The size of the largest problem can be set as the first argument.
+ */
+public class TimeForkJoinQuickSortMain  {
+	
+	/** Number of trials for each size. */
+	static final int NUM_TRIALS = 5;
+	
+	public static void main(String[] args) {
+		int maxSize = 10000000;
+		if (args.length > 0) {
+			maxSize = Integer.valueOf(args[0]);
+		}
+		
+		int cores = Runtime.getRuntime().availableProcessors();
+		System.out.println("Available processors: " + cores);
+		for (int nt = 1; nt <= cores; nt *= 2) {
+			TrialSuite forkJoin = new TrialSuite();
+			TrialSuite helpers = new TrialSuite();
+			ForkJoinPool pool = new ForkJoinPool(nt);
+			
+			for (int size = 100000; size <= maxSize; size *= 10) {
+				for (int t = 0; t < NUM_TRIALS; t++) {
+					Integer[] ar = new Integer[size];
+					for (int i = 0; i < size; i++) {
+						ar[i] = (int)(Math.random()*Integer.MAX_VALUE);
+					}
+					Integer[] copy = ar.clone();
+					
+					ForkJoinQuickSort<Integer> fj = new ForkJoinQuickSort<Integer>(ar);
+					fj.setPool(pool);
+					fj.setMinimumSize(16);
+					System.gc();
+					long start = System.currentTimeMillis();
+					fj.qsort(0, size-1);
+					long end = System.currentTimeMillis();
+					forkJoin.addTrial(size, start, end);
+					
+					MultiThreadQuickSort<Integer> mt = new MultiThreadQuickSort<Integer>(copy);
+					mt.setPivotMethod(new MedianSelector());
+					mt.setNumberHelperThreads(nt-1);
+					System.gc();
+					start = System.currentTimeMillis();
+					mt.qsort(0, size-1);
+					end = System.currentTimeMillis();
+					helpers.addTrial(size, start, end);
+					
+					for (int i = 0; i < size-1; i++) {
+						assert (ar[i] <= ar[i+1]);
+						assert (copy[i] <= copy[i+1]);
+					}
+				}
+			}
+			pool.shutdown();
+			
+			System.out.println("NumThreads = " + nt);
+			System.out.println("FORKJOIN");
+			System.out.println(forkJoin.computeTable());
+			System.out.println("HELPERS");
+			System.out.println(helpers.computeTable());
+		}
+	}
+}
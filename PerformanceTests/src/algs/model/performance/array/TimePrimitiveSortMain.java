@@ -0,0 +1,117 @@
+package algs.model.performance.array;
+
+import algs.model.array.MedianSelector;
+import algs.model.array.QuickSort;
+import algs.model.array.Selection;
+import algs.model.heap.HeapSort;
+import algs.model.sort.primitive.IntSort;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare the primitive int sorts in {@link IntSort} against the boxed
+ * {@link QuickSort}, {@link HeapSort} and {@link Selection} over the same data.
+ * 
+ * The size of the largest problem can be set as the first argument.
+ */
+public class TimePrimitiveSortMain  {
+	
+	/** Number of trials for each size. */
+	static final int NUM_TRIALS = 10;
+
+	public static void main(String[] args) {
+		int maxSize = 1000000;
+		if (args.length > 0) {
+			maxSize = Integer.valueOf(args[0]);
+		}
+		
+		TrialSuite boxedQuick = new TrialSuite();
+		TrialSuite boxedHeap = new TrialSuite();
+		TrialSuite boxedSelect = new TrialSuite();
+		TrialSuite quick = new TrialSuite();
+		TrialSuite heap = new TrialSuite();
+		TrialSuite merge = new TrialSuite();
+		TrialSuite select = new TrialSuite();
+		
+		for (int size = 1000; size <= maxSize; size *= 10) {
+			System.out.println (size + "...");
+			int[] aux = new int[size];
+			for (int t = 0; t < NUM_TRIALS; t++) {
+				int[] base = new int[size];
+				for (int i = 0; i < size; i++) {
+					base[i] = (int)(Math.random()*Integer.MAX_VALUE);
+				}
+				
+				// boxed variants
+				Integer[] boxed = box(base);
+				QuickSort<Integer> qs = new QuickSort<Integer>(boxed);
+				qs.setMinimumSize(16);
+				qs.setPivotMethod(new MedianSelector());
+				long start = System.currentTimeMillis();
+				qs.qsort(0, size-1);
+				long end = System.currentTimeMillis();
+				boxedQuick.addTrial(size, start, end);
+				
+				boxed = box(base);
+				start = System.currentTimeMillis();
+				new HeapSort<Integer>().sort(boxed, 0, size-1);
+				end = System.currentTimeMillis();
+				boxedHeap.addTrial(size, start, end);
+				
+				boxed = box(base);
+				start = System.currentTimeMillis();
+				Selection.select(boxed, size/2, 0, size-1);
+				end = System.currentTimeMillis();
+				boxedSelect.addTrial(size, start, end);
+				
+				// primitive variants
+				int[] ar = base.clone();
+				start = System.currentTimeMillis();
+				IntSort.quicksort(ar, 0, size-1);
+				end = System.currentTimeMillis();
+				quick.addTrial(size, start, end);
+				
+				ar = base.clone();
+				start = System.currentTimeMillis();
+				IntSort.heapsort(ar, 0, size-1);
+				end = System.currentTimeMillis();
+				heap.addTrial(size, start, end);
+				
+				ar = base.clone();
+				start = System.currentTimeMillis();
+				IntSort.mergesort(ar, 0, size-1, aux);
+				end = System.currentTimeMillis();
+				merge.addTrial(size, start, end);
+				
+				ar = base.clone();
+				start = System.currentTimeMillis();
+				IntSort.select(ar, size/2, 0, size-1);
+				end = System.currentTimeMillis();
+				select.addTrial(size, start, end);
+			}
+		}
+		
+		System.out.println ("BOXED QUICKSORT");
+		System.out.println (boxedQuick.computeTable());
+		System.out.println ("BOXED HEAPSORT");
+		System.out.println (boxedHeap.computeTable());
+		System.out.println ("BOXED SELECT");
+		System.out.println (boxedSelect.computeTable());
+		System.out.println ("INT QUICKSORT");
+		System.out.println (quick.computeTable());
+		System.out.println ("INT HEAPSORT");
+		System.out.println (heap.computeTable());
+		System.out.println ("INT MERGESORT");
+		System.out.println (merge.computeTable());
+		System.out.println ("INT SELECT");
+		System.out.println (select.computeTable());
+	}
+	
+	/** Produce boxed copy of the values. */
+	static Integer[] box(int[] values) {
+		Integer[] boxed = new Integer[values.length];
+		for (int i = 0; i < values.length; i++) {
+			boxed[i] = values[i];
+		}
+		return boxed;
+	}
+}
@@ -0,0 +1,114 @@
+package algs.model.performance.array;
+
+import java.util.concurrent.ForkJoinPool;
+
+import algs.model.array.ParallelSelection;
+import algs.model.array.Selection;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare {@link Selection#select(Comparable[], int, int, int)} against 
+ * introselect, median-of-medians, multiple selection and parallel selection
+ * when computing the median (and, for multiple selection, nine deciles) of 
+ * random arrays and of arrays with only a handful of distinct values. 
+ * <p>
+ * The original select places all values equal to the pivot on one side, which
+ * leads to quadratic behavior with many duplicates, thus that column is only
+ * measured for the smaller problem sizes.
+ */
+public class TimeSelectionMain  {
+	
+	/** Number of trials for each size. */
+	static final int NUM_TRIALS = 10;
+	
+	/** Largest size for which original select is run on duplicate values. */
+	static final int MAX_DUPLICATE = 10000;
+	
+	public static void main(String[] args) {
+		int maxSize = 10000000;
+		if (args.length > 0) {
+			maxSize = Integer.valueOf(args[0]);
+		}
+		
+		ForkJoinPool pool = new ForkJoinPool();
+		for (int distinct : new int[] { Integer.MAX_VALUE, 4 }) {
+			TrialSuite select = new TrialSuite();
+			TrialSuite intro = new TrialSuite();
+			TrialSuite linear = new TrialSuite();
+			TrialSuite deciles = new TrialSuite();
+			TrialSuite decilesOneByOne = new TrialSuite();
+			TrialSuite parallel = new TrialSuite();
+			
+			for (int size = 1000; size <= maxSize; size *= 10) {
+				for (int t = 0; t < NUM_TRIALS; t++) {
+					Integer[] base = new Integer[size];
+					for (int i = 0; i < size; i++) {
+						base[i] = (int)(Math.random()*distinct);
+					}
+					int k = (size+1)/2;
+					
+					Integer[] ar;
+					long start, end;
+					if (distinct == Integer.MAX_VALUE || size <= MAX_DUPLICATE) {
+						ar = base.clone();
+						start = System.currentTimeMillis();
+						Selection.select(ar, k, 0, size-1);
+						end = System.currentTimeMillis();
+						select.addTrial(size, start, end);
+					}
+					
+					ar = base.clone();
+					start = System.currentTimeMillis();
+					Selection.introselect(ar, k, 0, size-1);
+					end = System.currentTimeMillis();
+					intro.addTrial(size, start, end);
+					
+					ar = base.clone();
+					start = System.currentTimeMillis();
+					Selection.linearSelect(ar, k, 0, size-1);
+					end = System.currentTimeMillis();
+					linear.addTrial(size, start, end);
+					
+					int[] ks = new int[9];
+					for (int d = 1; d <= 9; d++) {
+						ks[d-1] = Math.max(1, size*d/10);
+					}
+					ar = base.clone();
+					start = System.currentTimeMillis();
+					Selection.select(ar, ks, 0, size-1);
+					end = System.currentTimeMillis();
+					deciles.addTrial(size, start, end);
+					
+					ar = base.clone();
+					start = System.currentTimeMillis();
+					for (int d = 0; d < ks.length; d++) {
+						Selection.introselect(ar, ks[d], 0, size-1);
+					}
+					end = System.currentTimeMillis();
+					decilesOneByOne.addTrial(size, start, end);
+					
+					ar = base.clone();
+					start = System.currentTimeMillis();
+					new ParallelSelection<Integer>(ar, pool).select(k, 0, size-1);
+					end = System.currentTimeMillis();
+					parallel.addTrial(size, start, end);
+				}
+			}
+			
+			System.out.println (distinct == Integer.MAX_VALUE ? "RANDOM VALUES" : "FOUR DISTINCT VALUES");
+			System.out.println ("SELECT");
+			System.out.println (select.computeTable());
+			System.out.println ("INTROSELECT");
+			System.out.println (intro.computeTable());
+			System.out.println ("MEDIAN OF MEDIANS");
+			System.out.println (linear.computeTable());
+			System.out.println ("NINE DECILES AT ONCE");
+			System.out.println (deciles.computeTable());
+			System.out.println ("NINE DECILES ONE AT A TIME");
+			System.out.println (decilesOneByOne.computeTable());
+			System.out.println ("PARALLEL (" + pool.getParallelism() + " threads)");
+			System.out.println (parallel.computeTable());
+		}
+		pool.shutdown();
+	}
+}
@@ -0,0 +1,98 @@
+package algs.model.performance.convexhull;
+
+import java.util.concurrent.ForkJoinPool;
+
+import algs.model.IPoint;
+import algs.model.data.Generator;
+import algs.model.data.points.UniformGenerator;
+import algs.model.problems.convexhull.AklToussaint;
+import algs.model.problems.convexhull.IConvexHull;
+import algs.model.problems.convexhull.andrew.ConvexHullScan;
+import algs.model.problems.convexhull.parallel.AklToussaintFilter;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare the time to discard interior points (and number that remain) of the
+ * sequential and two-threaded Akl-Toussaint heuristics against the parallel
+ * {@link AklToussaintFilter} using polygons of 4, 8 and 16 sides, whose
+ * workers are sized to the common pool. Then compare computing the hull of
+ * all points against computing it once filtered.
+ * <p>
+ * The number of points (default 2^21) can be set as an argument.
+ */
+public class AklToussaintFilterMain {
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 10;
+
+	public static void main (String []args) {
+		int n = 1 << 21;
+		if (args.length > 0) { n = Integer.valueOf(args[0]); }
+
+		Generator<IPoint> g = new UniformGenerator();
+		IPoint[] points = g.generate (n);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = points[i].getX();
+			ys[i] = points[i].getY();
+		}
+		int[] out = new int[n];
+
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		int workers = pool.getParallelism();
+		int[] ks = { 2, 4, 8 };
+		AklToussaintFilter[] filters = new AklToussaintFilter[ks.length];
+		for (int i = 0; i < ks.length; i++) {
+			filters[i] = new AklToussaintFilter (new ConvexHullScan(), pool, workers, ks[i]);
+		}
+
+		// 0 is sequential; 1 is two threads; 2.. are filters.
+		TrialSuite reduce = new TrialSuite();
+		int[] remain = new int[2 + ks.length];
+		for (int t = 0; t < NUM_TRIALS; t++) {
+			System.gc();
+			long now = System.currentTimeMillis();
+			remain[0] = AklToussaint.reduce (points).length;
+			reduce.addTrial (0, now, System.currentTimeMillis());
+
+			System.gc();
+			now = System.currentTimeMillis();
+			remain[1] = algs.model.problems.convexhull.parallel.AklToussaint.reduce (points).length;
+			reduce.addTrial (1, now, System.currentTimeMillis());
+
+			for (int i = 0; i < ks.length; i++) {
+				System.gc();
+				now = System.currentTimeMillis();
+				remain[2+i] = filters[i].filter (xs, ys, n, out);
+				reduce.addTrial (2+i, now, System.currentTimeMillis());
+			}
+		}
+
+		// hull of all points against filtered (octagon) points.
+		IConvexHull andrew = new ConvexHullScan();
+		TrialSuite hull = new TrialSuite();
+		for (int t = 0; t < NUM_TRIALS; t++) {
+			System.gc();
+			long now = System.currentTimeMillis();
+			andrew.compute (points.clone());
+			hull.addTrial (0, now, System.currentTimeMillis());
+
+			System.gc();
+			now = System.currentTimeMillis();
+			filters[1].compute (points.clone());
+			hull.addTrial (1, now, System.currentTimeMillis());
+		}
+
+		System.out.println (n + " points; " + workers + " workers");
+		System.out.println ("heuristic,average (ms),remaining");
+		System.out.println ("AklToussaint," + reduce.getAverage(0) + "," + remain[0]);
+		System.out.println ("parallel AklToussaint," + reduce.getAverage(1) + "," + remain[1]);
+		for (int i = 0; i < ks.length; i++) {
+			System.out.println ("AklToussaintFilter " + 2*ks[i] + "-gon," + reduce.getAverage(2+i) + "," + remain[2+i]);
+		}
+		System.out.println ("hull,average (ms)");
+		System.out.println ("ConvexHullScan," + hull.getAverage(0));
+		System.out.println ("AklToussaintFilter + ConvexHullScan," + hull.getAverage(1));
+	}
+}
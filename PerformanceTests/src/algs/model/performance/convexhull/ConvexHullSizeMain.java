@@ -1,10 +1,15 @@
 package algs.model.performance.convexhull;
 
+import java.util.Random;
+
 import algs.model.IPoint;
 import algs.model.data.Generator;
 import algs.model.data.points.UniformGenerator;
 import algs.model.problems.convexhull.AklToussaint;
 import algs.model.problems.convexhull.andrew.ConvexHullScan;
+import algs.model.problems.convexhull.chan.ChanHull;
+import algs.model.tests.common.TrialSuite;
+import algs.model.twod.TwoDPoint;
 
 /**
  * Given random point selections, what is the average number of points
@@ -21,6 +26,9 @@ import algs.model.problems.convexhull.andrew.ConvexHullScan;
  * 100000     51478  36        41082  28
  * 1000000    398822 39        704352 45
  * 
+ * Since the hull is so small relative to the number of points, the output-sensitive
+ * ChanHull is then compared against ConvexHullScan as n grows while the size
+ * of the hull is fixed.
  */
 public class ConvexHullSizeMain {
 
@@ -46,5 +54,63 @@ public class ConvexHullSizeMain {
 			
 			idx *= 10;
 		}
+		
+		fixedHull (32, 1 << 14, 1 << 22);
+	}
+	
+	/** 
+	 * Time hull computations for n points, from lo to hi, which have h points on
+	 * the hull: the vertices of a regular polygon around randomly placed points.
+	 */
+	static void fixedHull (int h, int lo, int hi) {
+		int NUM_TRIALS = 5;
+		Random rnd = new Random(1);
+		double inner = 0.9 * Math.cos (Math.PI / h);
+		
+		TrialSuite andrew = new TrialSuite();
+		TrialSuite chan = new TrialSuite();
+		TrialSuite chanArrays = new TrialSuite();
+		for (int n = lo; n <= hi; n *= 2) {
+			IPoint[] points = new IPoint[n];
+			double[] xs = new double[n];
+			double[] ys = new double[n];
+			for (int i = 0; i < n; i++) {
+				double r = 1, a = 2*Math.PI*i/h;
+				if (i >= h) {
+					r = inner * Math.sqrt (rnd.nextDouble());
+					a = 2*Math.PI*rnd.nextDouble();
+				}
+				xs[i] = r*Math.cos(a);
+				ys[i] = r*Math.sin(a);
+				points[i] = new TwoDPoint (xs[i], ys[i]);
+			}
+			
+			for (int t = 0; t < NUM_TRIALS; t++) {
+				IPoint[] copy = points.clone();
+				System.gc();
+				long now = System.currentTimeMillis();
+				int a = new ConvexHullScan().compute(copy).length;
+				andrew.addTrial(n, now, System.currentTimeMillis());
+				
+				System.gc();
+				now = System.currentTimeMillis();
+				int b = new ChanHull().compute(points).length;
+				chan.addTrial(n, now, System.currentTimeMillis());
+				
+				System.gc();
+				now = System.currentTimeMillis();
+				int c = new ChanHull().compute(xs, ys).length;
+				chanArrays.addTrial(n, now, System.currentTimeMillis());
+				
+				if (a != h || b != h || c != h) { System.err.println ("Hulls differ for " + n); }
+			}
+		}
+		
+		System.out.println ("Hull of " + h + " points.");
+		System.out.println ("size,ConvexHullScan,ChanHull,ChanHull(xs,ys)");
+		for (int n = lo; n <= hi; n *= 2) {
+			System.out.println (n + "," + andrew.getAverage(n) + "," + chan.getAverage(n) + 
+					"," + chanArrays.getAverage(n));
+		}
 	}
 }
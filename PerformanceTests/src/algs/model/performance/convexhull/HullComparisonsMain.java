@@ -1,23 +1,38 @@
 package algs.model.performance.convexhull;
 
+import java.util.concurrent.ForkJoinPool;
+
 import algs.model.IPoint;
 import algs.model.data.Generator;
 import algs.model.data.points.UniformGenerator;
 import algs.model.problems.convexhull.AklToussaint;
 import algs.model.problems.convexhull.andrew.ConvexHullScan;
 import algs.model.problems.convexhull.bucket.BucketAndrew;
+import algs.model.problems.convexhull.parallel.ForkJoinHull;
 import algs.model.problems.convexhull.slowhull.SlowHull;
 import algs.model.tests.common.TrialSuite;
 
 /**
  * note that SLOW still may return different hull for even 80 points. Must
  * still check into floating point computations to see why...
- *  
+ * <p>
+ * {@link ForkJoinHull} is swept over pools of 1, 2, 4, ... threads, up to the
+ * number of available processors (or the first argument).
  */
 public class HullComparisonsMain {
 
 	
 	public static void main (String[] args) {
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		if (args.length > 0) { maxThreads = Integer.valueOf(args[0]); }
+		int numPools = 32 - Integer.numberOfLeadingZeros(maxThreads);
+		ForkJoinPool[] pools = new ForkJoinPool[numPools];
+		TrialSuite[] hullForkJoinTS = new TrialSuite[numPools];
+		for (int i = 0; i < numPools; i++) {
+			pools[i] = new ForkJoinPool(1 << i);
+			hullForkJoinTS[i] = new TrialSuite();
+		}
+
 		Generator<IPoint> g = new UniformGenerator();
 		TrialSuite hullTS = new TrialSuite();
 		TrialSuite hullAklTS = new TrialSuite();
@@ -32,6 +47,7 @@ public class HullComparisonsMain {
 			System.out.println(n + "...");
 			for (int t = 0; t < numTrials; t++) {
 				IPoint[] max = g.generate(n);
+				IPoint[] unsorted = max.clone();   // ConvexHullScan sorts max in place
 				
 				long now, done;
 				// standard comparison w/out Akl-Toussaint heuristic
@@ -75,6 +91,17 @@ public class HullComparisonsMain {
 				done = System.currentTimeMillis();
 				hullBucketTS.addTrial(n, now, done);
 				
+				// fork/join hull by number of threads
+				for (int i = 0; i < numPools; i++) {
+					IPoint[] copy = unsorted.clone();
+					System.gc();
+					now = System.currentTimeMillis();
+					IPoint hullForkJoin[] = new ForkJoinHull(pools[i]).compute(copy);
+					done = System.currentTimeMillis();
+					hullForkJoinTS[i].addTrial(n, now, done);
+					assert(hull.length == hullForkJoin.length);
+				}
+				
 				assert(hull.length == hullRegular.length);
 				assert(hull.length == hullBucket.length);
 				assert(hull.length == hullBalanced.length);
@@ -123,5 +150,11 @@ public class HullComparisonsMain {
 		
 		System.out.println("Hull Balanced TrialSuite");
 		System.out.println(hullBalancedTS.computeTable());
+		
+		for (int i = 0; i < numPools; i++) {
+			System.out.println("Hull ForkJoin (" + (1 << i) + " threads) TrialSuite");
+			System.out.println(hullForkJoinTS[i].computeTable());
+			pools[i].shutdown();
+		}
 	}
 }
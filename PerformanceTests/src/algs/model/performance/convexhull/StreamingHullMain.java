@@ -0,0 +1,70 @@
+package algs.model.performance.convexhull;
+
+import algs.model.IPoint;
+import algs.model.data.Generator;
+import algs.model.data.points.UniformGenerator;
+import algs.model.problems.convexhull.andrew.ConvexHullScan;
+import algs.model.problems.convexhull.andrew.StreamingHull;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare maintaining the hull of a stream of batches of random points with
+ * {@link StreamingHull} against recomputing it with {@link ConvexHullScan}
+ * over all points (or those in the window) after each batch arrives.
+ * <p>
+ * The number of batches (default 200), batch size (default 1000) and
+ * window (default 50 batches) can be set as arguments.
+ */
+public class StreamingHullMain {
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 3;
+
+	public static void main (String []args) {
+		int numBatches = 200;
+		int batchSize = 1000;
+		int window = 50;
+		if (args.length > 0) { numBatches = Integer.valueOf(args[0]); }
+		if (args.length > 1) { batchSize = Integer.valueOf(args[1]); }
+		if (args.length > 2) { window = Integer.valueOf(args[2]); }
+
+		Generator<IPoint> g = new UniformGenerator();
+		IPoint[] stream = g.generate (numBatches * batchSize);
+
+		// 0 is recompute all; 1 is streaming; 2 is recompute window; 3 is streaming window.
+		TrialSuite ts = new TrialSuite();
+		int[] sizes = new int[4];
+		for (int t = 0; t < NUM_TRIALS; t++) {
+			for (int kind = 0; kind < 4; kind++) {
+				boolean windowed = kind >= 2;
+				StreamingHull sh = windowed ? new StreamingHull (window) : new StreamingHull();
+				IPoint[] batch = new IPoint[batchSize];
+
+				System.gc();
+				long now = System.currentTimeMillis();
+				for (int b = 0; b < numBatches; b++) {
+					IPoint[] hull;
+					if (kind % 2 == 0) {
+						int from = windowed ? Math.max (0, b+1-window) * batchSize : 0;
+						IPoint[] points = new IPoint[(b+1) * batchSize - from];
+						System.arraycopy (stream, from, points, 0, points.length);
+						hull = new ConvexHullScan().compute (points);
+					} else {
+						System.arraycopy (stream, b * batchSize, batch, 0, batchSize);
+						sh.add (batch);
+						hull = sh.hull();
+					}
+					sizes[kind] = hull.length;
+				}
+				ts.addTrial (kind, now, System.currentTimeMillis());
+			}
+		}
+
+		System.out.println (numBatches + " batches of " + batchSize + " points; window of " + window + " batches");
+		System.out.println ("approach,average (ms),final hull size");
+		System.out.println ("ConvexHullScan all," + ts.getAverage(0) + "," + sizes[0]);
+		System.out.println ("StreamingHull all," + ts.getAverage(1) + "," + sizes[1]);
+		System.out.println ("ConvexHullScan window," + ts.getAverage(2) + "," + sizes[2]);
+		System.out.println ("StreamingHull window," + ts.getAverage(3) + "," + sizes[3]);
+	}
+}
@@ -0,0 +1,94 @@
+package algs.model.performance.heap;
+
+import java.util.Random;
+
+import algs.model.heap.BinaryHeap;
+import algs.model.heap.IndexedIntHeap;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare {@link BinaryHeap} against {@link IndexedIntHeap} of various arity
+ * on a Dijkstra-like workload: insert n elements, perform n decreaseKey 
+ * operations, and then remove all elements in order.
+ * 
+ * The largest number of elements (default 2^20) can be set as first argument.
+ */
+public class IndexedHeapMain {
+
+	/** Number of trials for each size. */
+	static final int NUM_TRIALS = 10;
+	
+	/** Arity values to try. */
+	static final int[] ARITY = { 2, 4, 8 };
+	
+	public static void main(String[] args) {
+		int maxSize = 1 << 20;
+		if (args.length > 0) {
+			maxSize = Integer.valueOf(args[0]);
+		}
+		
+		Random rnd = new Random();
+		TrialSuite binary = new TrialSuite();
+		TrialSuite[] indexed = new TrialSuite[ARITY.length];
+		for (int a = 0; a < ARITY.length; a++) {
+			indexed[a] = new TrialSuite();
+		}
+		
+		for (int n = 1024; n <= maxSize; n *= 4) {
+			System.out.println (n + "...");
+			for (int t = 0; t < NUM_TRIALS; t++) {
+				int[] priorities = new int[n];
+				int[] decreased = new int[n];
+				int[] order = new int[n];
+				for (int i = 0; i < n; i++) {
+					priorities[i] = rnd.nextInt(Integer.MAX_VALUE/2) + Integer.MAX_VALUE/2;
+					decreased[i] = rnd.nextInt(Integer.MAX_VALUE/2);
+					order[i] = i;
+				}
+				for (int i = n-1; i > 0; i--) {
+					int j = rnd.nextInt(i+1);
+					int tmp = order[i]; order[i] = order[j]; order[j] = tmp;
+				}
+				
+				System.gc();
+				long start = System.currentTimeMillis();
+				BinaryHeap<Integer> bh = new BinaryHeap<Integer>(n);
+				for (int i = 0; i < n; i++) {
+					bh.insert(i, priorities[i]);
+				}
+				for (int i = 0; i < n; i++) {
+					bh.decreaseKey(order[i], decreased[order[i]]);
+				}
+				while (!bh.isEmpty()) {
+					bh.smallestID();
+				}
+				long end = System.currentTimeMillis();
+				binary.addTrial(n, start, end);
+				
+				for (int a = 0; a < ARITY.length; a++) {
+					System.gc();
+					start = System.currentTimeMillis();
+					IndexedIntHeap ih = new IndexedIntHeap(n, ARITY[a]);
+					for (int i = 0; i < n; i++) {
+						ih.insert(i, priorities[i]);
+					}
+					for (int i = 0; i < n; i++) {
+						ih.decreaseKey(order[i], decreased[order[i]]);
+					}
+					while (!ih.isEmpty()) {
+						ih.smallestID();
+					}
+					end = System.currentTimeMillis();
+					indexed[a].addTrial(n, start, end);
+				}
+			}
+		}
+		
+		System.out.println ("BINARY HEAP");
+		System.out.println (binary.computeTable());
+		for (int a = 0; a < ARITY.length; a++) {
+			System.out.println ("INDEXED " + ARITY[a] + "-ARY HEAP");
+			System.out.println (indexed[a].computeTable());
+		}
+	}
+}
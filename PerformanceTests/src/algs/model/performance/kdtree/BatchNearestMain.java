@@ -0,0 +1,97 @@
+package algs.model.performance.kdtree;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import algs.model.IMultiPoint;
+import algs.model.IPoint;
+import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDTree;
+import algs.model.kdtree.TwoDFactory;
+import algs.model.kdtree.TwoDTree;
+import algs.model.tests.common.TrialSuite;
+import algs.model.twod.TwoDPoint;
+
+/**
+ * Compare invoking nearest in a loop against the batch nearestAll method of
+ * {@link KDTree} (n random points in d dimensions, with defaults of 2^20 and 3
+ * that can be set as arguments) and {@link TwoDTree} (n random points). The
+ * batch is run on a pool with a single thread, to isolate the benefit of
+ * searching targets in Morton order with the previous result as bound, and
+ * on the common pool.
+ */
+public class BatchNearestMain {
+
+	/** Number of targets in batch. */
+	static final int NUM_SEARCHES = 1 << 20;
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 5;
+
+	public static void main (String []args) {
+		int n = 1 << 20;
+		int d = 3;
+		if (args.length > 0) { n = Integer.valueOf(args[0]); }
+		if (args.length > 1) { d = Integer.valueOf(args[1]); }
+
+		DimensionalCrossoverMain.rGen = new Random();
+		DimensionalCrossoverMain.rGen.setSeed(1);
+		KDTree tree = KDFactory.generate (DimensionalCrossoverMain.randomPoints (n, d));
+		IMultiPoint[] targets = DimensionalCrossoverMain.randomPoints (NUM_SEARCHES, d);
+
+		// TwoDFactory requires coordinates that differ by at least 1.
+		Random rnd = new Random(1);
+		IPoint[] points = new IPoint[n];
+		for (int i = 0; i < n; i++) {
+			points[i] = new TwoDPoint (rnd.nextInt(1 << 30), rnd.nextInt(1 << 30));
+		}
+		TwoDTree tree2 = TwoDFactory.generate (points);
+		IPoint[] targets2 = new IPoint[NUM_SEARCHES];
+		for (int i = 0; i < NUM_SEARCHES; i++) {
+			targets2[i] = new TwoDPoint (rnd.nextInt(1 << 30), rnd.nextInt(1 << 30));
+		}
+
+		ForkJoinPool single = new ForkJoinPool(1);
+		TrialSuite kd = new TrialSuite();
+		TrialSuite twod = new TrialSuite();
+		for (int t = 0; t < NUM_TRIALS; t++) {
+			// 0 is loop; 1 is batch with one thread; 2 is batch with common pool.
+			for (int kind = 0; kind <= 2; kind++) {
+				System.gc();
+				long now = System.currentTimeMillis();
+				if (kind == 0) {
+					for (IMultiPoint target : targets) { tree.nearest (target); }
+				} else {
+					tree.nearestAll (targets, kind == 1 ? single : ForkJoinPool.commonPool());
+				}
+				long done = System.currentTimeMillis();
+				kd.addTrial(kind, now, done);
+
+				System.gc();
+				now = System.currentTimeMillis();
+				if (kind == 0) {
+					for (IPoint target : targets2) { tree2.nearest (target); }
+				} else {
+					tree2.nearestAll (targets2, kind == 1 ? single : ForkJoinPool.commonPool());
+				}
+				done = System.currentTimeMillis();
+				twod.addTrial(kind, now, done);
+			}
+		}
+		single.shutdown();
+
+		System.out.println (n + " points; " + NUM_SEARCHES + " targets; " +
+				ForkJoinPool.commonPool().getParallelism() + " threads in common pool");
+		System.out.println ("tree,loop (ms),batch 1 thread (ms),speedup,batch common pool (ms),speedup");
+		print ("KDTree d=" + d, kd);
+		print ("TwoDTree", twod);
+	}
+
+	/** Output averages and speedups. */
+	static void print (String label, TrialSuite suite) {
+		double loop = Double.valueOf (suite.getAverage(0));
+		double one = Double.valueOf (suite.getAverage(1));
+		double all = Double.valueOf (suite.getAverage(2));
+		System.out.println (label + "," + loop + "," + one + "," + loop/one + "," + all + "," + loop/all);
+	}
+}
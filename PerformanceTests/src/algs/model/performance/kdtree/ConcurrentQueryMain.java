@@ -0,0 +1,80 @@
+package algs.model.performance.kdtree;
+
+import java.util.Random;
+
+import algs.model.IMultiPoint;
+import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDStats;
+import algs.model.kdtree.KDTree;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Measure the throughput of nearest neighbor queries against a single KDTree
+ * shared by 1, 2, 4, ... threads (up to the number of available processors,
+ * or the third argument) for n random points in d dimensions (defaults of
+ * 2^20 points and 4 dimensions can be set as arguments). Each thread performs
+ * NUM_SEARCHES queries, either recording nothing or recording into its own
+ * {@link KDStats}. With no shared counters, the throughput should scale
+ * linearly with the number of threads up to the number of cores.
+ */
+public class ConcurrentQueryMain {
+
+	/** Number of queries performed by each thread. */
+	static final int NUM_SEARCHES = 65536;
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 5;
+
+	public static void main (String []args) throws InterruptedException {
+		int n = 1 << 20;
+		int d = 4;
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		if (args.length > 0) { n = Integer.valueOf(args[0]); }
+		if (args.length > 1) { d = Integer.valueOf(args[1]); }
+		if (args.length > 2) { maxThreads = Integer.valueOf(args[2]); }
+
+		DimensionalCrossoverMain.rGen = new Random();
+		DimensionalCrossoverMain.rGen.setSeed(1);
+		final KDTree tree = KDFactory.generate (DimensionalCrossoverMain.randomPoints (n, d));
+		final IMultiPoint[] searchPoints = DimensionalCrossoverMain.randomPoints (NUM_SEARCHES, d);
+
+		TrialSuite plain = new TrialSuite();
+		TrialSuite withStats = new TrialSuite();
+		for (int t = 0; t < NUM_TRIALS; t++) {
+			for (int p = 1; p <= maxThreads; p *= 2) {
+				for (int mode = 0; mode <= 1; mode++) {
+					final boolean record = (mode == 1);
+					Thread[] threads = new Thread[p];
+					for (int i = 0; i < p; i++) {
+						threads[i] = new Thread() {
+							public void run() {
+								KDStats stats = record ? new KDStats() : null;
+								for (IMultiPoint target : searchPoints) {
+									tree.nearest (target, stats);
+								}
+							}
+						};
+					}
+
+					System.gc();
+					long now = System.currentTimeMillis();
+					for (Thread th : threads) { th.start(); }
+					for (Thread th : threads) { th.join(); }
+					long done = System.currentTimeMillis();
+					(record ? withStats : plain).addTrial(p, now, done);
+				}
+			}
+		}
+
+		System.out.println (n + " points in " + d + " dimensions; " + NUM_SEARCHES + " queries per thread");
+		System.out.println ("threads,queries/sec,speedup,queries/sec (stats),speedup (stats)");
+		double base = Double.valueOf (plain.getAverage(1));
+		double baseStats = Double.valueOf (withStats.getAverage(1));
+		for (int p = 1; p <= maxThreads; p *= 2) {
+			double ms = Double.valueOf (plain.getAverage(p));
+			double msStats = Double.valueOf (withStats.getAverage(p));
+			System.out.println (p + "," + (long) (1000.0 * p * NUM_SEARCHES / ms) + "," + p * base / ms + ","
+					+ (long) (1000.0 * p * NUM_SEARCHES / msStats) + "," + p * baseStats / msStats);
+		}
+	}
+}
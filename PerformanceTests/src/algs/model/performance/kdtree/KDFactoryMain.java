@@ -0,0 +1,127 @@
+package algs.model.performance.kdtree;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import algs.model.IMultiPoint;
+import algs.model.array.Selection;
+import algs.model.kdtree.DimensionalComparator;
+import algs.model.kdtree.DimensionalNode;
+import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDTree;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare the time to generate a KDTree for n random points in d dimensions
+ * (defaults of 2^21 points and 4 dimensions can be set as arguments) using
+ * <ul>
+ * <li>the original approach, selecting medians with a {@link DimensionalComparator}
+ *     over the points themselves and propagating regions once built;
+ * <li>{@link KDFactory#generate(IMultiPoint[], ForkJoinPool)} with pools of
+ *     1, 2, 4, ... threads (up to the number of available processors);
+ * <li>four trees generated concurrently from four threads, which was not
+ *     possible when the factory was synchronized.
+ * </ul>
+ */
+public class KDFactoryMain {
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 5;
+
+	/** Number of trees generated concurrently. */
+	static final int NUM_CONCURRENT = 4;
+
+	public static void main (String []args) throws InterruptedException {
+		int n = 1 << 21;
+		int d = 4;
+		if (args.length > 0) { n = Integer.valueOf(args[0]); }
+		if (args.length > 1) { d = Integer.valueOf(args[1]); }
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+
+		DimensionalCrossoverMain.rGen = new Random();
+		DimensionalCrossoverMain.rGen.setSeed(1);
+		final IMultiPoint[] points = DimensionalCrossoverMain.randomPoints (n, d);
+
+		TrialSuite original = new TrialSuite();
+		TrialSuite parallel = new TrialSuite();
+		TrialSuite concurrent = new TrialSuite();
+		for (int t = 0; t < NUM_TRIALS; t++) {
+			IMultiPoint[] copy = points.clone();
+			System.gc();
+			long now = System.currentTimeMillis();
+			originalGenerate (copy);
+			long done = System.currentTimeMillis();
+			original.addTrial(n, now, done);
+
+			for (int p = 1; p <= maxThreads; p *= 2) {
+				copy = points.clone();
+				ForkJoinPool pool = new ForkJoinPool(p);
+				System.gc();
+				now = System.currentTimeMillis();
+				KDFactory.generate (copy, pool);
+				done = System.currentTimeMillis();
+				parallel.addTrial(p, now, done);
+				pool.shutdown();
+			}
+
+			Thread[] threads = new Thread[NUM_CONCURRENT];
+			for (int i = 0; i < NUM_CONCURRENT; i++) {
+				threads[i] = new Thread() {
+					public void run() {
+						KDFactory.generate (points.clone());
+					}
+				};
+			}
+			System.gc();
+			now = System.currentTimeMillis();
+			for (Thread th : threads) { th.start(); }
+			for (Thread th : threads) { th.join(); }
+			done = System.currentTimeMillis();
+			concurrent.addTrial(NUM_CONCURRENT, now, done);
+		}
+
+		System.out.println (n + " points in " + d + " dimensions");
+		System.out.println ("Original (comparators)");
+		System.out.println (original.computeTable());
+		System.out.println ("KDFactory by number of threads");
+		System.out.println (parallel.computeTable());
+		System.out.println (NUM_CONCURRENT + " trees generated concurrently (common pool)");
+		System.out.println (concurrent.computeTable());
+
+		double base = Double.valueOf (original.getAverage(n));
+		System.out.println ("threads,speedup over original");
+		for (int p = 1; p <= maxThreads; p *= 2) {
+			System.out.println (p + "," + base / Double.valueOf (parallel.getAverage(p)));
+		}
+	}
+
+	/** The original generate, selecting medians by comparing points. */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static KDTree originalGenerate (IMultiPoint[] points) {
+		int maxD = points[0].dimensionality();
+		KDTree tree = new KDTree(maxD);
+		Comparator<IMultiPoint> comparators[] = new Comparator[maxD+1];
+		for (int i = 1; i <= maxD; i++) {
+			comparators[i] = new DimensionalComparator(i);
+		}
+		tree.setRoot(originalGenerate (1, maxD, points, 0, points.length-1, comparators));
+		return tree;
+	}
+
+	/** Generate node for d-th dimension (1 &le; d &le; maxD) for points[left, right]. */
+	static DimensionalNode originalGenerate (int d, int maxD, IMultiPoint points[], int left, int right,
+			Comparator<IMultiPoint> comparators[]) {
+		if (right < left) { return null; }
+		if (right == left) { return new DimensionalNode (d, points[left]); }
+
+		int m = 1+(right-left)/2;
+		Selection.select(points, m, left, right, comparators[d]);
+		DimensionalNode dm = new DimensionalNode (d, points[left+m-1]);
+
+		if (++d > maxD) { d = 1; }
+		dm.setBelow(originalGenerate (d, maxD, points, left, left+m-2, comparators));
+		dm.setAbove(originalGenerate (d, maxD, points, left+m, right, comparators));
+		return dm;
+	}
+}
@@ -0,0 +1,82 @@
+package algs.model.performance.kdtree;
+
+import java.util.Random;
+
+import algs.model.IMultiPoint;
+import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDTree;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Measure the throughput of {@link KDTree#kNearest} for k = 1, 10 and 100,
+ * and {@link KDTree#withinRadius} for a radius expected to contain about 10
+ * and 100 points, against {@link KDTree#nearest}, for n random points in
+ * d dimensions (defaults of 2^17 points and 4 dimensions can be set as
+ * arguments). Times are reported for a batch of NUM_SEARCHES queries, along
+ * with the corresponding number of queries per second.
+ */
+public class KNearestMain {
+
+	/** Number of queries per trial. */
+	static final int NUM_SEARCHES = 16384;
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 5;
+
+	public static void main (String []args) {
+		int n = 1 << 17;
+		int d = 4;
+		if (args.length > 0) { n = Integer.valueOf(args[0]); }
+		if (args.length > 1) { d = Integer.valueOf(args[1]); }
+
+		DimensionalCrossoverMain.rGen = new Random();
+		DimensionalCrossoverMain.rGen.setSeed(1);
+		IMultiPoint[] points = DimensionalCrossoverMain.randomPoints (n, d);
+		IMultiPoint[] searchPoints = DimensionalCrossoverMain.randomPoints (NUM_SEARCHES, d);
+		KDTree tree = KDFactory.generate(points);
+
+		// radius of d-ball whose volume is m/n of the unit cube.
+		double unit = Math.pow (Math.PI, d/2.0) / gamma (d/2.0 + 1);
+		double r10 = Math.pow (10.0 / n / unit, 1.0/d);
+		double r100 = Math.pow (100.0 / n / unit, 1.0/d);
+
+		IMultiPoint[] results = new IMultiPoint[1024];
+		double[] distances = new double[1024];
+		String[] labels = { "nearest", "kNearest k=1", "kNearest k=10", "kNearest k=100",
+				"withinRadius ~10", "withinRadius ~100" };
+		TrialSuite suite = new TrialSuite();
+		long found = 0;
+		for (int t = 0; t < NUM_TRIALS; t++) {
+			for (int kind = 0; kind < labels.length; kind++) {
+				System.gc();
+				long now = System.currentTimeMillis();
+				for (IMultiPoint target : searchPoints) {
+					switch (kind) {
+					case 0: tree.nearest (target); break;
+					case 1: found += tree.kNearest (target, 1, results, distances); break;
+					case 2: found += tree.kNearest (target, 10, results, distances); break;
+					case 3: found += tree.kNearest (target, 100, results, distances); break;
+					case 4: found += tree.withinRadius (target, r10, results); break;
+					case 5: found += tree.withinRadius (target, r100, results); break;
+					}
+				}
+				long done = System.currentTimeMillis();
+				suite.addTrial(kind, now, done);
+			}
+		}
+
+		System.out.println (n + " points in " + d + " dimensions; " + NUM_SEARCHES + " queries (" + found + " found)");
+		System.out.println ("query,average ms,queries/sec");
+		for (int kind = 0; kind < labels.length; kind++) {
+			double avg = Double.valueOf (suite.getAverage(kind));
+			System.out.println (labels[kind] + "," + avg + "," + (int) (NUM_SEARCHES * 1000 / Math.max (avg, 1)));
+		}
+	}
+
+	/** Gamma function for positive multiples of 1/2. */
+	static double gamma (double x) {
+		if (x == 0.5) { return Math.sqrt (Math.PI); }
+		if (x == 1) { return 1; }
+		return (x-1) * gamma (x-1);
+	}
+}
@@ -0,0 +1,113 @@
+package algs.model.performance.kdtree;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import algs.model.IMultiPoint;
+import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDTree;
+import algs.model.kdtree.StaticKDTree;
+import algs.model.nd.Hypercube;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare {@link KDTree} against {@link StaticKDTree} for n random points in d
+ * dimensions (defaults of 2^20 points and 3 dimensions can be set as
+ * arguments), reporting the time to build each tree, the additional heap
+ * memory per point that each tree requires (beyond the points themselves),
+ * and the time for NUM_SEARCHES nearest neighbor queries and range queries
+ * (each cube expected to contain about 100 points).
+ */
+public class StaticKDTreeMain {
+
+	/** Number of queries per trial. */
+	static final int NUM_SEARCHES = 65536;
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 5;
+
+	/** Heap memory in use, after collecting garbage. */
+	static long used() {
+		Runtime rt = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) { System.gc(); }
+		return rt.totalMemory() - rt.freeMemory();
+	}
+
+	public static void main (String []args) {
+		int n = 1 << 20;
+		int d = 3;
+		if (args.length > 0) { n = Integer.valueOf(args[0]); }
+		if (args.length > 1) { d = Integer.valueOf(args[1]); }
+
+		DimensionalCrossoverMain.rGen = new Random();
+		DimensionalCrossoverMain.rGen.setSeed(1);
+		IMultiPoint[] points = DimensionalCrossoverMain.randomPoints (n, d);
+		IMultiPoint[] searchPoints = DimensionalCrossoverMain.randomPoints (NUM_SEARCHES, d);
+
+		// side of cube whose volume is 100/n of the unit cube.
+		double side = Math.pow (100.0 / n, 1.0/d);
+		Hypercube[] cubes = new Hypercube[NUM_SEARCHES];
+		for (int i = 0; i < NUM_SEARCHES; i++) {
+			double[] low = searchPoints[i].raw();
+			double[] high = new double[d];
+			for (int j = 0; j < d; j++) { high[j] = low[j] + side; }
+			cubes[i] = new Hypercube (low, high);
+		}
+
+		TrialSuite build = new TrialSuite();
+		TrialSuite nearest = new TrialSuite();
+		TrialSuite range = new TrialSuite();
+		long kdMemory = 0, staticMemory = 0;
+		for (int t = 0; t < NUM_TRIALS; t++) {
+			// 0 is KDTree; 1 is StaticKDTree
+			for (int kind = 0; kind <= 1; kind++) {
+				long before = used();
+				long now = System.currentTimeMillis();
+				KDTree tree = null;
+				StaticKDTree stree = null;
+				if (kind == 0) {
+					tree = KDFactory.generate (points.clone());
+				} else {
+					stree = new StaticKDTree (points);
+				}
+				long done = System.currentTimeMillis();
+				build.addTrial(kind, now, done);
+				long memory = used() - before;
+				if (kind == 0) { kdMemory = memory; } else { staticMemory = memory; }
+
+				System.gc();
+				now = System.currentTimeMillis();
+				for (IMultiPoint target : searchPoints) {
+					if (kind == 0) { tree.nearest (target); } else { stree.nearest (target); }
+				}
+				done = System.currentTimeMillis();
+				nearest.addTrial(kind, now, done);
+
+				System.gc();
+				long found = 0;
+				now = System.currentTimeMillis();
+				for (Hypercube cube : cubes) {
+					Iterator<IMultiPoint> it = (kind == 0) ? tree.range (cube) : stree.range (cube);
+					while (it.hasNext()) { it.next(); found++; }
+				}
+				done = System.currentTimeMillis();
+				range.addTrial(kind, now, done);
+				if (t == 0) { System.out.println ((kind == 0 ? "KDTree" : "StaticKDTree") + " found " + found); }
+			}
+		}
+
+		System.out.println (n + " points in " + d + " dimensions; " + NUM_SEARCHES + " queries");
+		System.out.println ("operation,KDTree,StaticKDTree,speedup");
+		print ("build (ms)", build);
+		print ("nearest (ms)", nearest);
+		print ("range (ms)", range);
+		System.out.println ("bytes/point," + kdMemory/n + "," + staticMemory/n + "," + (double) kdMemory/staticMemory);
+	}
+
+	/** Output averages for KDTree (0) and StaticKDTree (1). */
+	static void print (String label, TrialSuite suite) {
+		double kd = Double.valueOf (suite.getAverage(0));
+		double st = Double.valueOf (suite.getAverage(1));
+		System.out.println (label + "," + kd + "," + st + "," + kd / Math.max (st, 1));
+	}
+}
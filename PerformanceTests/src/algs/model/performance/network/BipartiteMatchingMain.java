@@ -0,0 +1,162 @@
+package algs.model.performance.network;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import algs.model.network.matching.BipartiteMatching;
+import algs.model.network.matching.HopcroftKarp;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare {@link BipartiteMatching}, which reduces matching to a FlowNetwork
+ * problem, against {@link HopcroftKarp} on random bipartite graphs with n
+ * vertices in each of S and T, where each vertex of S has DEGREE edges.
+ * <p>
+ * For each graph, EDITS edges are then added and removed at random and the
+ * time to repair the matching is compared against recomputing it from
+ * scratch.
+ * <p>
+ * The flow-based approach is only run while n is no greater than FLOW_LIMIT,
+ * since it quickly becomes too slow. The largest n (default 2^18) can be set
+ * as first argument.
+ */
+public class BipartiteMatchingMain {
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 5;
+
+	/** Edges leaving each vertex in S. */
+	static final int DEGREE = 4;
+
+	/** Number of random edge insertions and deletions. */
+	static final int EDITS = 16;
+
+	/** Largest graph for the flow-based approach. */
+	static final int FLOW_LIMIT = 1 << 10;
+
+	/** Edges of the graph, as parallel arrays. */
+	static int[] left, right;
+
+	/** Generate random graph with n vertices in S and in T; no edge is repeated. */
+	static void generate (Random rnd, int n) {
+		left = new int[n*DEGREE];
+		right = new int[n*DEGREE];
+
+		int e = 0;
+		for (int u = 0; u < n; u++) {
+			int base = e;
+			while (e < base + DEGREE) {
+				int v = rnd.nextInt(n);
+				if (contains (base, e, v)) { continue; }
+				left[e] = u;
+				right[e++] = v;
+			}
+		}
+	}
+
+	/** Determine whether v is already within right[lo,hi). */
+	static boolean contains (int lo, int hi, int v) {
+		for (int i = lo; i < hi; i++) {
+			if (right[i] == v) { return true; }
+		}
+		return false;
+	}
+
+	public static void main(String[] args) {
+		int max = 1 << 18;
+		if (args.length > 0) {
+			max = Integer.valueOf(args[0]);
+		}
+
+		Random rnd = new Random(1263);
+		TrialSuite flow = new TrialSuite();
+		TrialSuite hk = new TrialSuite();
+		TrialSuite repair = new TrialSuite();
+		TrialSuite recompute = new TrialSuite();
+		for (int n = 1 << 8; n <= max; n *= 2) {
+			for (int t = 0; t < NUM_TRIALS; t++) {
+				generate (rnd, n);
+
+				int checkSum = -1;
+				if (n <= FLOW_LIMIT) {
+					Integer[] S = new Integer[n];
+					Integer[] T = new Integer[n];
+					for (int i = 0; i < n; i++) {
+						S[i] = i;
+						T[i] = n+i;
+					}
+					Integer[][] pairs = new Integer[left.length][];
+					for (int e = 0; e < left.length; e++) {
+						pairs[e] = new Integer[] { left[e], n+right[e] };
+					}
+					BipartiteMatching bm = new BipartiteMatching(S, T, pairs);
+					System.gc();
+					long now = System.currentTimeMillis();
+					checkSum = 0;
+					for (Iterator<?> it = bm.compute(); it.hasNext(); it.next()) {
+						checkSum++;
+					}
+					long done = System.currentTimeMillis();
+					flow.addTrial(n, now, done);
+				}
+
+				HopcroftKarp matcher = new HopcroftKarp(n, n, left, right);
+				System.gc();
+				long now = System.currentTimeMillis();
+				int size = matcher.compute();
+				long done = System.currentTimeMillis();
+				hk.addTrial(n, now, done);
+				if (checkSum != -1 && checkSum != size) {
+					System.err.println ("DIFFERENT RESULTS (HopcroftKarp)!");
+				}
+
+				// remove edges from matching, and add random ones, then repair.
+				for (int k = 0; k < EDITS; k++) {
+					int u = rnd.nextInt(n);
+					int v = matcher.matchOfLeft(u);
+					if (v != HopcroftKarp.NIL) {
+						matcher.removeEdge(u, v);
+					}
+					matcher.addEdge(rnd.nextInt(n), rnd.nextInt(n));
+				}
+				now = System.currentTimeMillis();
+				size = matcher.compute();
+				done = System.currentTimeMillis();
+				repair.addTrial(n, now, done);
+
+				// recompute from scratch using the same edges.
+				int m = 0;
+				for (int u = 0; u < n; u++) {
+					m += matcher.degree(u);
+				}
+				int[] l = new int[m];
+				int[] r = new int[m];
+				m = 0;
+				for (int u = 0; u < n; u++) {
+					for (int i = 0; i < matcher.degree(u); i++) {
+						l[m] = u;
+						r[m++] = matcher.neighbor(u, i);
+					}
+				}
+				HopcroftKarp fresh = new HopcroftKarp(n, n, l, r);
+				System.gc();
+				now = System.currentTimeMillis();
+				int check = fresh.compute();
+				done = System.currentTimeMillis();
+				recompute.addTrial(n, now, done);
+				if (check != size) {
+					System.err.println ("DIFFERENT RESULTS (repair)!");
+				}
+			}
+		}
+
+		System.out.println ("BipartiteMatching (FordFulkerson)");
+		System.out.println (flow.computeTable());
+		System.out.println ("HopcroftKarp");
+		System.out.println (hk.computeTable());
+		System.out.println ("HopcroftKarp repair after " + EDITS + " edits");
+		System.out.println (repair.computeTable());
+		System.out.println ("HopcroftKarp recompute after " + EDITS + " edits");
+		System.out.println (recompute.computeTable());
+	}
+}
@@ -0,0 +1,100 @@
+package algs.model.performance.network;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import algs.model.network.Dinic;
+import algs.model.network.FlowNetworkCSR;
+import algs.model.network.IncrementalMaxFlow;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare {@link IncrementalMaxFlow} against recomputing the maximum flow
+ * with {@link Dinic} from scratch, on the random sparse networks of
+ * {@link SparseMaxFlowMain}, after each batch of edits.
+ * <p>
+ * Each batch changes the capacity of BATCH random edges (half of which are
+ * reduced to a random fraction of their current value), removes one edge and
+ * adds one edge. The network has n vertices (default 2^18, which can be set as
+ * first argument) and results are reported by batch size.
+ */
+public class IncrementalMaxFlowMain {
+
+	/** Number of batches for each batch size. */
+	static final int NUM_TRIALS = 10;
+
+	public static void main(String[] args) {
+		int n = 1 << 18;
+		if (args.length > 0) {
+			n = Integer.valueOf(args[0]);
+		}
+
+		Random rnd = new Random(1263);
+		SparseMaxFlowMain.generate (rnd, n);
+		int[] start = SparseMaxFlowMain.start;
+		int[] end = SparseMaxFlowMain.end;
+		int[] cap = SparseMaxFlowMain.cap;
+		int m = start.length;
+
+		FlowNetworkCSR network = new FlowNetworkCSR (n, 0, n-1, start, end, cap, null);
+		IncrementalMaxFlow imf = new IncrementalMaxFlow (network);
+		long now = System.currentTimeMillis();
+		int flow = imf.compute();
+		long done = System.currentTimeMillis();
+		System.out.println ("Initial flow " + flow + " in " + (done - now) + " ms");
+
+		TrialSuite incremental = new TrialSuite();
+		TrialSuite full = new TrialSuite();
+		for (int batch = 1; batch <= 256; batch *= 4) {
+			for (int t = 0; t < NUM_TRIALS; t++) {
+				for (int k = 0; k < batch; k++) {
+					int e = rnd.nextInt(m);
+					if (rnd.nextBoolean()) {
+						cap[e] = rnd.nextInt(cap[e]+1);
+					} else {
+						cap[e] += 1 + rnd.nextInt(100);
+					}
+					imf.setCapacity (e, cap[e]);
+				}
+				int e = rnd.nextInt(m);
+				cap[e] = 0;
+				imf.removeEdge (e);
+
+				if (m == start.length) {
+					start = Arrays.copyOf (start, 2*m);
+					end = Arrays.copyOf (end, 2*m);
+					cap = Arrays.copyOf (cap, 2*m);
+				}
+				start[m] = 1 + rnd.nextInt(n-2);
+				end[m] = 1 + rnd.nextInt(n-2);
+				cap[m] = 1 + rnd.nextInt(100);
+				imf.addEdge (start[m], end[m], cap[m]);
+				m++;
+
+				System.gc();
+				now = System.currentTimeMillis();
+				flow = imf.compute();
+				done = System.currentTimeMillis();
+				incremental.addTrial(batch, now, done);
+
+				// recompute from scratch on the edited network.
+				FlowNetworkCSR copy = new FlowNetworkCSR (n, 0, n-1, Arrays.copyOf (start, m),
+						Arrays.copyOf (end, m), Arrays.copyOf (cap, m), null);
+				System.gc();
+				now = System.currentTimeMillis();
+				int check = new Dinic(copy).compute();
+				done = System.currentTimeMillis();
+				full.addTrial(batch, now, done);
+				if (check != flow) {
+					System.err.println ("DIFFERENT RESULTS!");
+				}
+			}
+		}
+
+		System.out.println ("IncrementalMaxFlow");
+		System.out.println (incremental.computeTable());
+		System.out.println ("Dinic (full recompute)");
+		System.out.println (full.computeTable());
+	}
+
+}
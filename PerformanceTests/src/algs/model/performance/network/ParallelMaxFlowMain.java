@@ -0,0 +1,76 @@
+package algs.model.performance.network;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import algs.model.network.FlowNetworkCSR;
+import algs.model.network.ParallelPushRelabel;
+import algs.model.network.PushRelabel;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare {@link PushRelabel} against {@link ParallelPushRelabel} using pools
+ * of 1, 2, 4, ... threads (up to the number of available processors, or the
+ * second argument) on the random sparse networks of {@link SparseMaxFlowMain}.
+ * The network has n vertices (default 2^20, which can be set as first
+ * argument). The speedup of each thread count over a single thread is
+ * reported once all trials complete.
+ */
+public class ParallelMaxFlowMain {
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 5;
+
+	public static void main(String[] args) {
+		int n = 1 << 20;
+		if (args.length > 0) {
+			n = Integer.valueOf(args[0]);
+		}
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		if (args.length > 1) {
+			maxThreads = Integer.valueOf(args[1]);
+		}
+
+		Random rnd = new Random(1263);
+		TrialSuite sequential = new TrialSuite();
+		TrialSuite parallel = new TrialSuite();
+		for (int t = 0; t < NUM_TRIALS; t++) {
+			SparseMaxFlowMain.generate (rnd, n);
+			FlowNetworkCSR network = new FlowNetworkCSR (n, 0, n-1,
+					SparseMaxFlowMain.start, SparseMaxFlowMain.end, SparseMaxFlowMain.cap, null);
+
+			System.gc();
+			long now = System.currentTimeMillis();
+			int checkSum = new PushRelabel(network).compute();
+			long done = System.currentTimeMillis();
+			sequential.addTrial(1, now, done);
+
+			for (int p = 1; p <= maxThreads; p *= 2) {
+				network.reset();
+				ForkJoinPool pool = new ForkJoinPool(p);
+				ParallelPushRelabel ppr = new ParallelPushRelabel (network);
+				ppr.setPool (pool);
+				System.gc();
+				now = System.currentTimeMillis();
+				int flow = ppr.compute();
+				done = System.currentTimeMillis();
+				parallel.addTrial(p, now, done);
+				pool.shutdown();
+				if (flow != checkSum) {
+					System.err.println ("DIFFERENT RESULTS (" + p + " threads)!");
+				}
+			}
+		}
+
+		System.out.println ("PushRelabel");
+		System.out.println (sequential.computeTable());
+		System.out.println ("ParallelPushRelabel by number of threads");
+		System.out.println (parallel.computeTable());
+
+		System.out.println ("threads,speedup");
+		double base = Double.valueOf (parallel.getAverage(1));
+		for (int p = 1; p <= maxThreads; p *= 2) {
+			System.out.println (p + "," + base / Double.valueOf (parallel.getAverage(p)));
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package algs.model.performance.network;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import algs.model.network.BFS_SearchList;
+import algs.model.network.Dinic;
+import algs.model.network.EdgeInfo;
+import algs.model.network.FlowNetworkAdjacencyList;
+import algs.model.network.FlowNetworkCSR;
+import algs.model.network.FordFulkerson;
+import algs.model.network.PushRelabel;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare {@link FordFulkerson} using {@link BFS_SearchList} against
+ * {@link Dinic} and {@link PushRelabel} over a {@link FlowNetworkCSR} on
+ * random sparse networks whose vertices each have DEGREE outgoing edges.
+ * The source and sink are each connected to &radic;n vertices.
+ * <p>
+ * Ford-Fulkerson is only run while n is no greater than FF_LIMIT, since it
+ * quickly becomes too slow. The largest n (default 2^20) can be set as
+ * first argument.
+ */
+public class SparseMaxFlowMain {
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 5;
+
+	/** Outgoing edges from each vertex. */
+	static final int DEGREE = 8;
+
+	/** Largest network for Ford-Fulkerson. */
+	static final int FF_LIMIT = 1 << 13;
+
+	/** Edges of the network, as parallel arrays. */
+	static int[] start, end, cap;
+
+	/** 
+	 * Generate random sparse network with n vertices. Source is 0 and sink is n-1.
+	 * No edge is repeated, since FordFulkerson expects at most one edge (u,v).
+	 */
+	static void generate (Random rnd, int n) {
+		int hub = (int) Math.sqrt(n);
+		int m = (n-2)*DEGREE + 2*hub;
+		start = new int[m];
+		end = new int[m];
+		cap = new int[m];
+
+		int e = 0;
+		for (int u = 1; u < n-1; u++) {
+			int base = e;
+			while (e < base + DEGREE) {
+				int v = 1 + rnd.nextInt(n-2);
+				if (v == u || contains (base, e, v)) { continue; }
+				start[e] = u;
+				end[e] = v;
+				cap[e++] = 1 + rnd.nextInt(100);
+			}
+		}
+
+		// edges out of source, then edges into sink from distinct vertices.
+		int base = e;
+		while (e < base + hub) {
+			int v = 1 + rnd.nextInt(n-2);
+			if (contains (base, e, v)) { continue; }
+			start[e] = 0;
+			end[e] = v;
+			cap[e++] = 1000;
+		}
+		base = e;
+		while (e < base + hub) {
+			int u = 1 + rnd.nextInt(n-2);
+			if (containsStart (base, e, u)) { continue; }
+			start[e] = u;
+			end[e] = n-1;
+			cap[e++] = 1000;
+		}
+	}
+
+	/** Determine whether v is already an end vertex within end[lo,hi). */
+	static boolean contains (int lo, int hi, int v) {
+		for (int i = lo; i < hi; i++) {
+			if (end[i] == v) { return true; }
+		}
+		return false;
+	}
+
+	/** Determine whether u is already a start vertex within start[lo,hi). */
+	static boolean containsStart (int lo, int hi, int u) {
+		for (int i = lo; i < hi; i++) {
+			if (start[i] == u) { return true; }
+		}
+		return false;
+	}
+
+	public static void main(String[] args) {
+		int max = 1 << 20;
+		if (args.length > 0) {
+			max = Integer.valueOf(args[0]);
+		}
+
+		Random rnd = new Random(1263);
+		TrialSuite ff = new TrialSuite();
+		TrialSuite dinic = new TrialSuite();
+		TrialSuite pr = new TrialSuite();
+		for (int n = 1 << 10; n <= max; n *= 2) {
+			for (int t = 0; t < NUM_TRIALS; t++) {
+				generate (rnd, n);
+
+				int checkSum = -1;
+				if (n <= FF_LIMIT) {
+					ArrayList<EdgeInfo> edges = new ArrayList<EdgeInfo>();
+					for (int e = 0; e < start.length; e++) {
+						edges.add (new EdgeInfo (start[e], end[e], cap[e]));
+					}
+					FlowNetworkAdjacencyList networkL = new FlowNetworkAdjacencyList (n, 0, n-1, edges.iterator());
+					FordFulkerson ffl = new FordFulkerson (networkL, new BFS_SearchList (networkL));
+					System.gc();
+					long now = System.currentTimeMillis();
+					ffl.compute();
+					long done = System.currentTimeMillis();
+					ff.addTrial(n, now, done);
+					checkSum = networkL.getFlow();
+				}
+
+				FlowNetworkCSR network = new FlowNetworkCSR (n, 0, n-1, start, end, cap, null);
+				System.gc();
+				long now = System.currentTimeMillis();
+				int flow = new Dinic(network).compute();
+				long done = System.currentTimeMillis();
+				dinic.addTrial(n, now, done);
+				if (checkSum != -1 && checkSum != flow) {
+					System.err.println ("DIFFERENT RESULTS (Dinic)!");
+				}
+				checkSum = flow;
+
+				network.reset();
+				System.gc();
+				now = System.currentTimeMillis();
+				flow = new PushRelabel(network).compute();
+				done = System.currentTimeMillis();
+				pr.addTrial(n, now, done);
+				if (checkSum != flow) {
+					System.err.println ("DIFFERENT RESULTS (PushRelabel)!");
+				}
+			}
+		}
+
+		System.out.println ("FordFulkerson (BFS_SearchList)");
+		System.out.println (ff.computeTable());
+		System.out.println ("Dinic");
+		System.out.println (dinic.computeTable());
+		System.out.println ("PushRelabel");
+		System.out.println (pr.computeTable());
+	}
+}
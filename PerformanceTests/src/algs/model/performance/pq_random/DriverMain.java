@@ -3,16 +3,62 @@ package algs.model.performance.pq_random;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
+import java.util.Random;
 import java.util.Scanner;
 import java.util.StringTokenizer;
 
+import algs.model.heap.BinaryHeap;
+import algs.model.heap.IPriorityQueue;
+import algs.model.heap.IndexedIntHeap;
+import algs.model.heap.PairingHeap;
+import algs.model.heap.RadixHeap;
 import algs.model.tests.common.TrialSuite;
 
+/**
+ * Replay the priority queue trace file (if present) against {@link IPQueue}
+ * and then replay synthetic insert-heavy, decreaseKey-heavy and extract-heavy
+ * traces against each {@link IPriorityQueue} implementation.
+ * <p>
+ * The synthetic traces are monotone (no priority is smaller than the last
+ * one removed) so they can be replayed by {@link RadixHeap}. The number of
+ * ids (default 2^18) can be set as first argument.
+ */
 public class DriverMain {
 	
 	public static Item sentinel = new Item (-1,-1);
 	
+	/** Operations in a synthetic trace. */
+	static final int INSERT = 0, DECREASE = 1, EXTRACT = 2;
+	
+	/** Number of trials for each synthetic trace. */
+	static final int NUM_TRIALS = 10;
+	
+	/** Priorities are chosen from [last, last+RANGE), with RANGE reduced for large n to avoid overflow. */
+	static final int RANGE = 1 << 20;
+	
+	/** Names of the synthetic traces. */
+	static final String[] TRACES = { "insert-heavy", "decreaseKey-heavy", "extract-heavy" };
+	
+	/** Names of the priority queues being compared. */
+	static final String[] QUEUES = { "BinaryHeap", "PairingHeap", "IndexedIntHeap", "RadixHeap" };
+	
 	public static void main (String []args) throws FileNotFoundException {
+		File f = new File ("tests\\algs\\model\\performance\\pq_random\\pqsort.1K.1");
+		if (f.exists()) {
+			replayTrace (f);
+		} else {
+			System.out.println ("Trace file " + f + " not found; only synthetic traces are replayed.");
+		}
+		
+		int n = 1 << 18;
+		if (args.length > 0) {
+			n = Integer.valueOf(args[0]);
+		}
+		replaySynthetic (n);
+	}
+	
+	/** Replay the given trace file against {@link ArrayPQ}. */
+	static void replayTrace (File f) throws FileNotFoundException {
 		// a sentinel-added value is a 'dmn' request.
 		ArrayList<Item> priorities = new ArrayList<Item>();
 		
@@ -25,7 +71,6 @@ public class DriverMain {
 		//java.net.URL u;
 		//Scanner s = new Scanner (u.openStream());
 		
-		File f = new File ("tests\\algs\\model\\performance\\pq_random\\pqsort.1K.1");
 		Scanner sc = new Scanner (f);
 		while (sc.hasNext()) {
 			String s = sc.nextLine();
@@ -72,4 +117,113 @@ public class DriverMain {
 		System.out.println ("insert");
 		System.out.println (insTS.computeTable());
 	}
+	
+	/** 
+	 * Build a synthetic trace over ids 0..n-1 as three parallel arrays
+	 * (operation, id, priority). Each operation is chosen at random with the
+	 * given weights, skipping those that cannot be applied; once the weighted
+	 * operations are exhausted, the remaining elements are all extracted.
+	 * An {@link IndexedIntHeap} tracks the state of the queue so priorities
+	 * never fall below the last one removed. Since each of the (at most n)
+	 * removals advances the last priority by less than the range, the range is
+	 * limited so priorities never overflow.
+	 */
+	static int[][] buildTrace (int n, int numOps, int wInsert, int wDecrease, int wExtract, Random rnd) {
+		ArrayList<int[]> ops = new ArrayList<int[]>();
+		IndexedIntHeap ref = new IndexedIntHeap(n);
+		int nextID = 0;
+		int last = 0;
+		int total = wInsert + wDecrease + wExtract;
+		int range = (int) Math.min(RANGE, Integer.MAX_VALUE / (2L*n));
+		
+		for (int k = 0; k < numOps; k++) {
+			int r = rnd.nextInt(total);
+			if (r < wInsert) {
+				if (nextID == n) { continue; }
+				int p = last + rnd.nextInt(range);
+				ref.insert(nextID, p);
+				ops.add(new int[] { INSERT, nextID++, p });
+			} else if (r < wInsert + wDecrease) {
+				if (ref.isEmpty()) { continue; }
+				int id = rnd.nextInt(nextID);
+				if (!ref.contains(id) || ref.priority(id) == last) { continue; }
+				int p = last + rnd.nextInt(ref.priority(id) - last);
+				ref.decreaseKey(id, p);
+				ops.add(new int[] { DECREASE, id, p });
+			} else {
+				if (ref.isEmpty()) { continue; }
+				last = ref.smallest();
+				ops.add(new int[] { EXTRACT, -1, -1 });
+			}
+		}
+		while (!ref.isEmpty()) {
+			ref.smallestID();
+			ops.add(new int[] { EXTRACT, -1, -1 });
+		}
+		
+		int[][] trace = new int[3][ops.size()];
+		for (int i = 0; i < ops.size(); i++) {
+			int[] op = ops.get(i);
+			trace[0][i] = op[0];
+			trace[1][i] = op[1];
+			trace[2][i] = op[2];
+		}
+		return trace;
+	}
+	
+	/** Construct the priority queue with given index in QUEUES. */
+	static IPriorityQueue<? super Integer> construct (int q, int n) {
+		switch (q) {
+		case 0: return new BinaryHeap<Integer>(n);
+		case 1: return new PairingHeap<Integer>(n);
+		case 2: return new IndexedIntHeap(n);
+		default: return new RadixHeap(n);
+		}
+	}
+	
+	/** Replay the trace against the given priority queue. */
+	static void replay (IPriorityQueue<? super Integer> pq, int[][] trace) {
+		int[] op = trace[0], id = trace[1], p = trace[2];
+		for (int i = 0; i < op.length; i++) {
+			switch (op[i]) {
+			case INSERT: pq.insert(id[i], p[i]); break;
+			case DECREASE: pq.decreaseKey(id[i], p[i]); break;
+			default: pq.smallestID(); break;
+			}
+		}
+	}
+	
+	/** Replay each synthetic trace against every priority queue implementation. */
+	static void replaySynthetic (int n) {
+		int[][] weights = {
+			{ 8, 1, 1 },     // insert-heavy
+			{ 2, 6, 2 },     // decreaseKey-heavy
+			{ 4, 1, 5 },     // extract-heavy
+		};
+		
+		Random rnd = new Random();
+		for (int t = 0; t < TRACES.length; t++) {
+			TrialSuite[] suites = new TrialSuite[QUEUES.length];
+			for (int q = 0; q < QUEUES.length; q++) {
+				suites[q] = new TrialSuite();
+			}
+			
+			for (int trial = 0; trial < NUM_TRIALS; trial++) {
+				int[][] trace = buildTrace (n, 4*n, weights[t][0], weights[t][1], weights[t][2], rnd);
+				for (int q = 0; q < QUEUES.length; q++) {
+					IPriorityQueue<? super Integer> pq = construct (q, n);
+					System.gc();
+					long start = System.currentTimeMillis();
+					replay (pq, trace);
+					long end = System.currentTimeMillis();
+					suites[q].addTrial(n, start, end);
+				}
+			}
+			
+			for (int q = 0; q < QUEUES.length; q++) {
+				System.out.println (TRACES[t] + " " + QUEUES[q]);
+				System.out.println (suites[q].computeTable());
+			}
+		}
+	}
 }
@@ -0,0 +1,90 @@
+package algs.model.performance.searchtree;
+
+import java.util.Random;
+
+import algs.model.problems.fifteenpuzzle.FifteenPuzzleNode;
+import algs.model.problems.fifteenpuzzle.GoodEvaluator;
+import algs.model.searchtree.AStarSearch;
+import algs.model.searchtree.IterativeDeepeningAStarSearch;
+import algs.model.searchtree.MemoryBoundedAStarSearch;
+import algs.model.searchtree.Solution;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare {@link AStarSearch} against {@link IterativeDeepeningAStarSearch}
+ * and {@link MemoryBoundedAStarSearch} on Fifteen Puzzle instances generated
+ * by a random walk from the goal state. For each search the states stored and
+ * the states expanded per second are reported.
+ *
+ * The number of random moves (default 30) can be set as first argument, and
+ * the state budget for SMA* (default 10000) as the second argument.
+ */
+public class MemoryBoundedSearchMain {
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 10;
+
+	public static void main(String[] args) {
+		int walk = 30;
+		int budget = 10000;
+		if (args.length > 0) {
+			walk = Integer.valueOf(args[0]);
+		}
+		if (args.length > 1) {
+			budget = Integer.valueOf(args[1]);
+		}
+
+		FifteenPuzzleNode goal = new FifteenPuzzleNode(new int[][]{
+				{ 1, 2, 3, 4}, { 5, 6, 7, 8}, { 9,10,11,12}, {13,14,15, 0} });
+
+		Random rnd = new Random();
+		TrialSuite astar = new TrialSuite();
+		TrialSuite ida = new TrialSuite();
+		TrialSuite sma = new TrialSuite();
+		long[] keys = new long[goal.maxSuccessors()];
+		long astarStored = 0, smaStored = 0;
+		double idaRate = 0, smaRate = 0;
+		int smaSolved = 0;
+		for (int t = 0; t < NUM_TRIALS; t++) {
+			FifteenPuzzleNode start = goal;
+			for (int i = 0; i < walk; i++) {
+				int n = start.successors(keys);
+				start = start.unpack(keys[rnd.nextInt(n)]);
+			}
+
+			System.gc();
+			long begin = System.currentTimeMillis();
+			AStarSearch as = new AStarSearch(new GoodEvaluator());
+			as.search(start, goal);
+			long end = System.currentTimeMillis();
+			astar.addTrial(walk, begin, end);
+			astarStored += as.numOpen + as.numClosed;
+
+			System.gc();
+			begin = System.currentTimeMillis();
+			IterativeDeepeningAStarSearch id = new IterativeDeepeningAStarSearch(new GoodEvaluator());
+			id.search(start, goal);
+			end = System.currentTimeMillis();
+			ida.addTrial(walk, begin, end);
+			idaRate += id.expansionsPerSecond();
+
+			System.gc();
+			begin = System.currentTimeMillis();
+			MemoryBoundedAStarSearch mb = new MemoryBoundedAStarSearch(new GoodEvaluator(), budget);
+			Solution sol = mb.search(start, goal);
+			end = System.currentTimeMillis();
+			sma.addTrial(walk, begin, end);
+			smaStored += mb.maxStored;
+			smaRate += mb.expansionsPerSecond();
+			if (sol.succeeded()) { smaSolved++; }
+		}
+
+		System.out.println ("AStarSearch average stored states: " + astarStored / NUM_TRIALS);
+		System.out.println (astar.computeTable());
+		System.out.println ("IterativeDeepeningAStarSearch expansions/sec: " + (long) (idaRate / NUM_TRIALS));
+		System.out.println (ida.computeTable());
+		System.out.println ("MemoryBoundedAStarSearch(" + budget + ") average stored states: " + smaStored / NUM_TRIALS +
+				", expansions/sec: " + (long) (smaRate / NUM_TRIALS) + ", solved " + smaSolved + "/" + NUM_TRIALS);
+		System.out.println (sma.computeTable());
+	}
+}
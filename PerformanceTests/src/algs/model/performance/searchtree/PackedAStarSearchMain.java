@@ -0,0 +1,67 @@
+package algs.model.performance.searchtree;
+
+import java.util.Random;
+
+import algs.model.problems.fifteenpuzzle.FifteenPuzzleNode;
+import algs.model.problems.fifteenpuzzle.GoodEvaluator;
+import algs.model.searchtree.AStarSearch;
+import algs.model.searchtree.PackedAStarSearch;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare {@link AStarSearch} against {@link PackedAStarSearch} on Fifteen 
+ * Puzzle instances generated by a random walk from the goal state. Both
+ * searches expand the same states, so only their running time differs.
+ * 
+ * The number of random moves (default 30) can be set as first argument.
+ */
+public class PackedAStarSearchMain {
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 20;
+	
+	public static void main(String[] args) {
+		int walk = 30;
+		if (args.length > 0) {
+			walk = Integer.valueOf(args[0]);
+		}
+		
+		FifteenPuzzleNode goal = new FifteenPuzzleNode(new int[][]{
+				{ 1, 2, 3, 4}, { 5, 6, 7, 8}, { 9,10,11,12}, {13,14,15, 0} });
+		
+		Random rnd = new Random();
+		TrialSuite standard = new TrialSuite();
+		TrialSuite packed = new TrialSuite();
+		long[] keys = new long[goal.maxSuccessors()];
+		long closed = 0;
+		for (int t = 0; t < NUM_TRIALS; t++) {
+			FifteenPuzzleNode start = goal;
+			for (int i = 0; i < walk; i++) {
+				int n = start.successors(keys);
+				start = start.unpack(keys[rnd.nextInt(n)]);
+			}
+			
+			System.gc();
+			long begin = System.currentTimeMillis();
+			AStarSearch as = new AStarSearch(new GoodEvaluator());
+			as.search(start, goal);
+			long end = System.currentTimeMillis();
+			standard.addTrial(walk, begin, end);
+			
+			System.gc();
+			begin = System.currentTimeMillis();
+			PackedAStarSearch ps = new PackedAStarSearch(new GoodEvaluator());
+			ps.search(start, goal);
+			end = System.currentTimeMillis();
+			packed.addTrial(walk, begin, end);
+			
+			closed += ps.numClosed;
+		}
+		
+		System.out.println ("average closed states: " + closed / NUM_TRIALS);
+		System.out.println ("AStarSearch");
+		System.out.println (standard.computeTable());
+		System.out.println ("PackedAStarSearch");
+		System.out.println (packed.computeTable());
+	}
+}
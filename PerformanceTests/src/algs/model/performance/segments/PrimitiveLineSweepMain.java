@@ -0,0 +1,124 @@
+package algs.model.performance.segments;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+
+import algs.model.ILineSegment;
+import algs.model.data.segments.UniformGenerator;
+import algs.model.problems.segmentIntersection.LineSweep;
+import algs.model.problems.segmentIntersection.primitive.IIntersectionVisitor;
+import algs.model.problems.segmentIntersection.primitive.PrimitiveLineSweep;
+import algs.model.tests.common.TrialSuite;
+import algs.model.twod.TwoDLineSegment;
+
+/**
+ * Compare LineSweep against PrimitiveLineSweep for n random segments of
+ * length 1/sqrt(n), so the number of intersections grows linearly with n. The
+ * number of bytes allocated by each (where the JVM is able to report it) is
+ * shown, together with the time.
+ * <p>
+ * The comparison is repeated for long segments: n/2 vertical wires that span
+ * the plane, together with n/2 short horizontal segments that each cross a few
+ * of them. The line state then holds n/2 segments for the entire sweep.
+ * <p>
+ * The largest n (default 2^17) can be set as an argument.
+ */
+public class PrimitiveLineSweepMain {
+
+	/** Number of trials. */
+	static final int NUM_TRIALS = 5;
+
+	/** Count intersections, without retaining them. */
+	static class Counter implements IIntersectionVisitor {
+		long pairs;
+
+		public void visit (double x, double y, int[] segments, int num) {
+			pairs += num*(num-1)/2;
+		}
+	}
+
+	public static void main (String []args) {
+		int max = 1 << 17;
+		if (args.length > 0) { max = Integer.valueOf(args[0]); }
+
+		System.out.println ("Short segments");
+		compare (max, false);
+		System.out.println ("Long segments");
+		compare (max, true);
+	}
+
+	/** Compare both algorithms on short (or long) segments, up to max segments. */
+	static void compare (int max, boolean wires) {
+		TrialSuite sweep = new TrialSuite();
+		TrialSuite primitive = new TrialSuite();
+		System.out.println ("n,intersections,LineSweep (MB allocated),PrimitiveLineSweep (MB allocated)");
+		for (int n = 1 << 10; n <= max; n *= 2) {
+			ILineSegment[] segs;
+			if (wires) {
+				segs = wires (n);
+			} else {
+				segs = new UniformGenerator ((int) Math.sqrt (n)).generate (n);
+			}
+
+			int found = 0;
+			long bytes = 0, primitiveBytes = 0;
+			for (int t = 0; t < NUM_TRIALS; t++) {
+				System.gc();
+				long before = allocated();
+				long now = System.currentTimeMillis();
+				found = new LineSweep().intersections (segs).size();
+				sweep.addTrial (n, now, System.currentTimeMillis());
+				bytes = allocated() - before;
+
+				System.gc();
+				before = allocated();
+				now = System.currentTimeMillis();
+				int ct = new PrimitiveLineSweep().intersections (segs, new Counter());
+				primitive.addTrial (n, now, System.currentTimeMillis());
+				primitiveBytes = allocated() - before;
+
+				if (ct != found) {
+					System.err.println ("  " + n + ": LineSweep found " + found + " but PrimitiveLineSweep found " + ct);
+				}
+			}
+			System.out.println (n + "," + found + "," + bytes/(1 << 20) + "," + primitiveBytes/(1 << 20));
+		}
+
+		System.out.println ("LineSweep");
+		System.out.println (sweep.computeTable());
+		System.out.println ("PrimitiveLineSweep");
+		System.out.println (primitive.computeTable());
+	}
+
+	/**
+	 * Return n/2 vertical wires, evenly spaced across the unit square, and n/2
+	 * horizontal segments, each of which crosses (at most) three wires. So
+	 * that no end point lies on a wire, horizontal segments start and end
+	 * midway between wires.
+	 */
+	static ILineSegment[] wires (int n) {
+		Random rnd = new Random (n);
+		int w = n/2;
+		ILineSegment[] segs = new ILineSegment[n];
+		for (int i = 0; i < w; i++) {
+			double x = (i + 0.5) / w;
+			segs[i] = new TwoDLineSegment (x, 0, x, 1);
+		}
+		for (int i = w; i < n; i++) {
+			int x = rnd.nextInt (w);
+			double y = rnd.nextDouble();
+			segs[i] = new TwoDLineSegment ((double) x / w, y, (double) (x+3) / w, y);
+		}
+		return segs;
+	}
+
+	/** Bytes allocated by this thread so far, if known; otherwise 0. */
+	static long allocated() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes (Thread.currentThread().getId());
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,55 @@
+package algs.model.performance.sort;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import algs.model.sort.ExternalMergeSort;
+
+/**
+ * Sort a file of random int values with {@link ExternalMergeSort} using a
+ * range of memory budgets, reporting the I/O volume and merge passes for each.
+ * 
+ * The number of int values (default 2^24, or 64MB) can be set as first argument. 
+ */
+public class ExternalMergeSortMain {
+	
+	public static void main(String[] args) throws IOException {
+		int n = 1 << 24;
+		if (args.length > 0) {
+			n = Integer.valueOf(args[0]);
+		}
+		
+		File input = File.createTempFile("ExternalMergeSortMain", ".bin");
+		File output = File.createTempFile("ExternalMergeSortMain", ".out");
+		input.deleteOnExit();
+		output.deleteOnExit();
+		
+		Random rnd = new Random();
+		DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(input), 1048576));
+		for (int i = 0; i < n; i++) {
+			dos.writeInt(rnd.nextInt());
+		}
+		dos.close();
+		
+		System.out.println("budget,runs,passes,bytesRead,bytesWritten,time(ms)");
+		ExternalMergeSort ems = ExternalMergeSort.forInts();
+		for (long budget = 1048576; budget <= 256L*1048576; budget *= 4) {
+			ems.setMemoryBudget(budget);
+			ems.setBufferSize((int) Math.min(1048576, budget/16));
+			
+			long start = System.currentTimeMillis();
+			ems.sort(input, output);
+			long end = System.currentTimeMillis();
+			
+			System.out.println(budget + "," + ems.getNumberRuns() + "," + ems.getMergePasses() + "," + 
+					ems.getBytesRead() + "," + ems.getBytesWritten() + "," + (end-start));
+		}
+		
+		input.delete();
+		output.delete();
+	}
+}
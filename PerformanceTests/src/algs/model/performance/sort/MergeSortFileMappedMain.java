@@ -0,0 +1,74 @@
+package algs.model.performance.sort;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import algs.model.sort.MergeSortFileMapped;
+import algs.model.tests.common.TrialSuite;
+
+/**
+ * Compare the single-thread {@link MergeSortFileMapped#mergesort(File)} against
+ * the parallel version as the number of threads grows up to the number of
+ * available processors.
+ * 
+ * The number of int values (default 2^24, or 64MB) can be set as first argument. 
+ */
+public class MergeSortFileMappedMain {
+	
+	/** Number of trials for each configuration. */
+	static final int NUM_TRIALS = 5;
+	
+	/** Fill file with n random int values. */
+	static void fill (File f, int n, Random rnd) throws IOException {
+		DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f), 1048576));
+		for (int i = 0; i < n; i++) {
+			dos.writeInt(rnd.nextInt());
+		}
+		dos.close();
+	}
+	
+	public static void main(String[] args) throws IOException {
+		int n = 1 << 24;
+		if (args.length > 0) {
+			n = Integer.valueOf(args[0]);
+		}
+		
+		File f = File.createTempFile("MergeSortFileMappedMain", ".bin");
+		f.deleteOnExit();
+		Random rnd = new Random();
+		
+		TrialSuite sequential = new TrialSuite();
+		for (int t = 0; t < NUM_TRIALS; t++) {
+			fill (f, n, rnd);
+			long start = System.currentTimeMillis();
+			MergeSortFileMapped.mergesort(f);
+			long end = System.currentTimeMillis();
+			sequential.addTrial(n, start, end);
+		}
+		System.out.println("SEQUENTIAL");
+		System.out.println(sequential.computeTable());
+		
+		int cores = Runtime.getRuntime().availableProcessors();
+		for (int nt = 1; nt <= cores; nt *= 2) {
+			TrialSuite parallel = new TrialSuite();
+			ForkJoinPool pool = new ForkJoinPool(nt);
+			for (int t = 0; t < NUM_TRIALS; t++) {
+				fill (f, n, rnd);
+				long start = System.currentTimeMillis();
+				MergeSortFileMapped.mergesort(f, pool);
+				long end = System.currentTimeMillis();
+				parallel.addTrial(n, start, end);
+			}
+			pool.shutdown();
+			
+			System.out.println("PARALLEL NumThreads = " + nt);
+			System.out.println(parallel.computeTable());
+		}
+		f.delete();
+	}
+}
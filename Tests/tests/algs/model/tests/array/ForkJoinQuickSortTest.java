@@ -0,0 +1,112 @@
+package algs.model.tests.array;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import algs.model.array.FirstSelector;
+import algs.model.array.ForkJoinQuickSort;
+import algs.model.array.IPivotIndex;
+import algs.model.array.LastSelector;
+import algs.model.array.MedianSelector;
+import algs.model.array.PISelector;
+import algs.model.array.RandomSelector;
+
+import junit.framework.TestCase;
+
+
+public class ForkJoinQuickSortTest extends TestCase {
+	
+	IPivotIndex[] selectors = new IPivotIndex[]{
+			new FirstSelector(), 
+			new LastSelector(), 
+			new PISelector(5), 
+			new RandomSelector(),
+			new MedianSelector(),
+	};
+	
+	private Integer[] createRandom(int num) {
+		Integer[] set = new Integer[num];
+		for (int i = 0; i < num; i++) {
+			set[i] = (int)(Math.random()*100000);
+		}
+		
+		return set;
+	}
+	
+	@Test
+	public void testNoImpact() {
+		Integer[] data = { 9, 7, 4, 2};
+		ForkJoinQuickSort<Integer> qs = new ForkJoinQuickSort<Integer>(data);
+		
+		// nonsense request
+		qs.qsort(2, 2);
+		
+		assertEquals (9, (int)data[0]);
+		assertEquals (7, (int)data[1]);
+		assertEquals (4, (int)data[2]);
+		assertEquals (2, (int)data[3]);
+	}
+	
+	@Test
+	public void testSelectorsAndMinimumSize() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		for (int s = 0; s < selectors.length; s++) {
+			for (int ms = 0; ms < 10; ms++) {
+				Integer[] rnd = createRandom(1000);
+				Integer[] expected = Arrays.copyOf(rnd, rnd.length);
+				Arrays.sort(expected);
+				
+				ForkJoinQuickSort<Integer> qs = new ForkJoinQuickSort<Integer>(rnd);
+				qs.setPivotMethod(selectors[s]);
+				qs.setMinimumSize(ms);
+				qs.setThreshold(16);      // force many forked tasks
+				qs.setPool(pool);
+				qs.qsort(0, rnd.length-1);
+				
+				assertTrue (Arrays.equals(expected, rnd));
+			}
+		}
+		pool.shutdown();
+	}
+	
+	@Test
+	public void testAdaptive() {
+		Integer[] rnd = createRandom(200000);
+		Integer[] expected = Arrays.copyOf(rnd, rnd.length);
+		Arrays.sort(expected);
+		
+		ForkJoinQuickSort<Integer> qs = new ForkJoinQuickSort<Integer>(rnd);
+		qs.setMinimumSize(8);
+		qs.qsort(0, rnd.length-1);
+		
+		assertTrue (Arrays.equals(expected, rnd));
+	}
+	
+	@Test
+	public void testSubRange() {
+		Integer[] data = { 9, 7, 4, 2, 8, 1};
+		ForkJoinQuickSort<Integer> qs = new ForkJoinQuickSort<Integer>(data);
+		qs.setThreshold(1);
+		qs.qsort(1, 4);
+		
+		assertEquals (9, (int)data[0]);
+		assertEquals (2, (int)data[1]);
+		assertEquals (4, (int)data[2]);
+		assertEquals (7, (int)data[3]);
+		assertEquals (8, (int)data[4]);
+		assertEquals (1, (int)data[5]);
+	}
+	
+	@Test
+	public void testInvalidThreshold() {
+		ForkJoinQuickSort<Integer> qs = new ForkJoinQuickSort<Integer>(new Integer[] { 1 });
+		try {
+			qs.setThreshold(-1);
+			fail ("negative threshold must be rejected.");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package algs.model.tests.array;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import algs.model.array.ParallelSelection;
+import algs.model.array.Selection;
+import junit.framework.TestCase;
+
+public class IntroSelectTest extends TestCase {
+
+	Random rnd = new Random(23);
+	
+	/** Different shapes of input: random, few distinct, sorted, reversed, constant. */
+	private Integer[][] createInputs(int n) {
+		Integer[][] inputs = new Integer[5][n];
+		for (int i = 0; i < n; i++) {
+			inputs[0][i] = rnd.nextInt();
+			inputs[1][i] = rnd.nextInt(3);
+			inputs[2][i] = i;
+			inputs[3][i] = n-i;
+			inputs[4][i] = 42;
+		}
+		return inputs;
+	}
+	
+	/** Validate ar[pos] is in sorted position within ar. */
+	private void checkPosition(Integer[] ar, int pos) {
+		for (int i = 0; i < pos; i++) {
+			assertTrue (ar[i] <= ar[pos]);
+		}
+		for (int i = pos+1; i < ar.length; i++) {
+			assertTrue (ar[i] >= ar[pos]);
+		}
+	}
+	
+	@Test
+	public void testIntroAndLinear() {
+		for (int n : new int[] { 1, 2, 5, 17, 100, 2000 }) {
+			for (Integer[] input : createInputs(n)) {
+				Integer[] sorted = input.clone();
+				Arrays.sort(sorted);
+				
+				for (int k = 1; k <= n; k += 1 + n/7) {
+					Integer[] ar = input.clone();
+					assertEquals (sorted[k-1], Selection.introselect(ar, k, 0, n-1));
+					checkPosition (ar, k-1);
+					
+					ar = input.clone();
+					assertEquals (sorted[k-1], Selection.linearSelect(ar, k, 0, n-1));
+					checkPosition (ar, k-1);
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testMedianOfMedians() {
+		// pivot must have at least 3/10ths of the values on either side.
+		Integer[] ar = createInputs(1000)[0];
+		int idx = Selection.medianOfMediansIndex(ar, 0, ar.length-1);
+		int smaller = 0, larger = 0;
+		for (Integer i : ar) {
+			if (i <= ar[idx]) { smaller++; }
+			if (i >= ar[idx]) { larger++; }
+		}
+		assertTrue (smaller >= 300);
+		assertTrue (larger >= 300);
+	}
+	
+	@Test
+	public void testMultipleSelect() {
+		for (Integer[] input : createInputs(5000)) {
+			Integer[] sorted = input.clone();
+			Arrays.sort(sorted);
+			
+			int[] ks = { 4950, 50, 2500, 1, 5000, 2500, 1250 };
+			Integer[] ar = input.clone();
+			Comparable<?>[] results = Selection.select(ar, ks, 0, ar.length-1);
+			for (int i = 0; i < ks.length; i++) {
+				assertEquals (sorted[ks[i]-1], results[i]);
+				checkPosition (ar, ks[i]-1);
+			}
+		}
+		
+		try {
+			Selection.select(new Integer[] { 3, 2, 1 }, new int[] { 4 }, 0, 2);
+			fail ("position out of range.");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+	}
+	
+	/**
+	 * Values are assigned as they are compared, so that (following McIlroy's
+	 * adversary for quicksort) nearly every median-of-three pivot is poor.
+	 */
+	static class Adversary {
+		int[] val;
+		int gas, solid, candidate = -1;
+		long count;
+		
+		Adversary (int n) {
+			val = new int[n];
+			gas = n;
+			Arrays.fill (val, gas);
+		}
+		
+		Item[] items() {
+			Item[] ar = new Item[val.length];
+			for (int i = 0; i < ar.length; i++) { ar[i] = new Item(i); }
+			return ar;
+		}
+		
+		class Item implements Comparable<Item> {
+			final int id;
+			Item (int id) { this.id = id; }
+			
+			public int compareTo(Item o) {
+				count++;
+				if (val[id] == gas && val[o.id] == gas) {
+					if (id == candidate) { val[id] = solid++; } else { val[o.id] = solid++; }
+				}
+				if (val[id] == gas) { candidate = id; } else if (val[o.id] == gas) { candidate = o.id; }
+				return Integer.compare(val[id], val[o.id]);
+			}
+		}
+	}
+	
+	@Test
+	public void testAdversary() {
+		// poor pivots must not drive the number of comparisons to O(n log n).
+		int n = 100000;
+		Adversary adv = new Adversary(n);
+		Selection.introselect(adv.items(), n/2, 0, n-1);
+		assertTrue (adv.count < 15L*n);
+		
+		adv = new Adversary(n);
+		Selection.select(adv.items(), new int[] { 1, n/4, n/2, 3*n/4, n }, 0, n-1);
+		assertTrue (adv.count < 25L*n);
+	}
+	
+	@Test
+	public void testSubRange() {
+		Integer[] ar = { 99, 5, 3, 9, 1, 7, -99 };
+		assertEquals (5, Selection.introselect(ar, 3, 1, 5));
+		assertEquals (5, Selection.linearSelect(ar, 3, 1, 5));
+		assertEquals (99, (int) ar[0]);
+		assertEquals (-99, (int) ar[6]);
+	}
+	
+	@Test
+	public void testParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		for (Integer[] input : createInputs(100000)) {
+			Integer[] sorted = input.clone();
+			Arrays.sort(sorted);
+			
+			for (int k : new int[] { 1, 777, 50000, 100000 }) {
+				Integer[] ar = input.clone();
+				ParallelSelection<Integer> ps = new ParallelSelection<Integer>(ar, pool);
+				ps.setThreshold(1000);
+				assertEquals (sorted[k-1], ps.select(k, 0, ar.length-1));
+				checkPosition (ar, k-1);
+			}
+		}
+		pool.shutdown();
+	}
+}
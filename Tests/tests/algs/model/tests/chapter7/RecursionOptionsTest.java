@@ -10,6 +10,7 @@ import algs.model.IPoint;
 import algs.model.data.points.CircleGenerator;
 import algs.model.kdtree.DimensionalNode;
 import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDStats;
 import algs.model.kdtree.KDTraversal;
 import algs.model.kdtree.KDTree;
 import algs.model.kdtree.TwoDFactory;
@@ -84,16 +85,13 @@ public class RecursionOptionsTest extends TestCase {
 	
 			// now run a series of queries.
 			int numTrials = 50;
-			int totalDR = 0;
-			int totalR  = 0;
+			KDStats stats = new KDStats();
 			for (int j = 0; j < numTrials; j++) {
 				TwoDPoint tp = new TwoDPoint(Math.random(), Math.random());
-				tree.nearest(tp);
-				totalDR += tree.getNumDoubleRecursion();
-				totalR  += tree.getNumRecursion();				
+				tree.nearest(tp, stats);
 			}
 			
-			System.out.println (n + "," + totalR + "," + totalDR);
+			System.out.println (n + "," + stats.numRecursions + "," + stats.numDoubleRecursions);
 		}
 	}
 	
@@ -0,0 +1,94 @@
+package algs.model.tests.convexhull;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import algs.model.IPoint;
+import algs.model.data.Generator;
+import algs.model.data.points.CircleGenerator;
+import algs.model.data.points.UniformGenerator;
+import algs.model.problems.convexhull.andrew.ConvexHullScan;
+import algs.model.problems.convexhull.parallel.AklToussaintFilter;
+import algs.model.twod.TwoDPoint;
+
+import junit.framework.TestCase;
+
+/** Validate that AklToussaintFilter never discards points on the hull. */
+public class AklToussaintFilterTest extends TestCase {
+
+	/** Confirm filtered hull matches hull of all points, point for point. */
+	void compare (IPoint[] points, AklToussaintFilter[] filters) {
+		IPoint[] expected = new ConvexHullScan().compute (points.clone());
+		for (AklToussaintFilter f : filters) {
+			IPoint[] hull = f.compute (points.clone());
+			assertEquals (expected.length, hull.length);
+			for (int i = 0; i < hull.length; i++) {
+				assertEquals (expected[i], hull[i]);
+			}
+		}
+	}
+
+	@Test
+	public void testFilter() {
+		// square of 10x10 grid points: only the boundary survives.
+		double[] xs = new double[100];
+		double[] ys = new double[100];
+		for (int i = 0; i < 100; i++) {
+			xs[i] = i % 10;
+			ys[i] = i / 10;
+		}
+		int[] out = new int[100];
+		int m = new AklToussaintFilter (new ConvexHullScan()).filter (xs, ys, 100, out);
+		assertEquals (36, m);
+		for (int i = 0; i < m; i++) {
+			assertTrue (xs[out[i]] == 0 || xs[out[i]] == 9 || ys[out[i]] == 0 || ys[out[i]] == 9);
+			if (i > 0) { assertTrue (out[i-1] < out[i]); }
+		}
+
+		// collinear points form no polygon, so all remain.
+		for (int i = 0; i < 100; i++) { ys[i] = xs[i]; }
+		assertEquals (100, new AklToussaintFilter (new ConvexHullScan()).filter (xs, ys, 100, out));
+		assertEquals (0, new AklToussaintFilter (new ConvexHullScan()).filter (xs, ys, 0, out));
+
+		try {
+			new AklToussaintFilter (new ConvexHullScan(), ForkJoinPool.commonPool(), 4, 1);
+			fail ("needs at least four extreme points");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+	}
+
+	@Test
+	public void testRandom() {
+		ForkJoinPool[] pools = { new ForkJoinPool(1), new ForkJoinPool(3) };
+		int[] ks = { 2, 4, 16 };
+		int[] workers = { 1, 3, 8 };
+		AklToussaintFilter[] filters = new AklToussaintFilter[pools.length * ks.length * workers.length + 1];
+		int idx = 0;
+		for (ForkJoinPool pool : pools) {
+			for (int k : ks) {
+				for (int w : workers) {
+					filters[idx++] = new AklToussaintFilter (new ConvexHullScan(), pool, w, k);
+				}
+			}
+		}
+		filters[idx] = new AklToussaintFilter (new ConvexHullScan());
+
+		Generator<IPoint> uniform = new UniformGenerator();
+		Generator<IPoint> circle = new CircleGenerator(1000);
+		for (int n = 3; n <= 100000; n *= 3) {
+			compare (uniform.generate (n), filters);
+			compare (circle.generate (n), filters);
+		}
+
+		// many duplicates of few points.
+		IPoint[] points = new IPoint[10000];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = new TwoDPoint (i % 7, (i * 7919) % 5);
+		}
+		compare (points, filters);
+
+		for (ForkJoinPool pool : pools) { pool.shutdown(); }
+	}
+}
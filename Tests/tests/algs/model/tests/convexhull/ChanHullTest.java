@@ -0,0 +1,107 @@
+package algs.model.tests.convexhull;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import algs.model.IPoint;
+import algs.model.data.Generator;
+import algs.model.data.points.CircleGenerator;
+import algs.model.data.points.UniformGenerator;
+import algs.model.problems.convexhull.IConvexHull;
+import algs.model.problems.convexhull.andrew.ConvexHullScan;
+import algs.model.problems.convexhull.chan.ChanHull;
+import algs.model.twod.TwoDPoint;
+
+import junit.framework.TestCase;
+
+/** Validate ChanHull against Andrew's ConvexHullScan. */
+public class ChanHullTest extends TestCase {
+
+	/** Confirm both compute the same hull, point for point, from points and from coordinates. */
+	void compare (IPoint[] points) {
+		IPoint[] expected = new ConvexHullScan().compute (points.clone());
+		IPoint[] hull = new ChanHull().compute (points.clone());
+		assertEquals (expected.length, hull.length);
+		for (int i = 0; i < hull.length; i++) {
+			assertEquals (expected[i], hull[i]);
+		}
+
+		double[] xs = new double[points.length];
+		double[] ys = new double[points.length];
+		for (int i = 0; i < points.length; i++) {
+			xs[i] = points[i].getX();
+			ys[i] = points[i].getY();
+		}
+		hull = new ChanHull().compute (xs, ys);
+		assertEquals (expected.length, hull.length);
+		for (int i = 0; i < hull.length; i++) {
+			assertEquals (expected[i], hull[i]);
+		}
+	}
+
+	@Test
+	public void testSmall() {
+		IPoint[] points = new IPoint[] { new TwoDPoint (3, 1), new TwoDPoint (1, 2) };
+		IPoint[] hull = new ChanHull().compute (points);
+		assertEquals (2, hull.length);
+		assertEquals (new TwoDPoint (1, 2), hull[0]);
+
+		// collinear and duplicates.
+		points = new IPoint[] {
+			new TwoDPoint (1, 1), new TwoDPoint (2, 2), new TwoDPoint (3, 3),
+			new TwoDPoint (2, 2), new TwoDPoint (0, 0)
+		};
+		compare (points);
+		hull = new ChanHull().compute (points);
+		assertEquals (2, hull.length);
+
+		// all the same point.
+		points = new IPoint[] { new TwoDPoint (1, 1), new TwoDPoint (1, 1), new TwoDPoint (1, 1) };
+		hull = new ChanHull().compute (points);
+		assertEquals (1, hull.length);
+		assertEquals (new TwoDPoint (1, 1), hull[0]);
+	}
+
+	@Test
+	public void testDefaultCoordinates() {
+		// interface constructs points for those which do not operate on coordinates.
+		IConvexHull andrew = new ConvexHullScan();
+		IPoint[] hull = andrew.compute (new double[] { 0, 2, 1, 1 }, new double[] { 0, 0, 2, 1 });
+		assertEquals (3, hull.length);
+		assertEquals (new TwoDPoint (0, 0), hull[0]);
+		assertEquals (new TwoDPoint (1, 2), hull[1]);
+		assertEquals (new TwoDPoint (2, 0), hull[2]);
+	}
+
+	@Test
+	public void testRandom() {
+		Generator<IPoint> uniform = new UniformGenerator();
+		Generator<IPoint> circle = new CircleGenerator(1000);
+		for (int n = 3; n <= 200000; n *= 3) {
+			compare (uniform.generate (n));
+			compare (circle.generate (n));
+		}
+
+		// points on a small grid, with many collinear and duplicate points.
+		Random rnd = new Random (1);
+		for (int n = 3; n <= 30000; n *= 3) {
+			IPoint[] points = new IPoint[n];
+			for (int i = 0; i < n; i++) {
+				points[i] = new TwoDPoint (rnd.nextInt (10), rnd.nextInt (10));
+			}
+			compare (points);
+		}
+
+		// few points on hull, so wrapping completes before all are grouped together.
+		IPoint[] points = new IPoint[100000];
+		for (int i = 0; i < 8; i++) {
+			points[i] = new TwoDPoint (Math.cos (Math.PI*i/4), Math.sin (Math.PI*i/4));
+		}
+		for (int i = 8; i < points.length; i++) {
+			double r = rnd.nextDouble() * 0.9, a = rnd.nextDouble() * 2 * Math.PI;
+			points[i] = new TwoDPoint (r*Math.cos (a), r*Math.sin (a));
+		}
+		compare (points);
+	}
+}
@@ -0,0 +1,75 @@
+package algs.model.tests.convexhull;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import algs.model.IPoint;
+import algs.model.data.Generator;
+import algs.model.data.points.CircleGenerator;
+import algs.model.data.points.UniformGenerator;
+import algs.model.problems.convexhull.andrew.ConvexHullScan;
+import algs.model.problems.convexhull.parallel.ForkJoinHull;
+import algs.model.twod.TwoDPoint;
+
+import junit.framework.TestCase;
+
+/** Validate ForkJoinHull against Andrew's ConvexHullScan. */
+public class ForkJoinHullTest extends TestCase {
+
+	/** Confirm both compute the same hull, point for point. */
+	void compare (IPoint[] points, ForkJoinHull[] hulls) {
+		IPoint[] expected = new ConvexHullScan().compute (points.clone());
+		for (ForkJoinHull fjh : hulls) {
+			IPoint[] hull = fjh.compute (points.clone());
+			assertEquals (expected.length, hull.length);
+			for (int i = 0; i < hull.length; i++) {
+				assertEquals (expected[i], hull[i]);
+			}
+		}
+	}
+
+	@Test
+	public void testSmall() {
+		IPoint[] points = new IPoint[] { new TwoDPoint (3, 1), new TwoDPoint (1, 2) };
+		IPoint[] hull = new ForkJoinHull().compute (points);
+		assertEquals (2, hull.length);
+		assertEquals (new TwoDPoint (1, 2), hull[0]);
+
+		// collinear and duplicates.
+		points = new IPoint[] {
+			new TwoDPoint (1, 1), new TwoDPoint (2, 2), new TwoDPoint (3, 3),
+			new TwoDPoint (2, 2), new TwoDPoint (0, 0)
+		};
+		hull = new ForkJoinHull().compute (points);
+		assertEquals (2, hull.length);
+		assertEquals (new TwoDPoint (0, 0), hull[0]);
+		assertEquals (new TwoDPoint (3, 3), hull[1]);
+	}
+
+	@Test
+	public void testRandom() {
+		ForkJoinPool[] pools = { new ForkJoinPool(1), new ForkJoinPool(3), new ForkJoinPool(16) };
+		ForkJoinHull[] hulls = new ForkJoinHull[pools.length + 1];
+		for (int i = 0; i < pools.length; i++) {
+			hulls[i] = new ForkJoinHull (pools[i]);
+		}
+		hulls[pools.length] = new ForkJoinHull();
+
+		Generator<IPoint> uniform = new UniformGenerator();
+		Generator<IPoint> circle = new CircleGenerator(1000);
+		for (int n = 3; n <= 200000; n *= 3) {
+			compare (uniform.generate (n), hulls);
+			compare (circle.generate (n), hulls);
+		}
+
+		// many points on a few vertical lines, whose strips share an x-coordinate.
+		IPoint[] points = new IPoint[100000];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = new TwoDPoint (i % 7, (i * 7919) % 1000);
+		}
+		compare (points, hulls);
+
+		for (ForkJoinPool pool : pools) { pool.shutdown(); }
+	}
+}
@@ -0,0 +1,108 @@
+package algs.model.tests.convexhull;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Test;
+
+import algs.model.IPoint;
+import algs.model.data.Generator;
+import algs.model.data.points.CircleGenerator;
+import algs.model.data.points.UniformGenerator;
+import algs.model.problems.convexhull.andrew.ConvexHullScan;
+import algs.model.problems.convexhull.andrew.StreamingHull;
+import algs.model.twod.TwoDPoint;
+
+import junit.framework.TestCase;
+
+/** Validate StreamingHull against recomputing hull with ConvexHullScan. */
+public class StreamingHullTest extends TestCase {
+
+	/** Confirm hull of the given batches is computed, point for point. */
+	void compare (StreamingHull sh, ArrayList<IPoint[]> batches, int from) {
+		ArrayList<IPoint> all = new ArrayList<IPoint>();
+		for (int b = from; b < batches.size(); b++) {
+			for (IPoint p : batches.get(b)) { all.add (p); }
+		}
+		IPoint[] expected = new ConvexHullScan().compute (all.toArray (new IPoint[0]));
+		IPoint[] hull = sh.hull();
+		assertEquals (expected.length, hull.length);
+		for (int i = 0; i < hull.length; i++) {
+			assertEquals (expected[i], hull[i]);
+		}
+	}
+
+	@Test
+	public void testSmall() {
+		StreamingHull sh = new StreamingHull();
+		assertEquals (0, sh.hull().length);
+
+		sh.add (new IPoint[] { new TwoDPoint (2, 2) });
+		assertEquals (1, sh.hull().length);
+		sh.add (new IPoint[0]);
+		assertEquals (1, sh.hull().length);
+
+		sh.add (new IPoint[] { new TwoDPoint (0, 0), new TwoDPoint (4, 0), new TwoDPoint (2, 4) });
+		assertEquals (3, sh.hull().length);
+		assertEquals (new TwoDPoint (0, 0), sh.hull()[0]);
+
+		// interior point discarded; point on boundary is not on hull.
+		sh.add (new IPoint[] { new TwoDPoint (2, 1), new TwoDPoint (2, 0) });
+		assertEquals (3, sh.hull().length);
+		assertEquals (3, sh.retained());
+
+		try {
+			new StreamingHull (0);
+			fail ("window must have a batch");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+	}
+
+	@Test
+	public void testStream() {
+		Generator<IPoint> uniform = new UniformGenerator();
+		Random rnd = new Random (1);
+		StreamingHull sh = new StreamingHull();
+		ArrayList<IPoint[]> batches = new ArrayList<IPoint[]>();
+		for (int b = 0; b < 60; b++) {
+			IPoint[] batch = uniform.generate (rnd.nextInt (500));
+			batches.add (batch);
+			sh.add (batch);
+			compare (sh, batches, 0);
+			assertEquals (sh.hull().length, sh.retained());
+		}
+
+		// grid points with many collinear and duplicate points.
+		sh = new StreamingHull();
+		batches.clear();
+		for (int b = 0; b < 30; b++) {
+			IPoint[] batch = new IPoint[1 + rnd.nextInt (20)];
+			for (int i = 0; i < batch.length; i++) {
+				batch[i] = new TwoDPoint (rnd.nextInt (10), rnd.nextInt (10));
+			}
+			batches.add (batch);
+			sh.add (batch);
+			compare (sh, batches, 0);
+		}
+	}
+
+	@Test
+	public void testWindow() {
+		Generator<IPoint> uniform = new UniformGenerator();
+		Random rnd = new Random (1);
+		for (int window = 1; window <= 5; window++) {
+			StreamingHull sh = new StreamingHull (window);
+			ArrayList<IPoint[]> batches = new ArrayList<IPoint[]>();
+			for (int b = 0; b < 40; b++) {
+				// circles of distinct radii, since nearly coincident points (within
+				// FloatingPoint.epsilon) may be resolved differently once merged.
+				Generator<IPoint> g = (b % 2 == 0) ? new CircleGenerator (1000 + 10*b) : uniform;
+				IPoint[] batch = g.generate (1 + rnd.nextInt (300));
+				batches.add (batch);
+				sh.add (batch);
+				compare (sh, batches, Math.max (0, batches.size() - window));
+			}
+		}
+	}
+}
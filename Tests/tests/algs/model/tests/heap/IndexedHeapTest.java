@@ -0,0 +1,111 @@
+package algs.model.tests.heap;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+import algs.model.heap.IndexedDoubleHeap;
+import algs.model.heap.IndexedIntHeap;
+import algs.model.heap.IndexedLongHeap;
+
+public class IndexedHeapTest extends TestCase {
+	
+	@Test
+	public void testBasic() {
+		IndexedIntHeap heap = new IndexedIntHeap(10);
+		assertTrue (heap.isEmpty());
+		
+		heap.insert (0, 10);
+		assertFalse (heap.isEmpty());
+		heap.insert (1, 5);
+		assertEquals (2, heap.size());
+		assertEquals (1, heap.peekID());
+		assertEquals (5, heap.peekPriority());
+		assertEquals (5, heap.smallest());
+		assertEquals (10, heap.smallest());
+		assertTrue (heap.isEmpty());
+		
+		heap.insert (2, 9);
+		heap.insert (3, 2);
+		heap.insert (4, 15);
+		heap.insert (5, 11);
+		heap.insert (6, 1);
+		assertTrue (heap.contains(4));
+		assertFalse (heap.contains(0));
+		assertEquals (15, heap.priority(4));
+		
+		heap.decreaseKey(4, 0);
+		assertEquals (0, heap.priority(4));
+		assertEquals (4, heap.smallestID());
+		assertFalse (heap.contains(4));
+		assertEquals (6, heap.smallestID());
+		assertEquals (3, heap.smallestID());
+		
+		heap.clear();
+		assertTrue (heap.isEmpty());
+		assertFalse (heap.contains(2));
+	}
+	
+	@Test
+	public void testArity() {
+		try {
+			new IndexedIntHeap(10, 1);
+			fail ("arity must be at least two.");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+	}
+	
+	/** Randomly insert, decrease and remove, validating against linear scan of priorities. */
+	@Test
+	public void testRandomOperations() {
+		Random rnd = new Random(31);
+		int n = 2000;
+		for (int arity : new int[] { 2, 3, 4, 8 }) {
+			IndexedIntHeap ih = new IndexedIntHeap(n, arity);
+			IndexedLongHeap lh = new IndexedLongHeap(n, arity);
+			IndexedDoubleHeap dh = new IndexedDoubleHeap(n, arity);
+			int[] expected = new int[n];
+			boolean[] present = new boolean[n];
+			
+			for (int step = 0; step < 20000; step++) {
+				int id = rnd.nextInt(n);
+				int op = rnd.nextInt(3);
+				if (!present[id]) {
+					int p = rnd.nextInt(100000);
+					ih.insert(id, p);
+					lh.insert(id, p);
+					dh.insert(id, p);
+					expected[id] = p;
+					present[id] = true;
+				} else if (op == 0) {
+					int p = expected[id] - rnd.nextInt(1000);
+					ih.decreaseKey(id, p);
+					lh.decreaseKey(id, p);
+					dh.decreaseKey(id, p);
+					expected[id] = p;
+				} else if (op == 1 && !ih.isEmpty()) {
+					// smallest priority present
+					int min = Integer.MAX_VALUE;
+					for (int i = 0; i < n; i++) {
+						if (present[i] && expected[i] < min) { min = expected[i]; }
+					}
+					
+					assertEquals (min, ih.peekPriority());
+					assertEquals (min, lh.peekPriority());
+					assertEquals (min, dh.peekPriority(), 0.0);
+					
+					int removed = ih.smallestID();
+					assertEquals (min, expected[removed]);
+					assertEquals (min, lh.smallest());
+					assertEquals (min, dh.smallest(), 0.0);
+					present[removed] = false;
+				}
+				
+				assertEquals (ih.size(), lh.size());
+				assertEquals (ih.size(), dh.size());
+			}
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package algs.model.tests.heap;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+import algs.model.heap.BinaryHeap;
+import algs.model.heap.IPriorityQueue;
+import algs.model.heap.IndexedIntHeap;
+import algs.model.heap.PairingHeap;
+import algs.model.heap.RadixHeap;
+
+public class PriorityQueueTest extends TestCase {
+	
+	@Test
+	public void testPairingHeap() {
+		PairingHeap<Integer> heap = new PairingHeap<Integer>(10);
+		assertTrue (heap.isEmpty());
+		
+		heap.insert (0, 10);
+		heap.insert (1, 5);
+		assertEquals (2, heap.size());
+		assertEquals (5, heap.smallest());
+		assertEquals (10, heap.smallest());
+		assertTrue (heap.isEmpty());
+		
+		heap.insert (2, 9);
+		heap.insert (3, 2);
+		heap.insert (4, 15);
+		heap.insert (5, 11);
+		heap.insert (6, 1);
+		assertTrue (heap.contains(4));
+		assertFalse (heap.contains(0));
+		
+		heap.decreaseKey(4, 0);
+		assertEquals (4, heap.smallestID());
+		assertFalse (heap.contains(4));
+		assertEquals (6, heap.smallestID());
+		heap.decreaseKey(5, 3);
+		assertEquals (3, heap.smallestID());
+		assertEquals (5, heap.smallestID());
+		assertEquals (2, heap.smallestID());
+		assertTrue (heap.isEmpty());
+	}
+	
+	@Test
+	public void testRadixHeap() {
+		RadixHeap heap = new RadixHeap(10);
+		heap.insert (0, 10);
+		heap.insert (1, 5);
+		heap.insert (2, 7);
+		assertEquals (5, heap.smallest());
+		assertEquals (5, heap.lastPriority());
+		
+		heap.decreaseKey (0, 6);
+		assertEquals (0, heap.smallestID());
+		
+		try {
+			heap.insert (3, 4);
+			fail ("Radix heap is monotone.");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+		try {
+			heap.decreaseKey (2, 5);
+			fail ("Radix heap is monotone.");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+		
+		heap.insert (3, 6);
+		assertEquals (3, heap.smallestID());
+		assertEquals (2, heap.smallestID());
+		assertTrue (heap.isEmpty());
+		
+		// negative priorities are supported until the first removal
+		heap.clear();
+		heap.insert (0, 5);
+		heap.insert (1, -5);
+		heap.insert (2, Integer.MIN_VALUE);
+		heap.insert (3, Integer.MAX_VALUE);
+		assertEquals (Integer.MIN_VALUE, heap.smallest());
+		assertEquals (-5, heap.smallest());
+		assertEquals (5, heap.smallest());
+		assertEquals (Integer.MAX_VALUE, heap.smallest());
+	}
+	
+	/** 
+	 * Randomly insert, decrease and remove with monotone priorities, validating 
+	 * every IPriorityQueue implementation against linear scan of priorities.
+	 */
+	@Test
+	public void testRandomMonotone() {
+		Random rnd = new Random(17);
+		int n = 500;
+		
+		for (int q = 0; q < 4; q++) {
+			IPriorityQueue<? super Integer> pq;
+			switch (q) {
+			case 0: pq = new BinaryHeap<Integer>(n); break;
+			case 1: pq = new PairingHeap<Integer>(n); break;
+			case 2: pq = new IndexedIntHeap(n); break;
+			default: pq = new RadixHeap(n); break;
+			}
+			
+			int[] priority = new int[n];
+			boolean[] present = new boolean[n];
+			int count = 0;
+			int last = 0;
+			for (int k = 0; k < 20000; k++) {
+				int op = rnd.nextInt(3);
+				int id = rnd.nextInt(n);
+				if (op == 0 && !present[id]) {
+					priority[id] = last + rnd.nextInt(1000);
+					present[id] = true;
+					count++;
+					pq.insert(id, priority[id]);
+				} else if (op == 1 && present[id] && priority[id] > last) {
+					priority[id] = last + rnd.nextInt(priority[id] - last);
+					pq.decreaseKey(id, priority[id]);
+				} else if (op == 2 && count > 0) {
+					int min = Integer.MAX_VALUE;
+					for (int i = 0; i < n; i++) {
+						if (present[i] && priority[i] < min) { min = priority[i]; }
+					}
+					int sid = pq.smallestID();
+					assertTrue (present[sid]);
+					assertEquals (min, priority[sid]);
+					present[sid] = false;
+					count--;
+					last = min;
+				}
+			}
+			
+			while (count > 0) {
+				int sid = pq.smallestID();
+				assertTrue (present[sid]);
+				assertTrue (priority[sid] >= last);
+				last = priority[sid];
+				present[sid] = false;
+				count--;
+			}
+			assertTrue (pq.isEmpty());
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package algs.model.tests.kdtree;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import algs.model.IMultiPoint;
+import algs.model.IPoint;
+import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDTree;
+import algs.model.kdtree.MortonOrder;
+import algs.model.kdtree.TwoDFactory;
+import algs.model.kdtree.TwoDTree;
+import algs.model.nd.Hyperpoint;
+import algs.model.twod.TwoDPoint;
+
+import junit.framework.TestCase;
+
+/** Validate batch nearest neighbor queries against individual queries. */
+public class BatchNearestTest extends TestCase {
+
+	@Test
+	public void testMortonOrder() {
+		// 2x2 grid is visited in Z order.
+		double[] coords = { 1, 1,  0, 0,  1, 0,  0, 1 };
+		int[] order = MortonOrder.order (coords, 2);
+		assertEquals (1, order[0]);
+		assertEquals (3, order[1]);
+		assertEquals (2, order[2]);
+		assertEquals (0, order[3]);
+
+		// always a permutation.
+		Random rnd = new Random(2);
+		for (int d = 1; d <= 70; d += 23) {
+			coords = new double[d*5000];
+			for (int i = 0; i < coords.length; i++) { coords[i] = rnd.nextInt(10); }
+			order = MortonOrder.order (coords, d);
+			boolean[] seen = new boolean[5000];
+			for (int idx : order) {
+				assertFalse (seen[idx]);
+				seen[idx] = true;
+			}
+		}
+	}
+
+	@Test
+	public void testKDTree() {
+		Random rnd = new Random(13);
+		assertNull (new KDTree(2).nearestAll (RandomPoints.generate (rnd, 3, 2))[0]);
+
+		ForkJoinPool pool = new ForkJoinPool(2);
+		for (int d = 2; d <= 4; d++) {
+			KDTree tree = KDFactory.generate (RandomPoints.generate (rnd, 5000, d));
+			IMultiPoint[] targets = RandomPoints.generate (rnd, 10000, d);
+			targets[17] = null;
+
+			IMultiPoint[] results = tree.nearestAll (targets);
+			IMultiPoint[] results2 = tree.nearestAll (targets, pool);
+			assertNull (results[17]);
+			for (int i = 0; i < targets.length; i++) {
+				if (i == 17) { continue; }
+				double expected = targets[i].distance (tree.nearest (targets[i]));
+				assertEquals (expected, targets[i].distance (results[i]), 1e-12);
+				assertEquals (expected, targets[i].distance (results2[i]), 1e-12);
+			}
+		}
+		pool.shutdown();
+	}
+
+	@Test
+	public void testTwoDTree() {
+		// TwoDFactory compares coordinates whose difference is truncated to an int.
+		Random rnd = new Random(21);
+		IPoint[] points = new IPoint[5000];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = new TwoDPoint (rnd.nextInt(1000000), rnd.nextInt(1000000));
+		}
+		TwoDTree tree = TwoDFactory.generate (points);
+		assertNull (new TwoDTree().nearestAll (points)[0]);
+
+		IPoint[] targets = new IPoint[10000];
+		for (int i = 0; i < targets.length; i++) {
+			targets[i] = new TwoDPoint (rnd.nextInt(1000000), rnd.nextInt(1000000));
+		}
+		targets[0] = null;
+		IPoint[] results = tree.nearestAll (targets);
+		assertNull (results[0]);
+		for (int i = 1; i < targets.length; i++) {
+			IPoint p = tree.nearest (targets[i]);
+			double expected = Math.hypot (p.getX() - targets[i].getX(), p.getY() - targets[i].getY());
+			double found = Math.hypot (results[i].getX() - targets[i].getX(), results[i].getY() - targets[i].getY());
+			assertEquals (expected, found, 1e-12);
+		}
+	}
+}
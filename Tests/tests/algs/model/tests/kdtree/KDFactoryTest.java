@@ -0,0 +1,103 @@
+package algs.model.tests.kdtree;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import algs.model.IHypercube;
+import algs.model.IMultiPoint;
+import algs.model.kdtree.DimensionalNode;
+import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDTree;
+import algs.model.nd.Hyperpoint;
+
+import junit.framework.TestCase;
+
+/** Validate trees generated by KDFactory, including those built concurrently. */
+public class KDFactoryTest extends TestCase {
+
+	/**
+	 * Confirm subtree rooted at node has expected dimension and region, and that
+	 * each point lies within its region. Return number of nodes.
+	 */
+	int validate (DimensionalNode node, int dimension, double[] lows, double[] highs) {
+		if (node == null) { return 0; }
+		assertEquals (dimension, node.dimension);
+		IHypercube region = node.region();
+		for (int i = 1; i <= lows.length; i++) {
+			assertEquals (lows[i-1], region.getLeft(i));
+			assertEquals (highs[i-1], region.getRight(i));
+			double c = node.point.getCoordinate(i);
+			assertTrue (lows[i-1] <= c && c <= highs[i-1]);
+		}
+
+		int next = (dimension == lows.length) ? 1 : dimension+1;
+		double[] h = highs.clone();
+		h[dimension-1] = node.coord;
+		int count = validate (node.getBelow(), next, lows, h);
+		double[] l = lows.clone();
+		l[dimension-1] = node.coord;
+		return 1 + count + validate (node.getAbove(), next, l, highs);
+	}
+
+	/** Confirm tree holds n points, is balanced and properly formed. */
+	void validate (KDTree tree, int n) {
+		int d = tree.maxDimension;
+		double[] lows = new double[d];
+		double[] highs = new double[d];
+		for (int i = 0; i < d; i++) {
+			lows[i] = Double.NEGATIVE_INFINITY;
+			highs[i] = Double.POSITIVE_INFINITY;
+		}
+		assertEquals (n, validate (tree.getRoot(), 1, lows, highs));
+		assertEquals (32 - Integer.numberOfLeadingZeros (n), tree.height());
+	}
+
+	@Test
+	public void testSizes() {
+		Random rnd = new Random(5);
+		assertNull (KDFactory.generate (new IMultiPoint[0]));
+		for (int n = 1; n < 100; n++) {
+			validate (KDFactory.generate (RandomPoints.generate (rnd, n, 3, 1000)), n);
+		}
+		validate (KDFactory.generate (RandomPoints.generate (rnd, 50000, 2, 1000)), 50000);
+	}
+
+	@Test
+	public void testConcurrent() throws InterruptedException {
+		final ForkJoinPool pool = new ForkJoinPool(3);
+		final Random rnd = new Random(17);
+		final int sizes[] = { 10000, 40000, 70000, 30000 };
+		final IMultiPoint[][] points = new IMultiPoint[sizes.length][];
+		final KDTree[] trees = new KDTree[sizes.length];
+		for (int i = 0; i < sizes.length; i++) {
+			points[i] = RandomPoints.generate (rnd, sizes[i], 2+i, 1000);
+		}
+
+		Thread[] threads = new Thread[sizes.length];
+		for (int i = 0; i < sizes.length; i++) {
+			final int idx = i;
+			threads[i] = new Thread() {
+				public void run() {
+					trees[idx] = KDFactory.generate (points[idx], (idx % 2 == 0) ? pool : ForkJoinPool.commonPool());
+				}
+			};
+			threads[i].start();
+		}
+		for (Thread t : threads) { t.join(); }
+		pool.shutdown();
+
+		for (int i = 0; i < sizes.length; i++) {
+			validate (trees[i], sizes[i]);
+			for (int q = 0; q < 20; q++) {
+				IMultiPoint target = RandomPoints.generate (rnd, 1, 2+i, 1000)[0];
+				double best = Double.POSITIVE_INFINITY;
+				for (IMultiPoint p : points[i]) {
+					best = Math.min (best, target.distance (p));
+				}
+				assertEquals (best, target.distance (trees[i].nearest (target)), 1e-9);
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package algs.model.tests.kdtree;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import algs.model.IMultiPoint;
+import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDStats;
+import algs.model.kdtree.KDTree;
+import algs.model.nd.Hyperpoint;
+
+import junit.framework.TestCase;
+
+/** Validate statistics gathered by concurrent nearest neighbor queries. */
+public class KDStatsTest extends TestCase {
+
+	@Test
+	public void testStats() {
+		KDTree tree = new KDTree(2);
+		KDStats stats = new KDStats();
+		assertNull (tree.nearest (new Hyperpoint (new double[] { 1, 1 }), stats));
+
+		Random rnd = new Random(3);
+		tree = KDFactory.generate (RandomPoints.generate (rnd, 1000, 2));
+		IMultiPoint target = RandomPoints.generate (rnd, 1, 2)[0];
+		assertSame (tree.nearest (target), tree.nearest (target, stats));
+		assertSame (tree.nearest (target), tree.nearest (target, null));
+		assertTrue (stats.numRecursions > 0);
+
+		int r = stats.numRecursions;
+		int dr = stats.numDoubleRecursions;
+		tree.nearest (target, stats);
+		assertEquals (2*r, stats.numRecursions);
+		assertEquals (2*dr, stats.numDoubleRecursions);
+		stats.reset();
+		assertEquals (0, stats.numRecursions);
+		assertEquals (0, stats.numDoubleRecursions);
+	}
+
+	@Test
+	public void testConcurrent() throws InterruptedException {
+		Random rnd = new Random(9);
+		final KDTree tree = KDFactory.generate (RandomPoints.generate (rnd, 20000, 3));
+		final IMultiPoint[] targets = RandomPoints.generate (rnd, 4000, 3);
+
+		// expected results computed by a single thread.
+		final IMultiPoint[] expected = new IMultiPoint[targets.length];
+		KDStats total = new KDStats();
+		for (int i = 0; i < targets.length; i++) {
+			expected[i] = tree.nearest (targets[i], total);
+		}
+
+		final int numThreads = 4;
+		final KDStats[] stats = new KDStats[numThreads];
+		final IMultiPoint[][] results = new IMultiPoint[numThreads][targets.length];
+		Thread[] threads = new Thread[numThreads];
+		for (int t = 0; t < numThreads; t++) {
+			final int id = t;
+			stats[t] = new KDStats();
+			threads[t] = new Thread() {
+				public void run() {
+					// every thread searches all targets; odd threads record nothing.
+					for (int i = 0; i < targets.length; i++) {
+						results[id][i] = tree.nearest (targets[i], (id % 2 == 0) ? stats[id] : null);
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread th : threads) { th.join(); }
+
+		for (int t = 0; t < numThreads; t++) {
+			for (int i = 0; i < targets.length; i++) {
+				assertSame (expected[i], results[t][i]);
+			}
+			if (t % 2 == 0) {
+				assertEquals (total.numRecursions, stats[t].numRecursions);
+				assertEquals (total.numDoubleRecursions, stats[t].numDoubleRecursions);
+			} else {
+				assertEquals (0, stats[t].numRecursions);
+			}
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package algs.model.tests.kdtree;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import algs.model.IMultiPoint;
+import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDTree;
+import algs.model.nd.Hyperpoint;
+
+import junit.framework.TestCase;
+
+public class KNearestTest extends TestCase {
+
+	@Test
+	public void testEmpty() {
+		KDTree tree = new KDTree(2);
+		IMultiPoint[] results = new IMultiPoint[3];
+		assertEquals (0, tree.kNearest (new Hyperpoint (new double[]{1, 2}), 3, results, null));
+		assertEquals (0, tree.withinRadius (new Hyperpoint (new double[]{1, 2}), 10, results));
+
+		try {
+			tree.kNearest (new Hyperpoint (new double[]{1, 2}), 4, results, null);
+			fail ("results too small");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+	}
+
+	@Test
+	public void testSmall() {
+		KDTree tree = new KDTree(2);
+		double[][] pts = {{5,5}, {1,1}, {9,9}, {4,6}, {6,4}, {2,8}};
+		for (double[] p : pts) {
+			tree.insert (new Hyperpoint (p));
+		}
+
+		IMultiPoint[] results = new IMultiPoint[10];
+		double[] dists = new double[10];
+		assertEquals (3, tree.kNearest (new Hyperpoint (new double[]{5, 5}), 3, results, dists));
+		assertEquals (new Hyperpoint (new double[]{5, 5}), results[0]);
+		assertEquals (0.0, dists[0]);
+		assertEquals (Math.sqrt(2), dists[1], 1e-9);
+		assertEquals (Math.sqrt(2), dists[2], 1e-9);
+
+		// more than exist
+		assertEquals (6, tree.kNearest (new Hyperpoint (new double[]{0, 0}), 10, results, dists));
+		assertEquals (new Hyperpoint (new double[]{9, 9}), results[5]);
+
+		assertEquals (3, tree.withinRadius (new Hyperpoint (new double[]{5, 5}), Math.sqrt(2), results));
+		IMultiPoint[] small = new IMultiPoint[1];
+		assertEquals (3, tree.withinRadius (new Hyperpoint (new double[]{5, 5}), Math.sqrt(2), small));
+	}
+
+	@Test
+	public void testRandom() {
+		Random rnd = new Random(7);
+		for (int d = 2; d <= 5; d++) {
+			IMultiPoint[] points = RandomPoints.generate (rnd, 2000, d, 100);
+			KDTree tree = KDFactory.generate (points.clone());
+
+			IMultiPoint[] results = new IMultiPoint[points.length];
+			double[] dists = new double[points.length];
+			double[] all = new double[points.length];
+			for (int q = 0; q < 100; q++) {
+				IMultiPoint target = RandomPoints.generate (rnd, 1, d, 100)[0];
+				for (int i = 0; i < points.length; i++) {
+					all[i] = target.distance (points[i]);
+				}
+				double[] sorted = all.clone();
+				Arrays.sort (sorted);
+
+				int k = 1 + rnd.nextInt(100);
+				assertEquals (k, tree.kNearest (target, k, results, dists));
+				for (int i = 0; i < k; i++) {
+					assertEquals (sorted[i], dists[i], 1e-9);
+					assertEquals (dists[i], target.distance (results[i]), 1e-9);
+				}
+
+				double r = rnd.nextDouble() * 0.2;
+				int expected = 0;
+				for (int i = 0; i < points.length; i++) {
+					if (all[i] <= r) { expected++; }
+				}
+				assertEquals (expected, tree.withinRadius (target, r, results));
+				for (int i = 0; i < expected; i++) {
+					assertTrue (target.distance (results[i]) <= r + 1e-9);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package algs.model.tests.kdtree;
+
+import java.util.Random;
+
+import algs.model.IMultiPoint;
+import algs.model.nd.Hyperpoint;
+
+/**
+ * Seeded random points for the kd-tree tests, so failures can be reproduced.
+ *
+ * @author George Heineman
+ * @version 2.0, 10/18/26
+ * @since 2.0
+ */
+class RandomPoints {
+
+	/**
+	 * Random points in [0,1]^d.
+	 *
+	 * @param rnd   source of randomness
+	 * @param n     number of points
+	 * @param d     number of dimensions
+	 */
+	static IMultiPoint[] generate (Random rnd, int n, int d) {
+		return generate (rnd, n, d, 0);
+	}
+
+	/**
+	 * Random points in [0,1]^d, with each coordinate rounded to a multiple of
+	 * 1/grid so there are duplicate coordinates. No rounding when grid is 0.
+	 *
+	 * @param rnd    source of randomness
+	 * @param n      number of points
+	 * @param d      number of dimensions
+	 * @param grid   number of distinct values in each dimension (less one)
+	 */
+	static IMultiPoint[] generate (Random rnd, int n, int d, int grid) {
+		IMultiPoint[] points = new IMultiPoint[n];
+		for (int i = 0; i < n; i++) {
+			double[] vals = new double[d];
+			for (int j = 0; j < d; j++) {
+				vals[j] = rnd.nextDouble();
+				if (grid > 0) {
+					vals[j] = Math.round (vals[j]*grid) / (double) grid;
+				}
+			}
+			points[i] = new Hyperpoint (vals);
+		}
+		return points;
+	}
+}
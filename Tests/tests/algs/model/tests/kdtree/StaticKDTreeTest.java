@@ -0,0 +1,112 @@
+package algs.model.tests.kdtree;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.Test;
+
+import algs.model.IMultiPoint;
+import algs.model.kdtree.KDFactory;
+import algs.model.kdtree.KDTree;
+import algs.model.kdtree.StaticKDTree;
+import algs.model.nd.Hypercube;
+import algs.model.nd.Hyperpoint;
+import algs.model.twod.TwoDPoint;
+
+import junit.framework.TestCase;
+
+/** Validate StaticKDTree against brute force. */
+public class StaticKDTreeTest extends TestCase {
+
+	@Test
+	public void testInvalid() {
+		try {
+			new StaticKDTree (new IMultiPoint[0]);
+			fail ("no points");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+		IMultiPoint[] pts = new IMultiPoint[] { new TwoDPoint (1, 2) };
+		try {
+			new StaticKDTree (pts, 0);
+			fail ("empty bucket");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+		try {
+			new StaticKDTree (pts).nearestIndex (new double[] { 1, 2, 3 });
+			fail ("wrong dimension");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+	}
+
+	@Test
+	public void testSmall() {
+		IMultiPoint[] pts = new IMultiPoint[] {
+			new TwoDPoint (5, 5), new TwoDPoint (1, 1), new TwoDPoint (9, 9),
+			new TwoDPoint (4, 6), new TwoDPoint (6, 4), new TwoDPoint (2, 8)
+		};
+		StaticKDTree tree = new StaticKDTree (pts, 1);
+		assertEquals (6, tree.size());
+		assertEquals (pts[2], tree.nearest (new TwoDPoint (10, 10)));
+		assertEquals (3, tree.nearestIndex (new double[] { 4, 7 }));
+		assertNull (tree.nearest (null));
+
+		// closed intervals, as with KDTree.
+		int[] found = new int[2];
+		assertEquals (3, tree.range (new double[] { 4, 4 }, new double[] { 6, 6 }, found));
+		int count = 0;
+		for (Iterator<IMultiPoint> it = tree.range (new Hypercube (4, 6, 4, 6)); it.hasNext(); ) {
+			it.next();
+			count++;
+		}
+		assertEquals (3, count);
+	}
+
+	@Test
+	public void testRandom() {
+		Random rnd = new Random(11);
+		int[] buckets = { 1, 8, 16, 32 };
+		for (int d = 2; d <= 6; d++) {
+			IMultiPoint[] points = RandomPoints.generate (rnd, 3000, d, 50);
+			KDTree tree = KDFactory.generate (points.clone());
+			StaticKDTree stree = new StaticKDTree (points, buckets[d % buckets.length]);
+
+			int[] found = new int[points.length];
+			for (int q = 0; q < 200; q++) {
+				IMultiPoint target = RandomPoints.generate (rnd, 1, d, 50)[0];
+				double best = Double.POSITIVE_INFINITY;
+				for (IMultiPoint p : points) {
+					best = Math.min (best, target.distance (p));
+				}
+				assertEquals (best, target.distance (tree.nearest (target)), 1e-9);
+				assertEquals (best, target.distance (stree.nearest (target)), 1e-9);
+				assertEquals (best, target.distance (points[stree.nearestIndex (target.raw())]), 1e-9);
+
+				double[] low = new double[d];
+				double[] high = new double[d];
+				for (int j = 0; j < d; j++) {
+					low[j] = Math.round (rnd.nextDouble()*50) / 50.0;
+					high[j] = low[j] + Math.round (rnd.nextDouble()*25) / 50.0;
+				}
+				Hypercube space = new Hypercube (low, high);
+				int expected = 0;
+				for (IMultiPoint p : points) {
+					if (space.intersects (p)) { expected++; }
+				}
+				int count = stree.range (low, high, found);
+				assertEquals (expected, count);
+				for (int i = 0; i < count; i++) {
+					assertTrue (space.intersects (points[found[i]]));
+				}
+				int iterated = 0;
+				for (Iterator<IMultiPoint> it = stree.range (space); it.hasNext(); ) {
+					assertTrue (space.intersects (it.next()));
+					iterated++;
+				}
+				assertEquals (expected, iterated);
+			}
+		}
+	}
+}
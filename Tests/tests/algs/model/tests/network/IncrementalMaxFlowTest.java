@@ -0,0 +1,128 @@
+package algs.model.tests.network;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import algs.model.network.Dinic;
+import algs.model.network.EdgeInfo;
+import algs.model.network.FlowNetworkCSR;
+import algs.model.network.IncrementalMaxFlow;
+
+/** Test that IncrementalMaxFlow agrees with a full recompute after edits. */
+public class IncrementalMaxFlowTest extends TestCase {
+
+	ArrayList<EdgeInfo> edges;
+
+	/** Example drawn from [Cormen], p. 581] */
+	public void setUp() {
+		edges = new ArrayList<EdgeInfo>();
+		edges.add(new EdgeInfo(0, 1,   16));
+		edges.add(new EdgeInfo(0, 2,   13));
+		edges.add(new EdgeInfo(1, 2,   10));
+		edges.add(new EdgeInfo(1, 3,   12));
+		edges.add(new EdgeInfo(2, 1,   4));
+		edges.add(new EdgeInfo(2, 4,   14));
+		edges.add(new EdgeInfo(3, 2,   9));
+		edges.add(new EdgeInfo(3, 5,   20));
+		edges.add(new EdgeInfo(4, 3,   7));
+		edges.add(new EdgeInfo(4, 5,   4));
+	}
+
+	@Test
+	public void testCormen() {
+		FlowNetworkCSR network = new FlowNetworkCSR (6, 0, 5, edges.iterator());
+		IncrementalMaxFlow imf = new IncrementalMaxFlow (network);
+		assertEquals (23, imf.compute());
+
+		// (1,3) carries 12 units; reducing it to 5 reduces max flow to 16.
+		imf.setCapacity (3, 5);
+		assertEquals (16, imf.compute());
+		imf.getNetwork().validate();
+
+		// raising min cut edge (4,5) leaves (1,3) and (2,4) as min cut.
+		imf.setCapacity (9, 10);
+		assertEquals (19, imf.compute());
+		imf.getNetwork().validate();
+
+		// removing edge (3,5) leaves only (4,5).
+		imf.removeEdge (7);
+		assertEquals (10, imf.compute());
+		imf.getNetwork().validate();
+
+		// new edge (1,5) bypasses the cut.
+		int e = imf.addEdge (1, 5, 8);
+		assertEquals (10, e);
+		assertEquals (18, imf.compute());
+		assertEquals (11, imf.getNetwork().numEdges());
+		imf.getNetwork().validate();
+
+		// flows are recorded in original edges, and in new ones.
+		imf.getNetwork().storeFlows();
+		assertEquals (0, edges.get(7).getFlow());
+
+		try {
+			imf.setCapacity (0, -1);
+			fail ("negative capacity not allowed");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+	}
+
+	@Test
+	public void testRandom() {
+		Random rnd = new Random(23);
+		for (int t = 0; t < 300; t++) {
+			int n = 2 + rnd.nextInt(20);
+			int m = rnd.nextInt(5*n);
+			ArrayList<int[]> list = new ArrayList<int[]>();
+			for (int e = 0; e < m; e++) {
+				list.add (new int[] { rnd.nextInt(n), rnd.nextInt(n), rnd.nextInt(20) });
+			}
+
+			IncrementalMaxFlow imf = new IncrementalMaxFlow (build (n, list));
+			imf.compute();
+
+			for (int batch = 0; batch < 5; batch++) {
+				int edits = 1 + rnd.nextInt(4);
+				for (int k = 0; k < edits; k++) {
+					int op = rnd.nextInt(3);
+					if (op == 0 || list.isEmpty()) {
+						int[] edge = new int[] { rnd.nextInt(n), rnd.nextInt(n), rnd.nextInt(20) };
+						assertEquals (list.size(), imf.addEdge (edge[0], edge[1], edge[2]));
+						list.add (edge);
+					} else if (op == 1) {
+						int e = rnd.nextInt(list.size());
+						list.get(e)[2] = rnd.nextInt(20);
+						imf.setCapacity (e, list.get(e)[2]);
+					} else {
+						int e = rnd.nextInt(list.size());
+						list.get(e)[2] = 0;
+						imf.removeEdge (e);
+					}
+				}
+
+				int flow = imf.compute();
+				imf.getNetwork().validate();
+				assertEquals (new Dinic (build (n, list)).compute(), flow);
+			}
+		}
+	}
+
+	/** Network with source 0 and sink n-1 from the (start, end, capacity) triples. */
+	FlowNetworkCSR build (int n, ArrayList<int[]> list) {
+		int m = list.size();
+		int[] start = new int[m];
+		int[] end = new int[m];
+		int[] cap = new int[m];
+		for (int e = 0; e < m; e++) {
+			start[e] = list.get(e)[0];
+			end[e] = list.get(e)[1];
+			cap[e] = list.get(e)[2];
+		}
+		return new FlowNetworkCSR (n, 0, n-1, start, end, cap, null);
+	}
+}
@@ -0,0 +1,129 @@
+package algs.model.tests.network;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import algs.model.network.Assignment;
+import algs.model.network.EdgeInfo;
+import algs.model.network.FlowNetworkArray;
+import algs.model.network.FlowNetworkCSR;
+import algs.model.network.FordFulkerson;
+import algs.model.network.MinCostFlow;
+import algs.model.network.ShortestPathArray;
+import algs.model.network.Transportation;
+import algs.model.network.Transshipment;
+
+/**
+ * Validate MinCostFlow (both successive shortest paths and cost scaling)
+ * against the problems solved in {@link MaxFlowMinCostTest}.
+ */
+public class MinCostFlowTest extends TestCase {
+
+	/** Solve problem both ways and confirm same cost and flow stored in network. */
+	void solve (FlowNetworkArray network, int cost, int flow) {
+		for (int mode = 0; mode < 2; mode++) {
+			FlowNetworkCSR csr = new FlowNetworkCSR (network);
+			MinCostFlow mcf = new MinCostFlow (csr);
+			mcf.setCostScaling (mode == 1);
+			assertEquals (cost, mcf.compute());
+			csr.validate();
+			assertEquals (flow, csr.getFlow());
+
+			// results are visible within original network.
+			csr.storeFlows();
+			assertEquals (cost, network.getCost());
+			assertEquals (flow, network.getFlow());
+		}
+	}
+
+	/** http://people.brunel.ac.uk/~mastjjb/jeb/or/netflow.html */
+	@Test
+	public void testTransportation() {
+		int sup[] = new int[]   {60,70,80};
+		int dem[] = new int[]   {40, 35, 25, 20, 60, 30};
+		int d[][] = new int[][]{{128,131,144,155,138,143},
+				{132,156,145,134,128,150},
+				{144,156,124,152,136,128}};
+
+		solve (new Transportation (sup, dem, d), 27265, 210);
+
+		// with a single warehouse, without and with a limit.
+		int dem_transship[][] = new int[][]{{7,9,11,8,6,9}};
+		int sup_transship[][] = new int[][]{{114},{113},{115}};
+		solve (new Transshipment (sup, dem, sup_transship, new int[]{7},
+				new int[]{Integer.MAX_VALUE}, dem_transship, d), 26765, 210);
+		solve (new Transshipment (sup, dem, sup_transship, new int[]{7},
+				new int[]{100}, dem_transship, d), 26780, 210);
+	}
+
+	/** http://www.me.utexas.edu/~jensen/models/network/net8.html */
+	@Test
+	public void testImpossibleShipments() {
+		int sup[] = new int[]   {5,7,3};
+		int dem[] = new int[]   {7,3,5};
+		int d[][] = new int[][]{{3,1,Integer.MAX_VALUE},
+				{4,2,4},
+				{Integer.MAX_VALUE,3,3}};
+
+		solve (new Transportation (sup, dem, d), 46, 15);
+	}
+
+	@Test
+	public void testAssignment() {
+		int d[][] = new int[][]{{9,2,7,8},
+				{6,4,3,7},
+				{5,8,1,8},
+				{7,6,9,4}};
+
+		solve (new Assignment (d), 13, 4);
+	}
+
+	@Test
+	public void testNegativeCosts() {
+		// cheapest route uses negative edge, requiring initial potentials.
+		ArrayList<EdgeInfo> edges = new ArrayList<EdgeInfo>();
+		edges.add (new EdgeInfo (0, 1, 4, 2));
+		edges.add (new EdgeInfo (0, 2, 2, 5));
+		edges.add (new EdgeInfo (1, 2, 3, -4));
+		edges.add (new EdgeInfo (1, 3, 2, 3));
+		edges.add (new EdgeInfo (2, 3, 5, 1));
+
+		for (int mode = 0; mode < 2; mode++) {
+			FlowNetworkCSR network = new FlowNetworkCSR (4, 0, 3, edges.iterator());
+			MinCostFlow mcf = new MinCostFlow (network);
+			mcf.setCostScaling (mode == 1);
+
+			// 3 units 0->1->2->3 at -1, 1 unit 0->1->3 at 5, 2 units 0->2->3 at 6
+			assertEquals (14, mcf.compute());
+			assertEquals (6, network.getFlow());
+			network.validate();
+		}
+	}
+
+	@Test
+	public void testRandom() {
+		Random rnd = new Random(11);
+		for (int t = 0; t < 100; t++) {
+			int m = 1 + rnd.nextInt(8);
+			int n = 1 + rnd.nextInt(8);
+			int sup[] = new int[m];
+			int dem[] = new int[n];
+			int d[][] = new int[m][n];
+			for (int i = 0; i < m; i++) { sup[i] = rnd.nextInt(40); }
+			for (int j = 0; j < n; j++) { dem[j] = rnd.nextInt(40); }
+			for (int i = 0; i < m; i++) {
+				for (int j = 0; j < n; j++) {
+					d[i][j] = (rnd.nextInt(5) == 0) ? Integer.MAX_VALUE : rnd.nextInt(100);
+				}
+			}
+
+			Transportation ts = new Transportation (sup, dem, d);
+			new FordFulkerson (ts, new ShortestPathArray (ts)).compute();
+			solve (new Transportation (sup, dem, d), ts.getCost(), ts.getFlow());
+		}
+	}
+}
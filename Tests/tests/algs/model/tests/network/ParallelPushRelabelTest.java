@@ -0,0 +1,115 @@
+package algs.model.tests.network;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import algs.model.network.EdgeInfo;
+import algs.model.network.FlowNetworkAdjacencyList;
+import algs.model.network.FlowNetworkArray;
+import algs.model.network.FlowNetworkCSR;
+import algs.model.network.FordFulkerson;
+import algs.model.network.ParallelMaxFlow;
+import algs.model.network.ParallelPushRelabel;
+import algs.model.network.PushRelabel;
+
+/** Validate ParallelPushRelabel against the sequential PushRelabel. */
+public class ParallelPushRelabelTest extends TestCase {
+
+	ArrayList<EdgeInfo> edges;
+
+	/** Example drawn from [Cormen], p. 581] */
+	public void setUp() {
+		edges = new ArrayList<EdgeInfo>();
+		edges.add(new EdgeInfo(0, 1,   16));
+		edges.add(new EdgeInfo(0, 2,   13));
+		edges.add(new EdgeInfo(1, 2,   10));
+		edges.add(new EdgeInfo(1, 3,   12));
+		edges.add(new EdgeInfo(2, 1,   4));
+		edges.add(new EdgeInfo(2, 4,   14));
+		edges.add(new EdgeInfo(3, 2,   9));
+		edges.add(new EdgeInfo(3, 5,   20));
+		edges.add(new EdgeInfo(4, 3,   7));
+		edges.add(new EdgeInfo(4, 5,   4));
+	}
+
+	@Test
+	public void testCormen() {
+		FlowNetworkCSR network = new FlowNetworkCSR (6, 0, 5, edges.iterator());
+		ParallelPushRelabel ppr = new ParallelPushRelabel (network);
+		assertEquals (23, ppr.compute());
+		network.validate();
+		assertTrue (ppr.numGlobalRelabels > 0);
+
+		// already maximal
+		assertEquals (23, new ParallelPushRelabel (network).compute());
+	}
+
+	@Test
+	public void testCallSites() {
+		FlowNetworkArray array = new FlowNetworkArray (6, 0, 5, edges.iterator());
+		FordFulkerson ff = new ParallelMaxFlow (array);
+		assertTrue (ff.compute());
+		assertEquals (23, array.getFlow());
+		conserved (6, 0, 5);
+		assertFalse (ff.compute());
+
+		setUp();
+		FlowNetworkAdjacencyList list = new FlowNetworkAdjacencyList (6, 0, 5, edges.iterator());
+		ff = new ParallelMaxFlow (list);
+		assertTrue (ff.compute());
+		assertEquals (23, list.getFlow());
+		list.validate();
+	}
+
+	/** Confirm flow over edges is within capacity and conserved at internal vertices. */
+	void conserved (int n, int s, int t) {
+		int[] net = new int[n];
+		for (EdgeInfo ei : edges) {
+			assertTrue (ei.getFlow() >= 0 && ei.getFlow() <= ei.capacity);
+			net[ei.start] -= ei.getFlow();
+			net[ei.end] += ei.getFlow();
+		}
+		for (int u = 0; u < n; u++) {
+			if (u != s && u != t) { assertEquals (0, net[u]); }
+		}
+	}
+
+	@Test
+	public void testRandom() {
+		ForkJoinPool[] pools = new ForkJoinPool[] { new ForkJoinPool(1), new ForkJoinPool(2), new ForkJoinPool(4) };
+		Random rnd = new Random(31);
+		for (int t = 0; t < 500; t++) {
+			int n = 2 + rnd.nextInt(t < 400 ? 30 : 3000);
+			int m = rnd.nextInt(6*n);
+			int[] start = new int[m];
+			int[] end = new int[m];
+			int[] cap = new int[m];
+			for (int e = 0; e < m; e++) {
+				start[e] = rnd.nextInt(n);
+				end[e] = rnd.nextInt(n);
+				cap[e] = rnd.nextInt(50);
+			}
+			int s = rnd.nextInt(n);
+			int k = (s + 1 + rnd.nextInt(n-1)) % n;
+
+			FlowNetworkCSR network = new FlowNetworkCSR (n, s, k, start, end, cap, null);
+			int expected = new PushRelabel (network).compute();
+			for (ForkJoinPool pool : pools) {
+				network.reset();
+				ParallelPushRelabel ppr = new ParallelPushRelabel (network);
+				ppr.setPool (pool);
+				assertEquals (expected, ppr.compute());
+				network.validate();
+			}
+		}
+
+		for (ForkJoinPool pool : pools) {
+			pool.shutdown();
+		}
+	}
+}
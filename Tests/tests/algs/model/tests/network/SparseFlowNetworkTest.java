@@ -0,0 +1,173 @@
+package algs.model.tests.network;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import algs.model.list.DoubleLinkedList;
+import algs.model.network.BFS_SearchList;
+import algs.model.network.Dinic;
+import algs.model.network.EdgeInfo;
+import algs.model.network.FlowNetworkAdjacencyList;
+import algs.model.network.FlowNetworkCSR;
+import algs.model.network.FordFulkerson;
+import algs.model.network.PushRelabel;
+
+/** Test the CSR flow network with Dinic and PushRelabel solvers. */
+public class SparseFlowNetworkTest extends TestCase {
+
+	ArrayList<EdgeInfo> edges;
+
+	/** Example drawn from [Cormen], p. 581] */
+	public void setUp() {
+		edges = new ArrayList<EdgeInfo>();
+		edges.add(new EdgeInfo(0, 1,   16));
+		edges.add(new EdgeInfo(0, 2,   13));
+		edges.add(new EdgeInfo(1, 2,   10));
+		edges.add(new EdgeInfo(1, 3,   12));
+		edges.add(new EdgeInfo(2, 1,   4));
+		edges.add(new EdgeInfo(2, 4,   14));
+		edges.add(new EdgeInfo(3, 2,   9));
+		edges.add(new EdgeInfo(3, 5,   20));
+		edges.add(new EdgeInfo(4, 3,   7));
+		edges.add(new EdgeInfo(4, 5,   4));
+	}
+
+	/** Confirm min cut is {(1,3), (4,3), (4,5)} and saturated. */
+	void validateCut (FlowNetworkCSR network) {
+		DoubleLinkedList<EdgeInfo> cut = network.getMinCut();
+		assertEquals (3, cut.size());
+		int sum = 0;
+		for (Iterator<EdgeInfo> it = cut.iterator(); it.hasNext(); ) {
+			EdgeInfo ei = it.next();
+			assertEquals (ei.capacity, ei.getFlow());
+			assertTrue (ei.equals (new EdgeInfo (1, 3, 12)) ||
+					ei.equals (new EdgeInfo (4, 3, 7)) ||
+					ei.equals (new EdgeInfo (4, 5, 4)));
+			sum += ei.capacity;
+		}
+		assertEquals (23, sum);
+	}
+
+	@Test
+	public void testDinic() {
+		FlowNetworkCSR network = new FlowNetworkCSR (6, 0, 5, edges.iterator());
+		assertEquals (10, network.numEdges());
+		Dinic d = new Dinic (network);
+		assertEquals (23, d.compute());
+		network.validate();
+		assertEquals (23, network.getFlow());
+		validateCut (network);
+		assertTrue (d.numPhases > 0);
+
+		// edge lookup returns snapshot with flow
+		EdgeInfo ei = network.edge (4, 5);
+		assertEquals (4, ei.getFlow());
+		assertNull (network.edge (5, 4));
+
+		// solving again changes nothing.
+		assertEquals (23, d.compute());
+	}
+
+	@Test
+	public void testPushRelabel() {
+		FlowNetworkCSR network = new FlowNetworkCSR (6, 0, 5, edges.iterator());
+		PushRelabel pr = new PushRelabel (network);
+		assertEquals (23, pr.compute());
+		network.validate();
+		validateCut (network);
+
+		// from scratch again, after reset.
+		network.reset();
+		assertEquals (0, network.getFlow());
+		assertEquals (23, new PushRelabel (network).compute());
+		network.validate();
+
+		// continue from flow computed by other solver.
+		network.reset();
+		assertEquals (23, new Dinic (network).compute());
+		assertEquals (23, new PushRelabel (network).compute());
+		network.validate();
+	}
+
+	@Test
+	public void testArrays() {
+		int[] start = { 0, 0, 1, 2, 1 };
+		int[] end   = { 1, 2, 3, 3, 2 };
+		int[] cap   = { 3, 2, 2, 3, 5 };
+		int[] cost  = { 1, 4, 2, 1, 1 };
+		FlowNetworkCSR network = new FlowNetworkCSR (4, 0, 3, start, end, cap, cost);
+		assertEquals (5, new Dinic (network).compute());
+		network.validate();
+		int sum = 0;
+		for (int e = 0; e < network.numEdges(); e++) {
+			assertTrue (network.flow(e) <= cap[e]);
+			sum += network.flow(e) * cost[e];
+		}
+		assertEquals (sum, network.getCost());
+
+		try {
+			new FlowNetworkCSR (4, 0, 3, start, end, new int[] { 1 }, null);
+			fail ("Arrays must have same length.");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+		try {
+			new FlowNetworkCSR (4, 0, 3, start, end, new int[] { 1, 2, 3, 4, -1 }, null);
+			fail ("Capacities must be non-negative.");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+	}
+
+	@Test
+	public void testDisconnected() {
+		edges.clear();
+		edges.add(new EdgeInfo(0, 1, 10));
+		edges.add(new EdgeInfo(2, 3, 10));
+		FlowNetworkCSR network = new FlowNetworkCSR (4, 0, 3, edges.iterator());
+		assertEquals (0, new Dinic (network).compute());
+		assertEquals (0, new PushRelabel (network).compute());
+		network.validate();
+		assertEquals (0, network.getMinCut().size());
+	}
+
+	@Test
+	public void testRandom() {
+		Random rnd = new Random(17);
+		for (int t = 0; t < 200; t++) {
+			int n = 2 + rnd.nextInt(40);
+			boolean[][] seen = new boolean[n][n];
+			edges.clear();
+			for (int i = 0; i < 4*n; i++) {
+				int u = rnd.nextInt(n);
+				int v = rnd.nextInt(n);
+				if (u == v || seen[u][v]) { continue; }
+				seen[u][v] = true;
+				edges.add (new EdgeInfo (u, v, rnd.nextInt(50)));
+			}
+
+			FlowNetworkAdjacencyList list = new FlowNetworkAdjacencyList (n, 0, n-1, edges.iterator());
+			new FordFulkerson (list, new BFS_SearchList (list)).compute();
+			int expected = list.getFlow();
+
+			FlowNetworkCSR network = new FlowNetworkCSR (n, 0, n-1, edges.iterator());
+			assertEquals (expected, new Dinic (network).compute());
+			network.validate();
+
+			network.reset();
+			assertEquals (expected, new PushRelabel (network).compute());
+			network.validate();
+
+			int cut = 0;
+			for (Iterator<EdgeInfo> it = network.getMinCut().iterator(); it.hasNext(); ) {
+				cut += it.next().capacity;
+			}
+			assertEquals (expected, cut);
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package algs.model.tests.network.matching;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.Test;
+
+import algs.model.network.matching.BipartiteMatching;
+import algs.model.network.matching.HopcroftKarp;
+import algs.model.network.matching.Pair;
+
+import junit.framework.TestCase;
+
+public class HopcroftKarpTest extends TestCase {
+
+	/** Count pairs, confirming each is an edge and no element is matched twice. */
+	int validate (Iterator<Pair> it, HashSet<String> edges) {
+		HashSet<Object> seen = new HashSet<Object>();
+		int ct = 0;
+		while (it.hasNext()) {
+			Pair p = it.next();
+			assertTrue (edges.contains (p.element + "," + p.match));
+			assertTrue (seen.add (p.element));
+			assertTrue (seen.add (p.match));
+			ct++;
+		}
+		return ct;
+	}
+
+	@Test
+	public void testCormen() {
+		String[]setS = {"L1", "L2", "L3", "L4", "L5" };
+		String[]setT = {"R1", "R2", "R3", "R4" };
+		String[][] edges = new String[][] {
+			{"L1", "R1"}, {"L2", "R1"}, {"L2", "R3"}, {"L3", "R2"},
+			{"L3", "R3"}, {"L3", "R4"}, {"L4", "R3"}, {"L5", "R3"}
+		};
+
+		BipartiteMatching bm = new BipartiteMatching(setS, setT, edges);
+		Iterator<Pair> it = bm.computeHopcroftKarp();
+		int ct = 0;
+		while (it.hasNext()) { it.next(); ct++; }
+		assertEquals (3, ct);
+
+		// L4 can now take R4, so L3 still has R2.
+		assertTrue (bm.addPair("L4", "R4"));
+		assertFalse (bm.addPair("L4", "R4"));
+		it = bm.computeHopcroftKarp();
+		ct = 0;
+		while (it.hasNext()) { it.next(); ct++; }
+		assertEquals (4, ct);
+
+		// no one else can reach R1.
+		assertTrue (bm.removePair("L1", "R1"));
+		assertFalse (bm.removePair("L1", "R1"));
+		assertTrue (bm.removePair("L2", "R1"));
+		it = bm.computeHopcroftKarp();
+		ct = 0;
+		while (it.hasNext()) { it.next(); ct++; }
+		assertEquals (3, ct);
+
+		try {
+			bm.addPair("R1", "L1");
+			fail ("must reject pair from T to S");
+		} catch (RuntimeException re) {
+			// success
+		}
+	}
+
+	@Test
+	public void testInvalid() {
+		try {
+			new HopcroftKarp(3, 3, new int[]{0, 1}, new int[]{1});
+			fail ("arrays differ in length");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+		try {
+			new HopcroftKarp(3, 3, new int[]{0}, new int[]{3});
+			fail ("vertex out of range");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+	}
+
+	@Test
+	public void testRandom() {
+		Random rnd = new Random(17);
+		for (int t = 0; t < 200; t++) {
+			int m = 1 + rnd.nextInt(30);
+			int n = 1 + rnd.nextInt(30);
+			String[] S = new String[m];
+			String[] T = new String[n];
+			for (int i = 0; i < m; i++) { S[i] = "s" + i; }
+			for (int j = 0; j < n; j++) { T[j] = "t" + j; }
+
+			HashSet<String> present = new HashSet<String>();
+			ArrayList<String[]> list = new ArrayList<String[]>();
+			int e = rnd.nextInt(3*(m+n));
+			for (int k = 0; k < e; k++) {
+				String s = S[rnd.nextInt(m)];
+				String tt = T[rnd.nextInt(n)];
+				if (present.add(s + "," + tt)) { list.add(new String[]{s, tt}); }
+			}
+			String[][] pairs = list.toArray(new String[list.size()][]);
+
+			BipartiteMatching bm = new BipartiteMatching(S, T, pairs);
+			int expected = validate (bm.compute(), present);
+			assertEquals (expected, validate (bm.computeHopcroftKarp(), present));
+
+			// a handful of edits, each repaired incrementally, must agree with flow.
+			for (int k = 0; k < 5; k++) {
+				String s = S[rnd.nextInt(m)];
+				String tt = T[rnd.nextInt(n)];
+				if (present.contains(s + "," + tt)) {
+					assertTrue (bm.removePair(s, tt));
+					present.remove(s + "," + tt);
+				} else {
+					assertTrue (bm.addPair(s, tt));
+					present.add(s + "," + tt);
+				}
+
+				int actual = validate (bm.computeHopcroftKarp(), present);
+				assertEquals (validate (new BipartiteMatching(S, T, current(present)).compute(), present), actual);
+				assertEquals (actual, validate (bm.compute(), present));
+			}
+		}
+	}
+
+	/** Rebuild pairs from edge set. */
+	String[][] current (HashSet<String> present) {
+		String[][] pairs = new String[present.size()][];
+		int i = 0;
+		for (String s : present) {
+			pairs[i++] = s.split(",");
+		}
+		return pairs;
+	}
+
+	@Test
+	public void testLarge() {
+		// long augmenting path: s_i connects to t_i and t_{i+1}; initial greedy
+		// matching of s_i to t_{i+1} leaves s_0 needing a path through all.
+		int n = 100000;
+		int[] left = new int[2*n-1];
+		int[] right = new int[2*n-1];
+		int e = 0;
+		for (int i = 0; i < n; i++) {
+			if (i < n-1) { left[e] = i; right[e++] = i+1; }
+			left[e] = i; right[e++] = i;
+		}
+
+		HopcroftKarp hk = new HopcroftKarp(n, n, left, right);
+		assertEquals (n, hk.compute());
+		for (int i = 0; i < n; i++) {
+			assertEquals (i, hk.matchOfRight(hk.matchOfLeft(i)));
+		}
+
+		// remove (n-1,n-1) and matching loses one; restore it and regain.
+		assertTrue (hk.removeEdge(n-1, n-1));
+		assertEquals (n-1, hk.compute());
+		assertTrue (hk.addEdge(n-1, n-1));
+		assertEquals (n, hk.compute());
+	}
+}
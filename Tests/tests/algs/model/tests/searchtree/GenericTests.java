@@ -11,6 +11,7 @@ import algs.example.model.problems.pseudocodeExample.PuzzleEvaluator;
 import algs.example.model.problems.pseudocodeExample.TinyPuzzle;
 import algs.model.searchtree.INode;
 import algs.model.searchtree.INodeSet;
+import algs.model.searchtree.states.StateBucketed;
 import algs.model.searchtree.states.StateStorageFactory;
 
 /**
@@ -225,6 +226,71 @@ public class GenericTests extends TestCase {
 		failToDelete(set);
 	}
 
+	@Test
+	public void testBucketed() {
+		// order by distance to goal
+		INodeSet set = StateStorageFactory.create(StateStorageFactory.BUCKETED);
+		for (Iterator<INode> it = states.iterator(); it.hasNext(); ) {
+			set.insert(it.next());
+		}
+
+		assertMembership(set);
+		
+		// remove the (2,0) state using a copy of the node
+		assertTrue (set.remove(new TinyPuzzle(new int[]{2,0})));
+		assertTrue (set.contains(new TinyPuzzle(new int[]{2,0})) == null);
+		assertFalse (set.remove(new TinyPuzzle(new int[]{2,0})));
+		
+		// remove in order of score.
+		assertEquals (new TinyPuzzle(new int[]{2,3}), set.remove());
+		assertEquals (new TinyPuzzle(new int[]{2,2}), set.remove());
+		
+		// replace (0,0) with equal node having smaller score
+		INode exist = set.contains(new TinyPuzzle(new int[]{0,0}));
+		INode better = new TinyPuzzle(new int[]{0,0});
+		better.score(1);
+		((StateBucketed)set).decreaseKey(exist, better);
+		assertTrue (set.contains(exist) == better);
+		assertEquals (3, set.size());
+		
+		// same score as (1,3) but inserted earlier, so removed first
+		TinyPuzzle tp = new TinyPuzzle(new int[]{1,3});
+		tp.score(1);
+		set.insert(tp);
+		assertTrue (set.remove() == better);
+		assertEquals (tp, set.remove());
+		
+		// scores far below and above existing ones grow the buckets
+		TinyPuzzle low = new TinyPuzzle(new int[]{1,1});
+		low.score(-1000);
+		set.insert(low);
+		TinyPuzzle high = new TinyPuzzle(new int[]{1,2});
+		high.score(100000);
+		set.insert(high);
+		
+		assertTrue (set.remove() == low);
+		assertEquals (new TinyPuzzle(new int[]{2,1}), set.remove());
+		assertEquals (new TinyPuzzle(new int[]{1,0}), set.remove());
+		assertTrue (set.remove() == high);
+		failToDelete(set);
+		
+		// scores too far apart for buckets use overflow list, preserving order
+		StateBucketed sb = new StateBucketed();
+		int[] scores = { 10, Integer.MAX_VALUE, 20, 5*StateBucketed.MAX_BUCKETS, Integer.MIN_VALUE, 30, Integer.MAX_VALUE };
+		ArrayList<INode> nodes = new ArrayList<INode>();
+		for (int i = 0; i < scores.length; i++) {
+			TinyPuzzle n = new TinyPuzzle(new int[]{i,i});
+			n.score(scores[i]);
+			nodes.add(n);
+			sb.insert(n);
+		}
+		int[] order = { 4, 0, 2, 5, 3, 1, 6 };
+		for (int i = 0; i < order.length; i++) {
+			assertTrue (sb.remove() == nodes.get(order[i]));
+		}
+		assertTrue (sb.isEmpty());
+	}
+
 	// helper method
 	private void failToDelete (INodeSet set) {
 		assertTrue (set.isEmpty());
@@ -0,0 +1,151 @@
+package algs.model.tests.searchtree;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import algs.example.model.problems.pseudocodeExample.PuzzleEvaluator;
+import algs.example.model.problems.pseudocodeExample.TinyPuzzle;
+import algs.model.problems.eightpuzzle.EightPuzzleNode;
+import algs.model.problems.eightpuzzle.GoodEvaluator;
+import algs.model.problems.fifteenpuzzle.FifteenPuzzleNode;
+import algs.model.searchtree.AStarSearch;
+import algs.model.searchtree.BreadthFirstSearch;
+import algs.model.searchtree.DepthTransition;
+import algs.model.searchtree.IMove;
+import algs.model.searchtree.INode;
+import algs.model.searchtree.IScore;
+import algs.model.searchtree.IterativeDeepeningAStarSearch;
+import algs.model.searchtree.MemoryBoundedAStarSearch;
+import algs.model.searchtree.Solution;
+
+/**
+ * Test IDA* and SMA* searches.
+ */
+public class MemoryBoundedSearchTest extends TestCase {
+
+	EightPuzzleNode start = new EightPuzzleNode(new int[][]{ {8,1,3},{2,4,5},{0,7,6} });
+	EightPuzzleNode goal = new EightPuzzleNode(new int[][]{ {1,2,3},{8,0,4},{7,6,5} });
+	
+	/** Validate that the solution's moves transform initial into goal. */
+	private void validate(Solution sol, EightPuzzleNode initial, EightPuzzleNode goal) {
+		assertTrue (sol.succeeded());
+		EightPuzzleNode n = (EightPuzzleNode) initial.copy();
+		for (IMove m : sol.moves()) {
+			assertTrue (m.execute(n));
+		}
+		assertEquals (goal, n);
+	}
+	
+	@Test
+	public void testIDAStar() {
+		IterativeDeepeningAStarSearch ida = new IterativeDeepeningAStarSearch(new GoodEvaluator());
+		Solution sol = ida.search(start, goal);
+		validate (sol, start, goal);
+		assertTrue (ida.numIterations >= 1);
+		assertTrue (ida.numExpanded > 0);
+		assertTrue (ida.expansionsPerSecond() > 0);
+		
+		// statistics are reset with each search.
+		long expanded = ida.numExpanded;
+		int iterations = ida.numIterations;
+		ida.search(start, goal);
+		assertEquals (expanded, ida.numExpanded);
+		assertEquals (iterations, ida.numIterations);
+		
+		// initial state already goal
+		sol = new IterativeDeepeningAStarSearch(new GoodEvaluator()).search(goal, goal);
+		assertTrue (sol.succeeded());
+		assertEquals (0, sol.numMoves());
+	}
+	
+	@Test
+	public void testIDAStarOptimal() {
+		// With an admissible evaluator (depth only), IDA* is as short as BFS.
+		EightPuzzleNode s = new EightPuzzleNode(new int[][]{ {2,8,3},{1,6,4},{0,7,5} });
+		BreadthFirstSearch bfs = new BreadthFirstSearch();
+		Solution best = bfs.search(s, goal);
+		
+		IScore depthOnly = new IScore() {
+			public int eval(INode state) {
+				DepthTransition t = (DepthTransition) state.storedData();
+				return (t == null) ? 0 : t.depth;
+			}
+			public void score(INode state) {
+				state.score(eval(state));
+			}
+		};
+		Solution sol = new IterativeDeepeningAStarSearch(depthOnly).search(s, goal);
+		validate (sol, s, goal);
+		assertEquals (best.numMoves(), sol.numMoves());
+	}
+	
+	@Test
+	public void testSMAStar() {
+		// with ample memory, same solution length as A*
+		AStarSearch as = new AStarSearch(new GoodEvaluator());
+		Solution expected = as.search(start, goal);
+		
+		MemoryBoundedAStarSearch sma = new MemoryBoundedAStarSearch(new GoodEvaluator(), 100000);
+		Solution sol = sma.search(start, goal);
+		validate (sol, start, goal);
+		assertEquals (expected.numMoves(), sol.numMoves());
+		assertEquals (0, sma.numForgotten);
+		
+		// with very little memory states are forgotten, yet solution is found
+		for (int budget = 10; budget <= 40; budget += 10) {
+			sma = new MemoryBoundedAStarSearch(new GoodEvaluator(), budget);
+			sol = sma.search(start, goal);
+			validate (sol, start, goal);
+			assertTrue (sma.maxStored <= budget);
+			assertTrue (sma.numForgotten > 0);
+			assertTrue (sma.expansionsPerSecond() > 0);
+		}
+		
+		// statistics are those of the most recent search only.
+		long expanded = sma.numExpanded;
+		long forgotten = sma.numForgotten;
+		sol = sma.search(start, goal);
+		validate (sol, start, goal);
+		assertEquals (expanded, sma.numExpanded);
+		assertEquals (forgotten, sma.numForgotten);
+	}
+	
+	@Test
+	public void testSMAStarFailure() {
+		// budget too small for any path to goal.
+		MemoryBoundedAStarSearch sma = new MemoryBoundedAStarSearch(new GoodEvaluator(), 4);
+		assertFalse (sma.search(start, goal).succeeded());
+		
+		try {
+			new MemoryBoundedAStarSearch(new GoodEvaluator(), 1);
+			fail ("budget must be at least two.");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+		
+		// evaluator targets (1,1) and scores any state beyond it as unreachable,
+		// so (1,1) is found from (0,0) but (9,9) cannot be reached.
+		TinyPuzzle tp = new TinyPuzzle(new int[]{0,0});
+		PuzzleEvaluator eval = new PuzzleEvaluator(new int[]{1,1});
+		sma = new MemoryBoundedAStarSearch(eval, 100);
+		assertTrue (sma.search(tp, new TinyPuzzle(new int[]{1,1})).succeeded());
+		assertFalse (new IterativeDeepeningAStarSearch(eval).search(tp, new TinyPuzzle(new int[]{9,9})).succeeded());
+	}
+	
+	@Test
+	public void testFifteenPuzzle() {
+		FifteenPuzzleNode s = new FifteenPuzzleNode(new int[][]{
+				{ 1, 2, 3, 4}, { 5, 6, 0, 8}, { 9,10, 7,11}, {13,14,15,12} });
+		FifteenPuzzleNode g = new FifteenPuzzleNode(new int[][]{
+				{ 1, 2, 3, 4}, { 5, 6, 7, 8}, { 9,10,11,12}, {13,14,15, 0} });
+		
+		algs.model.problems.fifteenpuzzle.GoodEvaluator eval = new algs.model.problems.fifteenpuzzle.GoodEvaluator();
+		Solution sol = new IterativeDeepeningAStarSearch(eval).search(s, g);
+		assertTrue (sol.succeeded());
+		assertEquals (3, sol.numMoves());
+		sol = new MemoryBoundedAStarSearch(eval, 50).search(s, g);
+		assertTrue (sol.succeeded());
+		assertEquals (3, sol.numMoves());
+	}
+}
@@ -0,0 +1,124 @@
+package algs.model.tests.searchtree;
+
+import java.util.Iterator;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import algs.example.model.problems.pseudocodeExample.TinyPuzzle;
+import algs.model.problems.eightpuzzle.EightPuzzleNode;
+import algs.model.problems.fifteenpuzzle.FifteenPuzzleNode;
+import algs.model.searchtree.AStarSearch;
+import algs.model.searchtree.IMove;
+import algs.model.searchtree.INode;
+import algs.model.searchtree.IPackedNode;
+import algs.model.searchtree.PackedAStarSearch;
+import algs.model.searchtree.Solution;
+import algs.model.searchtree.states.PackedStateMap;
+
+public class PackedAStarSearchTest extends TestCase {
+
+	/** Validate packed successors against copying the node and executing each valid move. */
+	private void validateSuccessors(IPackedNode node) {
+		assertEquals (node, node.unpack(node.packed()));
+		assertEquals (node.hashCode(), node.unpack(node.packed()).hashCode());
+		
+		long[] keys = new long[node.maxSuccessors()];
+		int n = node.successors(keys);
+		int i = 0;
+		for (Iterator<IMove> it = node.validMoves().iterator(); it.hasNext(); i++) {
+			INode copy = node.copy();
+			it.next().execute(copy);
+			assertEquals (((IPackedNode) copy).packed(), keys[i]);
+			
+			// the materialized move also produces the successor
+			INode other = node.copy();
+			assertTrue (node.moveTo(keys[i]).execute(other));
+			assertEquals (copy, other);
+			assertEquals (copy, node.unpack(keys[i]));
+		}
+		assertEquals (i, n);
+	}
+	
+	@Test
+	public void testPackedSuccessors() {
+		validateSuccessors(new EightPuzzleNode(new int[][]{ {1,4,8},{7,3,0},{6,5,2} }));
+		validateSuccessors(new EightPuzzleNode(new int[][]{ {1,2,3},{8,0,4},{7,6,5} }));
+		validateSuccessors(new EightPuzzleNode(new int[][]{ {0,2,3},{8,1,4},{7,6,5} }));
+		validateSuccessors(new FifteenPuzzleNode(new int[][]{
+				{ 2,10, 8, 3}, { 1, 6, 0, 4}, { 5, 9, 7,11}, {13,14,15,12} }));
+		
+		// tile 15 in last position sets the high bit of the packed state
+		validateSuccessors(new FifteenPuzzleNode(new int[][]{
+				{ 1, 2, 3, 4}, { 5, 6, 7, 8}, { 9,10,11,12}, {13,14, 0,15} }));
+	}
+	
+	@Test
+	public void testSameAsAStar() {
+		EightPuzzleNode start = new EightPuzzleNode(new int[][]{ {1,4,8},{7,3,0},{6,5,2} });
+		EightPuzzleNode goal = new EightPuzzleNode(new int[][]{ {1,2,3},{8,0,4},{7,6,5} });
+		
+		AStarSearch as = new AStarSearch(new algs.model.problems.eightpuzzle.GoodEvaluator());
+		PackedAStarSearch ps = new PackedAStarSearch(new algs.model.problems.eightpuzzle.GoodEvaluator());
+		Solution s1 = as.search(start, goal);
+		Solution s2 = ps.search(start, goal);
+		assertTrue (s2.succeeded());
+		assertEquals (s1.moves().toString(), s2.moves().toString());
+		assertEquals (as.numMoves, ps.numMoves);
+		assertEquals (as.numOpen, ps.numOpen);
+		assertEquals (as.numClosed, ps.numClosed);
+		
+		FifteenPuzzleNode start15 = new FifteenPuzzleNode(new int[][]{
+				{ 2,10, 8, 3}, { 1, 6, 0, 4}, { 5, 9, 7,11}, {13,14,15,12} });
+		FifteenPuzzleNode goal15 = new FifteenPuzzleNode(new int[][]{
+				{ 1, 2, 3, 4}, { 5, 6, 7, 8}, { 9,10,11,12}, {13,14,15, 0} });
+		as = new AStarSearch(new algs.model.problems.fifteenpuzzle.GoodEvaluator());
+		ps = new PackedAStarSearch(new algs.model.problems.fifteenpuzzle.GoodEvaluator());
+		s1 = as.search(start15, goal15);
+		s2 = ps.search(start15, goal15);
+		assertEquals (s1.succeeded(), s2.succeeded());
+		assertEquals (s1.moves().toString(), s2.moves().toString());
+		assertEquals (as.numMoves, ps.numMoves);
+		assertEquals (as.numClosed, ps.numClosed);
+	}
+	
+	@Test
+	public void testUnpackedStates() {
+		PackedAStarSearch ps = new PackedAStarSearch(new algs.model.problems.eightpuzzle.GoodEvaluator());
+		try {
+			ps.search(new TinyPuzzle(new int[]{0,0}), new TinyPuzzle(new int[]{2,3}));
+			fail ("PackedAStarSearch requires IPackedNode states.");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+	}
+	
+	@Test
+	public void testPackedStateMap() {
+		PackedStateMap map = new PackedStateMap();
+		assertTrue (map.isEmpty());
+		INode[] nodes = new INode[5000];
+		for (int i = 0; i < nodes.length; i++) {
+			nodes[i] = new TinyPuzzle(new int[]{i,i});
+			map.put (i * 4096L, nodes[i]);
+		}
+		assertEquals (nodes.length, map.size());
+		map.put (0, nodes[1]);
+		assertEquals (nodes.length, map.size());
+		assertTrue (map.get(0) == nodes[1]);
+		
+		for (int i = 1; i < nodes.length; i += 2) {
+			assertTrue (map.remove(i * 4096L) == nodes[i]);
+		}
+		assertNull (map.remove(1));
+		for (int i = 2; i < nodes.length; i++) {
+			if (i % 2 == 0) {
+				assertTrue (map.get(i * 4096L) == nodes[i]);
+			} else {
+				assertNull (map.get(i * 4096L));
+			}
+		}
+		assertEquals (nodes.length/2, map.size());
+	}
+}
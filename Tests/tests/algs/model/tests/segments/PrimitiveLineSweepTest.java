@@ -0,0 +1,146 @@
+package algs.model.tests.segments;
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.Random;
+
+import org.junit.Test;
+
+import algs.model.FloatingPoint;
+import algs.model.ILineSegment;
+import algs.model.IPoint;
+import algs.model.data.segments.UniformGenerator;
+import algs.model.list.List;
+import algs.model.problems.segmentIntersection.LineSweep;
+import algs.model.problems.segmentIntersection.primitive.IIntersectionVisitor;
+import algs.model.problems.segmentIntersection.primitive.PrimitiveLineSweep;
+import algs.model.twod.TwoDLineSegment;
+import algs.model.twod.TwoDPoint;
+
+import junit.framework.TestCase;
+
+/** Validate PrimitiveLineSweep against brute force and LineSweep. */
+public class PrimitiveLineSweepTest extends TestCase {
+
+	/** Records each intersection point and the segments that meet there. */
+	static class Recorder implements IIntersectionVisitor {
+		ArrayList<TwoDPoint> points = new ArrayList<TwoDPoint>();
+		ArrayList<int[]> segments = new ArrayList<int[]>();
+
+		public void visit (double x, double y, int[] segs, int num) {
+			points.add (new TwoDPoint (x, y));
+			int[] copy = new int[num];
+			System.arraycopy (segs, 0, copy, 0, num);
+			segments.add (copy);
+		}
+
+		/** Number of distinct pairs of segments that meet. */
+		int pairs() {
+			int total = 0;
+			for (int[] s : segments) { total += s.length*(s.length-1)/2; }
+			return total;
+		}
+	}
+
+	@Test
+	public void testSmall() {
+		ILineSegment[] segs = new ILineSegment[] {
+			new TwoDLineSegment (0, 5, 10, 5),      // horizontal
+			new TwoDLineSegment (5, 0, 5, 10),      // vertical, crosses horizontal at (5,5)
+			new TwoDLineSegment (0, 0, 10, 10),     // also through (5,5)
+			new TwoDLineSegment (10, 10, 12, 0),    // shares end point (10,10)
+			new TwoDLineSegment (8, 0, 8, 4),       // no intersections
+			new TwoDLineSegment (7, 5, 9, 8),       // starts on horizontal
+		};
+
+		Recorder rec = new Recorder();
+		assertEquals (3, new PrimitiveLineSweep().intersections (segs, rec));
+
+		// reported in order of sweep line, from top to bottom.
+		assertEquals (new TwoDPoint (10, 10), rec.points.get(0));
+		assertEquals (2, rec.segments.get(0).length);
+		assertEquals (new TwoDPoint (5, 5), rec.points.get(1));
+		assertEquals (3, rec.segments.get(1).length);
+		assertEquals (new TwoDPoint (7, 5), rec.points.get(2));
+		assertEquals (2, rec.segments.get(2).length);
+
+		// nothing to report.
+		assertEquals (0, new PrimitiveLineSweep().intersections (new ILineSegment[0], rec));
+	}
+
+	@Test
+	public void testRandom() {
+		for (int ratio = 2; ratio <= 32; ratio *= 4) {
+			validate (new UniformGenerator (ratio).generate (400));
+		}
+	}
+
+	@Test
+	public void testLongSegments() {
+		// long segments spanning the plane keep a large line state throughout.
+		Random rnd = new Random (7);
+		ILineSegment[] segs = new ILineSegment[1200];
+		for (int i = 0; i < 1000; i++) {
+			double x = rnd.nextDouble();
+			segs[i] = new TwoDLineSegment (x, 0, x + (rnd.nextDouble() - 0.5)/20, 1);
+		}
+		for (int i = 1000; i < segs.length; i++) {
+			double x = rnd.nextDouble(), y = rnd.nextDouble();
+			segs[i] = new TwoDLineSegment (x, y, x + rnd.nextDouble()/50, y + (rnd.nextDouble() - 0.5)/50);
+		}
+		validate (segs);
+	}
+
+	/** Compare intersections reported by PrimitiveLineSweep against brute force. */
+	void validate (ILineSegment[] segs) {
+		// each intersecting pair meets at a single point.
+		int expected = 0;
+		for (int i = 0; i < segs.length-1; i++) {
+			for (int j = i+1; j < segs.length; j++) {
+				if (segs[i].intersection (segs[j]) != null) { expected++; }
+			}
+		}
+
+		Recorder rec = new Recorder();
+		new PrimitiveLineSweep().intersections (segs, rec);
+		assertEquals (expected, rec.pairs());
+		for (int k = 0; k < rec.points.size(); k++) {
+			int[] s = rec.segments.get(k);
+			for (int i = 0; i < s.length-1; i++) {
+				for (int j = i+1; j < s.length; j++) {
+					IPoint p = segs[s[i]].intersection (segs[s[j]]);
+					assertNotNull (p);
+					assertEquals (p, rec.points.get(k));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testRegularKGon() {
+		// diagonals of regular k-gon, with many meeting at the same point.
+		RegularNGonTest counts = new RegularNGonTest();
+		for (int k = 4; k <= 20; k++) {
+			IPoint[] points = new IPoint[k];
+			for (int i = 0; i < k; i++) {
+				points[i] = new TwoDPoint (FloatingPoint.value (Math.cos (2*i*Math.PI/k)),
+						FloatingPoint.value (Math.sin (2*i*Math.PI/k)));
+			}
+			ILineSegment[] segs = new ILineSegment[k*(k-1)/2];
+			int idx = 0;
+			for (int i = 0; i < k-1; i++) {
+				for (int j = i+1; j < k; j++) {
+					segs[idx++] = new TwoDLineSegment (points[i], points[j]);
+				}
+			}
+
+			Recorder rec = new Recorder();
+			int ct = new PrimitiveLineSweep().intersections (segs, rec);
+			Hashtable<IPoint, List<ILineSegment>> res = new LineSweep().intersections (segs);
+			assertEquals (res.size(), ct);
+
+			// vertices of the k-gon are not counted.
+			assertEquals (counts.intersections[k], ct - k);
+		}
+	}
+}
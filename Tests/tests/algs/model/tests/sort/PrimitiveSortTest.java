@@ -0,0 +1,141 @@
+package algs.model.tests.sort;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import algs.model.sort.primitive.DoubleSort;
+import algs.model.sort.primitive.IntSort;
+import algs.model.sort.primitive.LongSort;
+import junit.framework.TestCase;
+
+public class PrimitiveSortTest extends TestCase {
+
+	Random rnd = new Random(17);
+	
+	/** Different shapes of input: random, few distinct, sorted, reversed, constant. */
+	private int[][] createInputs(int n) {
+		int[][] inputs = new int[5][n];
+		for (int i = 0; i < n; i++) {
+			inputs[0][i] = rnd.nextInt();
+			inputs[1][i] = rnd.nextInt(4);
+			inputs[2][i] = i;
+			inputs[3][i] = n-i;
+			inputs[4][i] = 7;
+		}
+		return inputs;
+	}
+	
+	@Test
+	public void testInts() {
+		for (int n : new int[] { 0, 1, 2, 3, 17, 100, 5000 }) {
+			for (int[] input : createInputs(n)) {
+				int[] expected = input.clone();
+				Arrays.sort(expected);
+				
+				int[] a = input.clone();
+				IntSort.quicksort(a, 0, n-1);
+				assertTrue (Arrays.equals(expected, a));
+				
+				a = input.clone();
+				IntSort.heapsort(a, 0, n-1);
+				assertTrue (Arrays.equals(expected, a));
+				
+				a = input.clone();
+				IntSort.mergesort(a, 0, n-1);
+				assertTrue (Arrays.equals(expected, a));
+				
+				for (int k = 1; k <= n; k += 1 + n/10) {
+					a = input.clone();
+					assertEquals (expected[k-1], IntSort.select(a, k, 0, n-1));
+					for (int i = 0; i < k-1; i++) { assertTrue (a[i] <= a[k-1]); }
+					for (int i = k; i < n; i++) { assertTrue (a[i] >= a[k-1]); }
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testLongs() {
+		for (int n : new int[] { 0, 1, 2, 3, 17, 100, 5000 }) {
+			for (int[] ints : createInputs(n)) {
+				long[] input = new long[n];
+				for (int i = 0; i < n; i++) { input[i] = ints[i] * 4294967296L + i; }
+				long[] expected = input.clone();
+				Arrays.sort(expected);
+				
+				long[] a = input.clone();
+				LongSort.quicksort(a, 0, n-1);
+				assertTrue (Arrays.equals(expected, a));
+				
+				a = input.clone();
+				LongSort.heapsort(a, 0, n-1);
+				assertTrue (Arrays.equals(expected, a));
+				
+				a = input.clone();
+				LongSort.mergesort(a, 0, n-1, new long[n]);
+				assertTrue (Arrays.equals(expected, a));
+				
+				if (n > 0) {
+					a = input.clone();
+					assertEquals (expected[n/2], LongSort.select(a, n/2+1, 0, n-1));
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testDoubles() {
+		for (int n : new int[] { 0, 1, 2, 3, 17, 100, 5000 }) {
+			for (int[] ints : createInputs(n)) {
+				double[] input = new double[n];
+				for (int i = 0; i < n; i++) { input[i] = ints[i] / 3.0; }
+				double[] expected = input.clone();
+				Arrays.sort(expected);
+				
+				double[] a = input.clone();
+				DoubleSort.quicksort(a, 0, n-1);
+				assertTrue (Arrays.equals(expected, a));
+				
+				a = input.clone();
+				DoubleSort.heapsort(a, 0, n-1);
+				assertTrue (Arrays.equals(expected, a));
+				
+				a = input.clone();
+				DoubleSort.mergesort(a, 0, n-1);
+				assertTrue (Arrays.equals(expected, a));
+				
+				if (n > 0) {
+					a = input.clone();
+					assertEquals (expected[0], DoubleSort.select(a, 1, 0, n-1), 0.0);
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testSubRange() {
+		int[] a = { 9, 8, 7, 6, 5, 4, 3, 2, 1 };
+		IntSort.quicksort(a, 2, 6);
+		assertTrue (Arrays.equals(new int[] { 9, 8, 3, 4, 5, 6, 7, 2, 1 }, a));
+		
+		a = new int[] { 9, 8, 7, 6, 5, 4, 3, 2, 1 };
+		IntSort.heapsort(a, 2, 6);
+		assertTrue (Arrays.equals(new int[] { 9, 8, 3, 4, 5, 6, 7, 2, 1 }, a));
+		
+		a = new int[] { 9, 8, 7, 6, 5, 4, 3, 2, 1 };
+		IntSort.mergesort(a, 2, 6);
+		assertTrue (Arrays.equals(new int[] { 9, 8, 3, 4, 5, 6, 7, 2, 1 }, a));
+	}
+	
+	@Test
+	public void testSmallAuxiliary() {
+		try {
+			IntSort.mergesort(new int[] { 3, 2, 1 }, 0, 2, new int[2]);
+			fail ("auxiliary array is too small.");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package algs.model.tests.sort;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import algs.model.sort.ExternalMergeSort;
+import algs.model.sort.IKeyExtractor;
+import junit.framework.TestCase;
+
+public class TestExternalMergeSort extends TestCase {
+
+	String tmpDir = System.getProperty("java.io.tmpdir");
+	
+	/** Write the int values to a file and return the file. */
+	File writeInts(String name, int[] values) throws Exception {
+		File f = new File (tmpDir, name);
+		DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f)));
+		for (int v : values) {
+			dos.writeInt(v);
+		}
+		dos.close();
+		return f;
+	}
+	
+	/** Read the int values from a file. */
+	int[] readInts(File f) throws Exception {
+		int[] values = new int[(int) (f.length()/4)];
+		DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(f)));
+		for (int i = 0; i < values.length; i++) {
+			values[i] = dis.readInt();
+		}
+		dis.close();
+		return values;
+	}
+	
+	@Test
+	public void testInMemory() throws Exception {
+		File f = writeInts("TestExternalSmall.bin", new int[] { 9, 1, 3, 6, 2, 7, 8, 5, 4 });
+		
+		ExternalMergeSort ems = ExternalMergeSort.forInts();
+		ems.sort(f);
+		
+		assertTrue (Arrays.equals(new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 }, readInts(f)));
+		assertEquals (0, ems.getMergePasses());
+		assertEquals (1, ems.getNumberRuns());
+		assertEquals (36, ems.getBytesRead());
+		assertEquals (36, ems.getBytesWritten());
+		f.delete();
+	}
+	
+	@Test
+	public void testMultiplePasses() throws Exception {
+		Random rnd = new Random(11);
+		int[] values = new int[100000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = rnd.nextInt();
+		}
+		File in = writeInts("TestExternalIn.bin", values);
+		File out = new File (tmpDir, "TestExternalOut.bin");
+		
+		// 4000-byte budget less an 800-byte buffer forms runs of 160 ints; 800-byte buffers allow 4-way merge 
+		ExternalMergeSort ems = ExternalMergeSort.forInts();
+		ems.setMemoryBudget(4000);
+		ems.setBufferSize(800);
+		ems.sort(in, out);
+		
+		Arrays.sort(values);
+		assertTrue (Arrays.equals(values, readInts(out)));
+		assertEquals (625, ems.getNumberRuns());
+		assertEquals (5, ems.getMergePasses());            // ceil(log_4 625)
+		assertEquals (6*400000L, ems.getBytesRead());
+		assertEquals (6*400000L, ems.getBytesWritten());
+		in.delete();
+		out.delete();
+	}
+	
+	@Test
+	public void testStableRecords() throws Exception {
+		// 8-byte records: 4-byte key followed by 4-byte original position
+		Random rnd = new Random(5);
+		int n = 5000;
+		File f = new File (tmpDir, "TestExternalRecords.bin");
+		DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f)));
+		for (int i = 0; i < n; i++) {
+			dos.writeInt(rnd.nextInt(10));
+			dos.writeInt(i);
+		}
+		dos.close();
+		
+		ExternalMergeSort ems = new ExternalMergeSort(8, new IKeyExtractor() {
+			public long key(ByteBuffer buffer, int position) {
+				return buffer.getInt(position);
+			}
+		});
+		ems.setMemoryBudget(2400);
+		ems.setBufferSize(256);
+		ems.sort(f);
+		assertTrue (ems.getMergePasses() > 1);
+		
+		int[] sorted = readInts(f);
+		for (int i = 2; i < sorted.length; i += 2) {
+			assertTrue (sorted[i-2] <= sorted[i]);
+			if (sorted[i-2] == sorted[i]) {
+				assertTrue (sorted[i-1] < sorted[i+1]);
+			}
+		}
+		f.delete();
+	}
+	
+	@Test
+	public void testFailureRemovesRuns() throws Exception {
+		Random rnd = new Random(3);
+		int[] values = new int[10000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = rnd.nextInt();
+		}
+		File in = writeInts("TestExternalFail.bin", values);
+		File dir = new File (tmpDir, "TestExternalFailRuns");
+		dir.mkdir();
+		
+		// fail while merging, once all runs have been generated.
+		ExternalMergeSort ems = new ExternalMergeSort(4, new IKeyExtractor() {
+			int count = 0;
+			public long key(ByteBuffer buffer, int position) {
+				if (++count > 15000) { throw new IllegalStateException ("failed"); }
+				return buffer.getInt(position);
+			}
+		});
+		ems.setMemoryBudget(4000);
+		ems.setBufferSize(800);
+		ems.setTempDirectory(dir);
+		try {
+			ems.sort(in);
+			fail ("extractor should have failed.");
+		} catch (IllegalStateException ise) {
+			// success
+		}
+		assertEquals (0, dir.list().length);
+		dir.delete();
+		in.delete();
+	}
+	
+	@Test
+	public void testPartialRecord() throws Exception {
+		File f = new File (tmpDir, "TestExternalPartial.bin");
+		FileOutputStream fos = new FileOutputStream(f);
+		fos.write(new byte[] { 1, 2, 3, 4, 5, 6 });
+		fos.close();
+		
+		try {
+			ExternalMergeSort.forInts().sort(f);
+			fail ("file is not a multiple of record size.");
+		} catch (IllegalArgumentException iae) {
+			// success
+		}
+		f.delete();
+	}
+}
@@ -10,6 +10,11 @@ import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import algs.model.sort.MergeSortFileMapped;
 
@@ -49,4 +54,32 @@ public class TestMergeSortFileMapped extends TestCase {
 			fail (e.getMessage());
 		}
 	}
+
+	@Test
+	public void testParallelMerge() throws Exception {
+		String tmpDir = System.getProperty("java.io.tmpdir");
+		File f = new File (tmpDir, "TestParallelIntegerFile.bin");
+		
+		// enough values to be split into several segments and parallel merges.
+		Random rnd = new Random(3);
+		int[] values = new int[5*MergeSortFileMapped.SEQUENTIAL_SORT + 17];
+		DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f)));
+		for (int i = 0; i < values.length; i++) {
+			values[i] = rnd.nextInt(1000);
+			dos.writeInt(values[i]);
+		}
+		dos.close();
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		MergeSortFileMapped.mergesort(f, pool);
+		pool.shutdown();
+
+		Arrays.sort(values);
+		DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(f)));
+		for (int i = 0; i < values.length; i++) {
+			assertEquals (values[i], dis.readInt());
+		}
+		dis.close();
+		f.delete();
+	}
 }